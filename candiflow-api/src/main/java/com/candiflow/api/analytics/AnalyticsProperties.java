@@ -0,0 +1,34 @@
+package com.candiflow.api.analytics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration du magasin en colonnes des candidats utilisé par les tableaux de bord
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.analytics")
+public class AnalyticsProperties {
+
+    /**
+     * Active ou désactive le magasin ; désactivé, les statistiques sont calculées en base
+     */
+    private boolean enabled = true;
+
+    /**
+     * Intervalle entre deux vérifications de cohérence du magasin avec la base
+     */
+    private Duration checkInterval = Duration.ofMinutes(5);
+
+    /**
+     * Nombre de vérifications consécutives en écart avant reconstruction du magasin
+     * Un écart isolé peut venir d'une écriture validée entre la lecture de la base et celle du magasin.
+     */
+    private int mismatchesBeforeRebuild = 2;
+}
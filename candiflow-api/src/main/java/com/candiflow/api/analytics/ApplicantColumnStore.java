@@ -0,0 +1,356 @@
+package com.candiflow.api.analytics;
+
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.observer.AfterCommit;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.ApplicantsRemovedEvent;
+import com.candiflow.api.observer.Event;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.observer.EventObserver;
+import com.candiflow.api.observer.EventType;
+import com.candiflow.api.observer.JobOpeningEvent;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.projection.ApplicantFactProjection;
+import com.candiflow.api.repository.projection.IdCountProjection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Magasin en mémoire des dimensions statistiques de tous les candidats, rangées en colonnes ({@link ApplicantColumns})
+ * Il est chargé au démarrage par un parcours en flux de la table des candidats, puis tenu à jour par les événements
+ * candidats et offres du {@link EventManager}. Une vérification planifiée compare ses comptes par étape à ceux
+ * de la base et le reconstruit lorsque l'écart persiste.
+ * Tant qu'il n'est pas chargé, {@link #read} renvoie vide : les appelants calculent alors en base.
+ */
+@Component
+@Slf4j
+public class ApplicantColumnStore implements EventObserver {
+
+    private static final Set<EventType> INTERESTED_EVENT_TYPES = EnumSet.of(
+            EventType.JOB_OPENING_CREATED,
+            EventType.JOB_OPENING_DELETED,
+            EventType.APPLICANT_CREATED,
+            EventType.APPLICANT_UPDATED,
+            EventType.APPLICANT_DELETED,
+            EventType.APPLICANTS_IMPORTED,
+            EventType.APPLICANTS_REMOVED,
+            EventType.STAGE_CHANGED);
+
+    private final OpeningApplicantRepository openingApplicantRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final EventManager eventManager;
+    private final AnalyticsProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Counter mismatchCounter;
+    private final Counter rebuildCounter;
+
+    /**
+     * Colonnes courantes, null tant que le premier chargement n'est pas terminé
+     */
+    private ApplicantColumns columns;
+
+    /**
+     * Modifications reçues pendant une reconstruction, rejouées sur les nouvelles colonnes ; null hors reconstruction
+     */
+    private List<Consumer<ApplicantColumns>> pendingChanges;
+
+    private int consecutiveMismatches;
+
+    public ApplicantColumnStore(OpeningApplicantRepository openingApplicantRepository,
+                                JobOpeningRepository jobOpeningRepository,
+                                EventManager eventManager,
+                                AnalyticsProperties properties,
+                                MeterRegistry meterRegistry,
+                                PlatformTransactionManager transactionManager) {
+        this.openingApplicantRepository = openingApplicantRepository;
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.eventManager = eventManager;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.mismatchCounter = Counter.builder("candiflow.analytics.consistency_mismatches")
+                .description("Vérifications ayant trouvé un écart entre le magasin en colonnes et la base")
+                .register(meterRegistry);
+        this.rebuildCounter = Counter.builder("candiflow.analytics.rebuilds")
+                .description("Chargements complets du magasin en colonnes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Initialisation : enregistre la jauge du magasin (une fois construit) et s'enregistre auprès du gestionnaire
+     * d'événements
+     */
+    @PostConstruct
+    public void init() {
+        Gauge.builder("candiflow.analytics.applicants", this, store -> store.read(ApplicantColumns::size).orElse(0))
+                .description("Nombre de candidats présents dans le magasin en colonnes")
+                .register(meterRegistry);
+        eventManager.registerObserver(this);
+    }
+
+    /**
+     * Indique si le magasin est chargé et peut répondre aux requêtes
+     */
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return columns != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Exécute une requête sur les colonnes, sous verrou de lecture
+     * La requête ne doit pas conserver de référence aux colonnes au-delà de son exécution.
+     * @param query Requête à exécuter
+     * @return Résultat de la requête, ou vide si le magasin n'est pas chargé
+     */
+    public <T> Optional<T> read(Function<ApplicantColumns, T> query) {
+        lock.readLock().lock();
+        try {
+            return columns != null ? Optional.ofNullable(query.apply(columns)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Charge le magasin au premier passage, puis vérifie sa cohérence avec la base aux passages suivants
+     */
+    @Scheduled(fixedDelayString = "${candiflow.analytics.check-interval:PT5M}")
+    public void refresh() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            if (isReady()) {
+                checkConsistency();
+            } else {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Échec du rafraîchissement du magasin en colonnes des candidats", e);
+        }
+    }
+
+    /**
+     * Reconstruit entièrement les colonnes par un parcours en flux de la table des candidats
+     * Les colonnes courantes continuent de répondre pendant le parcours ; les événements reçus entre-temps
+     * sont rejoués sur les nouvelles colonnes avant qu'elles ne les remplacent.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ApplicantColumns fresh = new ApplicantColumns();
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ApplicantFactProjection> facts = openingApplicantRepository.streamAllFacts()) {
+                    facts.forEach(fact -> fresh.upsert(fact.applicantId(), fact.jobOpeningId(), fact.recruiterId(),
+                            fact.stageId(), fact.sourceId(), fact.applicationDate(), toDate(fact.updatedAt())));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            replayed = pendingChanges.size();
+            pendingChanges.forEach(change -> change.accept(fresh));
+            pendingChanges = null;
+            columns = fresh;
+            consecutiveMismatches = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        rebuildCounter.increment();
+        log.info("Magasin en colonnes chargé : {} candidat(s) en {} ms, {} modification(s) rejouée(s)",
+                fresh.size(), (System.nanoTime() - start) / 1_000_000, replayed);
+    }
+
+    /**
+     * Compare le nombre de candidats par étape du magasin à celui de la base
+     * Après le nombre configuré d'écarts consécutifs, le magasin est reconstruit.
+     * @return true si le magasin est cohérent avec la base
+     */
+    public boolean checkConsistency() {
+        Map<UUID, Long> expected = openingApplicantRepository.countGroupByStage().stream()
+                .collect(Collectors.toMap(IdCountProjection::id, IdCountProjection::count));
+        Map<UUID, Long> actual = read(c -> c.countByStage(ApplicantColumns.Scope.all())).orElse(Map.of());
+        if (expected.equals(actual)) {
+            consecutiveMismatches = 0;
+            return true;
+        }
+
+        mismatchCounter.increment();
+        consecutiveMismatches++;
+        log.warn("Écart entre le magasin en colonnes et la base ({} vérification(s) consécutive(s)) : {} en base, {} en mémoire",
+                consecutiveMismatches, expected, actual);
+        if (consecutiveMismatches >= properties.getMismatchesBeforeRebuild()) {
+            rebuild();
+        }
+        return false;
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        switch (event.getType()) {
+            case JOB_OPENING_CREATED -> {
+                JobOpening jobOpening = ((JobOpeningEvent) event).getJobOpening();
+                UUID jobOpeningId = jobOpening.getId();
+                UUID recruiterId = jobOpening.getRecruiter().getId();
+                apply(c -> c.putJobOpening(jobOpeningId, recruiterId));
+            }
+            case JOB_OPENING_DELETED -> {
+                UUID jobOpeningId = ((JobOpeningEvent) event).getJobOpeningId();
+                apply(c -> c.removeJobOpening(jobOpeningId));
+            }
+            case APPLICANT_CREATED, APPLICANT_UPDATED -> upsert((ApplicantEvent) event);
+            case APPLICANT_DELETED -> {
+                UUID applicantId = ((ApplicantEvent) event).getSnapshot().id();
+                apply(c -> c.remove(applicantId));
+            }
+            case APPLICANTS_IMPORTED -> upsert((ApplicantBatchEvent) event);
+            case APPLICANTS_REMOVED -> {
+                List<UUID> applicantIds = ((ApplicantsRemovedEvent) event).getApplicantIds();
+                apply(c -> applicantIds.forEach(c::remove));
+            }
+            case STAGE_CHANGED -> {
+                if (event instanceof ApplicantBatchEvent batchEvent) {
+                    upsert(batchEvent);
+                } else {
+                    upsert((ApplicantEvent) event);
+                }
+            }
+            default -> log.debug("Événement non géré par le magasin en colonnes: {}", event.getType());
+        }
+    }
+
+    @Override
+    public boolean isInterestedIn(EventType eventType) {
+        return properties.isEnabled() && INTERESTED_EVENT_TYPES.contains(eventType);
+    }
+
+    private void upsert(ApplicantEvent event) {
+        if (!isTracking()) {
+            return;
+        }
+        OpeningApplicant applicant = event.getApplicant();
+        UUID applicantId = applicant.getId();
+        UUID jobOpeningId = applicant.getJobOpening().getId();
+        UUID stageId = applicant.getCurrentStage().getId();
+        UUID sourceId = applicant.getSource() != null ? applicant.getSource().getId() : null;
+        LocalDate applicationDate = applicant.getApplicationDate();
+        LocalDate updatedDate = toDate(applicant.getUpdatedAt() != null ? applicant.getUpdatedAt() : event.getTimestamp());
+        findRecruiterId(jobOpeningId).ifPresent(recruiterId -> apply(c -> c.upsert(applicantId, jobOpeningId, recruiterId,
+                stageId, sourceId, applicationDate, updatedDate)));
+    }
+
+    private void upsert(ApplicantBatchEvent event) {
+        if (!isTracking()) {
+            return;
+        }
+        LocalDate updatedDate = toDate(event.getTimestamp());
+        Map<UUID, Optional<UUID>> recruiterIds = new HashMap<>();
+        List<Consumer<ApplicantColumns>> changes = new ArrayList<>();
+        for (ApplicantSnapshot applicant : event.getApplicants()) {
+            recruiterIds.computeIfAbsent(applicant.jobOpeningId(), this::findRecruiterId)
+                    .ifPresent(recruiterId -> changes.add(c -> c.upsert(applicant.id(), applicant.jobOpeningId(),
+                            recruiterId, applicant.stageId(), applicant.sourceId(), applicant.applicationDate(), updatedDate)));
+        }
+        apply(c -> changes.forEach(change -> change.accept(c)));
+    }
+
+    /**
+     * Indique si les modifications sont appliquées ou retenues (magasin chargé ou en cours de chargement)
+     */
+    private boolean isTracking() {
+        lock.readLock().lock();
+        try {
+            return columns != null || pendingChanges != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recruteur d'une offre, lu dans les colonnes ou à défaut en base (hors verrou d'écriture)
+     */
+    private Optional<UUID> findRecruiterId(UUID jobOpeningId) {
+        Optional<UUID> known = read(c -> c.recruiterOf(jobOpeningId));
+        return known.isPresent() ? known : jobOpeningRepository.findRecruiterIdById(jobOpeningId);
+    }
+
+    /**
+     * Applique une modification aux colonnes courantes et la retient pour la reconstruction en cours
+     * La modification attend la validation de la transaction qui a déclenché l'événement : une suppression annulée
+     * (conflit de version, clé étrangère) ne retire donc rien du magasin. Elle ne doit capturer que des identifiants.
+     * Avant le premier chargement et hors reconstruction, la modification est ignorée : le chargement la verra.
+     */
+    private void apply(Consumer<ApplicantColumns> change) {
+        AfterCommit.run(() -> applyNow(change));
+    }
+
+    private void applyNow(Consumer<ApplicantColumns> change) {
+        lock.writeLock().lock();
+        try {
+            if (columns != null) {
+                change.accept(columns);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static LocalDate toDate(Instant instant) {
+        return instant != null ? LocalDate.ofInstant(instant, ZoneId.systemDefault()) : null;
+    }
+}
@@ -0,0 +1,373 @@
+package com.candiflow.api.analytics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.UUID;
+
+/**
+ * Candidats rangés en colonnes de types primitifs, une ligne par candidat
+ * Chaque dimension (étape, source, offre, recruteur) est codée par un ordinal attribué à la première rencontre
+ * de son ID ; les dates sont des jours depuis l'époque. Les agrégations parcourent des tableaux d'entiers contigus,
+ * sans objet par candidat. Une suppression déplace la dernière ligne dans le trou : les lignes restent contiguës.
+ * Les requêtes sont publiques ; les modifications sont réservées au {@link ApplicantColumnStore}, qui les sérialise.
+ * La classe n'est pas thread-safe.
+ */
+public final class ApplicantColumns {
+
+    /**
+     * Ordinal d'une dimension absente (source inconnue)
+     */
+    static final int NONE = -1;
+
+    /**
+     * Jour d'une date absente
+     */
+    static final int NO_DAY = Integer.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Dictionary stages = new Dictionary();
+    private final Dictionary sources = new Dictionary();
+    private final Dictionary jobOpenings = new Dictionary();
+    private final Dictionary recruiters = new Dictionary();
+    private final Map<UUID, Integer> rowsByApplicant = new HashMap<>();
+
+    /**
+     * Recruteur de chaque offre, indexé par ordinal d'offre
+     */
+    private int[] recruiterOfJobOpening = new int[INITIAL_CAPACITY];
+
+    private UUID[] applicantIds = new UUID[INITIAL_CAPACITY];
+    private int[] stage = new int[INITIAL_CAPACITY];
+    private int[] source = new int[INITIAL_CAPACITY];
+    private int[] jobOpening = new int[INITIAL_CAPACITY];
+    private int[] recruiter = new int[INITIAL_CAPACITY];
+    private int[] applicationDay = new int[INITIAL_CAPACITY];
+    private int[] updatedDay = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Périmètre d'une requête : tous les candidats, ceux d'un recruteur ou ceux d'une offre
+     *
+     * @param jobOpeningId ID de l'offre (null pour toutes les offres)
+     * @param recruiterId ID du recruteur (null pour tous les recruteurs)
+     */
+    public record Scope(UUID jobOpeningId, UUID recruiterId) {
+
+        public static Scope all() {
+            return new Scope(null, null);
+        }
+
+        public static Scope ofRecruiter(UUID recruiterId) {
+            return new Scope(null, recruiterId);
+        }
+
+        public static Scope ofJobOpening(UUID jobOpeningId) {
+            return new Scope(jobOpeningId, null);
+        }
+    }
+
+    /**
+     * Nombre total de candidats
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Compte les candidats d'un périmètre
+     */
+    public long count(Scope scope) {
+        Filter filter = filter(scope);
+        if (filter.isEmpty()) {
+            return 0;
+        }
+        long count = 0;
+        for (int row = 0; row < size; row++) {
+            if (filter.matches(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Compte les candidats d'un périmètre dont la candidature est postérieure à un jour donné
+     * @param scope Périmètre
+     * @param day Jour exclu
+     * @return Nombre de candidatures strictement postérieures au jour
+     */
+    public long countAppliedAfter(Scope scope, LocalDate day) {
+        Filter filter = filter(scope);
+        if (filter.isEmpty()) {
+            return 0;
+        }
+        int after = (int) day.toEpochDay();
+        long count = 0;
+        for (int row = 0; row < size; row++) {
+            if (applicationDay[row] != NO_DAY && applicationDay[row] > after && filter.matches(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Compte les candidats d'un périmètre par étape courante
+     * @return Nombre de candidats par ID d'étape ; les étapes sans candidat sont absentes
+     */
+    public Map<UUID, Long> countByStage(Scope scope) {
+        return countBy(scope, stage, stages);
+    }
+
+    /**
+     * Compte les candidats d'un périmètre par source
+     * @return Nombre de candidats par ID de source ; les candidats sans source ne sont pas comptés
+     */
+    public Map<UUID, Long> countBySource(Scope scope) {
+        return countBy(scope, source, sources);
+    }
+
+    /**
+     * Compte les candidatures d'un périmètre par semaine
+     * @return Nombre de candidatures par lundi de la semaine, par date croissante
+     */
+    public Map<LocalDate, Long> countByApplicationWeek(Scope scope) {
+        Filter filter = filter(scope);
+        Map<Integer, Long> counts = new HashMap<>();
+        if (!filter.isEmpty()) {
+            for (int row = 0; row < size; row++) {
+                int day = applicationDay[row];
+                if (day != NO_DAY && filter.matches(row)) {
+                    // Le jour 0 (1er janvier 1970) est un jeudi : le lundi qui le précède est le jour -3
+                    counts.merge(day - Math.floorMod(day + 3, 7), 1L, Long::sum);
+                }
+            }
+        }
+        Map<LocalDate, Long> weeks = new LinkedHashMap<>();
+        counts.keySet().stream().sorted()
+                .forEach(monday -> weeks.put(LocalDate.ofEpochDay(monday), counts.get(monday)));
+        return weeks;
+    }
+
+    /**
+     * Durée moyenne, en jours, entre la candidature et la dernière mise à jour des candidats d'un ensemble d'étapes
+     * @param scope Périmètre
+     * @param stageIds Étapes retenues (par exemple l'étape d'embauche)
+     * @return Moyenne, ou vide si aucun candidat n'est dans ces étapes
+     */
+    public OptionalDouble averageDaysToLastUpdate(Scope scope, List<UUID> stageIds) {
+        Filter filter = filter(scope);
+        boolean[] retained = new boolean[stages.size()];
+        boolean any = false;
+        for (UUID stageId : stageIds) {
+            int ordinal = stages.find(stageId);
+            if (ordinal != NONE) {
+                retained[ordinal] = true;
+                any = true;
+            }
+        }
+        if (filter.isEmpty() || !any) {
+            return OptionalDouble.empty();
+        }
+        long total = 0;
+        long count = 0;
+        for (int row = 0; row < size; row++) {
+            if (retained[stage[row]] && applicationDay[row] != NO_DAY && updatedDay[row] != NO_DAY && filter.matches(row)) {
+                total += updatedDay[row] - applicationDay[row];
+                count++;
+            }
+        }
+        return count == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) total / count);
+    }
+
+    /**
+     * Recruteur connu d'une offre
+     * @return ID du recruteur, ou null si l'offre n'a encore jamais été rencontrée
+     */
+    UUID recruiterOf(UUID jobOpeningId) {
+        int ordinal = jobOpenings.find(jobOpeningId);
+        return ordinal != NONE ? recruiters.idOf(recruiterOfJobOpening[ordinal]) : null;
+    }
+
+    /**
+     * Enregistre le recruteur d'une offre
+     */
+    void putJobOpening(UUID jobOpeningId, UUID recruiterId) {
+        int ordinal = jobOpenings.ordinalOf(jobOpeningId);
+        if (ordinal >= recruiterOfJobOpening.length) {
+            recruiterOfJobOpening = Arrays.copyOf(recruiterOfJobOpening, recruiterOfJobOpening.length * 2);
+        }
+        recruiterOfJobOpening[ordinal] = recruiters.ordinalOf(recruiterId);
+    }
+
+    /**
+     * Ajoute un candidat, ou remplace sa ligne s'il est déjà présent
+     */
+    void upsert(UUID applicantId, UUID jobOpeningId, UUID recruiterId, UUID stageId, UUID sourceId,
+                LocalDate applicationDate, LocalDate updatedDate) {
+        putJobOpening(jobOpeningId, recruiterId);
+        Integer existing = rowsByApplicant.get(applicantId);
+        int row;
+        if (existing != null) {
+            row = existing;
+        } else {
+            ensureCapacity(size + 1);
+            row = size++;
+            applicantIds[row] = applicantId;
+            rowsByApplicant.put(applicantId, row);
+        }
+        stage[row] = stages.ordinalOf(stageId);
+        source[row] = sourceId != null ? sources.ordinalOf(sourceId) : NONE;
+        jobOpening[row] = jobOpenings.ordinalOf(jobOpeningId);
+        recruiter[row] = recruiters.ordinalOf(recruiterId);
+        applicationDay[row] = applicationDate != null ? (int) applicationDate.toEpochDay() : NO_DAY;
+        updatedDay[row] = updatedDate != null ? (int) updatedDate.toEpochDay() : NO_DAY;
+    }
+
+    /**
+     * Retire un candidat
+     * @return true si le candidat était présent
+     */
+    boolean remove(UUID applicantId) {
+        Integer row = rowsByApplicant.remove(applicantId);
+        if (row == null) {
+            return false;
+        }
+        int last = --size;
+        if (row != last) {
+            // La dernière ligne prend la place de la ligne retirée
+            applicantIds[row] = applicantIds[last];
+            stage[row] = stage[last];
+            source[row] = source[last];
+            jobOpening[row] = jobOpening[last];
+            recruiter[row] = recruiter[last];
+            applicationDay[row] = applicationDay[last];
+            updatedDay[row] = updatedDay[last];
+            rowsByApplicant.put(applicantIds[row], row);
+        }
+        applicantIds[last] = null;
+        return true;
+    }
+
+    /**
+     * Retire tous les candidats d'une offre
+     * @return Nombre de candidats retirés
+     */
+    int removeJobOpening(UUID jobOpeningId) {
+        int ordinal = jobOpenings.find(jobOpeningId);
+        if (ordinal == NONE) {
+            return 0;
+        }
+        List<UUID> removed = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (jobOpening[row] == ordinal) {
+                removed.add(applicantIds[row]);
+            }
+        }
+        removed.forEach(this::remove);
+        return removed.size();
+    }
+
+    private Map<UUID, Long> countBy(Scope scope, int[] column, Dictionary dictionary) {
+        Filter filter = filter(scope);
+        long[] counts = new long[dictionary.size()];
+        if (!filter.isEmpty()) {
+            for (int row = 0; row < size; row++) {
+                int ordinal = column[row];
+                if (ordinal != NONE && filter.matches(row)) {
+                    counts[ordinal]++;
+                }
+            }
+        }
+        Map<UUID, Long> result = new HashMap<>();
+        for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+            if (counts[ordinal] > 0) {
+                result.put(dictionary.idOf(ordinal), counts[ordinal]);
+            }
+        }
+        return result;
+    }
+
+    private Filter filter(Scope scope) {
+        int jobOpeningOrdinal = scope.jobOpeningId() != null ? jobOpenings.find(scope.jobOpeningId()) : NONE;
+        int recruiterOrdinal = scope.recruiterId() != null ? recruiters.find(scope.recruiterId()) : NONE;
+        boolean empty = (scope.jobOpeningId() != null && jobOpeningOrdinal == NONE)
+                || (scope.recruiterId() != null && recruiterOrdinal == NONE);
+        return new Filter(jobOpeningOrdinal, recruiterOrdinal, empty);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= stage.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, stage.length * 2);
+        applicantIds = Arrays.copyOf(applicantIds, newCapacity);
+        stage = Arrays.copyOf(stage, newCapacity);
+        source = Arrays.copyOf(source, newCapacity);
+        jobOpening = Arrays.copyOf(jobOpening, newCapacity);
+        recruiter = Arrays.copyOf(recruiter, newCapacity);
+        applicationDay = Arrays.copyOf(applicationDay, newCapacity);
+        updatedDay = Arrays.copyOf(updatedDay, newCapacity);
+    }
+
+    /**
+     * Filtre d'un périmètre résolu en ordinaux ; un périmètre désignant un ID inconnu ne contient aucun candidat
+     */
+    private final class Filter {
+
+        private final int jobOpeningOrdinal;
+        private final int recruiterOrdinal;
+        private final boolean empty;
+
+        private Filter(int jobOpeningOrdinal, int recruiterOrdinal, boolean empty) {
+            this.jobOpeningOrdinal = jobOpeningOrdinal;
+            this.recruiterOrdinal = recruiterOrdinal;
+            this.empty = empty;
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+
+        boolean matches(int row) {
+            return (jobOpeningOrdinal == NONE || jobOpening[row] == jobOpeningOrdinal)
+                    && (recruiterOrdinal == NONE || recruiter[row] == recruiterOrdinal);
+        }
+    }
+
+    /**
+     * Correspondance entre les IDs d'une dimension et leurs ordinaux
+     * Les ordinaux ne sont jamais réattribués : une dimension disparue garde le sien.
+     */
+    private static final class Dictionary {
+
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final List<UUID> ids = new ArrayList<>();
+
+        int ordinalOf(UUID id) {
+            return ordinals.computeIfAbsent(id, key -> {
+                ids.add(key);
+                return ids.size() - 1;
+            });
+        }
+
+        int find(UUID id) {
+            return ordinals.getOrDefault(id, NONE);
+        }
+
+        UUID idOf(int ordinal) {
+            return ids.get(ordinal);
+        }
+
+        int size() {
+            return ids.size();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.candiflow.api.analytics;
+
+import com.candiflow.api.model.entity.ApplicantRollup;
+import com.candiflow.api.observer.AfterCommit;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.ApplicantsRemovedEvent;
+import com.candiflow.api.observer.Event;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.observer.EventObserver;
+import com.candiflow.api.observer.EventType;
+import com.candiflow.api.observer.JobOpeningEvent;
+import com.candiflow.api.repository.ApplicantRollupRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.projection.ApplicantDayCountProjection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rafraîchissement incrémental du cube des candidats (table applicant_rollups)
+ * Les événements candidats et offres marquent leurs offres comme modifiées, une fois la transaction validée ;
+ * un passage planifié recalcule ensuite les lignes de ces offres par une requête groupée restreinte à elles.
+ * Un recalcul complet périodique rattrape les écritures faites hors événements et les marques perdues à l'arrêt.
+ */
+@Component
+@Slf4j
+public class ApplicantRollupRefresher implements EventObserver {
+
+    private static final Set<EventType> INTERESTED_EVENT_TYPES = EnumSet.of(
+            EventType.JOB_OPENING_DELETED,
+            EventType.APPLICANT_CREATED,
+            EventType.APPLICANT_UPDATED,
+            EventType.APPLICANT_DELETED,
+            EventType.APPLICANTS_IMPORTED,
+            EventType.APPLICANTS_REMOVED,
+            EventType.STAGE_CHANGED);
+
+    // Plus petit UUID, point de départ du parcours de toutes les offres
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final ApplicantRollupRepository applicantRollupRepository;
+    private final OpeningApplicantRepository openingApplicantRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final EventManager eventManager;
+    private final RollupProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<UUID> dirtyJobOpenings = ConcurrentHashMap.newKeySet();
+    private final Counter refreshedCounter;
+
+    public ApplicantRollupRefresher(ApplicantRollupRepository applicantRollupRepository,
+                                    OpeningApplicantRepository openingApplicantRepository,
+                                    JobOpeningRepository jobOpeningRepository,
+                                    EventManager eventManager,
+                                    RollupProperties properties,
+                                    MeterRegistry meterRegistry,
+                                    PlatformTransactionManager transactionManager) {
+        this.applicantRollupRepository = applicantRollupRepository;
+        this.openingApplicantRepository = openingApplicantRepository;
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.eventManager = eventManager;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.refreshedCounter = Counter.builder("candiflow.rollup.refreshed_openings")
+                .description("Offres dont les lignes du cube des candidats ont été recalculées")
+                .register(meterRegistry);
+        Gauge.builder("candiflow.rollup.dirty_openings", dirtyJobOpenings, Set::size)
+                .description("Offres modifiées en attente de recalcul dans le cube des candidats")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Initialisation : s'enregistre auprès du gestionnaire d'événements
+     */
+    @PostConstruct
+    public void init() {
+        eventManager.registerObserver(this);
+    }
+
+    /**
+     * Recalcule les offres marquées comme modifiées depuis le passage précédent
+     */
+    @Scheduled(fixedDelayString = "${candiflow.rollup.refresh-interval:PT30S}")
+    public void refreshDirty() {
+        if (!properties.isEnabled() || dirtyJobOpenings.isEmpty()) {
+            return;
+        }
+        List<UUID> drained = new ArrayList<>(dirtyJobOpenings);
+        dirtyJobOpenings.removeAll(drained);
+        int chunkSize = Math.max(1, properties.getOpeningsPerTransaction());
+        for (int from = 0; from < drained.size(); from += chunkSize) {
+            List<UUID> chunk = drained.subList(from, Math.min(from + chunkSize, drained.size()));
+            try {
+                refreshJobOpenings(chunk);
+            } catch (RuntimeException e) {
+                // Les offres non recalculées restent marquées pour le passage suivant
+                dirtyJobOpenings.addAll(drained.subList(from, drained.size()));
+                log.warn("Échec du rafraîchissement du cube des candidats pour {} offre(s)", drained.size() - from, e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Recalcule le cube pour toutes les offres, par lots, puis supprime les lignes des offres disparues
+     */
+    @Scheduled(fixedDelayString = "${candiflow.rollup.full-refresh-interval:PT24H}",
+            initialDelayString = "${candiflow.rollup.full-refresh-interval:PT24H}")
+    public void refreshAll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            int chunkSize = Math.max(1, properties.getOpeningsPerTransaction());
+            long openings = 0;
+            UUID after = FIRST_ID;
+            while (true) {
+                UUID cursor = after;
+                List<UUID> jobOpeningIds = transactionTemplate.execute(
+                        status -> jobOpeningRepository.findIdsAfter(cursor, Limit.of(chunkSize)));
+                if (jobOpeningIds == null || jobOpeningIds.isEmpty()) {
+                    break;
+                }
+                refreshJobOpenings(jobOpeningIds);
+                openings += jobOpeningIds.size();
+                after = jobOpeningIds.get(jobOpeningIds.size() - 1);
+            }
+            Integer orphans = transactionTemplate.execute(status -> applicantRollupRepository.deleteOrphans());
+            log.info("Cube des candidats recalculé pour {} offre(s), {} ligne(s) orpheline(s) supprimée(s)", openings, orphans);
+        } catch (RuntimeException e) {
+            log.warn("Échec du recalcul complet du cube des candidats", e);
+        }
+    }
+
+    /**
+     * Remplace, dans une transaction, les lignes du cube d'un ensemble d'offres par leur valeur courante
+     * Les offres sont verrouillées pendant le recalcul : deux rafraîchissements concurrents d'une même offre
+     * ne peuvent pas entrelacer leurs suppressions et insertions. Les lignes d'une offre supprimée sont retirées.
+     * @param jobOpeningIds IDs des offres à recalculer
+     * @return Nombre de lignes écrites
+     */
+    public int refreshJobOpenings(Collection<UUID> jobOpeningIds) {
+        Integer written = transactionTemplate.execute(status -> {
+            List<UUID> existing = jobOpeningRepository.lockIdsByIds(jobOpeningIds);
+            applicantRollupRepository.deleteByJobOpeningIds(jobOpeningIds);
+            if (existing.isEmpty()) {
+                return 0;
+            }
+            List<ApplicantRollup> rollups = toWeeklyRollups(openingApplicantRepository.countByDayForJobOpenings(existing));
+            applicantRollupRepository.saveAll(rollups);
+            return rollups.size();
+        });
+        refreshedCounter.increment(jobOpeningIds.size());
+        return written != null ? written : 0;
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        switch (event.getType()) {
+            case JOB_OPENING_DELETED -> markDirty(List.of(((JobOpeningEvent) event).getJobOpeningId()));
+            case APPLICANT_CREATED, APPLICANT_UPDATED -> markDirty((ApplicantEvent) event);
+            case APPLICANT_DELETED -> markDirty(List.of(((ApplicantEvent) event).getSnapshot().jobOpeningId()));
+            case APPLICANTS_IMPORTED -> markDirty((ApplicantBatchEvent) event);
+            case APPLICANTS_REMOVED -> markDirty(((ApplicantsRemovedEvent) event).getJobOpeningIds());
+            case STAGE_CHANGED -> {
+                if (event instanceof ApplicantBatchEvent batchEvent) {
+                    markDirty(batchEvent);
+                } else {
+                    markDirty((ApplicantEvent) event);
+                }
+            }
+            default -> log.debug("Événement non géré par le cube des candidats: {}", event.getType());
+        }
+    }
+
+    @Override
+    public boolean isInterestedIn(EventType eventType) {
+        return properties.isEnabled() && INTERESTED_EVENT_TYPES.contains(eventType);
+    }
+
+    /**
+     * Indique si une offre est en attente de recalcul
+     */
+    public boolean isDirty(UUID jobOpeningId) {
+        return dirtyJobOpenings.contains(jobOpeningId);
+    }
+
+    private void markDirty(ApplicantEvent event) {
+        markDirty(List.of(event.getApplicant().getJobOpening().getId()));
+    }
+
+    private void markDirty(ApplicantBatchEvent event) {
+        Set<UUID> jobOpeningIds = new HashSet<>();
+        for (ApplicantSnapshot applicant : event.getApplicants()) {
+            jobOpeningIds.add(applicant.jobOpeningId());
+        }
+        markDirty(jobOpeningIds);
+    }
+
+    /**
+     * Marque des offres comme modifiées, à la validation de la transaction courante s'il y en a une
+     * Marquées plus tôt, elles pourraient être recalculées avant que leurs écritures ne soient visibles.
+     */
+    private void markDirty(Collection<UUID> jobOpeningIds) {
+        AfterCommit.run(() -> dirtyJobOpenings.addAll(jobOpeningIds));
+    }
+
+    /**
+     * Regroupe les comptes par date de candidature en comptes par semaine ISO
+     */
+    private static List<ApplicantRollup> toWeeklyRollups(List<ApplicantDayCountProjection> counts) {
+        Map<RollupKey, Long> weekly = new HashMap<>();
+        for (ApplicantDayCountProjection count : counts) {
+            RollupKey key = new RollupKey(count.recruiterId(), count.jobOpeningId(), count.sourceId(), count.stageId(),
+                    weekStart(count.applicationDate()));
+            weekly.merge(key, count.count(), Long::sum);
+        }
+        List<ApplicantRollup> rollups = new ArrayList<>(weekly.size());
+        weekly.forEach((key, total) -> rollups.add(new ApplicantRollup(null, key.recruiterId(), key.jobOpeningId(),
+                key.sourceId(), key.stageId(), key.weekStart(), total)));
+        return rollups;
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date != null ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : null;
+    }
+
+    private record RollupKey(UUID recruiterId, UUID jobOpeningId, UUID sourceId, UUID stageId, LocalDate weekStart) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.candiflow.api.analytics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration des compteurs journaliers (table daily_counters)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.counters")
+public class CounterProperties {
+
+    /**
+     * Active ou désactive l'incrémentation et la lecture des compteurs
+     */
+    private boolean enabled = true;
+
+    /**
+     * Nombre de jours d'une série lorsque sa période n'est pas précisée
+     */
+    private int defaultRangeDays = 90;
+
+    /**
+     * Nombre maximal de jours d'une série
+     */
+    private int maxRangeDays = 3660;
+}
@@ -0,0 +1,195 @@
+package com.candiflow.api.analytics;
+
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.enums.CounterMetric;
+import com.candiflow.api.observer.AfterCommit;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.Event;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.observer.EventObserver;
+import com.candiflow.api.observer.EventType;
+import com.candiflow.api.observer.JobOpeningEvent;
+import com.candiflow.api.repository.DailyCounterRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Incrémentation des compteurs journaliers (table daily_counters) à partir des événements
+ * Les incréments d'un événement sont regroupés par recruteur et par jour, puis appliqués par UPSERT dans une
+ * transaction propre une fois la transaction de l'écriture validée. Ce sont des compteurs de flux : ils ne sont
+ * jamais décrémentés, une candidature supprimée ou archivée reste une candidature reçue ce jour-là.
+ */
+@Component
+@Slf4j
+public class DailyCounterRecorder implements EventObserver {
+
+    private static final Set<EventType> INTERESTED_EVENT_TYPES = EnumSet.of(
+            EventType.JOB_OPENING_CREATED,
+            EventType.APPLICANT_CREATED,
+            EventType.APPLICANTS_IMPORTED,
+            EventType.STAGE_CHANGED);
+
+    private static final String HIRED_STAGE = "HIRED";
+    private static final String REJECTED_STAGE = "REJECTED";
+
+    private final DailyCounterRepository dailyCounterRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final EventManager eventManager;
+    private final CounterProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter failureCounter;
+
+    public DailyCounterRecorder(DailyCounterRepository dailyCounterRepository,
+                                JobOpeningRepository jobOpeningRepository,
+                                EventManager eventManager,
+                                CounterProperties properties,
+                                MeterRegistry meterRegistry,
+                                PlatformTransactionManager transactionManager) {
+        this.dailyCounterRepository = dailyCounterRepository;
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.eventManager = eventManager;
+        this.properties = properties;
+        // Transaction propre : la transaction de l'écriture est déjà validée lorsque les compteurs sont incrémentés
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.failureCounter = Counter.builder("candiflow.counters.failed_increments")
+                .description("Événements dont les compteurs journaliers n'ont pas pu être incrémentés")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Initialisation : s'enregistre auprès du gestionnaire d'événements
+     */
+    @PostConstruct
+    public void init() {
+        eventManager.registerObserver(this);
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        Map<Increment, Long> increments = new HashMap<>();
+        LocalDate eventDay = toDate(event.getTimestamp());
+        switch (event.getType()) {
+            case JOB_OPENING_CREATED -> {
+                JobOpening jobOpening = ((JobOpeningEvent) event).getJobOpening();
+                LocalDate day = jobOpening.getCreatedAt() != null ? toDate(jobOpening.getCreatedAt()) : eventDay;
+                increments.merge(new Increment(CounterMetric.JOB_OPENINGS_CREATED, jobOpening.getRecruiter().getId(),
+                        null, day), 1L, Long::sum);
+            }
+            case APPLICANT_CREATED -> {
+                OpeningApplicant applicant = ((ApplicantEvent) event).getApplicant();
+                addApplication(increments, applicant.getJobOpening().getId(), applicant.getApplicationDate(), eventDay);
+            }
+            case APPLICANTS_IMPORTED -> {
+                for (ApplicantSnapshot applicant : ((ApplicantBatchEvent) event).getApplicants()) {
+                    addApplication(increments, applicant.jobOpeningId(), applicant.applicationDate(), eventDay);
+                }
+            }
+            case STAGE_CHANGED -> {
+                if (event instanceof ApplicantBatchEvent batchEvent) {
+                    for (ApplicantSnapshot applicant : batchEvent.getApplicants()) {
+                        if (!Objects.equals(applicant.previousStageId(), applicant.stageId())) {
+                            addStageOutcome(increments, applicant.jobOpeningId(), applicant.stageName(), eventDay);
+                        }
+                    }
+                } else {
+                    ApplicantEvent applicantEvent = (ApplicantEvent) event;
+                    PipelineStage stage = applicantEvent.getApplicant().getCurrentStage();
+                    PipelineStage previousStage = applicantEvent.getPreviousStage();
+                    if (stage != null && (previousStage == null || !previousStage.getId().equals(stage.getId()))) {
+                        addStageOutcome(increments, applicantEvent.getApplicant().getJobOpening().getId(),
+                                stage.getName(), eventDay);
+                    }
+                }
+            }
+            default -> log.debug("Événement non géré par les compteurs journaliers: {}", event.getType());
+        }
+
+        if (!increments.isEmpty()) {
+            AfterCommit.run(() -> record(increments));
+        }
+    }
+
+    @Override
+    public boolean isInterestedIn(EventType eventType) {
+        return properties.isEnabled() && INTERESTED_EVENT_TYPES.contains(eventType);
+    }
+
+    /**
+     * Applique des incréments, en résolvant au passage le recruteur des offres concernées
+     * Un échec est journalisé sans être propagé : l'écriture à l'origine des incréments est déjà validée.
+     */
+    private void record(Map<Increment, Long> increments) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<UUID, Optional<UUID>> recruiters = new HashMap<>();
+                Map<Increment, Long> resolved = new HashMap<>();
+                increments.forEach((increment, delta) -> {
+                    UUID recruiterId = increment.recruiterId() != null
+                            ? increment.recruiterId()
+                            : recruiters.computeIfAbsent(increment.jobOpeningId(), jobOpeningRepository::findRecruiterIdById)
+                                    .orElse(null);
+                    if (recruiterId != null) {
+                        resolved.merge(new Increment(increment.metric(), recruiterId, null, increment.day()), delta, Long::sum);
+                    }
+                });
+                resolved.forEach((increment, delta) ->
+                        dailyCounterRepository.increment(increment.metric(), increment.recruiterId(), increment.day(), delta));
+            });
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("Échec de l'incrémentation de {} compteur(s) journalier(s)", increments.size(), e);
+        }
+    }
+
+    private static void addApplication(Map<Increment, Long> increments, UUID jobOpeningId, LocalDate applicationDate,
+                                       LocalDate eventDay) {
+        LocalDate day = applicationDate != null ? applicationDate : eventDay;
+        increments.merge(new Increment(CounterMetric.APPLICATIONS_RECEIVED, null, jobOpeningId, day), 1L, Long::sum);
+    }
+
+    private static void addStageOutcome(Map<Increment, Long> increments, UUID jobOpeningId, String stageName,
+                                        LocalDate eventDay) {
+        CounterMetric metric;
+        if (HIRED_STAGE.equals(stageName)) {
+            metric = CounterMetric.HIRES;
+        } else if (REJECTED_STAGE.equals(stageName)) {
+            metric = CounterMetric.REJECTIONS;
+        } else {
+            return;
+        }
+        increments.merge(new Increment(metric, null, jobOpeningId, eventDay), 1L, Long::sum);
+    }
+
+    private static LocalDate toDate(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    /**
+     * Incrément d'une métrique pour un jour, rattaché à un recruteur ou, à défaut, à une offre
+     */
+    private record Increment(CounterMetric metric, UUID recruiterId, UUID jobOpeningId, LocalDate day) {
+    }
+}
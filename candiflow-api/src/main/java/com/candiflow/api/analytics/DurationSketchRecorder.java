@@ -0,0 +1,172 @@
+package com.candiflow.api.analytics;
+
+import com.candiflow.api.model.entity.DurationSketchId;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.enums.DurationMetric;
+import com.candiflow.api.observer.AfterCommit;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.Event;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.observer.EventObserver;
+import com.candiflow.api.observer.EventType;
+import com.candiflow.api.repository.DurationSketchRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Alimentation des esquisses de quantiles des durées (table duration_sketches) à partir des changements d'étape
+ * Chaque changement d'étape ajoute le temps passé dans l'étape quittée et, pour un passage à l'étape HIRED,
+ * le délai depuis la candidature. Les durées d'un événement sont regroupées par esquisse, puis ajoutées dans
+ * une transaction propre une fois la transaction du changement validée : chaque esquisse est verrouillée,
+ * complétée puis réécrite. Les esquisses sont verrouillées dans un ordre fixe pour éviter les interblocages.
+ */
+@Component
+@Slf4j
+public class DurationSketchRecorder implements EventObserver {
+
+    private static final String HIRED_STAGE = "HIRED";
+
+    private static final Comparator<DurationSketchId> LOCK_ORDER = Comparator
+            .comparing(DurationSketchId::getJobOpeningId)
+            .thenComparing(DurationSketchId::getMetric)
+            .thenComparing(DurationSketchId::getStageId);
+
+    private final DurationSketchRepository durationSketchRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final EventManager eventManager;
+    private final SketchProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter failureCounter;
+
+    public DurationSketchRecorder(DurationSketchRepository durationSketchRepository,
+                                  JobOpeningRepository jobOpeningRepository,
+                                  EventManager eventManager,
+                                  SketchProperties properties,
+                                  MeterRegistry meterRegistry,
+                                  PlatformTransactionManager transactionManager) {
+        this.durationSketchRepository = durationSketchRepository;
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.eventManager = eventManager;
+        this.properties = properties;
+        // Transaction propre : la transaction du changement d'étape est déjà validée lorsque les esquisses sont complétées
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.failureCounter = Counter.builder("candiflow.sketches.failed_updates")
+                .description("Événements dont les durées n'ont pas pu être ajoutées aux esquisses")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Initialisation : s'enregistre auprès du gestionnaire d'événements
+     */
+    @PostConstruct
+    public void init() {
+        eventManager.registerObserver(this);
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        Map<DurationSketchId, List<Duration>> observations = new HashMap<>();
+        Instant movedAt = event.getTimestamp();
+        if (event instanceof ApplicantBatchEvent batchEvent) {
+            for (ApplicantSnapshot applicant : batchEvent.getApplicants()) {
+                addStageChange(observations, applicant.jobOpeningId(), applicant.previousStageId(),
+                        applicant.previousStageEnteredAt(), applicant.stageId(), applicant.stageName(),
+                        applicant.applicationDate(), movedAt);
+            }
+        } else if (event instanceof ApplicantEvent applicantEvent) {
+            OpeningApplicant applicant = applicantEvent.getApplicant();
+            PipelineStage stage = applicant.getCurrentStage();
+            PipelineStage previousStage = applicantEvent.getPreviousStage();
+            if (stage != null) {
+                addStageChange(observations, applicant.getJobOpening().getId(),
+                        previousStage != null ? previousStage.getId() : null, applicantEvent.getPreviousStageEnteredAt(),
+                        stage.getId(), stage.getName(), applicant.getApplicationDate(), movedAt);
+            }
+        }
+
+        if (!observations.isEmpty()) {
+            AfterCommit.run(() -> record(observations));
+        }
+    }
+
+    @Override
+    public boolean isInterestedIn(EventType eventType) {
+        return properties.isEnabled() && eventType == EventType.STAGE_CHANGED;
+    }
+
+    /**
+     * Ajoute des durées aux esquisses, en créant au besoin celles qui n'existent pas encore
+     * Un échec est journalisé sans être propagé : le changement d'étape est déjà validé.
+     */
+    private void record(Map<DurationSketchId, List<Duration>> observations) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<UUID, Optional<UUID>> recruiters = new HashMap<>();
+                Map<DurationSketchId, List<Duration>> ordered = new TreeMap<>(LOCK_ORDER);
+                ordered.putAll(observations);
+                ordered.forEach((id, durations) -> {
+                    Optional<UUID> recruiterId = recruiters.computeIfAbsent(id.getJobOpeningId(),
+                            jobOpeningRepository::findRecruiterIdById);
+                    if (recruiterId.isEmpty()) {
+                        return;
+                    }
+                    durationSketchRepository.insertIfAbsent(id.getJobOpeningId(), id.getMetric(), id.getStageId(),
+                            recruiterId.get());
+                    durationSketchRepository.findForUpdate(id).ifPresent(row -> {
+                        // Une esquisse tout juste créée n'a pas encore de contenu
+                        QuantileSketch sketch = row.getSampleCount() > 0
+                                ? QuantileSketch.fromBytes(row.getPayload())
+                                : new QuantileSketch();
+                        durations.forEach(sketch::record);
+                        row.setPayload(sketch.toBytes());
+                        row.setSampleCount(sketch.count());
+                    });
+                });
+            });
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("Échec de l'ajout des durées à {} esquisse(s) de quantiles", observations.size(), e);
+        }
+    }
+
+    private static void addStageChange(Map<DurationSketchId, List<Duration>> observations, UUID jobOpeningId,
+                                       UUID previousStageId, Instant previousStageEnteredAt, UUID stageId,
+                                       String stageName, LocalDate applicationDate, Instant movedAt) {
+        if (previousStageId != null && previousStageId.equals(stageId)) {
+            return;
+        }
+        if (previousStageId != null && previousStageEnteredAt != null) {
+            observations.computeIfAbsent(new DurationSketchId(jobOpeningId, DurationMetric.TIME_IN_STAGE, previousStageId),
+                    id -> new ArrayList<>()).add(Duration.between(previousStageEnteredAt, movedAt));
+        }
+        if (HIRED_STAGE.equals(stageName) && applicationDate != null) {
+            Instant appliedAt = applicationDate.atStartOfDay(ZoneId.systemDefault()).toInstant();
+            observations.computeIfAbsent(new DurationSketchId(jobOpeningId, DurationMetric.TIME_TO_HIRE, stageId),
+                    id -> new ArrayList<>()).add(Duration.between(appliedAt, movedAt));
+        }
+    }
+}
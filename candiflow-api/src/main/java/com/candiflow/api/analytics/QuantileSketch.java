@@ -0,0 +1,91 @@
+package com.candiflow.api.analytics;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+
+/**
+ * Esquisse de quantiles d'une distribution de durées, à la seconde près (histogramme HdrHistogram)
+ * Chaque quantile est exact à 1 % près quelle que soit l'étendue des durées, pour quelques centaines d'octets
+ * une fois compressée. Deux esquisses se fusionnent sans perte de précision : celle d'un recruteur ou de toute
+ * la plateforme est la fusion de celles de ses offres.
+ * Non thread-safe : une esquisse est lue ou complétée par un seul thread à la fois.
+ */
+public final class QuantileSketch {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final Histogram histogram;
+
+    /**
+     * Crée une esquisse vide
+     */
+    public QuantileSketch() {
+        this(new Histogram(SIGNIFICANT_DIGITS));
+    }
+
+    private QuantileSketch(Histogram histogram) {
+        this.histogram = histogram;
+        // Les durées ne sont pas bornées : l'histogramme s'étend à la première valeur hors de sa plage
+        this.histogram.setAutoResize(true);
+    }
+
+    /**
+     * Relit une esquisse enregistrée par {@link #toBytes()}
+     * @param payload Esquisse compressée
+     * @return Esquisse
+     * @throws IllegalArgumentException si le contenu n'est pas une esquisse
+     */
+    public static QuantileSketch fromBytes(byte[] payload) {
+        try {
+            return new QuantileSketch(Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(payload), 0));
+        } catch (DataFormatException | RuntimeException e) {
+            throw new IllegalArgumentException("Esquisse de quantiles illisible", e);
+        }
+    }
+
+    /**
+     * Compresse l'esquisse pour l'enregistrer
+     * @return Esquisse compressée
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    /**
+     * Ajoute une durée observée ; une durée négative (horloges décalées, date saisie dans le futur) compte pour zéro
+     * @param duration Durée observée
+     */
+    public void record(Duration duration) {
+        histogram.recordValue(Math.max(0, duration.toSeconds()));
+    }
+
+    /**
+     * Ajoute à cette esquisse toutes les durées d'une autre
+     * @param other Esquisse à fusionner
+     */
+    public void merge(QuantileSketch other) {
+        histogram.add(other.histogram);
+    }
+
+    /**
+     * Nombre de durées observées
+     */
+    public long count() {
+        return histogram.getTotalCount();
+    }
+
+    /**
+     * Durée sous laquelle se trouve une proportion donnée des durées observées
+     * @param quantile Proportion, entre 0 et 1 (0.9 pour le 90e centile)
+     * @return Durée, nulle si l'esquisse est vide
+     */
+    public Duration quantile(double quantile) {
+        return Duration.ofSeconds(histogram.getValueAtPercentile(quantile * 100));
+    }
+}
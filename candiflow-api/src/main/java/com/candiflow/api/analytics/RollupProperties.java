@@ -0,0 +1,38 @@
+package com.candiflow.api.analytics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration du rafraîchissement du cube des candidats (table applicant_rollups)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.rollup")
+public class RollupProperties {
+
+    /**
+     * Active ou désactive le rafraîchissement du cube
+     */
+    private boolean enabled = true;
+
+    /**
+     * Intervalle entre deux rafraîchissements des offres modifiées
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * Intervalle entre deux recalculs complets du cube, qui rattrapent les écritures faites hors événements
+     */
+    private Duration fullRefreshInterval = Duration.ofHours(24);
+
+    /**
+     * Nombre maximal d'offres recalculées par transaction
+     */
+    private int openingsPerTransaction = 100;
+}
@@ -0,0 +1,21 @@
+package com.candiflow.api.analytics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration des esquisses de quantiles des durées (table duration_sketches)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.sketches")
+public class SketchProperties {
+
+    /**
+     * Active ou désactive l'alimentation et la lecture des esquisses
+     */
+    private boolean enabled = true;
+}
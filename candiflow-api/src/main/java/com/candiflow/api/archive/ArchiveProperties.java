@@ -0,0 +1,53 @@
+package com.candiflow.api.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration de l'archivage des offres d'emploi fermées
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.archive")
+public class ArchiveProperties {
+
+    /**
+     * Active ou désactive l'archivage planifié
+     */
+    private boolean enabled = true;
+
+    /**
+     * Ancienneté minimale de la dernière modification d'une offre fermée avant son archivage
+     */
+    private Duration closedFor = Duration.ofDays(365);
+
+    /**
+     * Intervalle entre deux passages de l'archivage
+     */
+    private Duration interval = Duration.ofHours(1);
+
+    /**
+     * Nombre maximal d'offres traitées par transaction
+     */
+    private int openingsPerChunk = 10;
+
+    /**
+     * Nombre maximal de candidats (avec leurs notes et tags) déplacés par transaction
+     */
+    private int applicantsPerChunk = 500;
+
+    /**
+     * Pause entre deux transactions, pour laisser la place à la charge interactive
+     */
+    private Duration pauseBetweenChunks = Duration.ofMillis(200);
+
+    /**
+     * Nombre maximal de transactions par passage
+     */
+    private int maxChunksPerRun = 1000;
+}
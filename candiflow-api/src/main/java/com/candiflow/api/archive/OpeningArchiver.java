@@ -0,0 +1,178 @@
+package com.candiflow.api.archive;
+
+import com.candiflow.api.model.enums.JobStatus;
+import com.candiflow.api.observer.ApplicantsRemovedEvent;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.repository.ApplicantTagRepository;
+import com.candiflow.api.repository.ArchivedApplicantTagRepository;
+import com.candiflow.api.repository.ArchivedJobOpeningRepository;
+import com.candiflow.api.repository.ArchivedOpeningApplicantRepository;
+import com.candiflow.api.repository.ArchivedRecruiterNoteRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Archivage des offres d'emploi fermées depuis longtemps
+ * Les offres, leurs candidats, notes et tags sont recopiés dans les tables d'archive puis supprimés des tables
+ * vivantes, par requêtes ensemblistes et en transactions courtes : chaque transaction déplace au plus un lot
+ * de candidats, et une offre n'est déplacée qu'une fois tous ses candidats archivés.
+ * Un passage interrompu reprend naturellement au passage suivant.
+ */
+@Component
+@Slf4j
+public class OpeningArchiver {
+
+    private final JobOpeningRepository jobOpeningRepository;
+    private final OpeningApplicantRepository openingApplicantRepository;
+    private final RecruiterNoteRepository recruiterNoteRepository;
+    private final ApplicantTagRepository applicantTagRepository;
+    private final ArchivedJobOpeningRepository archivedJobOpeningRepository;
+    private final ArchivedOpeningApplicantRepository archivedOpeningApplicantRepository;
+    private final ArchivedRecruiterNoteRepository archivedRecruiterNoteRepository;
+    private final ArchivedApplicantTagRepository archivedApplicantTagRepository;
+    private final ArchiveProperties properties;
+    private final EventManager eventManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public OpeningArchiver(JobOpeningRepository jobOpeningRepository,
+                           OpeningApplicantRepository openingApplicantRepository,
+                           RecruiterNoteRepository recruiterNoteRepository,
+                           ApplicantTagRepository applicantTagRepository,
+                           ArchivedJobOpeningRepository archivedJobOpeningRepository,
+                           ArchivedOpeningApplicantRepository archivedOpeningApplicantRepository,
+                           ArchivedRecruiterNoteRepository archivedRecruiterNoteRepository,
+                           ArchivedApplicantTagRepository archivedApplicantTagRepository,
+                           ArchiveProperties properties,
+                           EventManager eventManager,
+                           PlatformTransactionManager transactionManager) {
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.openingApplicantRepository = openingApplicantRepository;
+        this.recruiterNoteRepository = recruiterNoteRepository;
+        this.applicantTagRepository = applicantTagRepository;
+        this.archivedJobOpeningRepository = archivedJobOpeningRepository;
+        this.archivedOpeningApplicantRepository = archivedOpeningApplicantRepository;
+        this.archivedRecruiterNoteRepository = archivedRecruiterNoteRepository;
+        this.archivedApplicantTagRepository = archivedApplicantTagRepository;
+        this.properties = properties;
+        this.eventManager = eventManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Archive les offres fermées dont la dernière modification dépasse l'ancienneté configurée
+     */
+    @Scheduled(fixedDelayString = "${candiflow.archive.interval:PT1H}")
+    public void archiveExpired() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            archiveClosedBefore(Instant.now().minus(properties.getClosedFor()));
+        } catch (RuntimeException e) {
+            log.warn("Échec de l'archivage des offres fermées", e);
+        }
+    }
+
+    /**
+     * Archive les offres fermées non modifiées depuis une date donnée
+     * @param cutoff Date de dernière modification en deçà de laquelle une offre fermée est archivée
+     * @return Nombre de lignes déplacées par table
+     */
+    public ArchiveResult archiveClosedBefore(Instant cutoff) {
+        ArchiveResult total = ArchiveResult.EMPTY;
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            ArchiveResult moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            if (moved == null || moved.isEmpty()) {
+                break;
+            }
+            total = total.plus(moved);
+            log.debug("Archivage en cours: {}", total);
+            if (!pause()) {
+                break;
+            }
+        }
+        if (!total.isEmpty()) {
+            log.info("Archivage terminé pour les offres fermées avant {}: {}", cutoff, total);
+        }
+        return total;
+    }
+
+    /**
+     * Déplace un lot dans la transaction courante
+     */
+    private ArchiveResult archiveChunk(Instant cutoff) {
+        List<UUID> jobOpeningIds = jobOpeningRepository.lockIdsByStatusAndUpdatedAtBefore(
+                JobStatus.CLOSED, cutoff, Limit.of(properties.getOpeningsPerChunk()));
+        if (jobOpeningIds.isEmpty()) {
+            return ArchiveResult.EMPTY;
+        }
+
+        Instant archivedAt = Instant.now();
+        int chunkSize = properties.getApplicantsPerChunk();
+        List<UUID> applicantIds = openingApplicantRepository.findIdsByJobOpeningIds(jobOpeningIds, Limit.of(chunkSize));
+
+        int tags = 0;
+        int notes = 0;
+        int applicants = 0;
+        if (!applicantIds.isEmpty()) {
+            // Enfants d'abord : les tables vivantes gardent leurs clés étrangères
+            tags = archivedApplicantTagRepository.archiveTags(applicantIds, archivedAt);
+            notes = archivedRecruiterNoteRepository.archiveNotes(applicantIds, archivedAt);
+            applicants = archivedOpeningApplicantRepository.archiveApplicants(applicantIds, archivedAt);
+            applicantTagRepository.deleteByApplicantIds(applicantIds);
+            recruiterNoteRepository.deleteByApplicantIds(applicantIds);
+            openingApplicantRepository.deleteAllByIds(applicantIds);
+            eventManager.fireEventAfterCommit(new ApplicantsRemovedEvent(getClass().getSimpleName(), applicantIds, jobOpeningIds));
+        }
+
+        int openings = 0;
+        if (applicantIds.size() < chunkSize) {
+            // Lot incomplet : les offres verrouillées n'ont plus aucun candidat
+            openings = archivedJobOpeningRepository.archiveJobOpenings(jobOpeningIds, archivedAt);
+            jobOpeningRepository.deleteAllByIds(jobOpeningIds);
+        }
+        return new ArchiveResult(openings, applicants, notes, tags);
+    }
+
+    private boolean pause() {
+        long millis = properties.getPauseBetweenChunks().toMillis();
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Nombre de lignes déplacées vers l'archive, par table
+     */
+    public record ArchiveResult(long jobOpenings, long applicants, long notes, long tags) {
+
+        static final ArchiveResult EMPTY = new ArchiveResult(0, 0, 0, 0);
+
+        boolean isEmpty() {
+            return jobOpenings == 0 && applicants == 0 && notes == 0 && tags == 0;
+        }
+
+        ArchiveResult plus(ArchiveResult other) {
+            return new ArchiveResult(jobOpenings + other.jobOpenings, applicants + other.applicants,
+                    notes + other.notes, tags + other.tags);
+        }
+    }
+}
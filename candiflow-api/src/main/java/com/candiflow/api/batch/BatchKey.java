@@ -0,0 +1,41 @@
+package com.candiflow.api.batch;
+
+/**
+ * Type de clé chargé par lot
+ * Chaque type de clé est associé dans le {@link BatchLoader} à une requête qui résout un ensemble de clés en une fois.
+ * @param <K> Type des clés
+ * @param <V> Type des valeurs chargées
+ */
+public final class BatchKey<K, V> {
+
+    private final String name;
+    private final V defaultValue;
+
+    private BatchKey(String name, V defaultValue) {
+        this.name = name;
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Déclare un type de clé
+     * @param name Nom du type de clé
+     * @param defaultValue Valeur renvoyée pour une clé absente du résultat de la requête
+     * @return Le type de clé
+     */
+    public static <K, V> BatchKey<K, V> of(String name, V defaultValue) {
+        return new BatchKey<>(name, defaultValue);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V getDefaultValue() {
+        return defaultValue;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,58 @@
+package com.candiflow.api.batch;
+
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.repository.projection.LatestStatusProjection;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Types de clés chargés par lot lors de la construction des réponses
+ */
+public final class BatchKeys {
+
+    /**
+     * Nombre de candidats par ID d'offre
+     */
+    public static final BatchKey<UUID, Long> APPLICANT_COUNT_BY_OPENING =
+            BatchKey.of("applicant-count-by-opening", 0L);
+
+    /**
+     * Nombre de candidats par ID d'étape, par ID d'offre
+     */
+    public static final BatchKey<UUID, Map<UUID, Long>> APPLICANT_STAGE_COUNTS_BY_OPENING =
+            BatchKey.of("applicant-stage-counts-by-opening", Map.of());
+
+    /**
+     * Nombre de notes par ID de candidat
+     */
+    public static final BatchKey<UUID, Long> NOTE_COUNT_BY_APPLICANT =
+            BatchKey.of("note-count-by-applicant", 0L);
+
+    /**
+     * Dernière mise à jour de statut par ID de candidature (null si aucune)
+     */
+    public static final BatchKey<UUID, LatestStatusProjection> LATEST_STATUS_BY_APPLICATION =
+            BatchKey.of("latest-status-by-application", null);
+
+    /**
+     * Nombre de mises à jour de statut par ID de candidature
+     */
+    public static final BatchKey<UUID, Long> STATUS_UPDATE_COUNT_BY_APPLICATION =
+            BatchKey.of("status-update-count-by-application", 0L);
+
+    /**
+     * Nombre de documents par ID de candidature
+     */
+    public static final BatchKey<UUID, Long> DOCUMENT_COUNT_BY_APPLICATION =
+            BatchKey.of("document-count-by-application", 0L);
+
+    /**
+     * Auteur par ID d'utilisateur (null si inconnu)
+     */
+    public static final BatchKey<UUID, User> AUTHOR_BY_ID =
+            BatchKey.of("author-by-id", null);
+
+    private BatchKeys() {
+    }
+}
@@ -0,0 +1,80 @@
+package com.candiflow.api.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Chargements différés enregistrés pendant la construction d'un ensemble de réponses
+ * Les clés sont accumulées par type puis résolues par {@link BatchLoader} avec une requête IN par type de clé,
+ * avant que les réponses ne soient renvoyées. Un contexte n'est utilisé que par un seul thread.
+ */
+@Slf4j
+public class BatchLoadContext {
+
+    private final Map<BatchKey<?, ?>, Function<Set<?>, Map<?, ?>>> loaders;
+    private final int maxBatchSize;
+    private final Map<BatchKey<?, ?>, Map<Object, List<Consumer<Object>>>> pending = new LinkedHashMap<>();
+
+    BatchLoadContext(Map<BatchKey<?, ?>, Function<Set<?>, Map<?, ?>>> loaders, int maxBatchSize) {
+        this.loaders = loaders;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Enregistre le chargement d'une valeur
+     * Le callback est appelé une fois la valeur chargée, avec la valeur par défaut du type de clé si elle est absente.
+     * Une clé nulle reçoit immédiatement la valeur par défaut.
+     * @param key Type de clé
+     * @param id Clé à charger
+     * @param callback Traitement de la valeur chargée
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> void load(BatchKey<K, V> key, K id, Consumer<? super V> callback) {
+        if (!loaders.containsKey(key)) {
+            throw new IllegalArgumentException("Aucun chargeur par lot enregistré pour la clé '" + key + "'");
+        }
+        if (id == null) {
+            callback.accept(key.getDefaultValue());
+            return;
+        }
+        pending.computeIfAbsent(key, k -> new LinkedHashMap<>())
+                .computeIfAbsent(id, i -> new ArrayList<>())
+                .add((Consumer<Object>) callback);
+    }
+
+    /**
+     * Résout les chargements en attente, y compris ceux enregistrés par les callbacks eux-mêmes
+     */
+    void dispatch() {
+        while (!pending.isEmpty()) {
+            Map<BatchKey<?, ?>, Map<Object, List<Consumer<Object>>>> batch = new LinkedHashMap<>(pending);
+            pending.clear();
+            batch.forEach(this::resolve);
+        }
+    }
+
+    private void resolve(BatchKey<?, ?> key, Map<Object, List<Consumer<Object>>> callbacks) {
+        Function<Set<?>, Map<?, ?>> loader = loaders.get(key);
+        List<Object> ids = new ArrayList<>(callbacks.keySet());
+        Map<Object, Object> values = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += maxBatchSize) {
+            Set<Object> chunk = new LinkedHashSet<>(ids.subList(from, Math.min(from + maxBatchSize, ids.size())));
+            values.putAll(loader.apply(chunk));
+        }
+        log.debug("Chargement par lot '{}': {} clé(s), {} valeur(s) trouvée(s)", key, ids.size(), values.size());
+
+        callbacks.forEach((id, consumers) -> {
+            Object value = values.getOrDefault(id, key.getDefaultValue());
+            consumers.forEach(consumer -> consumer.accept(value));
+        });
+    }
+}
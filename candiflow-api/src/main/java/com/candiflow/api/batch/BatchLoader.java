@@ -0,0 +1,120 @@
+package com.candiflow.api.batch;
+
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.repository.DocumentRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.StatusUpdateRepository;
+import com.candiflow.api.repository.UserRepository;
+import com.candiflow.api.repository.projection.IdCountProjection;
+import com.candiflow.api.repository.projection.LatestStatusProjection;
+import com.candiflow.api.repository.projection.StageCountProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Chargement par lot des données associées aux réponses
+ * Les mappers enregistrent leurs clés dans un {@link BatchLoadContext} propre à l'appel ; chaque type de clé
+ * est ensuite résolu en une requête IN, quel que soit le nombre d'éléments convertis.
+ * Une statistique ajoutée par ce biais ne peut donc pas introduire de requête par ligne.
+ */
+@Component
+public class BatchLoader {
+
+    /**
+     * Nombre maximal de clés par requête IN
+     */
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final Map<BatchKey<?, ?>, Function<Set<?>, Map<?, ?>>> loaders = new HashMap<>();
+
+    public BatchLoader(OpeningApplicantRepository openingApplicantRepository,
+                       RecruiterNoteRepository recruiterNoteRepository,
+                       StatusUpdateRepository statusUpdateRepository,
+                       DocumentRepository documentRepository,
+                       UserRepository userRepository) {
+        register(BatchKeys.APPLICANT_COUNT_BY_OPENING,
+                ids -> toCounts(openingApplicantRepository.countByJobOpeningIds(ids)));
+        register(BatchKeys.APPLICANT_STAGE_COUNTS_BY_OPENING,
+                ids -> openingApplicantRepository.countByJobOpeningIdsGroupByStage(ids).stream()
+                        .collect(Collectors.groupingBy(StageCountProjection::jobOpeningId,
+                                Collectors.toMap(StageCountProjection::stageId, StageCountProjection::count))));
+        register(BatchKeys.NOTE_COUNT_BY_APPLICANT,
+                ids -> toCounts(recruiterNoteRepository.countByApplicantIds(ids)));
+        register(BatchKeys.LATEST_STATUS_BY_APPLICATION,
+                ids -> statusUpdateRepository.findLatestByApplicationIds(ids).stream()
+                        .collect(Collectors.toMap(LatestStatusProjection::applicationId, Function.identity(),
+                                (first, second) -> first)));
+        register(BatchKeys.STATUS_UPDATE_COUNT_BY_APPLICATION,
+                ids -> toCounts(statusUpdateRepository.countByApplicationIds(ids)));
+        register(BatchKeys.DOCUMENT_COUNT_BY_APPLICATION,
+                ids -> toCounts(documentRepository.countByApplicationIds(ids)));
+        register(BatchKeys.AUTHOR_BY_ID,
+                ids -> userRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity())));
+    }
+
+    /**
+     * Convertit une page en résolvant par lot les chargements enregistrés par le mapper
+     * @param page Page source
+     * @param mapper Conversion d'un élément, qui peut enregistrer des chargements dans le contexte
+     * @return Page convertie, dont les chargements sont résolus
+     */
+    public <T, R> Page<R> mapPage(Page<T> page, BiFunction<? super T, BatchLoadContext, ? extends R> mapper) {
+        BatchLoadContext loads = newContext();
+        Page<R> responses = page.map(item -> mapper.apply(item, loads));
+        loads.dispatch();
+        return responses;
+    }
+
+    /**
+     * Convertit une collection en résolvant par lot les chargements enregistrés par le mapper
+     * @param items Éléments source
+     * @param mapper Conversion d'un élément, qui peut enregistrer des chargements dans le contexte
+     * @return Liste convertie, dont les chargements sont résolus
+     */
+    public <T, R> List<R> mapAll(Collection<T> items, BiFunction<? super T, BatchLoadContext, ? extends R> mapper) {
+        BatchLoadContext loads = newContext();
+        List<R> responses = items.stream()
+                .<R>map(item -> mapper.apply(item, loads))
+                .collect(Collectors.toList());
+        loads.dispatch();
+        return responses;
+    }
+
+    /**
+     * Convertit un élément seul avec les mêmes chargements que les listes
+     * @param item Élément source
+     * @param mapper Conversion de l'élément, qui peut enregistrer des chargements dans le contexte
+     * @return Élément converti, dont les chargements sont résolus
+     */
+    public <T, R> R map(T item, BiFunction<? super T, BatchLoadContext, ? extends R> mapper) {
+        BatchLoadContext loads = newContext();
+        R response = mapper.apply(item, loads);
+        loads.dispatch();
+        return response;
+    }
+
+    private BatchLoadContext newContext() {
+        return new BatchLoadContext(loaders, MAX_BATCH_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> void register(BatchKey<K, V> key, Function<Set<K>, Map<K, V>> loader) {
+        loaders.put(key, ids -> loader.apply((Set<K>) ids));
+    }
+
+    private static Map<UUID, Long> toCounts(List<IdCountProjection> counts) {
+        return counts.stream().collect(Collectors.toMap(IdCountProjection::id, IdCountProjection::count));
+    }
+}
@@ -0,0 +1,33 @@
+package com.candiflow.api.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Exécute la méthode (ou toutes les méthodes publiques de la classe) dans un compartiment isolé
+ * Le compartiment dispose de son propre pool de threads borné et, s'il est configuré,
+ * de son propre pool de connexions à la base de données.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Bulkhead {
+
+    /**
+     * Compartiment de la charge interactive (pool de connexions principal)
+     */
+    String INTERACTIVE = "interactive";
+
+    /**
+     * Compartiment des traitements de reporting (exports, statistiques, recherches)
+     */
+    String REPORTING = "reporting";
+
+    /**
+     * Nom du compartiment, tel que déclaré dans candiflow.bulkhead.pools
+     */
+    String value();
+}
@@ -0,0 +1,53 @@
+package com.candiflow.api.bulkhead;
+
+import com.candiflow.api.datasource.RoutingContextHolder;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Aspect exécutant les méthodes annotées {@link Bulkhead} dans leur compartiment
+ * Il est ordonné avant les transactions afin que la connexion soit obtenue
+ * depuis le thread du compartiment, donc depuis son pool de connexions.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class BulkheadAspect {
+
+    private final BulkheadRegistry registry;
+
+    @Around("@annotation(com.candiflow.api.bulkhead.Bulkhead) || @within(com.candiflow.api.bulkhead.Bulkhead)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = resolveBulkhead(joinPoint);
+
+        // Appel imbriqué dans le même compartiment : on reste sur le thread courant
+        if (name == null || name.equals(RoutingContextHolder.getWorkload())) {
+            return joinPoint.proceed();
+        }
+
+        Optional<BulkheadExecutor> executor = registry.find(name);
+        if (executor.isEmpty()) {
+            return joinPoint.proceed();
+        }
+        return executor.get().execute(joinPoint::proceed);
+    }
+
+    private String resolveBulkhead(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Bulkhead annotation = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), Bulkhead.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Bulkhead.class);
+        }
+        return annotation != null ? annotation.value() : null;
+    }
+}
@@ -0,0 +1,184 @@
+package com.candiflow.api.bulkhead;
+
+import com.candiflow.api.datasource.RoutingContextHolder;
+import com.candiflow.api.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compartiment d'exécution borné
+ * Les appels sont exécutés sur un pool de threads dédié de taille fixe, précédé d'une file bornée.
+ * Un appel échoue immédiatement si la file est pleine, ou dès que son attente dépasse le délai configuré.
+ * Le délai ne s'applique qu'à l'attente : un appel démarré s'exécute jusqu'à son terme.
+ */
+@Slf4j
+public class BulkheadExecutor {
+
+    private static final String CALLS_METRIC = "candiflow.bulkhead.calls";
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int ABANDONED = 2;
+
+    @Getter
+    private final String name;
+    private final long queueTimeoutNanos;
+    private final ThreadPoolExecutor executor;
+    private final Counter completed;
+    private final Counter failed;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+    private final Timer queueWait;
+
+    /**
+     * Constructeur
+     * @param name Nom du compartiment
+     * @param pool Configuration du compartiment
+     * @param meterRegistry Registre des métriques
+     */
+    public BulkheadExecutor(String name, BulkheadProperties.Pool pool, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.queueTimeoutNanos = pool.getQueueTimeout().toNanos();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                pool.getMaxConcurrentCalls(), pool.getMaxConcurrentCalls(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, pool.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulkhead-" + name + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.completed = callCounter(meterRegistry, "completed");
+        this.failed = callCounter(meterRegistry, "failed");
+        this.rejectedQueueFull = callCounter(meterRegistry, "rejected_queue_full");
+        this.rejectedTimeout = callCounter(meterRegistry, "rejected_timeout");
+        this.queueWait = Timer.builder("candiflow.bulkhead.queue.wait")
+                .description("Temps d'attente avant le démarrage d'un appel")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("candiflow.bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Appels en cours d'exécution")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("candiflow.bulkhead.queued", executor, e -> e.getQueue().size())
+                .description("Appels en attente")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Exécute un appel dans le compartiment et attend son résultat
+     * Le contexte de sécurité et la requête de l'appelant sont propagés au thread d'exécution ; la requête
+     * identifie le client auprès de {@link com.candiflow.api.datasource.ReplicaLagGuard}.
+     * @param call Appel à exécuter
+     * @return Résultat de l'appel
+     * @throws BulkheadFullException si le compartiment est saturé
+     * @throws Throwable toute exception levée par l'appel lui-même
+     */
+    public <T> T execute(BulkheadCall<T> call) throws Throwable {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        AtomicInteger state = new AtomicInteger(PENDING);
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                // L'appelant a pu abandonner l'appel pendant son attente dans la file
+                if (!state.compareAndSet(PENDING, RUNNING)) {
+                    return null;
+                }
+                queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+
+                SecurityContextHolder.setContext(securityContext);
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                RoutingContextHolder.setWorkload(name);
+                try {
+                    return call.call();
+                } catch (Exception | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new UndeclaredThrowableException(t);
+                } finally {
+                    RoutingContextHolder.clear();
+                    RequestContextHolder.resetRequestAttributes();
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw new BulkheadFullException("Le compartiment '" + name + "' est saturé, réessayez plus tard");
+        }
+
+        try {
+            try {
+                T result = future.get(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+                completed.increment();
+                return result;
+            } catch (TimeoutException e) {
+                if (state.compareAndSet(PENDING, ABANDONED)) {
+                    // L'appel n'a pas démarré à temps : on le retire de la file et on échoue immédiatement
+                    future.cancel(false);
+                    executor.remove((Runnable) future);
+                    rejectedTimeout.increment();
+                    throw new BulkheadFullException("Délai d'attente dépassé pour le compartiment '" + name + "'");
+                }
+            }
+            // L'appel a démarré : on attend sa fin sans limite propre au compartiment
+            T result = future.get();
+            completed.increment();
+            return result;
+        } catch (ExecutionException e) {
+            failed.increment();
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException("Appel interrompu dans le compartiment '" + name + "'");
+        }
+    }
+
+    /**
+     * Arrête le pool de threads du compartiment
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(CALLS_METRIC)
+                .description("Appels traités par le compartiment")
+                .tag("bulkhead", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Appel exécutable dans un compartiment
+     */
+    @FunctionalInterface
+    public interface BulkheadCall<T> {
+        T call() throws Throwable;
+    }
+}
@@ -0,0 +1,56 @@
+package com.candiflow.api.bulkhead;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration des compartiments d'exécution (bulkheads)
+ * Exemple :
+ * <pre>
+ * candiflow.bulkhead.pools.reporting.max-concurrent-calls=4
+ * candiflow.bulkhead.pools.reporting.queue-capacity=20
+ * candiflow.bulkhead.pools.reporting.queue-timeout=2s
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.bulkhead")
+public class BulkheadProperties {
+
+    /**
+     * Active ou désactive l'isolation ; désactivée, les méthodes annotées s'exécutent sur le thread appelant
+     */
+    private boolean enabled = true;
+
+    /**
+     * Compartiments indexés par nom
+     */
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * Nombre maximal d'appels exécutés simultanément (taille du pool de threads)
+         */
+        private int maxConcurrentCalls = 4;
+
+        /**
+         * Nombre maximal d'appels en attente ; au-delà, l'appel échoue immédiatement
+         */
+        private int queueCapacity = 20;
+
+        /**
+         * Durée d'attente maximale avant le démarrage d'un appel ; au-delà, l'appel échoue
+         */
+        private Duration queueTimeout = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,47 @@
+package com.candiflow.api.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registre des compartiments d'exécution déclarés dans la configuration
+ */
+@Component
+@Slf4j
+public class BulkheadRegistry {
+
+    private final BulkheadProperties properties;
+    private final Map<String, BulkheadExecutor> executors = new LinkedHashMap<>();
+
+    public BulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        properties.getPools().forEach((name, pool) -> {
+            executors.put(name, new BulkheadExecutor(name, pool, meterRegistry));
+            log.info("Compartiment '{}' initialisé: {} appel(s) simultané(s), file de {}, attente max {}",
+                    name, pool.getMaxConcurrentCalls(), pool.getQueueCapacity(), pool.getQueueTimeout());
+        });
+    }
+
+    /**
+     * Récupère le compartiment associé à un nom
+     * @param name Nom du compartiment
+     * @return Compartiment, ou vide si l'isolation est désactivée ou le compartiment non configuré
+     */
+    public Optional<BulkheadExecutor> find(String name) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(executors.get(name));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(BulkheadExecutor::shutdown);
+    }
+}
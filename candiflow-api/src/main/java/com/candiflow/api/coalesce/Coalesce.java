@@ -0,0 +1,19 @@
+package com.candiflow.api.coalesce;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Regroupe les appels simultanés identiques de la méthode (ou de toutes les méthodes publiques de la classe)
+ * Deux appels sont identiques s'ils portent sur la même méthode avec des arguments égaux :
+ * le premier calcule le résultat, les suivants attendent ce calcul au lieu de le refaire.
+ * Le résultat doit pouvoir être partagé entre les appelants (les flux d'octets sont copiés pour chacun).
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Coalesce {
+}
@@ -0,0 +1,34 @@
+package com.candiflow.api.coalesce;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Aspect regroupant les appels simultanés identiques des méthodes annotées {@link Coalesce}
+ * Il est ordonné avant les compartiments : les appels regroupés attendent le résultat
+ * sans occuper de place dans le compartiment ni de connexion.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@RequiredArgsConstructor
+public class CoalescingAspect {
+
+    private final RequestCoalescer coalescer;
+
+    @Around("@annotation(com.candiflow.api.coalesce.Coalesce) || @within(com.candiflow.api.coalesce.Coalesce)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String name = joinPoint.getTarget().getClass().getSimpleName() + "." + method.getName();
+        return coalescer.execute(name, Arrays.asList(joinPoint.getArgs()), joinPoint::proceed);
+    }
+}
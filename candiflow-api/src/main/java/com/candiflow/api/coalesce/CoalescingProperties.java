@@ -0,0 +1,21 @@
+package com.candiflow.api.coalesce;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration du regroupement des appels simultanés identiques
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.coalescing")
+public class CoalescingProperties {
+
+    /**
+     * Active le regroupement ; désactivé, chaque appel calcule son propre résultat
+     */
+    private boolean enabled = true;
+}
@@ -0,0 +1,115 @@
+package com.candiflow.api.coalesce;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Regroupement des appels simultanés identiques (single-flight)
+ * Un seul calcul est en cours par clé : le premier appel l'exécute sur son propre thread,
+ * les appels arrivés pendant ce calcul attendent son résultat, ou son exception.
+ * La clé est libérée dès la fin du calcul : aucun résultat n'est conservé au-delà.
+ */
+@Component
+public class RequestCoalescer {
+
+    static final String CALLS_METRIC = "candiflow.coalescing.calls";
+
+    private final CoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Exécute un appel, ou attend le résultat d'un appel identique déjà en cours
+     * Un appel fait dans une transaction n'est pas regroupé : il pourrait voir des écritures
+     * non validées de cette transaction, qui ne doivent pas être partagées avec les autres appelants.
+     * @param name Nom de l'opération, pour les métriques
+     * @param arguments Arguments de l'appel, comparés par égalité
+     * @param call Calcul du résultat
+     * @return Résultat du calcul ; un flux d'octets est copié pour chaque appelant
+     */
+    public Object execute(String name, List<Object> arguments, CoalescedCall call) throws Throwable {
+        if (!properties.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return call.call();
+        }
+
+        CallKey key = new CallKey(name, arguments);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            count(name, "coalesced");
+            return unwrap(await(existing));
+        }
+
+        count(name, "executed");
+        try {
+            Object result = call.call();
+            Object shared = result instanceof ByteArrayInputStream stream ? new SharedBytes(stream.readAllBytes()) : result;
+            future.complete(shared);
+            return unwrap(shared);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Nombre d'appels en cours de calcul
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Attente du résultat d'un appel identique interrompue", e);
+        }
+    }
+
+    private static Object unwrap(Object shared) {
+        return shared instanceof SharedBytes bytes ? new ByteArrayInputStream(bytes.content()) : shared;
+    }
+
+    private void count(String name, String outcome) {
+        meterRegistry.counter(CALLS_METRIC, "operation", name, "outcome", outcome).increment();
+    }
+
+    /**
+     * Clé d'un appel : opération et arguments
+     */
+    private record CallKey(String name, List<Object> arguments) {
+    }
+
+    /**
+     * Contenu d'un flux d'octets partagé, relu par un nouveau flux pour chaque appelant
+     */
+    private record SharedBytes(byte[] content) {
+    }
+
+    /**
+     * Appel dont le résultat peut être partagé
+     */
+    @FunctionalInterface
+    public interface CoalescedCall {
+        Object call() throws Throwable;
+    }
+}
@@ -0,0 +1,61 @@
+package com.candiflow.api.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * Calcul des sections indépendantes d'une réponse, chacune sur son propre thread virtuel
+ * Chaque section s'exécute dans sa propre transaction en lecture seule, donc sur sa propre connexion :
+ * la durée d'une réponse est proche de celle de sa section la plus lente plutôt que de leur somme.
+ * Usage :
+ * <pre>
+ * try (SectionScope scope = sectionExecutor.open()) {
+ *     SectionScope.Section&lt;Long&gt; total = scope.fork(() -> repository.count());
+ *     scope.join();
+ *     return total.get();
+ * }
+ * </pre>
+ */
+@Component
+public class SectionExecutor {
+
+    private final SectionProperties properties;
+    private final PlatformTransactionManager transactionManager;
+    private final Counter deadlineExceeded;
+    private final Timer sectionTimer;
+
+    public SectionExecutor(SectionProperties properties, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.transactionManager = transactionManager;
+        this.deadlineExceeded = Counter.builder("candiflow.sections.deadline_exceeded")
+                .description("Requêtes dont les sections n'ont pas été calculées dans le délai accordé")
+                .register(meterRegistry);
+        this.sectionTimer = Timer.builder("candiflow.sections.duration")
+                .description("Durée de calcul d'une section")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ouvre une portée de sections avec le délai configuré
+     * @return Portée à fermer une fois la réponse construite
+     */
+    public SectionScope open() {
+        return open(properties.getDeadline());
+    }
+
+    /**
+     * Ouvre une portée de sections avec un délai donné
+     * @param deadline Délai accordé à l'ensemble des sections, à compter de maintenant
+     * @return Portée à fermer une fois la réponse construite
+     */
+    public SectionScope open(Duration deadline) {
+        return new SectionScope(properties.isParallel(), transactionManager, System.nanoTime() + deadline.toNanos(),
+                deadlineExceeded, sectionTimer);
+    }
+}
@@ -0,0 +1,28 @@
+package com.candiflow.api.concurrent;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration du calcul en parallèle des sections indépendantes d'une réponse (tableaux de bord)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.sections")
+public class SectionProperties {
+
+    /**
+     * Active le calcul en parallèle ; désactivé, les sections sont calculées l'une après l'autre sur le thread appelant
+     */
+    private boolean parallel = true;
+
+    /**
+     * Délai accordé à l'ensemble des sections d'une requête ; au-delà, la requête échoue
+     */
+    private Duration deadline = Duration.ofSeconds(10);
+}
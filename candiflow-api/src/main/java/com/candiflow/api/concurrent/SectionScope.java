@@ -0,0 +1,205 @@
+package com.candiflow.api.concurrent;
+
+import com.candiflow.api.datasource.RoutingContextHolder;
+import com.candiflow.api.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Portée d'un ensemble de sections calculées en parallèle, sur le modèle de la concurrence structurée
+ * Les sections sont lancées par {@link #fork(Supplier)} puis attendues ensemble par {@link #join()} :
+ * le premier échec ou le dépassement du délai annule les sections restantes. Aucune section ne survit
+ * à la portée : {@link #close()} attend la fin de toutes, bornée par le délai de leurs transactions.
+ * Le contexte de sécurité, la requête et le compartiment de charge de l'appelant sont propagés à chaque section.
+ */
+public final class SectionScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final CompletionService<Object> completionService;
+    private final PlatformTransactionManager transactionManager;
+    private final long deadlineNanos;
+    private final Counter deadlineExceeded;
+    private final Timer sectionTimer;
+    private final SecurityContext securityContext;
+    private final RequestAttributes requestAttributes;
+    private final String workload;
+    private final List<Section<?>> sections = new ArrayList<>();
+    private boolean joined;
+
+    SectionScope(boolean parallel, PlatformTransactionManager transactionManager, long deadlineNanos,
+                 Counter deadlineExceeded, Timer sectionTimer) {
+        this.executor = parallel ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("section-", 1).factory()) : null;
+        this.completionService = parallel ? new ExecutorCompletionService<>(executor) : null;
+        this.transactionManager = transactionManager;
+        this.deadlineNanos = deadlineNanos;
+        this.deadlineExceeded = deadlineExceeded;
+        this.sectionTimer = sectionTimer;
+        this.securityContext = SecurityContextHolder.getContext();
+        this.requestAttributes = RequestContextHolder.getRequestAttributes();
+        this.workload = RoutingContextHolder.getWorkload();
+    }
+
+    /**
+     * Lance le calcul d'une section dans sa propre transaction en lecture seule
+     * En mode séquentiel, la section est calculée immédiatement sur le thread appelant.
+     * @param task Calcul de la section
+     * @return Section, dont le résultat est disponible après {@link #join()}
+     */
+    public <T> Section<T> fork(Supplier<T> task) {
+        if (joined) {
+            throw new IllegalStateException("Les sections de cette portée ont déjà été attendues");
+        }
+        Section<T> section = new Section<>();
+        sections.add(section);
+        if (executor == null) {
+            try {
+                section.result = inTransaction(task);
+            } catch (RuntimeException | Error e) {
+                section.failure = e;
+            }
+            return section;
+        }
+        section.future = completionService.submit(() -> {
+            SecurityContextHolder.setContext(securityContext);
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            RoutingContextHolder.setWorkload(workload);
+            try {
+                return inTransaction(task);
+            } finally {
+                RoutingContextHolder.clear();
+                RequestContextHolder.resetRequestAttributes();
+                SecurityContextHolder.clearContext();
+            }
+        });
+        return section;
+    }
+
+    /**
+     * Attend la fin de toutes les sections lancées
+     * @throws DeadlineExceededException si le délai est dépassé avant la fin de toutes les sections
+     * @throws RuntimeException la première exception levée par une section, les autres étant annulées
+     */
+    public void join() {
+        joined = true;
+        if (executor == null) {
+            for (Section<?> section : sections) {
+                if (section.failure != null) {
+                    throw propagate(section.failure);
+                }
+            }
+            return;
+        }
+
+        try {
+            for (int pending = sections.size(); pending > 0; pending--) {
+                long remaining = deadlineNanos - System.nanoTime();
+                Future<Object> done = remaining > 0
+                        ? completionService.poll(remaining, TimeUnit.NANOSECONDS)
+                        : completionService.poll();
+                if (done == null) {
+                    cancelAll();
+                    deadlineExceeded.increment();
+                    throw new DeadlineExceededException("Le calcul de la réponse a dépassé le délai accordé à la requête");
+                }
+                try {
+                    done.get();
+                } catch (ExecutionException e) {
+                    cancelAll();
+                    throw propagate(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw new DeadlineExceededException("Calcul de la réponse interrompu");
+        }
+    }
+
+    /**
+     * Annule les sections encore en cours et attend leur fin
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor.close();
+        }
+    }
+
+    private <T> T inTransaction(Supplier<T> task) {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException("Le calcul de la réponse a dépassé le délai accordé à la requête");
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        // Les requêtes de la section sont interrompues par la base au terme du délai restant (arrondi à la seconde)
+        transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + 999_999_999L)));
+        long start = System.nanoTime();
+        try {
+            return transactionTemplate.execute(status -> task.get());
+        } finally {
+            sectionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void cancelAll() {
+        for (Section<?> section : sections) {
+            if (section.future != null) {
+                section.future.cancel(true);
+            }
+        }
+    }
+
+    private static RuntimeException propagate(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(failure);
+    }
+
+    /**
+     * Section lancée dans une portée
+     */
+    public static final class Section<T> {
+
+        private Future<Object> future;
+        private T result;
+        private Throwable failure;
+
+        private Section() {
+        }
+
+        /**
+         * Récupère le résultat de la section
+         * @throws IllegalStateException si la section n'est pas terminée avec succès
+         */
+        @SuppressWarnings("unchecked")
+        public T get() {
+            if (failure != null) {
+                throw propagate(failure);
+            }
+            return future != null ? (T) future.resultNow() : result;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.candiflow.api.config;
+
+import com.candiflow.api.bulkhead.Bulkhead;
+import com.candiflow.api.datasource.ReadWriteRoutingDataSource;
+import com.candiflow.api.datasource.ReplicaLagGuard;
+import com.candiflow.api.datasource.ReplicationProperties;
+import com.candiflow.api.datasource.RoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Configuration des pools de connexions
+ * Le pool principal sert la charge interactive ; un pool distinct est réservé au reporting
+ * afin qu'un export ou un calcul de statistiques ne puisse pas épuiser les connexions du CRUD.
+ * Les transactions en lecture seule sont servies par les réplicas lorsqu'ils sont configurés.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("candiflow-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "candiflow.datasource.reporting", name = "enabled", matchIfMissing = true)
+    @ConfigurationProperties("candiflow.datasource.reporting.hikari")
+    public HikariDataSource reportingDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("candiflow-reporting");
+        dataSource.setMaximumPoolSize(10);
+        dataSource.setMinimumIdle(0);
+        return dataSource;
+    }
+
+    /**
+     * DataSource des écritures, routant vers le pool du compartiment courant
+     */
+    @Bean
+    public RoutingDataSource workloadDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                                @Qualifier("reportingDataSource") Optional<HikariDataSource> reportingDataSource) {
+        Map<Object, Object> targets = new HashMap<>();
+        reportingDataSource.ifPresent(dataSource -> targets.put(Bulkhead.REPORTING, dataSource));
+
+        RoutingDataSource routingDataSource = new RoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.setLenientFallback(true);
+        return routingDataSource;
+    }
+
+    /**
+     * DataSource envoyant les transactions en lecture seule vers les réplicas
+     * Chaque réplica dispose, comme le primaire, d'un pool réservé au reporting : une lecture du reporting
+     * servie par un réplica n'occupe pas les connexions des lectures interactives.
+     */
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(RoutingDataSource workloadDataSource,
+                                                                 @Qualifier("reportingDataSource") Optional<HikariDataSource> reportingDataSource,
+                                                                 ReplicationProperties replicationProperties,
+                                                                 ReplicaLagGuard replicaLagGuard) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicationProperties.Replica> configured = replicationProperties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            ReplicationProperties.Replica replica = configured.get(i);
+            String poolName = "candiflow-replica-" + i;
+            HikariDataSource dataSource = replicaPool(replica, poolName, replica.getMaximumPoolSize());
+
+            Map<Object, Object> targets = new HashMap<>();
+            reportingDataSource.ifPresent(reporting -> targets.put(Bulkhead.REPORTING,
+                    replicaPool(replica, poolName + "-reporting", reporting.getMaximumPoolSize())));
+
+            RoutingDataSource replicaDataSource = new RoutingDataSource();
+            replicaDataSource.setTargetDataSources(targets);
+            replicaDataSource.setDefaultTargetDataSource(dataSource);
+            replicaDataSource.setLenientFallback(true);
+            replicaDataSource.afterPropertiesSet();
+            replicas.put("replica-" + i, replicaDataSource);
+        }
+        return new ReadWriteRoutingDataSource(workloadDataSource, replicas, replicaLagGuard);
+    }
+
+    /**
+     * DataSource utilisée par JPA
+     * L'obtention de la connexion est différée jusqu'à la première requête,
+     * afin que le routage connaisse le caractère lecture seule de la transaction.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    private static HikariDataSource replicaPool(ReplicationProperties.Replica replica, String poolName, int maximumPoolSize) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,12 @@
+package com.candiflow.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Active l'exécution des tâches planifiées (@Scheduled)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,9 +1,11 @@
 package com.candiflow.api.config;
 
 // import com.candiflow.api.security.JwtAuthenticationFilter; // Non utilisé car authentification désactivée
+import com.candiflow.api.ratelimit.RateLimitInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -24,6 +26,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -41,6 +44,10 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Collections.singletonList("*")); // Autoriser toutes les origines
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Collections.singletonList("*"));
+        // En-têtes lisibles par un client navigateur : version de la ressource (renvoyée dans If-Match),
+        // délai d'attente et jetons restants de la limitation de débit
+        configuration.setExposedHeaders(List.of(HttpHeaders.ETAG, HttpHeaders.RETRY_AFTER,
+                RateLimitInterceptor.REMAINING_HEADER));
         configuration.setMaxAge(3600L);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,13 +1,19 @@
 package com.candiflow.api.config;
 
+import com.candiflow.api.ratelimit.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.lang.NonNull;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final RateLimitInterceptor rateLimitInterceptor;
+
     @Override
     public void addCorsMappings(@NonNull CorsRegistry registry) {
         registry.addMapping("/**")
@@ -16,4 +22,10 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .maxAge(3600);
     }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        // Limitation de débit des endpoints coûteux (exports, statistiques globales)
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/**");
+    }
 }
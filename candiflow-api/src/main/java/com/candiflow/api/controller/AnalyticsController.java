@@ -0,0 +1,119 @@
+package com.candiflow.api.controller;
+
+import com.candiflow.api.dto.dashboard.ApplicantRollupQuery;
+import com.candiflow.api.dto.dashboard.ApplicantRollupResponse;
+import com.candiflow.api.dto.dashboard.TrendResponse;
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.model.enums.CounterMetric;
+import com.candiflow.api.model.enums.RollupDimension;
+import com.candiflow.api.model.enums.TrendGranularity;
+import com.candiflow.api.model.enums.UserRole;
+import com.candiflow.api.service.AnalyticsService;
+import com.candiflow.api.service.TrendService;
+import com.candiflow.api.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analyses", description = "API d'analyse du sourcing à partir du cube pré-agrégé des candidats et des compteurs journaliers")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+    private final TrendService trendService;
+    private final UserService userService;
+
+    /**
+     * Filtre et regroupe le cube des candidats
+     */
+    @Operation(summary = "Analyser le cube des candidats", description = "Compte les candidats par n'importe quelle combinaison "
+            + "de recruteur, offre, source, étape et semaine ISO de candidature, avec des filtres sur chacune de ces dimensions. "
+            + "Un recruteur ne voit que ses propres offres ; un administrateur peut filtrer sur n'importe quel recruteur.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Analyse récupérée avec succès",
+                    content = @Content(schema = @Schema(implementation = ApplicantRollupResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Dimension ou filtre invalide"),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs et administrateurs")
+    })
+    @GetMapping("/rollups")
+    @PreAuthorize("hasAnyAuthority('RECRUITER', 'ADMIN')")
+    public ResponseEntity<ApplicantRollupResponse> getApplicantRollup(
+            @Parameter(description = "Dimensions de regroupement : RECRUITER, JOB_OPENING, SOURCE, STAGE, WEEK") @RequestParam(required = false) Set<RollupDimension> groupBy,
+            @Parameter(description = "ID du recruteur (administrateurs uniquement)") @RequestParam(required = false) UUID recruiterId,
+            @Parameter(description = "ID de l'offre d'emploi") @RequestParam(required = false) UUID jobOpeningId,
+            @Parameter(description = "ID de la source") @RequestParam(required = false) UUID sourceId,
+            @Parameter(description = "ID de l'étape") @RequestParam(required = false) UUID stageId,
+            @Parameter(description = "Première semaine incluse (toute date de la semaine)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Dernière semaine incluse (toute date de la semaine)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Détails de l'utilisateur authentifié") @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userService.getUserByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non trouvé"));
+
+        // Un recruteur est toujours restreint à ses propres offres
+        UUID scopedRecruiterId = user.getRole() == UserRole.ADMIN ? recruiterId : user.getId();
+
+        ApplicantRollupQuery query = ApplicantRollupQuery.builder()
+                .recruiterId(scopedRecruiterId)
+                .jobOpeningId(jobOpeningId)
+                .sourceId(sourceId)
+                .stageId(stageId)
+                .from(from)
+                .to(to)
+                .groupBy(groupBy != null ? groupBy : Set.of())
+                .build();
+        return ResponseEntity.ok(analyticsService.getApplicantRollup(query));
+    }
+
+    /**
+     * Série temporelle d'un compteur journalier
+     */
+    @Operation(summary = "Récupérer une tendance", description = "Renvoie la série d'un compteur journalier (candidatures reçues, "
+            + "offres créées, embauches, refus) par jour, semaine ISO ou mois, les périodes sans valeur valant zéro. "
+            + "Un recruteur ne voit que ses propres compteurs ; sans recruteur, un administrateur obtient le total de tous les recruteurs.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tendance récupérée avec succès",
+                    content = @Content(schema = @Schema(implementation = TrendResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Métrique ou pas invalide"),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs et administrateurs")
+    })
+    @GetMapping("/trends")
+    @PreAuthorize("hasAnyAuthority('RECRUITER', 'ADMIN')")
+    public ResponseEntity<TrendResponse> getTrend(
+            @Parameter(description = "Métrique : APPLICATIONS_RECEIVED, JOB_OPENINGS_CREATED, HIRES, REJECTIONS") @RequestParam CounterMetric metric,
+            @Parameter(description = "Pas de la série : DAY, WEEK, MONTH") @RequestParam(defaultValue = "DAY") TrendGranularity granularity,
+            @Parameter(description = "ID du recruteur (administrateurs uniquement)") @RequestParam(required = false) UUID recruiterId,
+            @Parameter(description = "Premier jour inclus (par défaut, 90 jours avant la fin)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Dernier jour inclus (par défaut, aujourd'hui)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Détails de l'utilisateur authentifié") @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userService.getUserByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non trouvé"));
+
+        // Un recruteur est toujours restreint à ses propres compteurs
+        UUID scopedRecruiterId = user.getRole() == UserRole.ADMIN ? recruiterId : user.getId();
+        return ResponseEntity.ok(trendService.getTrend(metric, scopedRecruiterId, from, to, granularity));
+    }
+}
@@ -0,0 +1,107 @@
+package com.candiflow.api.controller;
+
+import com.candiflow.api.dto.recruiter.ArchivedApplicantResponse;
+import com.candiflow.api.dto.recruiter.ArchivedJobOpeningResponse;
+import com.candiflow.api.service.ArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/archive")
+@RequiredArgsConstructor
+@Tag(name = "Archive", description = "API de consultation des offres d'emploi archivées")
+public class ArchiveController {
+
+    private final ArchiveService archiveService;
+
+    /**
+     * Récupère les offres archivées avec pagination
+     */
+    @Operation(summary = "Récupérer les offres archivées", description = "Renvoie la liste paginée des offres d'emploi archivées, "
+            + "éventuellement filtrée par titre")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des offres archivées récupérée avec succès",
+                    content = @Content(schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs")
+    })
+    @GetMapping("/job-openings")
+    @PreAuthorize("hasAuthority('RECRUITER')")
+    public ResponseEntity<Page<ArchivedJobOpeningResponse>> getArchivedJobOpenings(
+            @Parameter(description = "Mot-clé recherché dans le titre") @RequestParam(required = false) String keyword,
+            @Parameter(description = "Paramètres de pagination (page, size, sort)") Pageable pageable) {
+        return ResponseEntity.ok(archiveService.getArchivedJobOpenings(keyword, pageable));
+    }
+
+    /**
+     * Récupère une offre archivée par son ID
+     */
+    @Operation(summary = "Récupérer une offre archivée par ID", description = "Renvoie les détails d'une offre archivée et son nombre de candidats")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Offre archivée trouvée",
+                    content = @Content(schema = @Schema(implementation = ArchivedJobOpeningResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
+            @ApiResponse(responseCode = "404", description = "Offre archivée non trouvée")
+    })
+    @GetMapping("/job-openings/{id}")
+    @PreAuthorize("hasAuthority('RECRUITER')")
+    public ResponseEntity<ArchivedJobOpeningResponse> getArchivedJobOpening(
+            @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID id) {
+        return ResponseEntity.ok(archiveService.getArchivedJobOpening(id));
+    }
+
+    /**
+     * Récupère les candidats d'une offre archivée
+     */
+    @Operation(summary = "Récupérer les candidats d'une offre archivée", description = "Renvoie la liste paginée des candidats d'une offre archivée")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des candidats archivés récupérée avec succès",
+                    content = @Content(schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
+            @ApiResponse(responseCode = "404", description = "Offre archivée non trouvée")
+    })
+    @GetMapping("/job-openings/{id}/applicants")
+    @PreAuthorize("hasAuthority('RECRUITER')")
+    public ResponseEntity<Page<ArchivedApplicantResponse>> getArchivedApplicants(
+            @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID id,
+            @Parameter(description = "Paramètres de pagination (page, size, sort)") Pageable pageable) {
+        return ResponseEntity.ok(archiveService.getArchivedApplicants(id, pageable));
+    }
+
+    /**
+     * Récupère un candidat archivé avec ses notes et ses tags
+     */
+    @Operation(summary = "Récupérer un candidat archivé", description = "Renvoie un candidat archivé avec ses notes et ses tags")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Candidat archivé trouvé",
+                    content = @Content(schema = @Schema(implementation = ArchivedApplicantResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
+            @ApiResponse(responseCode = "404", description = "Candidat archivé non trouvé")
+    })
+    @GetMapping("/applicants/{applicantId}")
+    @PreAuthorize("hasAuthority('RECRUITER')")
+    public ResponseEntity<ArchivedApplicantResponse> getArchivedApplicant(
+            @Parameter(description = "ID du candidat") @PathVariable UUID applicantId) {
+        return ResponseEntity.ok(archiveService.getArchivedApplicant(applicantId));
+    }
+}
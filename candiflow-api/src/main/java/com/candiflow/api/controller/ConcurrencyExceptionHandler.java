@@ -0,0 +1,55 @@
+package com.candiflow.api.controller;
+
+import com.candiflow.api.exception.VersionConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Traduction des conflits de mise à jour concurrente en réponses 409
+ */
+@RestControllerAdvice
+@Slf4j
+public class ConcurrencyExceptionHandler {
+
+    /**
+     * Version périmée détectée avant la mise à jour : l'état courant est renvoyé au client
+     */
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleVersionConflict(VersionConflictException e) {
+        Map<String, Object> body = conflictBody(e.getMessage());
+        body.put("currentVersion", e.getCurrentVersion());
+        body.put("current", e.getCurrentState());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CONFLICT);
+        if (e.getCurrentVersion() != null) {
+            response.header(HttpHeaders.ETAG, ETags.of(e.getCurrentVersion()));
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Mise à jour concurrente détectée par Hibernate à l'écriture (@Version)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        log.debug("Conflit de mise à jour concurrente sur {} (ID: {})", e.getPersistentClassName(), e.getIdentifier());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(conflictBody("La ressource a été modifiée par un autre utilisateur, rechargez-la puis réessayez"));
+    }
+
+    private Map<String, Object> conflictBody(String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("error", HttpStatus.CONFLICT.getReasonPhrase());
+        body.put("message", message);
+        return body;
+    }
+}
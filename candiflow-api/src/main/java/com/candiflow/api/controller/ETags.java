@@ -0,0 +1,76 @@
+package com.candiflow.api.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Conversion entre la version d'une ressource et ses en-têtes ETag / If-Match
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Formate la version d'une ressource en ETag
+     * @param version Version de la ressource
+     * @return ETag (entre guillemets), ou null si la version est inconnue
+     */
+    static String of(Long version) {
+        return version != null ? "\"" + version + "\"" : null;
+    }
+
+    /**
+     * Extrait la version attendue d'un en-tête If-Match
+     * Un seul ETag est accepté : une ressource n'a qu'une version courante, celle que le client a lue.
+     * Une liste d'ETags ("3", "4") est refusée (400).
+     * @param ifMatch Valeur de l'en-tête (optionnelle)
+     * @return Version attendue, ou null si l'en-tête est absent ou vaut "*"
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        if (ifMatch.contains(",")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "En-tête If-Match invalide, un seul ETag est accepté: " + ifMatch);
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "En-tête If-Match invalide: " + ifMatch);
+        }
+    }
+
+    /**
+     * Détermine la version attendue par le client
+     * @param ifMatch En-tête If-Match (prioritaire)
+     * @param bodyVersion Version transmise dans le corps de la requête
+     * @return Version attendue, ou null pour une mise à jour inconditionnelle
+     */
+    static Long expectedVersion(String ifMatch, Long bodyVersion) {
+        Long headerVersion = parseIfMatch(ifMatch);
+        return headerVersion != null ? headerVersion : bodyVersion;
+    }
+
+    /**
+     * Construit une réponse 200 portant l'ETag de la ressource renvoyée
+     * @param body Ressource renvoyée
+     * @param version Version de la ressource (l'en-tête est omis si elle est inconnue)
+     * @return Réponse HTTP
+     */
+    static <T> ResponseEntity<T> ok(T body, Long version) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (version != null) {
+            response.header(HttpHeaders.ETAG, of(version));
+        }
+        return response.body(body);
+    }
+}
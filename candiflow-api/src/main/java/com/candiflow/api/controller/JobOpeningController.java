@@ -17,6 +17,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -84,7 +85,8 @@ public class JobOpeningController {
     @PreAuthorize("hasAuthority('RECRUITER')")
     public ResponseEntity<JobOpeningResponse> getJobOpeningById(
             @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID id) {
-        return ResponseEntity.ok(jobOpeningService.getJobOpeningById(id));
+        JobOpeningResponse response = jobOpeningService.getJobOpeningById(id);
+        return ETags.ok(response, response.getVersion());
     }
 
     /**
@@ -120,23 +122,27 @@ public class JobOpeningController {
     /**
      * Met à jour une offre d'emploi existante
      */
-    @Operation(summary = "Mettre à jour une offre d'emploi", description = "Met à jour une offre d'emploi existante")
+    @Operation(summary = "Mettre à jour une offre d'emploi", description = "Met à jour une offre d'emploi existante. "
+            + "La version attendue peut être transmise dans l'en-tête If-Match (prioritaire) ou dans le champ version du corps.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Offre d'emploi mise à jour avec succès",
                     content = @Content(schema = @Schema(implementation = JobOpeningResponse.class))),
             @ApiResponse(responseCode = "400", description = "Données d'offre d'emploi invalides"),
             @ApiResponse(responseCode = "401", description = "Non autorisé"),
             @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
-            @ApiResponse(responseCode = "404", description = "Offre d'emploi non trouvée")
+            @ApiResponse(responseCode = "404", description = "Offre d'emploi non trouvée"),
+            @ApiResponse(responseCode = "409", description = "Offre d'emploi modifiée entre-temps, l'état courant est renvoyé")
     })
     @PutMapping("/{id}")
     @PreAuthorize("hasAuthority('RECRUITER')")
     public ResponseEntity<JobOpeningResponse> updateJobOpening(
             @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID id,
-            @Parameter(description = "Nouvelles données de l'offre d'emploi") @Valid @RequestBody JobOpeningRequest request) {
+            @Parameter(description = "Nouvelles données de l'offre d'emploi") @Valid @RequestBody JobOpeningRequest request,
+            @Parameter(description = "Version attendue de l'offre d'emploi (un seul ETag)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
-        JobOpeningResponse response = jobOpeningService.updateJobOpening(id, request);
-        return ResponseEntity.ok(response);
+        JobOpeningResponse response = jobOpeningService.updateJobOpening(
+                id, request, ETags.expectedVersion(ifMatch, request.getVersion()));
+        return ETags.ok(response, response.getVersion());
     }
 
     /**
@@ -156,4 +162,23 @@ public class JobOpeningController {
         jobOpeningService.deleteJobOpening(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Supprime définitivement une offre d'emploi avec ses candidats
+     */
+    @Operation(summary = "Supprimer définitivement une offre d'emploi", description = "Supprime une offre d'emploi avec tous ses candidats, "
+            + "leurs notes et leurs tags, même si des candidats existent")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Offre d'emploi supprimée avec succès"),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux administrateurs"),
+            @ApiResponse(responseCode = "404", description = "Offre d'emploi non trouvée")
+    })
+    @DeleteMapping("/{id}/permanent")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Void> deleteJobOpeningPermanently(
+            @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID id) {
+        jobOpeningService.deleteJobOpeningPermanently(id);
+        return ResponseEntity.noContent().build();
+    }
 }
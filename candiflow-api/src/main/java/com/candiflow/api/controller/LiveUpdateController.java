@@ -0,0 +1,94 @@
+package com.candiflow.api.controller;
+
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.service.LiveUpdateService;
+import com.candiflow.api.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * Contrôleur du flux temps réel (Server-Sent Events) des candidats et des effectifs
+ * Chaque événement porte un identifiant renvoyé par le client dans l'en-tête Last-Event-ID à sa reconnexion,
+ * pour reprendre le flux là où il s'était arrêté.
+ */
+@RestController
+@RequestMapping("/api/live")
+@RequiredArgsConstructor
+@Tag(name = "Flux temps réel", description = "API des mises à jour poussées aux tableaux de pipeline et aux tableaux de bord")
+public class LiveUpdateController {
+
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private final LiveUpdateService liveUpdateService;
+    private final UserService userService;
+
+    /**
+     * S'abonne aux mises à jour d'une offre d'emploi
+     */
+    @Operation(summary = "Flux d'une offre d'emploi", description = "Pousse les candidats créés, modifiés, déplacés ou supprimés "
+            + "et la variation des effectifs par étape de l'offre. RESET ou APPLICANTS_CHANGED invitent à recharger l'état complet.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Abonnement ouvert"),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
+            @ApiResponse(responseCode = "404", description = "Offre d'emploi non trouvée"),
+            @ApiResponse(responseCode = "503", description = "Flux temps réel désactivé")
+    })
+    @GetMapping(value = "/job-openings/{jobOpeningId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAuthority('RECRUITER')")
+    public ResponseEntity<SseEmitter> streamJobOpening(
+            @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID jobOpeningId,
+            @Parameter(description = "Dernier événement reçu, pour reprendre après une reconnexion") @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+
+        return stream(liveUpdateService.subscribeToJobOpening(jobOpeningId, lastEventId));
+    }
+
+    /**
+     * S'abonne aux mises à jour de toutes les offres du recruteur connecté
+     */
+    @Operation(summary = "Flux du recruteur", description = "Pousse les mises à jour de toutes les offres du recruteur connecté, "
+            + "y compris celles créées après l'ouverture du flux")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Abonnement ouvert"),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
+            @ApiResponse(responseCode = "503", description = "Flux temps réel désactivé")
+    })
+    @GetMapping(value = "/recruiter", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAuthority('RECRUITER')")
+    public ResponseEntity<SseEmitter> streamRecruiter(
+            @Parameter(description = "Dernier événement reçu, pour reprendre après une reconnexion") @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId,
+            @Parameter(description = "Détails de l'utilisateur authentifié") @AuthenticationPrincipal UserDetails userDetails) {
+
+        User recruiter = userService.getUserByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non trouvé"));
+
+        return stream(liveUpdateService.subscribeToRecruiter(recruiter.getId(), lastEventId));
+    }
+
+    private static ResponseEntity<SseEmitter> stream(SseEmitter emitter) {
+        // Les proxys ne doivent ni mettre en cache ni retenir les événements
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+}
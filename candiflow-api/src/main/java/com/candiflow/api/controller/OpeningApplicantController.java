@@ -1,9 +1,16 @@
 package com.candiflow.api.controller;
 
+import com.candiflow.api.dto.recruiter.ApplicantImportResponse;
+import com.candiflow.api.dto.recruiter.ApplicantRankRequest;
+import com.candiflow.api.dto.recruiter.ApplicantRankResponse;
+import com.candiflow.api.dto.recruiter.BulkStageChangeRequest;
+import com.candiflow.api.dto.recruiter.BulkStageChangeResponse;
 import com.candiflow.api.dto.recruiter.OpeningApplicantRequest;
 import com.candiflow.api.dto.recruiter.OpeningApplicantResponse;
 import com.candiflow.api.model.entity.User;
 import com.candiflow.api.model.enums.UserRole;
+import com.candiflow.api.service.ApplicantImportService;
+import com.candiflow.api.service.ApplicantRankingService;
 import com.candiflow.api.service.OpeningApplicantService;
 import com.candiflow.api.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,13 +24,17 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @RestController
@@ -33,6 +44,8 @@ import java.util.UUID;
 public class OpeningApplicantController {
 
     private final OpeningApplicantService openingApplicantService;
+    private final ApplicantImportService applicantImportService;
+    private final ApplicantRankingService applicantRankingService;
     private final UserService userService;
 
     /**
@@ -93,7 +106,8 @@ public class OpeningApplicantController {
             @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID jobOpeningId,
             @Parameter(description = "ID du candidat") @PathVariable UUID applicantId) {
         
-        return ResponseEntity.ok(openingApplicantService.getApplicantById(jobOpeningId, applicantId));
+        OpeningApplicantResponse response = openingApplicantService.getApplicantById(jobOpeningId, applicantId);
+        return ETags.ok(response, response.getVersion());
     }
 
     /**
@@ -127,27 +141,65 @@ public class OpeningApplicantController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Importe des candidats en masse pour une offre d'emploi
+     */
+    @Operation(summary = "Importer des candidats", description = "Importe en masse des candidats depuis un fichier CSV (avec en-tête) ou un tableau JSON envoyé dans le corps de la requête. "
+            + "Les lignes invalides ou en doublon sont signalées sans interrompre l'import.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import effectué, résultat ligne par ligne",
+                    content = @Content(schema = @Schema(implementation = ApplicantImportResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
+            @ApiResponse(responseCode = "404", description = "Offre d'emploi ou utilisateur non trouvé"),
+            @ApiResponse(responseCode = "415", description = "Format de fichier non supporté")
+    })
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasAuthority('RECRUITER')")
+    public ResponseEntity<ApplicantImportResponse> importApplicants(
+            @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID jobOpeningId,
+            @Parameter(description = "Type du contenu importé (text/csv ou application/json)") @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @Parameter(hidden = true) InputStream content,
+            @Parameter(description = "Détails de l'utilisateur authentifié") @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        
+        User recruiter = userService.getUserByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non trouvé"));
+        
+        // Vérifier que l'utilisateur est bien un recruteur
+        if (!recruiter.getRole().equals(UserRole.RECRUITER)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        ApplicantImportResponse response = applicantImportService.importApplicants(
+                jobOpeningId, content, ApplicantImportService.Format.fromContentType(contentType), recruiter);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Met à jour un candidat existant
      */
-    @Operation(summary = "Mettre à jour un candidat", description = "Met à jour un candidat existant pour une offre d'emploi")
+    @Operation(summary = "Mettre à jour un candidat", description = "Met à jour un candidat existant pour une offre d'emploi. "
+            + "La version attendue peut être transmise dans l'en-tête If-Match (prioritaire) ou dans le champ version du corps.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Candidat mis à jour avec succès",
                     content = @Content(schema = @Schema(implementation = OpeningApplicantResponse.class))),
             @ApiResponse(responseCode = "400", description = "Données de candidat invalides"),
             @ApiResponse(responseCode = "401", description = "Non autorisé"),
             @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
-            @ApiResponse(responseCode = "404", description = "Offre d'emploi ou candidat non trouvé")
+            @ApiResponse(responseCode = "404", description = "Offre d'emploi ou candidat non trouvé"),
+            @ApiResponse(responseCode = "409", description = "Candidat modifié entre-temps, l'état courant est renvoyé")
     })
     @PutMapping("/{applicantId}")
     @PreAuthorize("hasAuthority('RECRUITER')")
     public ResponseEntity<OpeningApplicantResponse> updateApplicant(
             @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID jobOpeningId,
             @Parameter(description = "ID du candidat") @PathVariable UUID applicantId,
-            @Parameter(description = "Nouvelles données du candidat") @Valid @RequestBody OpeningApplicantRequest request) {
+            @Parameter(description = "Nouvelles données du candidat") @Valid @RequestBody OpeningApplicantRequest request,
+            @Parameter(description = "Version attendue du candidat (un seul ETag)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
-        OpeningApplicantResponse response = openingApplicantService.updateApplicant(jobOpeningId, applicantId, request);
-        return ResponseEntity.ok(response);
+        OpeningApplicantResponse response = openingApplicantService.updateApplicant(
+                jobOpeningId, applicantId, request, ETags.expectedVersion(ifMatch, request.getVersion()));
+        return ETags.ok(response, response.getVersion());
     }
 
     /**
@@ -159,7 +211,8 @@ public class OpeningApplicantController {
                     content = @Content(schema = @Schema(implementation = OpeningApplicantResponse.class))),
             @ApiResponse(responseCode = "401", description = "Non autorisé"),
             @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
-            @ApiResponse(responseCode = "404", description = "Offre d'emploi, candidat, étape ou utilisateur non trouvé")
+            @ApiResponse(responseCode = "404", description = "Offre d'emploi, candidat, étape ou utilisateur non trouvé"),
+            @ApiResponse(responseCode = "409", description = "Candidat modifié entre-temps, l'état courant est renvoyé")
     })
     @PutMapping("/{applicantId}/stage/{stageId}")
     @PreAuthorize("hasAuthority('RECRUITER')")
@@ -168,6 +221,7 @@ public class OpeningApplicantController {
             @Parameter(description = "ID du candidat") @PathVariable UUID applicantId,
             @Parameter(description = "ID de la nouvelle étape") @PathVariable UUID stageId,
             @Parameter(description = "Note optionnelle sur le changement d'étape") @RequestParam(required = false) String note,
+            @Parameter(description = "Version attendue du candidat (un seul ETag)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Détails de l'utilisateur authentifié") @AuthenticationPrincipal UserDetails userDetails) {
         
         User recruiter = userService.getUserByEmail(userDetails.getUsername())
@@ -179,8 +233,61 @@ public class OpeningApplicantController {
         }
         
         OpeningApplicantResponse response = openingApplicantService.updateApplicantStage(
-                jobOpeningId, applicantId, stageId, recruiter, note);
-        return ResponseEntity.ok(response);
+                jobOpeningId, applicantId, stageId, recruiter, note, ETags.parseIfMatch(ifMatch));
+        return ETags.ok(response, response.getVersion());
+    }
+
+    /**
+     * Déplace manuellement un candidat dans sa colonne du pipeline
+     */
+    @Operation(summary = "Classer un candidat dans sa colonne", description = "Place le candidat entre deux voisins de son étape (glisser-déposer). "
+            + "Seule la position du candidat déplacé est modifiée.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Candidat déplacé avec succès",
+                    content = @Content(schema = @Schema(implementation = ApplicantRankResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Voisins invalides (autre étape, ordre inversé)"),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
+            @ApiResponse(responseCode = "404", description = "Offre d'emploi ou candidat non trouvé")
+    })
+    @PutMapping("/{applicantId}/rank")
+    @PreAuthorize("hasAuthority('RECRUITER')")
+    public ResponseEntity<ApplicantRankResponse> moveApplicant(
+            @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID jobOpeningId,
+            @Parameter(description = "ID du candidat") @PathVariable UUID applicantId,
+            @Parameter(description = "Voisins à la position de dépôt") @RequestBody ApplicantRankRequest request) {
+        
+        return ResponseEntity.ok(applicantRankingService.moveApplicant(jobOpeningId, applicantId, request));
+    }
+
+    /**
+     * Déplace un ensemble de candidats vers une même étape du pipeline
+     */
+    @Operation(summary = "Déplacer des candidats", description = "Déplace en une seule opération un ensemble de candidats de l'offre vers une nouvelle étape du pipeline")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Candidats déplacés avec succès",
+                    content = @Content(schema = @Schema(implementation = BulkStageChangeResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Requête invalide"),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
+            @ApiResponse(responseCode = "404", description = "Étape ou candidats non trouvés pour cette offre d'emploi")
+    })
+    @PutMapping("/stage")
+    @PreAuthorize("hasAuthority('RECRUITER')")
+    public ResponseEntity<BulkStageChangeResponse> updateApplicantsStage(
+            @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID jobOpeningId,
+            @Parameter(description = "Candidats à déplacer et étape cible") @Valid @RequestBody BulkStageChangeRequest request,
+            @Parameter(description = "Détails de l'utilisateur authentifié") @AuthenticationPrincipal UserDetails userDetails) {
+        
+        User recruiter = userService.getUserByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non trouvé"));
+        
+        // Vérifier que l'utilisateur est bien un recruteur
+        if (!recruiter.getRole().equals(UserRole.RECRUITER)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        return ResponseEntity.ok(openingApplicantService.updateApplicantsStage(jobOpeningId, request, recruiter));
     }
 
     /**
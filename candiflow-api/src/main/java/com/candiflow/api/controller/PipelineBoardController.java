@@ -0,0 +1,76 @@
+package com.candiflow.api.controller;
+
+import com.candiflow.api.dto.recruiter.PipelineBoardResponse;
+import com.candiflow.api.service.PipelineBoardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/job-openings/{jobOpeningId}/board")
+@RequiredArgsConstructor
+@Tag(name = "Tableau de pipeline", description = "API pour la vue kanban des candidats d'une offre d'emploi")
+public class PipelineBoardController {
+
+    private final PipelineBoardService pipelineBoardService;
+
+    /**
+     * Récupère le tableau de pipeline d'une offre d'emploi
+     */
+    @Operation(summary = "Récupérer le tableau de pipeline", description = "Renvoie, pour chaque étape active, le nombre de candidats "
+            + "et les premiers candidats par dernière activité, avec un curseur pour parcourir la suite de chaque colonne")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tableau récupéré avec succès",
+                    content = @Content(schema = @Schema(implementation = PipelineBoardResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
+            @ApiResponse(responseCode = "404", description = "Offre d'emploi non trouvée")
+    })
+    @GetMapping
+    @PreAuthorize("hasAuthority('RECRUITER')")
+    public ResponseEntity<PipelineBoardResponse> getBoard(
+            @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID jobOpeningId,
+            @Parameter(description = "Nombre de candidats par colonne (100 au plus)") @RequestParam(defaultValue = "" + PipelineBoardService.DEFAULT_COLUMN_SIZE) int size,
+            @Parameter(description = "Tri des colonnes : ACTIVITY (dernière activité) ou RANK (classement manuel)") @RequestParam(defaultValue = "ACTIVITY") PipelineBoardService.Order order) {
+        
+        return ResponseEntity.ok(pipelineBoardService.getBoard(jobOpeningId, size, order));
+    }
+
+    /**
+     * Récupère la suite d'une colonne du tableau de pipeline
+     */
+    @Operation(summary = "Parcourir une colonne du tableau", description = "Renvoie les candidats d'une étape situés après le curseur donné")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Colonne récupérée avec succès",
+                    content = @Content(schema = @Schema(implementation = PipelineBoardResponse.Column.class))),
+            @ApiResponse(responseCode = "400", description = "Curseur invalide"),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux recruteurs"),
+            @ApiResponse(responseCode = "404", description = "Offre d'emploi ou étape non trouvée")
+    })
+    @GetMapping("/stages/{stageId}")
+    @PreAuthorize("hasAuthority('RECRUITER')")
+    public ResponseEntity<PipelineBoardResponse.Column> getColumn(
+            @Parameter(description = "ID de l'offre d'emploi") @PathVariable UUID jobOpeningId,
+            @Parameter(description = "ID de l'étape") @PathVariable UUID stageId,
+            @Parameter(description = "Curseur de continuation renvoyé par l'appel précédent") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Nombre de candidats à renvoyer (100 au plus)") @RequestParam(defaultValue = "" + PipelineBoardService.DEFAULT_COLUMN_SIZE) int size,
+            @Parameter(description = "Tri de la colonne, identique à celui de l'appel ayant produit le curseur") @RequestParam(defaultValue = "ACTIVITY") PipelineBoardService.Order order) {
+        
+        return ResponseEntity.ok(pipelineBoardService.getColumn(jobOpeningId, stageId, cursor, size, order));
+    }
+}
@@ -0,0 +1,70 @@
+package com.candiflow.api.controller;
+
+import com.candiflow.api.dto.admin.RetentionPurgeRunResponse;
+import com.candiflow.api.retention.ApplicantRetentionPurger;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/retention")
+@RequiredArgsConstructor
+@Tag(name = "Rétention", description = "API de suivi de la purge des données personnelles des candidats")
+public class RetentionController {
+
+    private final ApplicantRetentionPurger applicantRetentionPurger;
+
+    /**
+     * Récupère l'historique des purges de rétention
+     */
+    @Operation(summary = "Récupérer les purges de rétention", description = "Renvoie la liste paginée des purges, "
+            + "avec leur étape et le nombre de candidats, notes, tags et fichiers supprimés")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des purges récupérée avec succès",
+                    content = @Content(schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux administrateurs")
+    })
+    @GetMapping("/runs")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Page<RetentionPurgeRunResponse>> getRuns(
+            @Parameter(description = "Paramètres de pagination (page, size, sort)")
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(applicantRetentionPurger.getRuns(pageable));
+    }
+
+    /**
+     * Récupère l'état d'une purge de rétention
+     */
+    @Operation(summary = "Récupérer une purge de rétention", description = "Renvoie l'avancement d'une purge")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Purge trouvée",
+                    content = @Content(schema = @Schema(implementation = RetentionPurgeRunResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Non autorisé"),
+            @ApiResponse(responseCode = "403", description = "Accès interdit - Réservé aux administrateurs"),
+            @ApiResponse(responseCode = "404", description = "Purge non trouvée")
+    })
+    @GetMapping("/runs/{id}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<RetentionPurgeRunResponse> getRun(
+            @Parameter(description = "ID de la purge") @PathVariable UUID id) {
+        return ResponseEntity.ok(applicantRetentionPurger.getRun(id));
+    }
+}
@@ -0,0 +1,56 @@
+package com.candiflow.api.controller;
+
+import com.candiflow.api.dto.sync.SyncResponse;
+import com.candiflow.api.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Contrôleur de la synchronisation différentielle des candidatures (client mobile)
+ * Le client conserve en cache local ses candidatures, mises à jour de statut et documents, et ne demande
+ * que les changements postérieurs au jeton reçu lors de la synchronisation précédente.
+ */
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@Tag(name = "Synchronisation", description = "API de synchronisation différentielle des candidatures")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * Renvoie les candidatures, mises à jour de statut et documents créés, modifiés ou supprimés depuis un jeton
+     * @param since Jeton de la synchronisation précédente
+     * @param limit Nombre maximal de changements renvoyés
+     * @return Changements et jeton suivant
+     */
+    @Operation(summary = "Synchroniser les candidatures", description = "Renvoie les lignes créées, modifiées ou supprimées "
+            + "depuis le jeton. Sans jeton, ou avec un jeton expiré, renvoie toutes les lignes (reset). "
+            + "Tant que hasMore est vrai, le client resynchronise avec le nouveau jeton.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changements récupérés avec succès",
+                    content = @Content(schema = @Schema(implementation = SyncResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Jeton invalide"),
+            @ApiResponse(responseCode = "401", description = "Non autorisé")
+    })
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @Parameter(description = "Jeton de la synchronisation précédente") @RequestParam(required = false) String since,
+            @Parameter(description = "Nombre maximal de changements renvoyés") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(syncService.sync(since, limit));
+    }
+}
@@ -0,0 +1,183 @@
+package com.candiflow.api.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource séparant lectures et écritures
+ * Les transactions en lecture seule sont réparties à tour de rôle entre les réplicas sains ;
+ * les écritures, les accès hors transaction et les clients épinglés utilisent le primaire.
+ * Un réplica peut être un {@link RoutingDataSource} : la connexion est alors prise dans le pool
+ * du compartiment de charge courant, comme sur le primaire.
+ * Doit être enveloppée dans un LazyConnectionDataSourceProxy : la connexion n'est alors obtenue
+ * qu'à la première requête, une fois le caractère lecture seule de la transaction connu.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReplicaLagGuard lagGuard;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * Constructeur
+     * @param primary DataSource primaire
+     * @param replicas Réplicas en lecture, indexés par nom
+     * @param lagGuard Protection contre le retard de réplication
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, ReplicaLagGuard lagGuard) {
+        this.primary = primary;
+        this.lagGuard = lagGuard;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            markDown(replica, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = selectReplica();
+        if (replica == null) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.dataSource.getConnection(username, password);
+        } catch (SQLException e) {
+            markDown(replica, e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * Sélectionne le réplica servant la connexion demandée
+     * @return Réplica sain, ou null si la connexion doit être servie par le primaire
+     */
+    private Replica selectReplica() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWrite();
+            return null;
+        }
+        if (replicas.isEmpty() || lagGuard.isPinnedToPrimary()) {
+            return null;
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        log.debug("Aucun réplica disponible, lecture sur le primaire");
+        return null;
+    }
+
+    private void markDown(Replica replica, SQLException e) {
+        replica.healthy = false;
+        log.warn("Réplica '{}' indisponible, bascule sur le primaire: {}", replica.name, e.getMessage());
+    }
+
+    private void registerWrite() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    lagGuard.recordWrite();
+                }
+            });
+        }
+    }
+
+    /**
+     * Vérifie périodiquement l'état des réplicas
+     * Un réplica indisponible est écarté du tour de rôle jusqu'à la prochaine vérification réussie.
+     */
+    @Scheduled(fixedDelayString = "${candiflow.datasource.replication.health-check-interval:PT10S}")
+    public void checkReplicaHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.warn("Réplica '{}' {}", replica.name, healthy ? "de nouveau disponible" : "indisponible");
+            }
+            replica.healthy = healthy;
+        }
+        lagGuard.evictExpired();
+    }
+
+    /**
+     * Nombre de réplicas actuellement utilisables
+     * @return Nombre de réplicas sains
+     */
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof RoutingDataSource routing) {
+                for (DataSource pool : routing.getResolvedDataSources().values()) {
+                    close(pool);
+                }
+                close(routing.getResolvedDefaultDataSource());
+            } else {
+                close(replica.dataSource);
+            }
+        }
+    }
+
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Réplica et son état de santé
+     */
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.candiflow.api.datasource;
+
+import com.candiflow.api.security.ClientKeyResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Protection contre le retard de réplication
+ * Après une écriture validée, le client est épinglé au primaire pendant une courte fenêtre
+ * afin de relire ses propres écritures, même si les réplicas ne les ont pas encore reçues.
+ */
+@Component
+public class ReplicaLagGuard {
+
+    private final ClientKeyResolver clientKeyResolver;
+    private final long pinWindowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReplicaLagGuard(ReplicationProperties properties, ClientKeyResolver clientKeyResolver) {
+        this(properties, clientKeyResolver, System::nanoTime);
+    }
+
+    /**
+     * Constructeur avec horloge injectable (tests)
+     * @param properties Configuration de la réplication
+     * @param clientKeyResolver Résolution de la clé du client courant
+     * @param nanoClock Source de temps monotone en nanosecondes
+     */
+    public ReplicaLagGuard(ReplicationProperties properties, ClientKeyResolver clientKeyResolver, LongSupplier nanoClock) {
+        this.clientKeyResolver = clientKeyResolver;
+        this.pinWindowNanos = properties.getPrimaryPinWindow().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Enregistre une écriture du client courant
+     */
+    public void recordWrite() {
+        String key = currentClientKey();
+        if (key != null && pinWindowNanos > 0) {
+            pinnedUntil.put(key, nanoClock.getAsLong() + pinWindowNanos);
+        }
+    }
+
+    /**
+     * Indique si le client courant doit lire sur le primaire
+     * @return true si le client a écrit pendant la fenêtre d'épinglage
+     */
+    public boolean isPinnedToPrimary() {
+        String key = currentClientKey();
+        if (key == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until - nanoClock.getAsLong() <= 0) {
+            pinnedUntil.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Supprime les épinglages expirés
+     */
+    public void evictExpired() {
+        long now = nanoClock.getAsLong();
+        pinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    private String currentClientKey() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return clientKeyResolver.resolve(servletAttributes.getRequest());
+        }
+        return clientKeyResolver.currentUserKey();
+    }
+}
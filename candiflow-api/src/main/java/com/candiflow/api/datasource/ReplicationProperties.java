@@ -0,0 +1,57 @@
+package com.candiflow.api.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration des réplicas en lecture
+ * Exemple :
+ * <pre>
+ * candiflow.datasource.replication.replicas[0].url=jdbc:postgresql://replica-1:5432/candiflow_db
+ * candiflow.datasource.replication.replicas[0].username=candiflow_reader
+ * candiflow.datasource.replication.replicas[0].password=secret
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.datasource.replication")
+public class ReplicationProperties {
+
+    /**
+     * Réplicas en lecture ; sans réplica, toutes les transactions utilisent le primaire
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Intervalle entre deux vérifications de l'état des réplicas
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    /**
+     * Durée pendant laquelle un utilisateur lit sur le primaire après l'une de ses écritures
+     */
+    private Duration primaryPinWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /**
+         * Taille maximale du pool de connexions vers le réplica
+         */
+        private int maximumPoolSize = 5;
+    }
+}
@@ -0,0 +1,36 @@
+package com.candiflow.api.datasource;
+
+/**
+ * Contexte de routage des connexions, porté par le thread courant
+ * Indique le compartiment de charge (workload) pour lequel une connexion est demandée.
+ */
+public final class RoutingContextHolder {
+
+    private static final ThreadLocal<String> WORKLOAD = new ThreadLocal<>();
+
+    private RoutingContextHolder() {
+    }
+
+    /**
+     * Récupère le compartiment de charge du thread courant
+     * @return Nom du compartiment, ou null pour la charge interactive par défaut
+     */
+    public static String getWorkload() {
+        return WORKLOAD.get();
+    }
+
+    /**
+     * Définit le compartiment de charge du thread courant
+     * @param workload Nom du compartiment
+     */
+    public static void setWorkload(String workload) {
+        WORKLOAD.set(workload);
+    }
+
+    /**
+     * Réinitialise le contexte du thread courant
+     */
+    public static void clear() {
+        WORKLOAD.remove();
+    }
+}
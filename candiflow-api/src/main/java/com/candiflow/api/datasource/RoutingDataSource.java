@@ -0,0 +1,15 @@
+package com.candiflow.api.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * DataSource routant chaque connexion vers le pool du compartiment de charge courant
+ * Les compartiments sans pool dédié utilisent le pool principal.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return RoutingContextHolder.getWorkload();
+    }
+}
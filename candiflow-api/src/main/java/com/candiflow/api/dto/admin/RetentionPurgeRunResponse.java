@@ -0,0 +1,35 @@
+package com.candiflow.api.dto.admin;
+
+import com.candiflow.api.model.enums.PurgePhase;
+import com.candiflow.api.model.enums.PurgeRunStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO pour la réponse contenant l'état d'une purge de rétention
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RetentionPurgeRunResponse {
+
+    private UUID id;
+    private Instant cutoff;
+    private PurgeRunStatus status;
+    private PurgePhase phase;
+    private long chunks;
+    private long applicantsDeleted;
+    private long notesDeleted;
+    private long tagsDeleted;
+    private long filesDeleted;
+    private Instant startedAt;
+    private Instant updatedAt;
+    private Instant finishedAt;
+    private String lastError;
+}
@@ -0,0 +1,34 @@
+package com.candiflow.api.dto.dashboard;
+
+import com.candiflow.api.model.enums.RollupDimension;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * DTO pour une requête d'analyse du cube des candidats : filtres et dimensions de regroupement
+ * Un filtre null ne restreint pas la dimension correspondante.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicantRollupQuery {
+
+    private UUID recruiterId;
+    private UUID jobOpeningId;
+    private UUID sourceId;
+    private UUID stageId;
+
+    // Bornes incluses, ramenées au lundi de leur semaine ISO
+    private LocalDate from;
+    private LocalDate to;
+
+    @Builder.Default
+    private Set<RollupDimension> groupBy = Set.of();
+}
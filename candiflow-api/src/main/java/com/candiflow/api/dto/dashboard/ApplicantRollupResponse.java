@@ -0,0 +1,47 @@
+package com.candiflow.api.dto.dashboard;
+
+import com.candiflow.api.model.enums.RollupDimension;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO pour le résultat d'une analyse du cube des candidats
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicantRollupResponse {
+
+    private List<RollupDimension> groupBy;
+    private long totalApplicants;
+    private List<Row> rows;
+
+    /**
+     * Ligne agrégée ; les dimensions hors regroupement sont null
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Row {
+        private UUID recruiterId;
+        private String recruiterName;
+        private UUID jobOpeningId;
+        private String jobOpeningTitle;
+        private UUID sourceId;
+        private String sourceName;
+        private UUID stageId;
+        private String stageName;
+        private LocalDate weekStart;
+        // Semaine ISO, ex : 2025-W10
+        private String week;
+        private long count;
+    }
+}
@@ -0,0 +1,19 @@
+package com.candiflow.api.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO pour les centiles d'une durée, en jours (à 1 % près)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DurationPercentiles {
+    // Nombre de durées observées
+    private long count;
+    private double p50Days;
+    private double p90Days;
+    private double p99Days;
+}
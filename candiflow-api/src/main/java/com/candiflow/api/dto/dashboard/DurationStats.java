@@ -0,0 +1,19 @@
+package com.candiflow.api.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO pour les centiles du délai d'embauche et du temps passé dans chaque étape
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DurationStats {
+    private DurationPercentiles timeToHire;
+    // Étapes par ordre d'affichage, limitées à celles qu'au moins un candidat a quittées
+    private List<StageDuration> timeInStage;
+}
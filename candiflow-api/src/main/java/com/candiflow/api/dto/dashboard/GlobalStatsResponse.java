@@ -18,4 +18,6 @@ public class GlobalStatsResponse {
     private List<StatusCount> jobOpeningsByStatus;
     private List<StageCount> applicantsByStage;
     private List<DateCount> monthlyJobOpeningTrend;
+    // Centiles du délai d'embauche et du temps par étape ; null si les esquisses ne sont pas tenues à jour
+    private DurationStats durations;
 }
@@ -21,4 +21,6 @@ public class JobOpeningStatsResponse {
     private List<StageCount> applicantsByStage;
     private List<SourceCount> applicantsBySource;
     private List<DateCount> weeklyApplicationTrend;
+    // Centiles du délai d'embauche et du temps par étape ; null si les esquisses ne sont pas tenues à jour
+    private DurationStats durations;
 }
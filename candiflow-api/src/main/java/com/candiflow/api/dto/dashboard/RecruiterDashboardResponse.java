@@ -29,6 +29,8 @@ public class RecruiterDashboardResponse {
         return this.averageHiringTimeInDays;
     }
     private List<StageConversionRate> conversionRates;
+    // Centiles du délai d'embauche et du temps par étape ; null si les esquisses ne sont pas tenues à jour
+    private DurationStats durations;
     
     /**
      * Crée un nouveau builder pour RecruiterDashboardResponse
@@ -120,6 +122,16 @@ public class RecruiterDashboardResponse {
             return this;
         }
         
+        /**
+         * Définit les centiles du délai d'embauche et du temps passé dans chaque étape
+         * @param durations Centiles des durées
+         * @return Builder pour chaînage
+         */
+        public Builder durations(DurationStats durations) {
+            response.durations = durations;
+            return this;
+        }
+        
         /**
          * Ajoute un taux de conversion
          * @param conversionRate Taux de conversion à ajouter
@@ -0,0 +1,16 @@
+package com.candiflow.api.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO pour les centiles du temps passé dans une étape
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StageDuration {
+    private String stageName;
+    private DurationPercentiles timeInStage;
+}
@@ -0,0 +1,32 @@
+package com.candiflow.api.dto.dashboard;
+
+import com.candiflow.api.model.enums.CounterMetric;
+import com.candiflow.api.model.enums.TrendGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO pour la série temporelle d'un compteur journalier
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrendResponse {
+
+    private CounterMetric metric;
+    private TrendGranularity granularity;
+    // Null pour la série de tous les recruteurs
+    private UUID recruiterId;
+    private LocalDate from;
+    private LocalDate to;
+    private long total;
+    // Un point par période, daté du début de la période
+    private List<DateCount> points;
+}
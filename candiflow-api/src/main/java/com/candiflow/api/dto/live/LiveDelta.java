@@ -0,0 +1,35 @@
+package com.candiflow.api.dto.live;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO pour le contenu d'une mise à jour du flux temps réel
+ * Seuls les champs utiles au type de la mise à jour sont renseignés, les autres sont omis.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LiveDelta {
+
+    private UUID jobOpeningId;
+    private UUID applicantId;
+    private String name;
+    private UUID stageId;
+    // Étape quittée, pour un déplacement
+    private UUID previousStageId;
+    // Nombre de candidats concernés par un lot (inconnu pour un archivage ou une purge)
+    private Integer count;
+    // Variation du nombre de candidats de l'offre
+    private Long applicants;
+    // Variation du nombre de candidats par étape
+    private Map<UUID, Long> stages;
+}
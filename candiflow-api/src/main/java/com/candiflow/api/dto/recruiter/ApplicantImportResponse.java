@@ -0,0 +1,53 @@
+package com.candiflow.api.dto.recruiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO pour le résultat d'un import de candidats en masse
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicantImportResponse {
+
+    private int totalRows;
+    private int importedCount;
+    private int duplicateCount;
+    private int invalidCount;
+
+    @Builder.Default
+    private List<RowResult> rows = new ArrayList<>();
+
+    /**
+     * Résultat de l'import d'une ligne
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowResult {
+        // Numéro de ligne (enregistrement) dans le fichier, à partir de 1
+        private int rowNumber;
+        private RowStatus status;
+        private UUID applicantId;
+        private String email;
+        private String message;
+    }
+
+    /**
+     * Statut de l'import d'une ligne
+     */
+    public enum RowStatus {
+        IMPORTED,
+        DUPLICATE,
+        INVALID
+    }
+}
@@ -0,0 +1,25 @@
+package com.candiflow.api.dto.recruiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO pour le déplacement manuel d'un candidat dans sa colonne du pipeline
+ * Les deux voisins désignent la position de dépôt ; l'absence d'un voisin indique une extrémité de la colonne.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicantRankRequest {
+
+    // Candidat placé juste au-dessus de la position de dépôt (null : début de colonne)
+    private UUID previousApplicantId;
+
+    // Candidat placé juste en dessous de la position de dépôt (null : fin de colonne)
+    private UUID nextApplicantId;
+}
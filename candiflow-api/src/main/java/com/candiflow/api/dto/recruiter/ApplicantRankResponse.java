@@ -0,0 +1,25 @@
+package com.candiflow.api.dto.recruiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO pour la nouvelle position d'un candidat dans sa colonne du pipeline
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicantRankResponse {
+
+    private UUID applicantId;
+    private UUID stageId;
+    private String rankKey;
+
+    // Indique si la colonne a dû être renumérotée pour placer le candidat
+    private boolean columnRebalanced;
+}
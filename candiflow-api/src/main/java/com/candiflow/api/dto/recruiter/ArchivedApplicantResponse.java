@@ -0,0 +1,51 @@
+package com.candiflow.api.dto.recruiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO pour la réponse contenant les informations d'un candidat archivé
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchivedApplicantResponse {
+
+    private UUID id;
+    private UUID jobOpeningId;
+    private UUID stageId;
+    private String stageName;
+    private UUID sourceId;
+    private String name;
+    private String email;
+    private String phone;
+    private String cvStoragePath;
+    private String coverLetterStoragePath;
+    private LocalDate applicationDate;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant archivedAt;
+    
+    // Renseignés uniquement pour la consultation d'un candidat
+    private List<String> tags;
+    private List<Note> notes;
+    
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Note {
+        private UUID id;
+        private UUID authorId;
+        private String noteText;
+        private Instant createdAt;
+    }
+}
@@ -0,0 +1,32 @@
+package com.candiflow.api.dto.recruiter;
+
+import com.candiflow.api.model.enums.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO pour la réponse contenant les informations d'une offre d'emploi archivée
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchivedJobOpeningResponse {
+
+    private UUID id;
+    private UUID recruiterId;
+    private String title;
+    private String description;
+    private JobStatus status;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant archivedAt;
+    
+    // Renseigné uniquement pour la consultation d'une offre
+    private Long totalApplicants;
+}
@@ -0,0 +1,32 @@
+package com.candiflow.api.dto.recruiter;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO pour le déplacement groupé de candidats vers une étape du pipeline
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStageChangeRequest {
+
+    @NotEmpty(message = "La liste des candidats est obligatoire")
+    @Size(max = 1000, message = "Au plus 1000 candidats peuvent être déplacés à la fois")
+    private List<@NotNull UUID> applicantIds;
+
+    @NotNull(message = "L'étape cible est obligatoire")
+    private UUID stageId;
+
+    // Note optionnelle ajoutée à chaque candidat déplacé
+    private String note;
+}
@@ -0,0 +1,28 @@
+package com.candiflow.api.dto.recruiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO pour le résultat d'un déplacement groupé de candidats
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStageChangeResponse {
+
+    private UUID stageId;
+    private String stageName;
+
+    // Candidats effectivement déplacés
+    private List<UUID> movedApplicantIds;
+
+    // Candidats déjà présents dans l'étape cible, laissés inchangés
+    private List<UUID> unchangedApplicantIds;
+}
@@ -24,4 +24,7 @@ public class JobOpeningRequest {
 
     @NotNull(message = "Le statut de l'offre est obligatoire")
     private JobStatus status;
+
+    // Version connue du client (optionnel) ; l'en-tête If-Match est prioritaire
+    private Long version;
 }
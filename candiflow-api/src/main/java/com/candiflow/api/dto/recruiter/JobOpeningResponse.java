@@ -24,6 +24,7 @@ public class JobOpeningResponse {
     private JobStatus status;
     private Instant createdAt;
     private Instant updatedAt;
+    private Long version;
     
     // Statistiques
     private int totalApplicants;
@@ -41,4 +41,7 @@ public class OpeningApplicantRequest {
     
     // Notes initiales (optionnel)
     private String initialNotes;
+    
+    // Version connue du client pour une mise à jour (optionnel) ; l'en-tête If-Match est prioritaire
+    private Long version;
 }
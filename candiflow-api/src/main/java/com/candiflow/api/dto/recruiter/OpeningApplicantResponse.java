@@ -28,6 +28,7 @@ public class OpeningApplicantResponse {
     private LocalDate applicationDate;
     private Instant createdAt;
     private Instant updatedAt;
+    private Long version;
     
     // Informations sur l'étape du pipeline
     private PipelineStageSummary pipelineStage;
@@ -0,0 +1,56 @@
+package com.candiflow.api.dto.recruiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO pour le tableau de pipeline (vue kanban) d'une offre d'emploi
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PipelineBoardResponse {
+
+    private UUID jobOpeningId;
+
+    // Une colonne par étape active, dans l'ordre d'affichage
+    private List<Column> columns;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Column {
+        private UUID stageId;
+        private String stageName;
+        private Integer displayOrder;
+        private boolean isEndStage;
+        private long totalApplicants;
+
+        // Candidats de la colonne, du plus récemment actif au plus ancien
+        private List<Card> applicants;
+
+        // Curseur à transmettre pour obtenir la suite de la colonne (null si la colonne est complète)
+        private String nextCursor;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Card {
+        private UUID id;
+        private String name;
+        private String email;
+        private LocalDate applicationDate;
+        private Instant updatedAt;
+    }
+}
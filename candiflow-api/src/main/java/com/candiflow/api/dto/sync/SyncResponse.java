@@ -0,0 +1,46 @@
+package com.candiflow.api.dto.sync;
+
+import com.candiflow.api.dto.application.ApplicationResponse;
+import com.candiflow.api.dto.application.StatusUpdateResponse;
+import com.candiflow.api.dto.candidate.DocumentResponse;
+import com.candiflow.api.model.enums.SyncEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO pour la réponse de synchronisation différentielle : lignes créées, modifiées ou supprimées depuis un jeton
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncResponse {
+
+    // Jeton à renvoyer à la prochaine synchronisation
+    private String token;
+
+    // D'autres changements attendent : le client resynchronise aussitôt avec le nouveau jeton
+    private boolean hasMore;
+
+    // Synchronisation complète : le client remplace son cache local au lieu de le compléter
+    private boolean reset;
+
+    private List<ApplicationResponse> applications;
+    private List<StatusUpdateResponse> statusUpdates;
+    private List<DocumentResponse> documents;
+    private List<Deletion> deleted;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Deletion {
+        private SyncEntityType type;
+        private UUID id;
+    }
+}
@@ -0,0 +1,16 @@
+package com.candiflow.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception levée lorsqu'un compartiment d'exécution est saturé
+ * (file d'attente pleine ou délai d'attente dépassé)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
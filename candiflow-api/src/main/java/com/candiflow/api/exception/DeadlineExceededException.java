@@ -0,0 +1,15 @@
+package com.candiflow.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception levée lorsque le calcul d'une réponse dépasse le délai accordé à la requête
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.candiflow.api.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception levée lorsqu'une mise à jour porte sur une version périmée d'une ressource
+ * Elle transporte l'état courant de la ressource, renvoyé au client avec la réponse 409.
+ */
+@Getter
+@ResponseStatus(HttpStatus.CONFLICT)
+public class VersionConflictException extends RuntimeException {
+
+    private final transient Object currentState;
+    private final Long currentVersion;
+
+    public VersionConflictException(String message, Object currentState, Long currentVersion) {
+        super(message);
+        this.currentState = currentState;
+        this.currentVersion = currentVersion;
+    }
+}
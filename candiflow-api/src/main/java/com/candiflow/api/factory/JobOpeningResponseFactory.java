@@ -1,38 +1,37 @@
 package com.candiflow.api.factory;
 
+import com.candiflow.api.batch.BatchKeys;
+import com.candiflow.api.batch.BatchLoadContext;
 import com.candiflow.api.dto.recruiter.JobOpeningResponse;
-import com.candiflow.api.model.entity.JobOpening;
-import com.candiflow.api.repository.OpeningApplicantRepository;
-import lombok.RequiredArgsConstructor;
+import com.candiflow.api.repository.projection.JobOpeningSummaryProjection;
 import org.springframework.stereotype.Component;
 
 /**
- * Factory pour créer des objets JobOpeningResponse à partir d'entités JobOpening
+ * Factory pour créer des objets JobOpeningResponse à partir de projections d'offres d'emploi
  * Implémente le pattern Factory pour centraliser la logique de création
  */
 @Component
-@RequiredArgsConstructor
 public class JobOpeningResponseFactory {
 
-    private final OpeningApplicantRepository openingApplicantRepository;
-
     /**
-     * Crée un objet JobOpeningResponse à partir d'une entité JobOpening
-     * @param jobOpening L'entité JobOpening source
-     * @return Un objet JobOpeningResponse
+     * Crée un objet JobOpeningResponse à partir d'une projection d'offre d'emploi
+     * La description n'est pas renseignée : elle n'est renvoyée que par le détail de l'offre.
+     * @param jobOpening La projection source
+     * @param loads Contexte de chargement par lot des statistiques
+     * @return Un objet JobOpeningResponse, complété une fois le contexte résolu
      */
-    public JobOpeningResponse createFromEntity(JobOpening jobOpening) {
+    public JobOpeningResponse createFromSummary(JobOpeningSummaryProjection jobOpening, BatchLoadContext loads) {
         JobOpeningResponse response = new JobOpeningResponse();
-        response.setId(jobOpening.getId());
-        response.setTitle(jobOpening.getTitle());
-        response.setDescription(jobOpening.getDescription());
-        response.setStatus(jobOpening.getStatus());
-        response.setCreatedAt(jobOpening.getCreatedAt());
-        response.setUpdatedAt(jobOpening.getUpdatedAt());
+        response.setId(jobOpening.jobOpeningId());
+        response.setTitle(jobOpening.title());
+        response.setStatus(jobOpening.status());
+        response.setCreatedAt(jobOpening.createdAt());
+        response.setUpdatedAt(jobOpening.updatedAt());
+        response.setVersion(jobOpening.version());
         
         // Ajouter les statistiques
-        long totalApplicants = openingApplicantRepository.countByJobOpening(jobOpening);
-        response.setTotalApplicants((int) totalApplicants);
+        loads.load(BatchKeys.APPLICANT_COUNT_BY_OPENING, jobOpening.jobOpeningId(),
+                totalApplicants -> response.setTotalApplicants(totalApplicants.intValue()));
         
         return response;
     }
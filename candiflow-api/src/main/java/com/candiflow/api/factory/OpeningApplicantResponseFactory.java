@@ -1,48 +1,47 @@
 package com.candiflow.api.factory;
 
 import com.candiflow.api.dto.recruiter.OpeningApplicantResponse;
-import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.repository.projection.ApplicantSummaryProjection;
 import org.springframework.stereotype.Component;
 
 /**
- * Factory pour créer des objets OpeningApplicantResponse à partir d'entités OpeningApplicant
+ * Factory pour créer des objets OpeningApplicantResponse à partir de projections de candidats
  * Implémente le pattern Factory pour centraliser la logique de création
  */
 @Component
 public class OpeningApplicantResponseFactory {
 
     /**
-     * Crée un objet OpeningApplicantResponse à partir d'une entité OpeningApplicant
-     * @param applicant L'entité OpeningApplicant source
+     * Crée un objet OpeningApplicantResponse à partir d'une projection de candidat
+     * Les chemins de CV et de lettre de motivation ne sont pas renseignés : ils ne sont renvoyés que par le détail du candidat.
+     * @param applicant La projection source
      * @return Un objet OpeningApplicantResponse
      */
-    public OpeningApplicantResponse createFromEntity(OpeningApplicant applicant) {
+    public OpeningApplicantResponse createFromSummary(ApplicantSummaryProjection applicant) {
         OpeningApplicantResponse response = new OpeningApplicantResponse();
-        response.setId(applicant.getId());
-        response.setName(applicant.getName());
-        response.setEmail(applicant.getEmail());
-        response.setPhone(applicant.getPhone());
-        response.setApplicationDate(applicant.getApplicationDate());
-        response.setCreatedAt(applicant.getCreatedAt());
-        response.setUpdatedAt(applicant.getUpdatedAt());
+        response.setId(applicant.applicantId());
+        response.setJobOpeningId(applicant.jobOpeningId());
+        response.setName(applicant.name());
+        response.setEmail(applicant.email());
+        response.setPhone(applicant.phone());
+        response.setApplicationDate(applicant.applicationDate());
+        response.setCreatedAt(applicant.createdAt());
+        response.setUpdatedAt(applicant.updatedAt());
+        response.setVersion(applicant.version());
         
         // Ajouter les relations
-        if (applicant.getJobOpening() != null) {
-            response.setJobOpeningId(applicant.getJobOpening().getId());
-        }
-        
-        if (applicant.getCurrentStage() != null) {
+        if (applicant.stageId() != null) {
             OpeningApplicantResponse.PipelineStageSummary stageSummary = new OpeningApplicantResponse.PipelineStageSummary();
-            stageSummary.setId(applicant.getCurrentStage().getId());
-            stageSummary.setName(applicant.getCurrentStage().getName());
-            stageSummary.setEndStage(false); // Par défaut, on suppose que ce n'est pas une étape finale
+            stageSummary.setId(applicant.stageId());
+            stageSummary.setName(applicant.stageName());
+            stageSummary.setEndStage(applicant.endStage());
             response.setPipelineStage(stageSummary);
         }
         
-        if (applicant.getSource() != null) {
+        if (applicant.sourceId() != null) {
             OpeningApplicantResponse.CandidateSourceSummary sourceSummary = new OpeningApplicantResponse.CandidateSourceSummary();
-            sourceSummary.setId(applicant.getSource().getId());
-            sourceSummary.setName(applicant.getSource().getName());
+            sourceSummary.setId(applicant.sourceId());
+            sourceSummary.setName(applicant.sourceName());
             response.setSource(sourceSummary);
         }
         
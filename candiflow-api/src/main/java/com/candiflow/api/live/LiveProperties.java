@@ -0,0 +1,48 @@
+package com.candiflow.api.live;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration du flux temps réel des mises à jour (Server-Sent Events)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.live")
+public class LiveProperties {
+
+    /**
+     * Active ou désactive le flux temps réel
+     */
+    private boolean enabled = true;
+
+    /**
+     * Nombre de mises à jour en attente d'envoi au-delà duquel un abonné trop lent est déconnecté
+     */
+    private int bufferSize = 256;
+
+    /**
+     * Nombre de dernières mises à jour conservées pour la reprise d'un abonné (en-tête Last-Event-ID)
+     */
+    private int replaySize = 10_000;
+
+    /**
+     * Délai sans mise à jour après lequel un commentaire est envoyé pour maintenir la connexion
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+
+    /**
+     * Durée maximale d'un abonnement, le client se reconnectant ensuite avec le dernier événement reçu
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Nombre de candidats d'une offre au-delà duquel un lot est résumé en une seule mise à jour APPLICANTS_CHANGED
+     */
+    private int maxApplicantDeltas = 100;
+}
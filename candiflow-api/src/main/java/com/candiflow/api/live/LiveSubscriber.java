@@ -0,0 +1,128 @@
+package com.candiflow.api.live;
+
+import com.candiflow.api.dto.live.LiveDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * Abonné au flux temps réel : file bornée des mises à jour à envoyer, vidée par son propre thread virtuel
+ * Les publications ne font que déposer dans la file ; seul le thread de l'abonné écrit sur sa connexion,
+ * si bien qu'un client lent ne ralentit ni les écritures à l'origine des mises à jour ni les autres abonnés.
+ */
+@Slf4j
+final class LiveSubscriber {
+
+    // Marque de fin déposée dans la file pour arrêter le thread d'envoi
+    private static final LiveUpdate CLOSE = new LiveUpdate(-1L, null, null);
+
+    private final SseEmitter emitter;
+    private final UUID recruiterId;
+    private final Set<UUID> jobOpeningIds;
+    private final BlockingQueue<LiveUpdate> queue;
+    private volatile boolean closed;
+
+    /**
+     * @param emitter Connexion SSE de l'abonné
+     * @param recruiterId Recruteur dont les nouvelles offres rejoignent l'abonnement (null pour un abonnement à une offre)
+     * @param jobOpeningIds Offres suivies
+     * @param bufferSize Capacité de la file des mises à jour en attente d'envoi
+     */
+    LiveSubscriber(SseEmitter emitter, UUID recruiterId, Set<UUID> jobOpeningIds, int bufferSize) {
+        this.emitter = emitter;
+        this.recruiterId = recruiterId;
+        this.jobOpeningIds = ConcurrentHashMap.newKeySet();
+        this.jobOpeningIds.addAll(jobOpeningIds);
+        // Une place de plus pour la marque de fin
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, bufferSize) + 1);
+    }
+
+    /**
+     * Indique si une mise à jour concerne l'une des offres suivies (les remises à zéro concernent tout abonné)
+     */
+    boolean accepts(LiveUpdate update) {
+        return update.delta() == null || jobOpeningIds.contains(update.delta().getJobOpeningId());
+    }
+
+    /**
+     * Ajoute une offre à l'abonnement si elle appartient au recruteur suivi
+     */
+    void jobOpeningCreated(UUID jobOpeningRecruiterId, UUID jobOpeningId) {
+        if (recruiterId != null && recruiterId.equals(jobOpeningRecruiterId)) {
+            jobOpeningIds.add(jobOpeningId);
+        }
+    }
+
+    /**
+     * Nombre de mises à jour pouvant encore être mises en attente
+     */
+    int remainingCapacity() {
+        return queue.remainingCapacity() - 1;
+    }
+
+    /**
+     * Met une mise à jour en attente d'envoi, sans jamais bloquer
+     * @return false si l'abonné est fermé ou si sa file est pleine
+     */
+    boolean offer(LiveUpdate update) {
+        return !closed && remainingCapacity() > 0 && queue.offer(update);
+    }
+
+    /**
+     * Ferme l'abonné : les mises à jour en attente sont abandonnées et la connexion est terminée
+     */
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.clear();
+        queue.offer(CLOSE);
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Envoie les mises à jour en attente jusqu'à la fermeture de l'abonné ou de sa connexion
+     * @param heartbeatIntervalMillis Délai sans mise à jour après lequel un commentaire est envoyé
+     * @param eventIds Formatage de l'identifiant d'événement d'un numéro d'ordre
+     */
+    void run(long heartbeatIntervalMillis, LongFunction<String> eventIds) {
+        try {
+            while (true) {
+                LiveUpdate update = queue.poll(heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+                if (update == CLOSE) {
+                    break;
+                }
+                if (update == null) {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } else {
+                    emitter.send(SseEmitter.event()
+                            .id(eventIds.apply(update.sequence()))
+                            .name(update.type().name())
+                            .data(update.delta() != null ? update.delta() : new LiveDelta(), MediaType.APPLICATION_JSON));
+                }
+            }
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // Client déconnecté ou connexion déjà terminée
+            log.debug("Fin de l'abonnement au flux temps réel: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } finally {
+            closed = true;
+        }
+    }
+}
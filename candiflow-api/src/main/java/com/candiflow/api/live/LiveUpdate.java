@@ -0,0 +1,28 @@
+package com.candiflow.api.live;
+
+import com.candiflow.api.dto.live.LiveDelta;
+import com.candiflow.api.model.enums.LiveUpdateType;
+
+/**
+ * Mise à jour du flux temps réel
+ *
+ * @param sequence Numéro d'ordre attribué à la publication (0 avant publication)
+ * @param type Type de la mise à jour
+ * @param delta Contenu de la mise à jour
+ */
+public record LiveUpdate(long sequence, LiveUpdateType type, LiveDelta delta) {
+
+    /**
+     * Crée une mise à jour à publier
+     * @param type Type de la mise à jour
+     * @param delta Contenu de la mise à jour
+     * @return Mise à jour sans numéro d'ordre
+     */
+    public static LiveUpdate of(LiveUpdateType type, LiveDelta delta) {
+        return new LiveUpdate(0L, type, delta);
+    }
+
+    LiveUpdate withSequence(long sequence) {
+        return new LiveUpdate(sequence, type, delta);
+    }
+}
@@ -0,0 +1,201 @@
+package com.candiflow.api.live;
+
+import com.candiflow.api.model.enums.LiveUpdateType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Diffusion des mises à jour du flux temps réel à leurs abonnés
+ * Chaque mise à jour publiée reçoit un numéro d'ordre croissant et est conservée dans un historique borné,
+ * puis déposée dans la file de chaque abonné concerné sans jamais bloquer. Un abonné dont la file est pleine
+ * est déconnecté : son client se reconnecte avec le dernier événement reçu (en-tête Last-Event-ID) et reprend
+ * à partir de l'historique, ou reçoit RESET s'il a trop de retard pour que l'historique le rattrape.
+ * Les identifiants d'événement sont préfixés par l'instant de démarrage : après un redémarrage, ceux reçus
+ * avant ne correspondent plus à l'historique et le client reçoit RESET.
+ */
+@Component
+@Slf4j
+public class LiveUpdateBroker {
+
+    private final LiveProperties properties;
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final ThreadFactory senderThreads = Thread.ofVirtual().name("live-sender-", 1).factory();
+    private final Set<LiveSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter droppedCounter;
+    private final Counter resetCounter;
+
+    // Protège le numéro d'ordre, l'historique et la cohérence entre reprise et abonnement
+    private final Object lock = new Object();
+    private final Deque<LiveUpdate> history = new ArrayDeque<>();
+    private long sequence;
+
+    public LiveUpdateBroker(LiveProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.droppedCounter = Counter.builder("candiflow.live.dropped_subscribers")
+                .description("Abonnés au flux temps réel déconnectés car trop lents à consommer leurs mises à jour")
+                .register(meterRegistry);
+        this.resetCounter = Counter.builder("candiflow.live.resets")
+                .description("Reprises du flux temps réel impossibles depuis l'historique")
+                .register(meterRegistry);
+        Gauge.builder("candiflow.live.subscribers", subscribers, Set::size)
+                .description("Abonnés connectés au flux temps réel")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abonne une connexion SSE aux mises à jour d'un ensemble d'offres
+     * Avec un dernier événement reçu, les mises à jour publiées depuis sont renvoyées avant celles à venir,
+     * sans perte ni doublon ; si l'historique ne le permet pas, la première mise à jour envoyée est RESET.
+     * @param emitter Connexion SSE
+     * @param recruiterId Recruteur dont les offres créées par la suite rejoignent l'abonnement (optionnel)
+     * @param jobOpeningIds Offres suivies
+     * @param lastEventId Identifiant du dernier événement reçu par le client (optionnel)
+     * @return Connexion SSE, à renvoyer par le contrôleur
+     */
+    public SseEmitter subscribe(SseEmitter emitter, UUID recruiterId, Collection<UUID> jobOpeningIds, String lastEventId) {
+        LiveSubscriber subscriber = new LiveSubscriber(emitter, recruiterId, Set.copyOf(jobOpeningIds),
+                properties.getBufferSize());
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        synchronized (lock) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId.trim());
+            }
+            subscribers.add(subscriber);
+        }
+        long heartbeatMillis = Math.max(1L, properties.getHeartbeatInterval().toMillis());
+        senderThreads.newThread(() -> {
+            try {
+                subscriber.run(heartbeatMillis, this::eventId);
+            } finally {
+                subscribers.remove(subscriber);
+            }
+        }).start();
+        return emitter;
+    }
+
+    /**
+     * Publie des mises à jour auprès des abonnés concernés
+     * Les abonnés dont la file est pleine sont déconnectés plutôt que d'attendre leur consommation.
+     * @param updates Mises à jour, dans l'ordre de publication
+     */
+    public void publish(List<LiveUpdate> updates) {
+        int replaySize = Math.max(0, properties.getReplaySize());
+        synchronized (lock) {
+            for (LiveUpdate update : updates) {
+                LiveUpdate published = update.withSequence(++sequence);
+                history.addLast(published);
+                while (history.size() > replaySize) {
+                    history.removeFirst();
+                }
+                for (LiveSubscriber subscriber : subscribers) {
+                    if (subscriber.accepts(published) && !subscriber.offer(published)) {
+                        drop(subscriber);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Ajoute une offre créée aux abonnements de son recruteur
+     * @param recruiterId ID du recruteur de l'offre
+     * @param jobOpeningId ID de l'offre
+     */
+    public void jobOpeningCreated(UUID recruiterId, UUID jobOpeningId) {
+        for (LiveSubscriber subscriber : subscribers) {
+            subscriber.jobOpeningCreated(recruiterId, jobOpeningId);
+        }
+    }
+
+    /**
+     * Nombre d'abonnés connectés
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Ferme tous les abonnements à l'arrêt de l'application
+     */
+    @PreDestroy
+    public void closeAll() {
+        subscribers.forEach(LiveSubscriber::close);
+        subscribers.clear();
+    }
+
+    /**
+     * Renvoie à un abonné les mises à jour le concernant publiées après son dernier événement reçu
+     */
+    private void replay(LiveSubscriber subscriber, String lastEventId) {
+        long last = parseEventId(lastEventId);
+        long oldest = history.isEmpty() ? sequence + 1 : history.peekFirst().sequence();
+        if (last >= 0 && last >= oldest - 1 && last <= sequence) {
+            List<LiveUpdate> missed = new ArrayList<>();
+            for (LiveUpdate update : history) {
+                if (update.sequence() > last && subscriber.accepts(update)) {
+                    missed.add(update);
+                }
+            }
+            if (missed.size() <= subscriber.remainingCapacity()) {
+                missed.forEach(subscriber::offer);
+                return;
+            }
+        }
+        resetCounter.increment();
+        subscriber.offer(new LiveUpdate(sequence, LiveUpdateType.RESET, null));
+    }
+
+    private void unsubscribe(LiveSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.close();
+    }
+
+    private void drop(LiveSubscriber subscriber) {
+        if (!subscriber.isClosed()) {
+            droppedCounter.increment();
+            log.debug("Abonné au flux temps réel déconnecté : {} mises à jour en attente", properties.getBufferSize());
+        }
+        unsubscribe(subscriber);
+    }
+
+    /**
+     * Formate l'identifiant d'événement d'un numéro d'ordre
+     */
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * Extrait le numéro d'ordre d'un identifiant d'événement
+     * @return Numéro d'ordre, ou -1 si l'identifiant est invalide ou antérieur au démarrage
+     */
+    private long parseEventId(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
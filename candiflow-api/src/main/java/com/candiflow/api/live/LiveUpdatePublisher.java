@@ -0,0 +1,212 @@
+package com.candiflow.api.live;
+
+import com.candiflow.api.dto.live.LiveDelta;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.enums.LiveUpdateType;
+import com.candiflow.api.observer.AfterCommit;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.ApplicantsRemovedEvent;
+import com.candiflow.api.observer.Event;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.observer.EventObserver;
+import com.candiflow.api.observer.EventType;
+import com.candiflow.api.observer.JobOpeningEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Conversion des événements candidats en mises à jour du flux temps réel
+ * Les mises à jour sont calculées à la réception de l'événement, tant que les entités sont lisibles,
+ * puis publiées une fois la transaction de l'écriture validée. Chaque événement produit, par offre,
+ * les mises à jour des candidats concernés suivies de la variation des effectifs de l'offre ; un lot
+ * trop grand est résumé en une seule mise à jour APPLICANTS_CHANGED invitant le client à recharger la liste.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveUpdatePublisher implements EventObserver {
+
+    private static final Set<EventType> INTERESTED_EVENT_TYPES = EnumSet.of(
+            EventType.JOB_OPENING_CREATED,
+            EventType.JOB_OPENING_DELETED,
+            EventType.APPLICANT_CREATED,
+            EventType.APPLICANT_UPDATED,
+            EventType.APPLICANT_DELETED,
+            EventType.APPLICANTS_IMPORTED,
+            EventType.APPLICANTS_REMOVED,
+            EventType.STAGE_CHANGED);
+
+    private final LiveUpdateBroker broker;
+    private final EventManager eventManager;
+    private final LiveProperties properties;
+
+    /**
+     * Initialisation : s'enregistre auprès du gestionnaire d'événements
+     */
+    @PostConstruct
+    public void init() {
+        eventManager.registerObserver(this);
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        List<LiveUpdate> updates = new ArrayList<>();
+        switch (event.getType()) {
+            case JOB_OPENING_CREATED -> {
+                JobOpening jobOpening = ((JobOpeningEvent) event).getJobOpening();
+                UUID recruiterId = jobOpening.getRecruiter().getId();
+                UUID jobOpeningId = jobOpening.getId();
+                AfterCommit.run(() -> broker.jobOpeningCreated(recruiterId, jobOpeningId));
+            }
+            case JOB_OPENING_DELETED ->
+                // Suppression définitive : tous les candidats de l'offre ont disparu, la liste est à recharger
+                updates.add(LiveUpdate.of(LiveUpdateType.APPLICANTS_CHANGED,
+                        LiveDelta.builder().jobOpeningId(((JobOpeningEvent) event).getJobOpeningId()).build()));
+            case APPLICANT_CREATED -> {
+                OpeningApplicant applicant = ((ApplicantEvent) event).getApplicant();
+                UUID stageId = stageId(applicant.getCurrentStage());
+                updates.add(applicantUpdate(LiveUpdateType.APPLICANT_CREATED, applicant, stageId, null));
+                updates.add(counters(applicant.getJobOpening().getId(), 1L, stageDelta(null, stageId)));
+            }
+            case APPLICANT_UPDATED -> {
+                OpeningApplicant applicant = ((ApplicantEvent) event).getApplicant();
+                updates.add(applicantUpdate(LiveUpdateType.APPLICANT_UPDATED, applicant, stageId(applicant.getCurrentStage()), null));
+            }
+            case APPLICANT_DELETED -> {
+                ApplicantSnapshot applicant = ((ApplicantEvent) event).getSnapshot();
+                updates.add(LiveUpdate.of(LiveUpdateType.APPLICANT_DELETED, LiveDelta.builder()
+                        .jobOpeningId(applicant.jobOpeningId())
+                        .applicantId(applicant.id())
+                        .stageId(applicant.stageId())
+                        .build()));
+                updates.add(counters(applicant.jobOpeningId(), -1L, stageDelta(applicant.stageId(), null)));
+            }
+            case STAGE_CHANGED -> {
+                if (event instanceof ApplicantBatchEvent batchEvent) {
+                    addBatch(updates, batchEvent.getApplicants(), true);
+                } else {
+                    ApplicantEvent applicantEvent = (ApplicantEvent) event;
+                    OpeningApplicant applicant = applicantEvent.getApplicant();
+                    UUID stageId = stageId(applicant.getCurrentStage());
+                    UUID previousStageId = stageId(applicantEvent.getPreviousStage());
+                    if (!Objects.equals(stageId, previousStageId)) {
+                        updates.add(applicantUpdate(LiveUpdateType.APPLICANT_MOVED, applicant, stageId, previousStageId));
+                        updates.add(counters(applicant.getJobOpening().getId(), null, stageDelta(previousStageId, stageId)));
+                    }
+                }
+            }
+            case APPLICANTS_IMPORTED -> addBatch(updates, ((ApplicantBatchEvent) event).getApplicants(), false);
+            case APPLICANTS_REMOVED -> {
+                // Les candidats n'existent plus : leur étape est inconnue, seules leurs offres sont signalées
+                for (UUID jobOpeningId : new LinkedHashSet<>(((ApplicantsRemovedEvent) event).getJobOpeningIds())) {
+                    updates.add(LiveUpdate.of(LiveUpdateType.APPLICANTS_CHANGED,
+                            LiveDelta.builder().jobOpeningId(jobOpeningId).build()));
+                }
+            }
+            default -> log.debug("Événement non géré par le flux temps réel: {}", event.getType());
+        }
+
+        if (!updates.isEmpty()) {
+            AfterCommit.run(() -> broker.publish(updates));
+        }
+    }
+
+    @Override
+    public boolean isInterestedIn(EventType eventType) {
+        return properties.isEnabled() && INTERESTED_EVENT_TYPES.contains(eventType);
+    }
+
+    /**
+     * Ajoute les mises à jour d'un lot de candidats, regroupées par offre
+     * @param moved true pour un déplacement groupé, false pour un import
+     */
+    private void addBatch(List<LiveUpdate> updates, List<ApplicantSnapshot> applicants, boolean moved) {
+        Map<UUID, List<ApplicantSnapshot>> byJobOpening = new LinkedHashMap<>();
+        for (ApplicantSnapshot applicant : applicants) {
+            if (!moved || !Objects.equals(applicant.previousStageId(), applicant.stageId())) {
+                byJobOpening.computeIfAbsent(applicant.jobOpeningId(), id -> new ArrayList<>()).add(applicant);
+            }
+        }
+
+        int maxApplicantDeltas = Math.max(0, properties.getMaxApplicantDeltas());
+        byJobOpening.forEach((jobOpeningId, openingApplicants) -> {
+            Map<UUID, Long> stages = new HashMap<>();
+            for (ApplicantSnapshot applicant : openingApplicants) {
+                UUID previousStageId = moved ? applicant.previousStageId() : null;
+                stageDelta(previousStageId, applicant.stageId()).forEach((stageId, delta) -> stages.merge(stageId, delta, Long::sum));
+            }
+            stages.values().removeIf(delta -> delta == 0L);
+
+            if (openingApplicants.size() > maxApplicantDeltas) {
+                updates.add(LiveUpdate.of(LiveUpdateType.APPLICANTS_CHANGED,
+                        LiveDelta.builder().jobOpeningId(jobOpeningId).count(openingApplicants.size()).build()));
+            } else {
+                for (ApplicantSnapshot applicant : openingApplicants) {
+                    updates.add(LiveUpdate.of(moved ? LiveUpdateType.APPLICANT_MOVED : LiveUpdateType.APPLICANT_CREATED,
+                            LiveDelta.builder()
+                                    .jobOpeningId(jobOpeningId)
+                                    .applicantId(applicant.id())
+                                    .name(moved ? null : applicant.name())
+                                    .stageId(applicant.stageId())
+                                    .previousStageId(moved ? applicant.previousStageId() : null)
+                                    .build()));
+                }
+            }
+            updates.add(counters(jobOpeningId, moved ? null : (long) openingApplicants.size(), stages));
+        });
+    }
+
+    private static LiveUpdate applicantUpdate(LiveUpdateType type, OpeningApplicant applicant, UUID stageId,
+                                              UUID previousStageId) {
+        return LiveUpdate.of(type, LiveDelta.builder()
+                .jobOpeningId(applicant.getJobOpening().getId())
+                .applicantId(applicant.getId())
+                .name(type == LiveUpdateType.APPLICANT_MOVED ? null : applicant.getName())
+                .stageId(stageId)
+                .previousStageId(previousStageId)
+                .build());
+    }
+
+    private static LiveUpdate counters(UUID jobOpeningId, Long applicants, Map<UUID, Long> stages) {
+        return LiveUpdate.of(LiveUpdateType.COUNTERS_CHANGED, LiveDelta.builder()
+                .jobOpeningId(jobOpeningId)
+                .applicants(applicants)
+                .stages(stages)
+                .build());
+    }
+
+    /**
+     * Variation des effectifs par étape d'un candidat quittant une étape pour une autre (chacune optionnelle)
+     */
+    private static Map<UUID, Long> stageDelta(UUID fromStageId, UUID toStageId) {
+        Map<UUID, Long> stages = new HashMap<>();
+        if (fromStageId != null) {
+            stages.merge(fromStageId, -1L, Long::sum);
+        }
+        if (toStageId != null) {
+            stages.merge(toStageId, 1L, Long::sum);
+        }
+        return stages;
+    }
+
+    private static UUID stageId(PipelineStage stage) {
+        return stage != null ? stage.getId() : null;
+    }
+}
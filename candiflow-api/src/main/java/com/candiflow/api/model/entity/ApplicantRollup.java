@@ -0,0 +1,51 @@
+package com.candiflow.api.model.entity;
+
+import com.candiflow.api.model.id.UuidV7;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Nombre de candidats pré-agrégé par recruteur, offre, source, étape et semaine ISO de candidature
+ * Les lignes d'une offre sont entièrement recalculées à chaque rafraîchissement : elles ne portent pas de clé
+ * étrangère, pour ne pas bloquer la suppression ou l'archivage des offres.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Entity
+@Table(name = "applicant_rollups", indexes = {
+        @Index(name = "idx_applicant_rollups_job_opening_id", columnList = "job_opening_id"),
+        @Index(name = "idx_applicant_rollups_recruiter_week", columnList = "recruiter_user_id, week_start")
+})
+public class ApplicantRollup {
+
+    @Id
+    @UuidV7
+    @Column(name = "rollup_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "recruiter_user_id", nullable = false)
+    private UUID recruiterId;
+
+    @Column(name = "job_opening_id", nullable = false)
+    private UUID jobOpeningId;
+
+    // Null pour les candidats sans source
+    @Column(name = "source_id")
+    private UUID sourceId;
+
+    @Column(name = "stage_id", nullable = false)
+    private UUID stageId;
+
+    // Lundi de la semaine ISO de candidature, null pour les candidats sans date de candidature
+    @Column(name = "week_start")
+    private LocalDate weekStart;
+
+    @Column(name = "applicant_count", nullable = false)
+    private long applicantCount;
+}
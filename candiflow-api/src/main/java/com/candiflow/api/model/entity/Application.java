@@ -2,6 +2,7 @@ package com.candiflow.api.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -13,7 +14,10 @@ import java.util.*;
 @AllArgsConstructor
 @ToString(exclude = {"user", "statusUpdates", "documents", "tags"})
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_user_date_applied", columnList = "user_id, date_applied DESC"),
+        @Index(name = "idx_applications_user_change_seq", columnList = "user_id, change_seq")
+})
 @AttributeOverride(name = "id", column = @Column(name = "application_id"))
 public class Application extends BaseEntity {
 
@@ -39,6 +43,11 @@ public class Application extends BaseEntity {
     @Column(name = "general_notes", columnDefinition = "TEXT")
     private String generalNotes;
 
+    // Numéro du dernier changement, pris dans la séquence de l'utilisateur (synchronisation différentielle)
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
     // --- Relations ---
 
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
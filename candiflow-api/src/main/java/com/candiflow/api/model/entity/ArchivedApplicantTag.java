@@ -0,0 +1,36 @@
+package com.candiflow.api.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Tag d'un candidat archivé, avec le nom du tag recopié au moment de l'archivage
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = {"applicantId", "tagId"})
+@ToString
+@Entity
+@Table(name = "archived_applicant_tags")
+@IdClass(ApplicantTagId.class)
+public class ArchivedApplicantTag {
+
+    @Id
+    @Column(name = "applicant_id", nullable = false)
+    private UUID applicantId;
+
+    @Id
+    @Column(name = "tag_id", nullable = false)
+    private UUID tagId;
+
+    @Column(name = "tag_name", nullable = false, length = 100)
+    private String tagName;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,48 @@
+package com.candiflow.api.model.entity;
+
+import com.candiflow.api.model.enums.JobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Offre d'emploi fermée, déplacée hors de la table job_openings par l'archivage
+ * Les identifiants d'origine sont conservés ; les références ne sont plus des clés étrangères.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Entity
+@Table(name = "archived_job_openings")
+public class ArchivedJobOpening {
+
+    @Id
+    @Column(name = "job_opening_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "recruiter_user_id")
+    private UUID recruiterId;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private JobStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,65 @@
+package com.candiflow.api.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Candidat d'une offre archivée
+ * Le nom de l'étape est recopié pour rester lisible si l'étape est supprimée par la suite.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Entity
+@Table(name = "archived_opening_applicants")
+public class ArchivedOpeningApplicant {
+
+    @Id
+    @Column(name = "applicant_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "job_opening_id", nullable = false)
+    private UUID jobOpeningId;
+
+    @Column(name = "stage_id")
+    private UUID stageId;
+
+    @Column(name = "stage_name", length = 100)
+    private String stageName;
+
+    @Column(name = "source_id")
+    private UUID sourceId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "phone", length = 50)
+    private String phone;
+
+    @Column(name = "cv_storage_path", columnDefinition = "TEXT")
+    private String cvStoragePath;
+
+    @Column(name = "cover_letter_storage_path", columnDefinition = "TEXT")
+    private String coverLetterStoragePath;
+
+    @Column(name = "application_date")
+    private LocalDate applicationDate;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
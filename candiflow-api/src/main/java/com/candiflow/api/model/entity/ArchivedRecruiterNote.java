@@ -0,0 +1,39 @@
+package com.candiflow.api.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Note de recruteur d'un candidat archivé
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Entity
+@Table(name = "archived_recruiter_notes")
+public class ArchivedRecruiterNote {
+
+    @Id
+    @Column(name = "note_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "applicant_id", nullable = false)
+    private UUID applicantId;
+
+    @Column(name = "author_user_id")
+    private UUID authorId;
+
+    @Column(name = "note_text", nullable = false, columnDefinition = "TEXT")
+    private String noteText;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -1,5 +1,6 @@
 package com.candiflow.api.model.entity;
 
+import com.candiflow.api.model.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,7 +17,7 @@ import java.util.UUID;
 public abstract class BaseEntity implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
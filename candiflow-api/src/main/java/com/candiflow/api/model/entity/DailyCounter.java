@@ -0,0 +1,28 @@
+package com.candiflow.api.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Compteur journalier d'un recruteur pour une métrique
+ * Incrémenté par UPSERT à chaque écriture concernée ; les totaux globaux somment les recruteurs d'un jour,
+ * ce qui évite une ligne globale unique disputée par toutes les écritures concurrentes.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+@ToString
+@Entity
+@Table(name = "daily_counters", indexes = {
+        @Index(name = "idx_daily_counters_metric_day", columnList = "metric, counter_date")
+})
+public class DailyCounter {
+
+    @EmbeddedId
+    private DailyCounterId id;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+}
@@ -0,0 +1,31 @@
+package com.candiflow.api.model.entity;
+
+import com.candiflow.api.model.enums.CounterMetric;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class DailyCounterId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 30)
+    private CounterMetric metric;
+
+    @Column(name = "recruiter_user_id", nullable = false)
+    private UUID recruiterId;
+
+    @Column(name = "counter_date", nullable = false)
+    private LocalDate day;
+}
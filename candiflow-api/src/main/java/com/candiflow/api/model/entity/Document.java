@@ -2,6 +2,7 @@ package com.candiflow.api.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 
@@ -11,7 +12,9 @@ import java.time.Instant;
 @AllArgsConstructor
 @ToString(exclude = {"application"})
 @Entity
-@Table(name = "documents")
+@Table(name = "documents", indexes = {
+        @Index(name = "idx_documents_application_change_seq", columnList = "application_id, change_seq")
+})
 @AttributeOverride(name = "id", column = @Column(name = "document_id"))
 public class Document extends BaseEntity {
 
@@ -33,4 +36,9 @@ public class Document extends BaseEntity {
 
     @Column(name = "uploaded_at", nullable = false, updatable = false)
     private Instant uploadedAt = Instant.now();
+
+    // Numéro du dernier changement, pris dans la séquence de l'utilisateur (synchronisation différentielle)
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
 }
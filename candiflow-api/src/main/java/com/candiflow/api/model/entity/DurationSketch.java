@@ -0,0 +1,37 @@
+package com.candiflow.api.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Esquisse de quantiles d'une durée pour une offre et une étape (voir QuantileSketch)
+ * Une ligne par offre limite la contention : seules les écritures d'une même offre se disputent la ligne.
+ * Les vues par recruteur et globales fusionnent les lignes à la lecture.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+@ToString(exclude = "payload")
+@Entity
+@Table(name = "duration_sketches", indexes = {
+        @Index(name = "idx_duration_sketches_recruiter", columnList = "recruiter_user_id, metric")
+})
+public class DurationSketch {
+
+    @EmbeddedId
+    private DurationSketchId id;
+
+    @Column(name = "recruiter_user_id", nullable = false)
+    private UUID recruiterId;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount;
+
+    // Histogramme compressé
+    @Column(name = "payload", nullable = false, length = 1_000_000)
+    private byte[] payload;
+}
@@ -0,0 +1,30 @@
+package com.candiflow.api.model.entity;
+
+import com.candiflow.api.model.enums.DurationMetric;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class DurationSketchId implements Serializable {
+
+    @Column(name = "job_opening_id", nullable = false)
+    private UUID jobOpeningId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 30)
+    private DurationMetric metric;
+
+    @Column(name = "stage_id", nullable = false)
+    private UUID stageId;
+}
@@ -12,7 +12,10 @@ import java.util.*;
 @AllArgsConstructor
 @ToString(exclude = {"recruiter", "openingApplicants"})
 @Entity
-@Table(name = "job_openings")
+@Table(name = "job_openings", indexes = {
+        @Index(name = "idx_job_openings_recruiter_created_at", columnList = "recruiter_user_id, created_at DESC"),
+        @Index(name = "idx_job_openings_status", columnList = "status")
+})
 @AttributeOverride(name = "id", column = @Column(name = "job_opening_id"))
 public class JobOpening extends BaseEntity {
 
@@ -30,6 +33,11 @@ public class JobOpening extends BaseEntity {
     @Column(name = "status", nullable = false)
     private JobStatus status = JobStatus.OPEN;
 
+    // Version pour le verrouillage optimiste, incrémentée à chaque mise à jour
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "jobOpening", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<OpeningApplicant> openingApplicants = new LinkedHashSet<>();
 }
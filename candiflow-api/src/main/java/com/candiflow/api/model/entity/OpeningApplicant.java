@@ -3,6 +3,7 @@ package com.candiflow.api.model.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -13,7 +14,15 @@ import java.util.Set;
 @AllArgsConstructor
 @ToString(exclude = {"jobOpening", "currentStage", "source", "recruiterNotes", "tags"})
 @Entity
-@Table(name = "opening_applicants")
+@Table(name = "opening_applicants", indexes = {
+        @Index(name = "idx_opening_applicants_board", columnList = "job_opening_id, current_stage_id, updated_at DESC, applicant_id DESC"),
+        @Index(name = "idx_opening_applicants_rank", columnList = "job_opening_id, current_stage_id, rank_key"),
+        @Index(name = "idx_opening_applicants_job_opening_email", columnList = "job_opening_id, email"),
+        @Index(name = "idx_opening_applicants_current_stage_id", columnList = "current_stage_id"),
+        @Index(name = "idx_opening_applicants_source_id", columnList = "source_id"),
+        @Index(name = "idx_opening_applicants_email", columnList = "email"),
+        @Index(name = "idx_opening_applicants_updated_at", columnList = "updated_at")
+})
 @AttributeOverride(name = "id", column = @Column(name = "applicant_id"))
 public class OpeningApplicant extends BaseEntity {
 
@@ -47,6 +56,20 @@ public class OpeningApplicant extends BaseEntity {
     @Column(name = "application_date")
     private LocalDate applicationDate;
 
+    // Entrée dans l'étape courante, pour mesurer le temps passé dans l'étape lorsqu'il la quitte
+    @Column(name = "stage_entered_at")
+    private Instant stageEnteredAt;
+
+    // Version pour le verrouillage optimiste, incrémentée à chaque mise à jour
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Clé de rang fractionnaire dans la colonne (offre, étape), comparée octet par octet (voir RankKeys)
+    // Modifiée par requête ciblée : réordonner une colonne ne change ni la version ni la date de mise à jour
+    @Column(name = "rank_key", nullable = false, length = 128)
+    private String rankKey;
+
     // --- Relations ---
 
     @OneToMany(mappedBy = "applicant", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
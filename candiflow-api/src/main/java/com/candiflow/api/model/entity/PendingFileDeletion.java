@@ -0,0 +1,35 @@
+package com.candiflow.api.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Fichiers d'un candidat supprimé, en attente de suppression sur le disque
+ * La ligne est écrite dans la transaction qui supprime le candidat, puis retirée une fois les fichiers effacés :
+ * un arrêt entre les deux ne laisse pas de fichier orphelin.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Entity
+@Table(name = "pending_file_deletions")
+public class PendingFileDeletion {
+
+    @Id
+    @Column(name = "applicant_id", updatable = false, nullable = false)
+    private UUID applicantId;
+
+    @Column(name = "cv_storage_path", columnDefinition = "TEXT")
+    private String cvStoragePath;
+
+    @Column(name = "cover_letter_storage_path", columnDefinition = "TEXT")
+    private String coverLetterStoragePath;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -1,5 +1,6 @@
 package com.candiflow.api.model.entity;
 
+import com.candiflow.api.model.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -13,11 +14,15 @@ import java.util.UUID;
 @AllArgsConstructor
 @ToString(exclude = {"applicant", "author"})
 @Entity
-@Table(name = "recruiter_notes")
+@Table(name = "recruiter_notes", indexes = {
+        @Index(name = "idx_recruiter_notes_applicant_created_at", columnList = "applicant_id, created_at DESC"),
+        @Index(name = "idx_recruiter_notes_author_user_id", columnList = "author_user_id"),
+        @Index(name = "idx_recruiter_notes_created_at", columnList = "created_at")
+})
 public class RecruiterNote {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "note_id", updatable = false, nullable = false)
     private UUID id;
 
@@ -0,0 +1,56 @@
+package com.candiflow.api.model.entity;
+
+import com.candiflow.api.model.enums.PurgePhase;
+import com.candiflow.api.model.enums.PurgeRunStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Exécution de la purge de rétention des données personnelles des candidats
+ * La date limite est fixée au démarrage : une purge interrompue reprend avec la même date et la même étape.
+ * Les compteurs sont mis à jour dans la transaction de chaque lot.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Entity
+@Table(name = "retention_purge_runs")
+@AttributeOverride(name = "id", column = @Column(name = "run_id"))
+public class RetentionPurgeRun extends BaseEntity {
+
+    @Column(name = "cutoff", nullable = false)
+    private Instant cutoff;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PurgeRunStatus status = PurgeRunStatus.RUNNING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "phase", nullable = false, length = 20)
+    private PurgePhase phase = PurgePhase.LIVE;
+
+    @Column(name = "chunks", nullable = false)
+    private long chunks;
+
+    @Column(name = "applicants_deleted", nullable = false)
+    private long applicantsDeleted;
+
+    @Column(name = "notes_deleted", nullable = false)
+    private long notesDeleted;
+
+    @Column(name = "tags_deleted", nullable = false)
+    private long tagsDeleted;
+
+    @Column(name = "files_deleted", nullable = false)
+    private long filesDeleted;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+}
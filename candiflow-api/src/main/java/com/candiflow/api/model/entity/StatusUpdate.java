@@ -2,6 +2,7 @@ package com.candiflow.api.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 
@@ -11,7 +12,12 @@ import java.time.Instant;
 @AllArgsConstructor
 @ToString(exclude = {"application"})
 @Entity
-@Table(name = "status_updates")
+@Table(name = "status_updates", indexes = {
+        @Index(name = "idx_status_updates_application_event_date", columnList = "application_id, event_date DESC"),
+        @Index(name = "idx_status_updates_status_id", columnList = "status_id"),
+        @Index(name = "idx_status_updates_event_date", columnList = "event_date"),
+        @Index(name = "idx_status_updates_application_change_seq", columnList = "application_id, change_seq")
+})
 @AttributeOverride(name = "id", column = @Column(name = "status_update_id"))
 public class StatusUpdate extends BaseEntity {
 
@@ -28,4 +34,9 @@ public class StatusUpdate extends BaseEntity {
 
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
+
+    // Numéro du dernier changement, pris dans la séquence de l'utilisateur (synchronisation différentielle)
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
 }
@@ -0,0 +1,29 @@
+package com.candiflow.api.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Dernier numéro de changement attribué aux données d'un utilisateur (synchronisation différentielle)
+ * Incrémenté par UPSERT dans la transaction de chaque écriture : la ligne reste verrouillée jusqu'à la validation,
+ * ce qui ordonne les numéros d'un utilisateur comme ses transactions validées.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "userId")
+@ToString
+@Entity
+@Table(name = "sync_sequences")
+public class SyncSequence {
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private UUID userId;
+
+    @Column(name = "last_value", nullable = false)
+    private long lastValue;
+}
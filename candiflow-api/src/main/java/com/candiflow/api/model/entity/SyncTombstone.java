@@ -0,0 +1,44 @@
+package com.candiflow.api.model.entity;
+
+import com.candiflow.api.model.enums.SyncEntityType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Pierre tombale d'une candidature, d'une mise à jour de statut ou d'un document supprimé
+ * Écrite dans la transaction de la suppression, elle signale la suppression aux clients synchronisés avant elle,
+ * puis est purgée une fois leur jeton de synchronisation expiré.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "entityId")
+@ToString
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+        @Index(name = "idx_sync_tombstones_user_change_seq", columnList = "user_id, change_seq"),
+        @Index(name = "idx_sync_tombstones_deleted_at", columnList = "deleted_at")
+})
+public class SyncTombstone {
+
+    @Id
+    @Column(name = "entity_id", updatable = false, nullable = false)
+    private UUID entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+}
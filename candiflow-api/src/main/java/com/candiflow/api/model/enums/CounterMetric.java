@@ -0,0 +1,11 @@
+package com.candiflow.api.model.enums;
+
+/**
+ * Énumération des compteurs journaliers (table daily_counters)
+ */
+public enum CounterMetric {
+    APPLICATIONS_RECEIVED,  // Candidatures reçues, à leur date de candidature
+    JOB_OPENINGS_CREATED,   // Offres d'emploi créées
+    HIRES,                  // Candidats passés à l'étape HIRED
+    REJECTIONS              // Candidats passés à l'étape REJECTED
+}
@@ -0,0 +1,9 @@
+package com.candiflow.api.model.enums;
+
+/**
+ * Énumération des durées suivies par esquisses de quantiles (table duration_sketches)
+ */
+public enum DurationMetric {
+    TIME_TO_HIRE,   // De la candidature au passage à l'étape HIRED, rattaché à l'étape atteinte
+    TIME_IN_STAGE   // Temps passé dans une étape, rattaché à l'étape quittée
+}
@@ -0,0 +1,14 @@
+package com.candiflow.api.model.enums;
+
+/**
+ * Énumération des mises à jour poussées aux clients abonnés au flux temps réel (nom de l'événement SSE)
+ */
+public enum LiveUpdateType {
+    APPLICANT_CREATED,   // Candidat ajouté à une offre
+    APPLICANT_UPDATED,   // Informations d'un candidat modifiées
+    APPLICANT_MOVED,     // Candidat passé d'une étape à une autre
+    APPLICANT_DELETED,   // Candidat supprimé
+    APPLICANTS_CHANGED,  // Lot de candidats modifié (import, déplacement groupé, archivage, suppression de l'offre) : liste à recharger
+    COUNTERS_CHANGED,    // Variation des effectifs d'une offre, au total et par étape
+    RESET                // Reprise impossible depuis le dernier événement reçu : état complet à recharger
+}
@@ -0,0 +1,10 @@
+package com.candiflow.api.model.enums;
+
+/**
+ * Énumération des étapes d'une purge de rétention
+ */
+public enum PurgePhase {
+    LIVE,      // Candidats des tables vivantes
+    ARCHIVE,   // Candidats des tables d'archive
+    DONE       // Plus rien à purger
+}
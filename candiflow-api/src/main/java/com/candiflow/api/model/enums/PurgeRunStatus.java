@@ -0,0 +1,9 @@
+package com.candiflow.api.model.enums;
+
+/**
+ * Énumération des statuts d'une purge de rétention
+ */
+public enum PurgeRunStatus {
+    RUNNING,    // Purge en cours, interrompue ou en erreur, à reprendre
+    COMPLETED   // Purge terminée
+}
@@ -0,0 +1,20 @@
+package com.candiflow.api.model.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Énumération des dimensions du cube des candidats
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupDimension {
+    RECRUITER("recruiterId"),
+    JOB_OPENING("jobOpeningId"),
+    SOURCE("sourceId"),
+    STAGE("stageId"),
+    WEEK("weekStart");
+
+    // Attribut de ApplicantRollup correspondant
+    private final String attribute;
+}
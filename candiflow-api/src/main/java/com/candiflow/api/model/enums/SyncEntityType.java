@@ -0,0 +1,10 @@
+package com.candiflow.api.model.enums;
+
+/**
+ * Énumération des entités transmises par la synchronisation différentielle (table sync_tombstones)
+ */
+public enum SyncEntityType {
+    APPLICATION,
+    STATUS_UPDATE,
+    DOCUMENT
+}
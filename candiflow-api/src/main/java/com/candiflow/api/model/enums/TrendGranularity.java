@@ -0,0 +1,10 @@
+package com.candiflow.api.model.enums;
+
+/**
+ * Énumération des pas d'agrégation des séries temporelles
+ */
+public enum TrendGranularity {
+    DAY,    // Un point par jour
+    WEEK,   // Un point par semaine ISO, daté du lundi
+    MONTH   // Un point par mois, daté du premier jour
+}
@@ -0,0 +1,21 @@
+package com.candiflow.api.model.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Génère l'identifiant sous forme d'UUID version 7 (RFC 9562)
+ * Ces identifiants sont ordonnés dans le temps : les insertions successives se placent
+ * en fin d'index B-tree au lieu de pages aléatoires, contrairement aux UUID version 4.
+ */
+@Documented
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,70 @@
+package com.candiflow.api.model.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Générateur Hibernate d'UUID version 7
+ * Structure : 48 bits d'horodatage Unix en millisecondes, 12 bits de compteur, 62 bits aléatoires.
+ * Le compteur garantit un ordre strictement croissant des identifiants générés par l'instance,
+ * y compris au sein d'une même milliseconde ou en cas de recul de l'horloge système.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 7L << COUNTER_BITS;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    /**
+     * Dernier couple (horodatage, compteur) émis, encodé sur 60 bits
+     */
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    /**
+     * Génère un nouvel UUID version 7
+     * @return UUID ordonné dans le temps
+     */
+    public static UUID generate() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long state = LAST_STATE.updateAndGet(last -> Math.max(last + 1, now));
+
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & COUNTER_MASK;
+        long mostSignificantBits = (timestamp << 16) | VERSION | counter;
+        long leastSignificantBits = VARIANT | (RANDOM.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Extrait l'horodatage d'un UUID version 7
+     * @param uuid UUID version 7
+     * @return Horodatage Unix en millisecondes
+     */
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUID de version 7 attendu: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,50 @@
+package com.candiflow.api.observer;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Exécution d'une action à la validation de la transaction courante
+ * Spring ne déclenche plus les synchronisations enregistrées pendant la phase afterCommit : les observateurs
+ * notifiés par {@link EventManager#fireEventAfterCommit(Event)}, qui s'exécutent dans cette phase,
+ * doivent donc agir immédiatement plutôt que de différer à nouveau leur action.
+ */
+public final class AfterCommit {
+
+    // Vrai pendant la notification des événements déclenchés après validation
+    private static final ThreadLocal<Boolean> COMMITTED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Exécute une action une fois la transaction courante validée
+     * L'action est abandonnée si la transaction est annulée ; sans transaction, ou si la transaction
+     * vient d'être validée, elle est exécutée immédiatement.
+     * @param action Action à exécuter
+     */
+    public static void run(Runnable action) {
+        if (COMMITTED.get() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Exécute une notification dans la phase afterCommit d'une transaction
+     */
+    static void notifyCommitted(Runnable notification) {
+        COMMITTED.set(Boolean.TRUE);
+        try {
+            notification.run();
+        } finally {
+            COMMITTED.remove();
+        }
+    }
+}
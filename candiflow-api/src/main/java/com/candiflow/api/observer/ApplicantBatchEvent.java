@@ -0,0 +1,47 @@
+package com.candiflow.api.observer;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Événement portant sur un lot de candidats (import, opérations en masse)
+ * Un seul événement est émis par lot au lieu d'un événement par candidat.
+ */
+@Getter
+public class ApplicantBatchEvent extends BaseEvent {
+
+    private final List<ApplicantSnapshot> applicants;
+
+    /**
+     * Constructeur
+     * @param type Type d'événement
+     * @param source Source de l'événement
+     * @param applicants Candidats concernés
+     */
+    public ApplicantBatchEvent(EventType type, String source, List<ApplicantSnapshot> applicants) {
+        super(type, source);
+        this.applicants = List.copyOf(applicants);
+    }
+
+    /**
+     * Crée un événement d'import de candidats
+     * @param source Source de l'événement
+     * @param applicants Candidats importés
+     * @return Événement d'import
+     */
+    public static ApplicantBatchEvent imported(String source, List<ApplicantSnapshot> applicants) {
+        return new ApplicantBatchEvent(EventType.APPLICANTS_IMPORTED, source, applicants);
+    }
+
+    /**
+     * Crée un événement de changement d'étape groupé
+     * Chaque instantané porte la nouvelle étape et l'étape précédente du candidat.
+     * @param source Source de l'événement
+     * @param applicants Candidats déplacés
+     * @return Événement de changement d'étape
+     */
+    public static ApplicantBatchEvent stageChanged(String source, List<ApplicantSnapshot> applicants) {
+        return new ApplicantBatchEvent(EventType.STAGE_CHANGED, source, applicants);
+    }
+}
@@ -4,6 +4,8 @@ import com.candiflow.api.model.entity.OpeningApplicant;
 import com.candiflow.api.model.entity.PipelineStage;
 import lombok.Getter;
 
+import java.time.Instant;
+
 /**
  * Événement lié aux candidats
  * Implémente le pattern Observer
@@ -13,6 +15,9 @@ public class ApplicantEvent extends BaseEvent {
     
     private final OpeningApplicant applicant;
     private final PipelineStage previousStage;
+    private final Instant previousStageEnteredAt;
+    // Instantané du candidat supprimé, capturé avant la suppression (événements de suppression uniquement)
+    private final ApplicantSnapshot snapshot;
     
     /**
      * Constructeur
@@ -22,9 +27,29 @@ public class ApplicantEvent extends BaseEvent {
      * @param previousStage Étape précédente (pour les changements d'étape)
      */
     public ApplicantEvent(EventType type, String source, OpeningApplicant applicant, PipelineStage previousStage) {
+        this(type, source, applicant, previousStage, null);
+    }
+    
+    /**
+     * Constructeur
+     * @param type Type d'événement
+     * @param source Source de l'événement
+     * @param applicant Candidat concerné
+     * @param previousStage Étape précédente (pour les changements d'étape)
+     * @param previousStageEnteredAt Entrée dans l'étape précédente (pour les changements d'étape)
+     */
+    public ApplicantEvent(EventType type, String source, OpeningApplicant applicant, PipelineStage previousStage,
+                          Instant previousStageEnteredAt) {
+        this(type, source, applicant, previousStage, previousStageEnteredAt, null);
+    }
+    
+    private ApplicantEvent(EventType type, String source, OpeningApplicant applicant, PipelineStage previousStage,
+                           Instant previousStageEnteredAt, ApplicantSnapshot snapshot) {
         super(type, source);
         this.applicant = applicant;
         this.previousStage = previousStage;
+        this.previousStageEnteredAt = previousStageEnteredAt;
+        this.snapshot = snapshot;
     }
     
     /**
@@ -49,12 +74,15 @@ public class ApplicantEvent extends BaseEvent {
     
     /**
      * Crée un événement de suppression de candidat
+     * L'événement est traité après la validation, une fois la ligne supprimée : il porte un instantané
+     * du candidat (identifiants, offre, étape), à créer avant la suppression.
      * @param source Source de l'événement
      * @param applicant Candidat supprimé
      * @return Événement de suppression de candidat
      */
     public static ApplicantEvent deleted(String source, OpeningApplicant applicant) {
-        return new ApplicantEvent(EventType.APPLICANT_DELETED, source, applicant, null);
+        return new ApplicantEvent(EventType.APPLICANT_DELETED, source, applicant, null, null,
+                ApplicantSnapshot.of(applicant, null));
     }
     
     /**
@@ -65,6 +93,19 @@ public class ApplicantEvent extends BaseEvent {
      * @return Événement de changement d'étape
      */
     public static ApplicantEvent stageChanged(String source, OpeningApplicant applicant, PipelineStage previousStage) {
-        return new ApplicantEvent(EventType.STAGE_CHANGED, source, applicant, previousStage);
+        return stageChanged(source, applicant, previousStage, null);
+    }
+    
+    /**
+     * Crée un événement de changement d'étape
+     * @param source Source de l'événement
+     * @param applicant Candidat concerné
+     * @param previousStage Étape précédente
+     * @param previousStageEnteredAt Entrée dans l'étape précédente (inconnue si null)
+     * @return Événement de changement d'étape
+     */
+    public static ApplicantEvent stageChanged(String source, OpeningApplicant applicant, PipelineStage previousStage,
+                                              Instant previousStageEnteredAt) {
+        return new ApplicantEvent(EventType.STAGE_CHANGED, source, applicant, previousStage, previousStageEnteredAt);
     }
 }
@@ -0,0 +1,48 @@
+package com.candiflow.api.observer;
+
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Instantané d'un candidat transporté par les événements de lot
+ * Contrairement à l'entité, il reste exploitable une fois la session Hibernate fermée ou vidée.
+ *
+ * @param id ID du candidat
+ * @param name Nom du candidat
+ * @param email Email du candidat
+ * @param jobOpeningId ID de l'offre d'emploi
+ * @param stageId ID de l'étape courante
+ * @param stageName Nom de l'étape courante
+ * @param previousStageId ID de l'étape précédente (changements d'étape), sinon null
+ * @param sourceId ID de la source du candidat
+ * @param applicationDate Date de candidature
+ * @param previousStageEnteredAt Entrée dans l'étape précédente (changements d'étape), sinon null
+ */
+public record ApplicantSnapshot(UUID id, String name, String email, UUID jobOpeningId, UUID stageId, String stageName,
+                                UUID previousStageId, UUID sourceId, LocalDate applicationDate,
+                                Instant previousStageEnteredAt) {
+
+    /**
+     * Crée l'instantané d'un candidat
+     * @param applicant Candidat
+     * @param previousStage Étape précédente (optionnelle)
+     * @return Instantané du candidat
+     */
+    public static ApplicantSnapshot of(OpeningApplicant applicant, PipelineStage previousStage) {
+        return new ApplicantSnapshot(
+                applicant.getId(),
+                applicant.getName(),
+                applicant.getEmail(),
+                applicant.getJobOpening().getId(),
+                applicant.getCurrentStage() != null ? applicant.getCurrentStage().getId() : null,
+                applicant.getCurrentStage() != null ? applicant.getCurrentStage().getName() : null,
+                previousStage != null ? previousStage.getId() : null,
+                applicant.getSource() != null ? applicant.getSource().getId() : null,
+                applicant.getApplicationDate(),
+                null);
+    }
+}
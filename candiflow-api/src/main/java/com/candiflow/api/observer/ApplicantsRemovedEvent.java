@@ -0,0 +1,29 @@
+package com.candiflow.api.observer;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Événement de retrait d'un lot de candidats des tables vivantes (archivage, purge de rétention)
+ * Seuls les identifiants sont transportés : les candidats n'existent déjà plus quand l'événement est traité.
+ */
+@Getter
+public class ApplicantsRemovedEvent extends BaseEvent {
+
+    private final List<UUID> applicantIds;
+    private final List<UUID> jobOpeningIds;
+
+    /**
+     * Constructeur
+     * @param source Source de l'événement
+     * @param applicantIds IDs des candidats retirés
+     * @param jobOpeningIds IDs des offres des candidats retirés
+     */
+    public ApplicantsRemovedEvent(String source, List<UUID> applicantIds, List<UUID> jobOpeningIds) {
+        super(EventType.APPLICANTS_REMOVED, source);
+        this.applicantIds = List.copyOf(applicantIds);
+        this.jobOpeningIds = List.copyOf(jobOpeningIds);
+    }
+}
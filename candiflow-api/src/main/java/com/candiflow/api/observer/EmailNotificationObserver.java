@@ -52,7 +52,11 @@ public class EmailNotificationObserver implements EventObserver {
                 notifyApplicantCreated((ApplicantEvent) event);
                 break;
             case STAGE_CHANGED:
-                notifyStageChanged((ApplicantEvent) event);
+                if (event instanceof ApplicantBatchEvent batchEvent) {
+                    notifyStagesChanged(batchEvent);
+                } else {
+                    notifyStageChanged((ApplicantEvent) event);
+                }
                 break;
             default:
                 log.debug("Événement non géré pour les notifications email: {}", event.getType());
@@ -110,6 +114,19 @@ public class EmailNotificationObserver implements EventObserver {
         }
     }
     
+    private void notifyStagesChanged(ApplicantBatchEvent event) {
+        // Un seul récapitulatif pour le lot, plutôt qu'un email par candidat
+        log.info("Simulation d'envoi d'email récapitulatif: {} candidat(s) changé(s) d'étape",
+                event.getApplicants().size());
+        
+        for (ApplicantSnapshot applicant : event.getApplicants()) {
+            if ("HIRED".equals(applicant.stageName()) && applicant.email() != null) {
+                log.info("Simulation d'envoi d'email à {}: Félicitations pour votre embauche chez nous!",
+                        applicant.email());
+            }
+        }
+    }
+    
     /**
      * Méthode pour envoyer un email (simulée)
      * @param to Destinataire
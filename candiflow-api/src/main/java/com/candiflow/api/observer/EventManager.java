@@ -2,6 +2,8 @@ package com.candiflow.api.observer;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -63,4 +65,22 @@ public class EventManager {
             }
         }
     }
+    
+    /**
+     * Déclenche un événement une fois la transaction courante validée
+     * L'événement n'est pas déclenché si la transaction est annulée ; sans transaction, il l'est immédiatement.
+     * @param event Événement à déclencher
+     */
+    public void fireEventAfterCommit(Event event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            fireEvent(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                AfterCommit.notifyCommitted(() -> fireEvent(event));
+            }
+        });
+    }
 }
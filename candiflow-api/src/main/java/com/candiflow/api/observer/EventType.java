@@ -13,6 +13,8 @@ public enum EventType {
     APPLICANT_CREATED,
     APPLICANT_UPDATED,
     APPLICANT_DELETED,
+    APPLICANTS_IMPORTED,
+    APPLICANTS_REMOVED,
     
     // Événements liés aux étapes du pipeline
     STAGE_CHANGED,
@@ -3,6 +3,8 @@ package com.candiflow.api.observer;
 import com.candiflow.api.model.entity.JobOpening;
 import lombok.Getter;
 
+import java.util.UUID;
+
 /**
  * Événement lié aux offres d'emploi
  * Implémente le pattern Observer
@@ -11,6 +13,8 @@ import lombok.Getter;
 public class JobOpeningEvent extends BaseEvent {
     
     private final JobOpening jobOpening;
+    // ID de l'offre, capturé à la création de l'événement (exploitable après la suppression de l'offre)
+    private final UUID jobOpeningId;
     
     /**
      * Constructeur
@@ -21,6 +25,7 @@ public class JobOpeningEvent extends BaseEvent {
     public JobOpeningEvent(EventType type, String source, JobOpening jobOpening) {
         super(type, source);
         this.jobOpening = jobOpening;
+        this.jobOpeningId = jobOpening.getId();
     }
     
     /**
@@ -32,6 +32,7 @@ public class LoggingEventObserver implements EventObserver {
                 EventType.APPLICANT_CREATED,
                 EventType.APPLICANT_UPDATED,
                 EventType.APPLICANT_DELETED,
+                EventType.APPLICANTS_IMPORTED,
                 EventType.STAGE_CHANGED,
                 EventType.SYSTEM_ERROR,
                 EventType.SYSTEM_WARNING
@@ -67,8 +68,15 @@ public class LoggingEventObserver implements EventObserver {
             case APPLICANT_DELETED:
                 logApplicantDeleted((ApplicantEvent) event);
                 break;
+            case APPLICANTS_IMPORTED:
+                logApplicantsImported((ApplicantBatchEvent) event);
+                break;
             case STAGE_CHANGED:
-                logStageChanged((ApplicantEvent) event);
+                if (event instanceof ApplicantBatchEvent batchEvent) {
+                    logStagesChanged(batchEvent);
+                } else {
+                    logStageChanged((ApplicantEvent) event);
+                }
                 break;
             case SYSTEM_ERROR:
                 logSystemError(event);
@@ -101,7 +109,7 @@ public class LoggingEventObserver implements EventObserver {
     private void logJobOpeningDeleted(JobOpeningEvent event) {
         log.info("Offre d'emploi supprimée: {} (ID: {})", 
                 event.getJobOpening().getTitle(), 
-                event.getJobOpening().getId());
+                event.getJobOpeningId());
     }
     
     private void logApplicantCreated(ApplicantEvent event) {
@@ -120,8 +128,14 @@ public class LoggingEventObserver implements EventObserver {
     
     private void logApplicantDeleted(ApplicantEvent event) {
         log.info("Candidat supprimé: {} (ID: {})", 
-                event.getApplicant().getName(), 
-                event.getApplicant().getId());
+                event.getSnapshot().name(), 
+                event.getSnapshot().id());
+    }
+    
+    private void logApplicantsImported(ApplicantBatchEvent event) {
+        log.info("Lot de {} candidat(s) importé(s) (source: {})",
+                event.getApplicants().size(),
+                event.getSource());
     }
     
     private void logStageChanged(ApplicantEvent event) {
@@ -132,6 +146,12 @@ public class LoggingEventObserver implements EventObserver {
                 event.getApplicant().getCurrentStage().getName());
     }
     
+    private void logStagesChanged(ApplicantBatchEvent event) {
+        log.info("Étape changée pour {} candidat(s) (source: {})",
+                event.getApplicants().size(),
+                event.getSource());
+    }
+    
     private void logSystemError(Event event) {
         log.error("Erreur système: {}", event.getSource());
     }
@@ -0,0 +1,97 @@
+package com.candiflow.api.partition;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * Maintenance des tables partitionnées par mois (voir la migration V10)
+ * Crée à l'avance les partitions des prochains mois et supprime les partitions sorties de la durée de conservation.
+ * Supprimer une partition est une opération de catalogue : aucune ligne n'est parcourue.
+ * Chaque table est traitée dans sa propre transaction ; sans PostgreSQL, la maintenance ne fait rien.
+ */
+@Component
+@Slf4j
+public class PartitionMaintenance {
+
+    private final EntityManager entityManager;
+    private final PartitionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private Boolean supported;
+
+    public PartitionMaintenance(EntityManager entityManager, PartitionProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Crée les partitions à venir et supprime les partitions expirées de chaque table configurée
+     */
+    @Scheduled(fixedDelayString = "${candiflow.partitioning.interval:PT6H}")
+    public void maintainPartitions() {
+        if (!properties.isEnabled() || !isSupported()) {
+            return;
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        for (Map.Entry<String, PartitionProperties.Table> entry : properties.getTables().entrySet()) {
+            try {
+                maintain(entry.getKey(), entry.getValue(), today);
+            } catch (RuntimeException e) {
+                log.warn("Échec de la maintenance des partitions de la table {}", entry.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * Maintient les partitions d'une table
+     * @param table Nom de la table partitionnée
+     * @param config Configuration de la table
+     * @param today Date du jour (UTC)
+     */
+    public void maintain(String table, PartitionProperties.Table config, LocalDate today) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Number created = (Number) entityManager
+                    .createNativeQuery("SELECT create_monthly_partitions(:parent, :column, :fromMonth, :toMonth)")
+                    .setParameter("parent", table)
+                    .setParameter("column", config.getColumn())
+                    .setParameter("fromMonth", today.withDayOfMonth(1))
+                    .setParameter("toMonth", today.plusMonths(properties.getMonthsAhead()))
+                    .getSingleResult();
+
+            int dropped = 0;
+            if (config.getRetainMonths() > 0) {
+                dropped = ((Number) entityManager
+                        .createNativeQuery("SELECT drop_monthly_partitions_before(:parent, :beforeDate)")
+                        .setParameter("parent", table)
+                        .setParameter("beforeDate", today.withDayOfMonth(1).minusMonths(config.getRetainMonths()))
+                        .getSingleResult()).intValue();
+            }
+
+            if (created.intValue() > 0 || dropped > 0) {
+                log.info("Partitions de la table {} : {} créée(s), {} supprimée(s)", table, created, dropped);
+            }
+        });
+    }
+
+    private boolean isSupported() {
+        if (supported == null) {
+            supported = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+            if (!supported) {
+                log.info("Maintenance des partitions désactivée : base de données autre que PostgreSQL");
+            }
+        }
+        return supported;
+    }
+}
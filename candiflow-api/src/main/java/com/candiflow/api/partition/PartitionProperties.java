@@ -0,0 +1,60 @@
+package com.candiflow.api.partition;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration de la maintenance des tables partitionnées par mois
+ * Exemple :
+ * <pre>
+ * candiflow.partitioning.tables.status_updates.column=event_date
+ * candiflow.partitioning.tables.status_updates.retain-months=36
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.partitioning")
+public class PartitionProperties {
+
+    /**
+     * Active ou désactive la maintenance des partitions (sans effet hors PostgreSQL)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Nombre de mois futurs pour lesquels une partition doit exister
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Intervalle entre deux passages de la maintenance
+     */
+    private Duration interval = Duration.ofHours(6);
+
+    /**
+     * Tables partitionnées, indexées par nom de table
+     */
+    private Map<String, Table> tables = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Table {
+
+        /**
+         * Colonne de partitionnement
+         */
+        private String column;
+
+        /**
+         * Nombre de mois d'historique conservés ; les partitions plus anciennes sont supprimées (0 : conservation illimitée)
+         */
+        private int retainMonths = 0;
+    }
+}
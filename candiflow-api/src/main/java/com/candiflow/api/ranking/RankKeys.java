@@ -0,0 +1,238 @@
+package com.candiflow.api.ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Clés de rang fractionnaires, comparées octet par octet (ordre lexicographique ASCII)
+ * Une clé se compose d'une partie entière de longueur variable, dont le premier caractère donne la longueur
+ * ('a' : 2 caractères, 'b' : 3... ; 'Z', 'Y'... pour les clés inférieures), suivie d'une partie fractionnaire
+ * en base 62 sans zéro final. Il existe toujours une clé entre deux clés distinctes : déplacer un élément
+ * ne modifie donc que sa propre clé. Les insertions en fin ou en début de liste incrémentent la partie entière
+ * (croissance logarithmique) ; seules les insertions répétées au même endroit allongent la partie fractionnaire.
+ */
+public final class RankKeys {
+
+    static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final char ZERO = DIGITS.charAt(0);
+    private static final char MAX_DIGIT = DIGITS.charAt(DIGITS.length() - 1);
+    private static final String SMALLEST_INTEGER = "A" + String.valueOf(ZERO).repeat(26);
+
+    private RankKeys() {
+    }
+
+    /**
+     * Génère une clé strictement comprise entre deux clés
+     * @param before Clé précédente (null pour le début de la liste)
+     * @param after Clé suivante (null pour la fin de la liste)
+     * @return Nouvelle clé
+     * @throws IllegalArgumentException si une clé est invalide ou si before >= after
+     */
+    public static String between(String before, String after) {
+        if (before != null) {
+            validate(before);
+        }
+        if (after != null) {
+            validate(after);
+        }
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Clés de rang non ordonnées: " + before + " >= " + after);
+        }
+
+        if (before == null) {
+            if (after == null) {
+                return "a" + ZERO;
+            }
+            String integerAfter = integerPart(after);
+            String fractionAfter = after.substring(integerAfter.length());
+            if (integerAfter.equals(SMALLEST_INTEGER)) {
+                return integerAfter + midpoint("", fractionAfter);
+            }
+            if (integerAfter.compareTo(after) < 0) {
+                return integerAfter;
+            }
+            String decremented = decrementInteger(integerAfter);
+            if (decremented == null) {
+                throw new IllegalArgumentException("Impossible de générer une clé avant " + after);
+            }
+            return decremented;
+        }
+
+        String integerBefore = integerPart(before);
+        String fractionBefore = before.substring(integerBefore.length());
+        if (after == null) {
+            String incremented = incrementInteger(integerBefore);
+            return incremented != null ? incremented : integerBefore + midpoint(fractionBefore, null);
+        }
+
+        String integerAfter = integerPart(after);
+        if (integerBefore.equals(integerAfter)) {
+            return integerBefore + midpoint(fractionBefore, after.substring(integerAfter.length()));
+        }
+        String incremented = incrementInteger(integerBefore);
+        if (incremented == null) {
+            throw new IllegalArgumentException("Impossible de générer une clé après " + before);
+        }
+        return incremented.compareTo(after) < 0 ? incremented : integerBefore + midpoint(fractionBefore, null);
+    }
+
+    /**
+     * Génère une clé après la dernière clé d'une liste
+     * @param last Dernière clé (null si la liste est vide)
+     * @return Nouvelle clé
+     */
+    public static String after(String last) {
+        return between(last, null);
+    }
+
+    /**
+     * Génère des clés ordonnées et réparties entre deux clés
+     * @param before Clé précédente (null pour le début de la liste)
+     * @param after Clé suivante (null pour la fin de la liste)
+     * @param count Nombre de clés à générer
+     * @return Clés croissantes
+     */
+    public static List<String> between(String before, String after, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        if (count == 1) {
+            return List.of(between(before, after));
+        }
+        List<String> keys = new ArrayList<>(count);
+        if (after == null) {
+            String key = between(before, null);
+            keys.add(key);
+            for (int i = 1; i < count; i++) {
+                key = between(key, null);
+                keys.add(key);
+            }
+            return keys;
+        }
+        if (before == null) {
+            String key = between(null, after);
+            keys.add(key);
+            for (int i = 1; i < count; i++) {
+                key = between(null, key);
+                keys.add(key);
+            }
+            Collections.reverse(keys);
+            return keys;
+        }
+        int half = count / 2;
+        String middle = between(before, after);
+        keys.addAll(between(before, middle, half));
+        keys.add(middle);
+        keys.addAll(between(middle, after, count - half - 1));
+        return keys;
+    }
+
+    /**
+     * Vérifie qu'une chaîne est une clé de rang valide
+     * @throws IllegalArgumentException si la clé est invalide
+     */
+    public static void validate(String key) {
+        if (key.isEmpty() || key.equals(SMALLEST_INTEGER)) {
+            throw new IllegalArgumentException("Clé de rang invalide: " + key);
+        }
+        String integer = integerPart(key);
+        for (int i = 1; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Clé de rang invalide: " + key);
+            }
+        }
+        if (key.length() > integer.length() && key.charAt(key.length() - 1) == ZERO) {
+            throw new IllegalArgumentException("Clé de rang invalide: " + key);
+        }
+    }
+
+    /**
+     * Milieu de deux parties fractionnaires (after == null : borne supérieure ouverte)
+     */
+    private static String midpoint(String before, String after) {
+        if (after != null) {
+            // Préfixe commun, en complétant before par des zéros
+            int n = 0;
+            while (n < after.length() && (n < before.length() ? before.charAt(n) : ZERO) == after.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return after.substring(0, n) + midpoint(before.length() > n ? before.substring(n) : "", after.substring(n));
+            }
+        }
+        int digitBefore = before.isEmpty() ? 0 : DIGITS.indexOf(before.charAt(0));
+        int digitAfter = after != null ? DIGITS.indexOf(after.charAt(0)) : DIGITS.length();
+        if (digitAfter - digitBefore > 1) {
+            return String.valueOf(DIGITS.charAt(Math.round(0.5f * (digitBefore + digitAfter))));
+        }
+        if (after != null && after.length() > 1) {
+            return after.substring(0, 1);
+        }
+        return DIGITS.charAt(digitBefore) + midpoint(before.isEmpty() ? "" : before.substring(1), null);
+    }
+
+    private static int integerLength(char head) {
+        if (head >= 'a' && head <= 'z') {
+            return head - 'a' + 2;
+        }
+        if (head >= 'A' && head <= 'Z') {
+            return 'Z' - head + 2;
+        }
+        throw new IllegalArgumentException("Tête de clé de rang invalide: " + head);
+    }
+
+    private static String integerPart(String key) {
+        int length = integerLength(key.charAt(0));
+        if (length > key.length()) {
+            throw new IllegalArgumentException("Clé de rang invalide: " + key);
+        }
+        return key.substring(0, length);
+    }
+
+    private static String incrementInteger(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits[i]) + 1;
+            if (digit < DIGITS.length()) {
+                digits[i] = DIGITS.charAt(digit);
+                return head + new String(digits);
+            }
+            digits[i] = ZERO;
+        }
+        // Retenue sur tous les chiffres : on passe à la longueur suivante
+        if (head == 'Z') {
+            return "a" + ZERO;
+        }
+        if (head == 'z') {
+            return null;
+        }
+        char nextHead = (char) (head + 1);
+        String rest = new String(digits);
+        return nextHead > 'a' ? nextHead + rest + ZERO : nextHead + rest.substring(0, rest.length() - 1);
+    }
+
+    private static String decrementInteger(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits[i]) - 1;
+            if (digit >= 0) {
+                digits[i] = DIGITS.charAt(digit);
+                return head + new String(digits);
+            }
+            digits[i] = MAX_DIGIT;
+        }
+        // Emprunt sur tous les chiffres : on passe à la longueur précédente
+        if (head == 'a') {
+            return "Z" + MAX_DIGIT;
+        }
+        if (head == 'A') {
+            return null;
+        }
+        char previousHead = (char) (head - 1);
+        String rest = new String(digits);
+        return previousHead < 'Z' ? previousHead + rest + MAX_DIGIT : previousHead + rest.substring(0, rest.length() - 1);
+    }
+}
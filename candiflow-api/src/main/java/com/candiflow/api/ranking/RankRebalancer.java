@@ -0,0 +1,110 @@
+package com.candiflow.api.ranking;
+
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.projection.RankedApplicantProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renumérotation des clés de rang d'une colonne (offre, étape) du pipeline
+ * Les déplacements répétés au même endroit allongent les clés : lorsqu'une clé dépasse la longueur configurée,
+ * la colonne est inscrite ici puis renumérotée en arrière-plan avec des clés courtes et régulièrement réparties,
+ * dans l'ordre existant.
+ */
+@Component
+@Slf4j
+public class RankRebalancer {
+
+    private final OpeningApplicantRepository openingApplicantRepository;
+    private final RankingProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Column> pendingColumns = ConcurrentHashMap.newKeySet();
+
+    public RankRebalancer(OpeningApplicantRepository openingApplicantRepository, RankingProperties properties,
+                          PlatformTransactionManager transactionManager) {
+        this.openingApplicantRepository = openingApplicantRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Indique si une clé est assez longue pour justifier la renumérotation de sa colonne
+     */
+    public boolean needsRebalance(String rankKey) {
+        return rankKey.length() > properties.getMaxKeyLength();
+    }
+
+    /**
+     * Inscrit une colonne pour une renumérotation en arrière-plan
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param stageId ID de l'étape
+     */
+    public void schedule(UUID jobOpeningId, UUID stageId) {
+        if (pendingColumns.add(new Column(jobOpeningId, stageId))) {
+            log.debug("Renumérotation des rangs planifiée pour l'offre {} et l'étape {}", jobOpeningId, stageId);
+        }
+    }
+
+    /**
+     * Renumérote les colonnes en attente
+     */
+    @Scheduled(fixedDelayString = "${candiflow.ranking.rebalance-interval:PT30S}")
+    public void rebalancePending() {
+        int processed = 0;
+        Iterator<Column> iterator = pendingColumns.iterator();
+        while (iterator.hasNext() && processed < properties.getRebalanceBatchSize()) {
+            Column column = iterator.next();
+            iterator.remove();
+            try {
+                rebalance(column.jobOpeningId(), column.stageId());
+            } catch (RuntimeException e) {
+                log.warn("Échec de la renumérotation des rangs pour l'offre {} et l'étape {}",
+                        column.jobOpeningId(), column.stageId(), e);
+            }
+            processed++;
+        }
+    }
+
+    /**
+     * Renumérote immédiatement une colonne, dans la transaction courante s'il y en a une
+     * Les lignes de la colonne sont verrouillées jusqu'à la fin de la transaction.
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param stageId ID de l'étape
+     * @return Nouvelle clé de chaque candidat de la colonne
+     */
+    public Map<UUID, String> rebalance(UUID jobOpeningId, UUID stageId) {
+        return transactionTemplate.execute(status -> {
+            List<RankedApplicantProjection> ranks = openingApplicantRepository.lockColumnRanks(jobOpeningId, stageId);
+            List<String> keys = RankKeys.between(null, null, ranks.size());
+
+            Map<UUID, String> result = new HashMap<>();
+            int updated = 0;
+            for (int i = 0; i < ranks.size(); i++) {
+                RankedApplicantProjection rank = ranks.get(i);
+                String key = keys.get(i);
+                if (!key.equals(rank.rankKey())) {
+                    openingApplicantRepository.updateRankKey(rank.applicantId(), key);
+                    updated++;
+                }
+                result.put(rank.applicantId(), key);
+            }
+            log.info("Rangs renumérotés pour l'offre {} et l'étape {}: {} candidat(s) sur {}",
+                    jobOpeningId, stageId, updated, ranks.size());
+            return result;
+        });
+    }
+
+    private record Column(UUID jobOpeningId, UUID stageId) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.candiflow.api.ranking;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration du classement manuel des candidats dans les colonnes du pipeline
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.ranking")
+public class RankingProperties {
+
+    /**
+     * Longueur de clé au-delà de laquelle une colonne est renumérotée
+     */
+    private int maxKeyLength = 32;
+
+    /**
+     * Intervalle entre deux recherches de colonnes à renuméroter
+     */
+    private Duration rebalanceInterval = Duration.ofSeconds(30);
+
+    /**
+     * Nombre maximal de colonnes renumérotées par passage
+     */
+    private int rebalanceBatchSize = 50;
+}
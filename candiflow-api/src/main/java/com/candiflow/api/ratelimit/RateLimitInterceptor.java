@@ -0,0 +1,56 @@
+package com.candiflow.api.ratelimit;
+
+import com.candiflow.api.security.ClientKeyResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Intercepteur appliquant la limitation de débit aux endpoints coûteux
+ * Répond 429 avec l'en-tête Retry-After lorsque le seau du client est vide.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimiter rateLimiter;
+    private final ClientKeyResolver clientKeyResolver;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) throws IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Optional<String> group = rateLimiter.findGroup(path);
+        if (group.isEmpty()) {
+            return true;
+        }
+
+        TokenBucket.ConsumptionResult result = rateLimiter.tryConsume(group.get(), clientKeyResolver.resolve(request));
+        if (result.allowed()) {
+            response.setHeader(REMAINING_HEADER, String.valueOf(result.remainingTokens()));
+            return true;
+        }
+
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(result.retryAfterNanos() + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setHeader(REMAINING_HEADER, "0");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"status\":429,\"error\":\"Too Many Requests\","
+                + "\"message\":\"Trop de requêtes, réessayez dans " + retryAfterSeconds + " seconde(s)\"}");
+        return false;
+    }
+}
@@ -0,0 +1,63 @@
+package com.candiflow.api.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration de la limitation de débit par groupe d'endpoints
+ * Exemple :
+ * <pre>
+ * candiflow.rate-limit.groups.export.paths=/api/export/**
+ * candiflow.rate-limit.groups.export.capacity=5
+ * candiflow.rate-limit.groups.export.refill-period=1m
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Active ou désactive la limitation de débit
+     */
+    private boolean enabled = true;
+
+    /**
+     * Intervalle de purge des seaux redevenus pleins (clients inactifs)
+     */
+    private Duration idleEviction = Duration.ofMinutes(10);
+
+    /**
+     * Groupes d'endpoints, indexés par nom de groupe
+     */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        /**
+         * Motifs de chemins (syntaxe Ant) couverts par le groupe
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * Nombre de requêtes autorisées en rafale
+         */
+        private long capacity = 10;
+
+        /**
+         * Durée nécessaire pour regagner la totalité de la capacité
+         */
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+}
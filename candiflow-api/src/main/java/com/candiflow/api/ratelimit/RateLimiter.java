@@ -0,0 +1,122 @@
+package com.candiflow.api.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Limiteur de débit en mémoire, configuré par groupe d'endpoints
+ * Chaque couple (groupe, client) dispose de son propre seau à jetons.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private static final String METRIC_NAME = "candiflow.rate_limit.requests";
+
+    private final RateLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> allowedCounters = new HashMap<>();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * Constructeur avec horloge injectable (tests)
+     * @param properties Configuration de la limitation
+     * @param meterRegistry Registre des métriques
+     * @param nanoClock Source de temps monotone en nanosecondes
+     */
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        for (String group : properties.getGroups().keySet()) {
+            allowedCounters.put(group, Counter.builder(METRIC_NAME)
+                    .description("Requêtes soumises à la limitation de débit")
+                    .tag("group", group)
+                    .tag("outcome", "allowed")
+                    .register(meterRegistry));
+            rejectedCounters.put(group, Counter.builder(METRIC_NAME)
+                    .description("Requêtes soumises à la limitation de débit")
+                    .tag("group", group)
+                    .tag("outcome", "rejected")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("candiflow.rate_limit.buckets", buckets, Map::size)
+                .description("Nombre de seaux actifs en mémoire")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Trouve le groupe de limitation couvrant un chemin
+     * @param path Chemin de la requête
+     * @return Nom du groupe, ou vide si le chemin n'est pas limité
+     */
+    public Optional<String> findGroup(String path) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        for (Map.Entry<String, RateLimitProperties.Group> entry : properties.getGroups().entrySet()) {
+            for (String pattern : entry.getValue().getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return Optional.of(entry.getKey());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Tente de consommer un jeton pour un client dans un groupe
+     * @param group Nom du groupe
+     * @param clientKey Clé du client
+     * @return Résultat de la tentative
+     */
+    public TokenBucket.ConsumptionResult tryConsume(String group, String clientKey) {
+        RateLimitProperties.Group config = properties.getGroups().get(group);
+        if (config == null) {
+            throw new IllegalArgumentException("Groupe de limitation inconnu: " + group);
+        }
+
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.computeIfAbsent(group + "|" + clientKey,
+                key -> new TokenBucket(config.getCapacity(), config.getRefillPeriod().toNanos(), now));
+        TokenBucket.ConsumptionResult result = bucket.tryConsume(now);
+
+        if (result.allowed()) {
+            allowedCounters.get(group).increment();
+        } else {
+            rejectedCounters.get(group).increment();
+            log.debug("Limite de débit atteinte pour {} sur le groupe {}", clientKey, group);
+        }
+        return result;
+    }
+
+    /**
+     * Supprime les seaux redevenus pleins pour borner la mémoire utilisée
+     * Un seau plein est équivalent à un seau absent : la suppression est sans effet pour le client.
+     */
+    @Scheduled(fixedDelayString = "${candiflow.rate-limit.idle-eviction:PT10M}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        log.debug("Seaux de limitation purgés: {}", before - buckets.size());
+    }
+}
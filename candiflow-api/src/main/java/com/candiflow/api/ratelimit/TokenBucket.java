@@ -0,0 +1,87 @@
+package com.candiflow.api.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Seau à jetons (token bucket) sans verrou
+ * L'état (jetons disponibles + horodatage du dernier remplissage) est immuable
+ * et remplacé par compare-and-set, ce qui évite toute contention sur un verrou
+ * lorsque plusieurs requêtes d'un même client arrivent simultanément.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    /**
+     * Constructeur
+     * @param capacity Nombre maximal de jetons (taille de rafale autorisée)
+     * @param refillPeriodNanos Durée nécessaire pour remplir entièrement le seau
+     * @param nowNanos Horodatage initial (System.nanoTime())
+     */
+    public TokenBucket(long capacity, long refillPeriodNanos, long nowNanos) {
+        if (capacity <= 0 || refillPeriodNanos <= 0) {
+            throw new IllegalArgumentException("La capacité et la période de remplissage doivent être positives");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / refillPeriodNanos;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * Tente de consommer un jeton
+     * @param nowNanos Horodatage courant (System.nanoTime())
+     * @return Résultat de la tentative
+     */
+    public ConsumptionResult tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double available = refill(current, nowNanos);
+
+            if (available < 1.0) {
+                long waitNanos = (long) Math.ceil((1.0 - available) / tokensPerNano);
+                return ConsumptionResult.rejected(waitNanos);
+            }
+
+            State next = new State(available - 1.0, Math.max(current.timestampNanos(), nowNanos));
+            if (state.compareAndSet(current, next)) {
+                return ConsumptionResult.allowed((long) next.tokens());
+            }
+        }
+    }
+
+    /**
+     * Indique si le seau est plein, c'est-à-dire si le client n'a rien consommé récemment
+     * @param nowNanos Horodatage courant (System.nanoTime())
+     * @return true si le seau peut être supprimé sans effet pour le client
+     */
+    public boolean isFull(long nowNanos) {
+        return refill(state.get(), nowNanos) >= capacity;
+    }
+
+    private double refill(State current, long nowNanos) {
+        long elapsed = Math.max(0L, nowNanos - current.timestampNanos());
+        return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+    }
+
+    private record State(double tokens, long timestampNanos) {
+    }
+
+    /**
+     * Résultat d'une tentative de consommation
+     * @param allowed true si la requête est autorisée
+     * @param remainingTokens Jetons restants après consommation
+     * @param retryAfterNanos Délai avant qu'un jeton soit disponible (0 si autorisé)
+     */
+    public record ConsumptionResult(boolean allowed, long remainingTokens, long retryAfterNanos) {
+
+        static ConsumptionResult allowed(long remainingTokens) {
+            return new ConsumptionResult(true, remainingTokens, 0L);
+        }
+
+        static ConsumptionResult rejected(long retryAfterNanos) {
+            return new ConsumptionResult(false, 0L, retryAfterNanos);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.ApplicantRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface ApplicantRollupRepository extends JpaRepository<ApplicantRollup, UUID>, ApplicantRollupRepositoryCustom {
+    
+    /**
+     * Supprime en une requête les lignes du cube d'un ensemble d'offres
+     * @return Nombre de lignes supprimées
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ApplicantRollup r WHERE r.jobOpeningId IN :jobOpeningIds")
+    int deleteByJobOpeningIds(@Param("jobOpeningIds") Collection<UUID> jobOpeningIds);
+    
+    /**
+     * Supprime les lignes du cube dont l'offre n'existe plus
+     * @return Nombre de lignes supprimées
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ApplicantRollup r WHERE NOT EXISTS (SELECT j.id FROM JobOpening j WHERE j.id = r.jobOpeningId)")
+    int deleteOrphans();
+}
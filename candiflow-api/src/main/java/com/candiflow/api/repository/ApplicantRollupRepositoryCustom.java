@@ -0,0 +1,24 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.ApplicantRollup;
+import com.candiflow.api.model.enums.RollupDimension;
+import com.candiflow.api.repository.projection.ApplicantRollupProjection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Requêtes du cube des candidats non exprimables par dérivation ou @Query
+ */
+public interface ApplicantRollupRepositoryCustom {
+
+    /**
+     * Somme les lignes du cube correspondant aux critères, regroupées par les dimensions demandées
+     * Sans dimension, une seule ligne porte le total.
+     * @param spec Critères de filtre
+     * @param groupBy Dimensions de regroupement
+     * @return Lignes agrégées, triées par dimensions ; les dimensions non regroupées sont null
+     */
+    List<ApplicantRollupProjection> aggregate(Specification<ApplicantRollup> spec, Set<RollupDimension> groupBy);
+}
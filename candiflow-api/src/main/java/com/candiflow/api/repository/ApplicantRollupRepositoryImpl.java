@@ -0,0 +1,74 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.ApplicantRollup;
+import com.candiflow.api.model.enums.RollupDimension;
+import com.candiflow.api.repository.projection.ApplicantRollupProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+class ApplicantRollupRepositoryImpl implements ApplicantRollupRepositoryCustom {
+
+    private static final String COUNT = "count";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ApplicantRollupProjection> aggregate(Specification<ApplicantRollup> spec, Set<RollupDimension> groupBy) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ApplicantRollup> root = query.from(ApplicantRollup.class);
+
+        // Dimensions dans l'ordre de l'énumération, pour un tri stable quel que soit l'ordre demandé
+        Map<RollupDimension, Expression<?>> dimensions = new EnumMap<>(RollupDimension.class);
+        for (RollupDimension dimension : RollupDimension.values()) {
+            if (groupBy.contains(dimension)) {
+                dimensions.put(dimension, root.get(dimension.getAttribute()));
+            }
+        }
+
+        List<Selection<?>> selections = new ArrayList<>();
+        dimensions.forEach((dimension, expression) -> selections.add(expression.alias(dimension.name())));
+        selections.add(cb.sum(root.<Long>get("applicantCount")).alias(COUNT));
+        query.multiselect(selections);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Expression<?>> grouping = new ArrayList<>(dimensions.values());
+        query.groupBy(grouping);
+        query.orderBy(grouping.stream().map(cb::asc).toList());
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> new ApplicantRollupProjection(
+                        dimension(tuple, groupBy, RollupDimension.RECRUITER, UUID.class),
+                        dimension(tuple, groupBy, RollupDimension.JOB_OPENING, UUID.class),
+                        dimension(tuple, groupBy, RollupDimension.SOURCE, UUID.class),
+                        dimension(tuple, groupBy, RollupDimension.STAGE, UUID.class),
+                        dimension(tuple, groupBy, RollupDimension.WEEK, LocalDate.class),
+                        // SUM vaut null sans aucune ligne à sommer
+                        tuple.get(COUNT) == null ? 0 : tuple.get(COUNT, Number.class).longValue()))
+                .toList();
+    }
+
+    private static <T> T dimension(Tuple tuple, Set<RollupDimension> groupBy, RollupDimension dimension, Class<T> type) {
+        return groupBy.contains(dimension) ? tuple.get(dimension.name(), type) : null;
+    }
+}
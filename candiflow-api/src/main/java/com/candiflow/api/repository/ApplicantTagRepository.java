@@ -0,0 +1,33 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.ApplicantTag;
+import com.candiflow.api.model.entity.ApplicantTagId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface ApplicantTagRepository extends JpaRepository<ApplicantTag, ApplicantTagId> {
+    
+    /**
+     * Supprime en une requête les tags d'un ensemble de candidats
+     * @return Nombre d'associations supprimées
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ApplicantTag t WHERE t.id.applicantId IN :applicantIds")
+    int deleteByApplicantIds(@Param("applicantIds") Collection<UUID> applicantIds);
+    
+    /**
+     * Supprime en une requête les tags de tous les candidats d'une offre
+     * @return Nombre d'associations supprimées
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ApplicantTag t WHERE t.id.applicantId IN "
+            + "(SELECT a.id FROM OpeningApplicant a WHERE a.jobOpening.id = :jobOpeningId)")
+    int deleteByJobOpeningId(@Param("jobOpeningId") UUID jobOpeningId);
+}
@@ -2,10 +2,13 @@ package com.candiflow.api.repository;
 
 import com.candiflow.api.model.entity.Application;
 import com.candiflow.api.model.entity.User;
+import com.candiflow.api.repository.projection.ApplicationSummaryProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -36,8 +39,39 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
     @Query("SELECT a FROM Application a WHERE a.user = ?1 AND (LOWER(a.companyName) LIKE LOWER(CONCAT('%', ?2, '%')) OR LOWER(a.jobTitle) LIKE LOWER(CONCAT('%', ?2, '%')))")
     Page<Application> searchByUserAndKeyword(User user, String keyword, Pageable pageable);
     
+    /**
+     * Récupère une page de projections des candidatures d'un utilisateur, sans charger les entités
+     */
+    @Query(value = "SELECT new com.candiflow.api.repository.projection.ApplicationSummaryProjection("
+            + "a.id, a.companyName, a.jobTitle, a.jobUrl, a.dateApplied, a.followUpDate, a.createdAt, a.updatedAt) "
+            + "FROM Application a WHERE a.user = :user",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.user = :user")
+    Page<ApplicationSummaryProjection> findSummariesByUser(@Param("user") User user, Pageable pageable);
+    
+    /**
+     * Recherche par nom d'entreprise ou titre de poste des projections de candidatures, sans charger les entités
+     */
+    @Query(value = "SELECT new com.candiflow.api.repository.projection.ApplicationSummaryProjection("
+            + "a.id, a.companyName, a.jobTitle, a.jobUrl, a.dateApplied, a.followUpDate, a.createdAt, a.updatedAt) "
+            + "FROM Application a WHERE a.user = :user "
+            + "AND (LOWER(a.companyName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(a.jobTitle) LIKE LOWER(CONCAT('%', :keyword, '%')))",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.user = :user "
+                    + "AND (LOWER(a.companyName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(a.jobTitle) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<ApplicationSummaryProjection> searchSummariesByUserAndKeyword(@Param("user") User user,
+                                                                      @Param("keyword") String keyword,
+                                                                      Pageable pageable);
+    
     /**
      * Compte le nombre de candidatures pour un utilisateur
      */
     long countByUser(User user);
+    
+    /**
+     * Récupère les candidatures d'un utilisateur dont le numéro de changement est compris dans (after, upTo],
+     * par numéro croissant
+     */
+    @Query("SELECT a FROM Application a WHERE a.user.id = :userId AND a.changeSeq > :after AND a.changeSeq <= :upTo "
+            + "ORDER BY a.changeSeq")
+    List<Application> findChanged(@Param("userId") UUID userId, @Param("after") long after,
+                                  @Param("upTo") long upTo, Limit limit);
 }
@@ -0,0 +1,41 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.ApplicantTagId;
+import com.candiflow.api.model.entity.ArchivedApplicantTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedApplicantTagRepository extends JpaRepository<ArchivedApplicantTag, ApplicantTagId> {
+    
+    /**
+     * Trouve les tags archivés d'un candidat, par ordre alphabétique
+     */
+    List<ArchivedApplicantTag> findByApplicantIdOrderByTagName(UUID applicantId);
+    
+    /**
+     * Recopie en une requête les tags d'un ensemble de candidats dans l'archive, avec le nom de chaque tag
+     * @return Nombre d'associations archivées
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO ArchivedApplicantTag (applicantId, tagId, tagName, archivedAt) "
+            + "SELECT t.id.applicantId, t.id.tagId, g.name, :archivedAt "
+            + "FROM ApplicantTag t JOIN t.tag g WHERE t.id.applicantId IN :applicantIds")
+    int archiveTags(@Param("applicantIds") Collection<UUID> applicantIds, @Param("archivedAt") Instant archivedAt);
+    
+    /**
+     * Supprime en une requête les tags archivés d'un ensemble de candidats
+     * @return Nombre d'associations supprimées
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedApplicantTag t WHERE t.applicantId IN :applicantIds")
+    int deleteByApplicantIds(@Param("applicantIds") Collection<UUID> applicantIds);
+}
@@ -0,0 +1,34 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.ArchivedJobOpening;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedJobOpeningRepository extends JpaRepository<ArchivedJobOpening, UUID> {
+    
+    /**
+     * Recherche des offres archivées par titre
+     */
+    @Query("SELECT j FROM ArchivedJobOpening j WHERE LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<ArchivedJobOpening> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    
+    /**
+     * Recopie en une requête un ensemble d'offres dans l'archive
+     * @return Nombre d'offres archivées
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO ArchivedJobOpening (id, recruiterId, title, description, status, createdAt, updatedAt, archivedAt) "
+            + "SELECT j.id, j.recruiter.id, j.title, j.description, j.status, j.createdAt, j.updatedAt, :archivedAt "
+            + "FROM JobOpening j WHERE j.id IN :jobOpeningIds")
+    int archiveJobOpenings(@Param("jobOpeningIds") Collection<UUID> jobOpeningIds, @Param("archivedAt") Instant archivedAt);
+}
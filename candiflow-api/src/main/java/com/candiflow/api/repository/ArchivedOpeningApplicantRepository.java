@@ -0,0 +1,56 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.ArchivedOpeningApplicant;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedOpeningApplicantRepository extends JpaRepository<ArchivedOpeningApplicant, UUID> {
+    
+    /**
+     * Trouve les candidats archivés d'une offre avec pagination
+     */
+    Page<ArchivedOpeningApplicant> findByJobOpeningId(UUID jobOpeningId, Pageable pageable);
+    
+    /**
+     * Compte les candidats archivés d'une offre
+     */
+    long countByJobOpeningId(UUID jobOpeningId);
+    
+    /**
+     * Recopie en une requête un ensemble de candidats dans l'archive, avec le nom de leur étape
+     * @return Nombre de candidats archivés
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO ArchivedOpeningApplicant (id, jobOpeningId, stageId, stageName, sourceId, name, email, phone, "
+            + "cvStoragePath, coverLetterStoragePath, applicationDate, createdAt, updatedAt, archivedAt) "
+            + "SELECT a.id, a.jobOpening.id, s.id, s.name, a.source.id, a.name, a.email, a.phone, "
+            + "a.cvStoragePath, a.coverLetterStoragePath, a.applicationDate, a.createdAt, a.updatedAt, :archivedAt "
+            + "FROM OpeningApplicant a JOIN a.currentStage s WHERE a.id IN :applicantIds")
+    int archiveApplicants(@Param("applicantIds") Collection<UUID> applicantIds, @Param("archivedAt") Instant archivedAt);
+    
+    /**
+     * Récupère les IDs des candidats archivés sans activité depuis une date, par ordre d'ID
+     */
+    @Query("SELECT a.id FROM ArchivedOpeningApplicant a WHERE a.updatedAt < :cutoff ORDER BY a.id")
+    List<UUID> findIdsByUpdatedAtBefore(@Param("cutoff") Instant cutoff, Limit limit);
+    
+    /**
+     * Supprime en une requête un ensemble de candidats archivés
+     * @return Nombre de candidats supprimés
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ArchivedOpeningApplicant a WHERE a.id IN :applicantIds")
+    int deleteAllByIds(@Param("applicantIds") Collection<UUID> applicantIds);
+}
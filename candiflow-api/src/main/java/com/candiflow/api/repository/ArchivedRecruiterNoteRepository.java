@@ -0,0 +1,40 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.ArchivedRecruiterNote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedRecruiterNoteRepository extends JpaRepository<ArchivedRecruiterNote, UUID> {
+    
+    /**
+     * Trouve les notes archivées d'un candidat, de la plus récente à la plus ancienne
+     */
+    List<ArchivedRecruiterNote> findByApplicantIdOrderByCreatedAtDesc(UUID applicantId);
+    
+    /**
+     * Recopie en une requête les notes d'un ensemble de candidats dans l'archive
+     * @return Nombre de notes archivées
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO ArchivedRecruiterNote (id, applicantId, authorId, noteText, createdAt, archivedAt) "
+            + "SELECT n.id, n.applicant.id, n.author.id, n.noteText, n.createdAt, :archivedAt "
+            + "FROM RecruiterNote n WHERE n.applicant.id IN :applicantIds")
+    int archiveNotes(@Param("applicantIds") Collection<UUID> applicantIds, @Param("archivedAt") Instant archivedAt);
+    
+    /**
+     * Supprime en une requête les notes archivées d'un ensemble de candidats
+     * @return Nombre de notes supprimées
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedRecruiterNote n WHERE n.applicantId IN :applicantIds")
+    int deleteByApplicantIds(@Param("applicantIds") Collection<UUID> applicantIds);
+}
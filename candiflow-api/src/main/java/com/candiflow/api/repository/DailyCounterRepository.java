@@ -0,0 +1,55 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.DailyCounter;
+import com.candiflow.api.model.entity.DailyCounterId;
+import com.candiflow.api.model.enums.CounterMetric;
+import com.candiflow.api.repository.projection.DayCountProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface DailyCounterRepository extends JpaRepository<DailyCounter, DailyCounterId> {
+    
+    /**
+     * Ajoute une valeur au compteur d'un jour, en le créant au besoin, en une requête atomique
+     * Traduit en INSERT ... ON CONFLICT DO UPDATE sous PostgreSQL, en MERGE sous H2.
+     * @return Nombre de lignes insérées ou mises à jour
+     */
+    @Modifying
+    @Query("INSERT INTO DailyCounter (id.metric, id.recruiterId, id.day, total) VALUES (:metric, :recruiterId, :day, :delta) "
+            + "ON CONFLICT (id.metric, id.recruiterId, id.day) DO UPDATE SET total = total + excluded.total")
+    int increment(@Param("metric") CounterMetric metric, @Param("recruiterId") UUID recruiterId,
+                  @Param("day") LocalDate day, @Param("delta") long delta);
+    
+    /**
+     * Récupère les compteurs non nuls d'un recruteur sur une période, par jour croissant
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.DayCountProjection(c.id.day, c.total) FROM DailyCounter c "
+            + "WHERE c.id.metric = :metric AND c.id.recruiterId = :recruiterId AND c.id.day BETWEEN :from AND :to "
+            + "ORDER BY c.id.day")
+    List<DayCountProjection> findByRecruiterAndDayBetween(@Param("metric") CounterMetric metric,
+                                                          @Param("recruiterId") UUID recruiterId,
+                                                          @Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    /**
+     * Somme par jour les compteurs de tous les recruteurs sur une période, par jour croissant
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.DayCountProjection(c.id.day, SUM(c.total)) FROM DailyCounter c "
+            + "WHERE c.id.metric = :metric AND c.id.day BETWEEN :from AND :to GROUP BY c.id.day ORDER BY c.id.day")
+    List<DayCountProjection> sumByDayBetween(@Param("metric") CounterMetric metric,
+                                             @Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    /**
+     * Récupère le premier jour où une métrique a été comptée, tous recruteurs confondus
+     */
+    @Query("SELECT MIN(c.id.day) FROM DailyCounter c WHERE c.id.metric = :metric")
+    Optional<LocalDate> findFirstDay(@Param("metric") CounterMetric metric);
+}
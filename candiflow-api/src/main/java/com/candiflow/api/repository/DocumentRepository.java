@@ -2,11 +2,16 @@ package com.candiflow.api.repository;
 
 import com.candiflow.api.model.entity.Application;
 import com.candiflow.api.model.entity.Document;
+import com.candiflow.api.repository.projection.IdCountProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,8 +44,25 @@ public interface DocumentRepository extends JpaRepository<Document, UUID> {
      */
     long countByApplication(Application application);
     
+    /**
+     * Compte en une requête les documents de chacune des candidatures données
+     * Une candidature sans document n'a pas de ligne dans le résultat.
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.IdCountProjection(d.application.id, COUNT(d)) "
+            + "FROM Document d WHERE d.application.id IN :applicationIds GROUP BY d.application.id")
+    List<IdCountProjection> countByApplicationIds(@Param("applicationIds") Collection<UUID> applicationIds);
+    
     /**
      * Vérifie si un document avec le même nom existe déjà pour une candidature
      */
     boolean existsByApplicationAndFileName(Application application, String fileName);
+    
+    /**
+     * Récupère les documents des candidatures d'un utilisateur dont le numéro de changement est compris
+     * dans (after, upTo], par numéro croissant
+     */
+    @Query("SELECT d FROM Document d WHERE d.application.user.id = :userId "
+            + "AND d.changeSeq > :after AND d.changeSeq <= :upTo ORDER BY d.changeSeq")
+    List<Document> findChanged(@Param("userId") UUID userId, @Param("after") long after,
+                               @Param("upTo") long upTo, Limit limit);
 }
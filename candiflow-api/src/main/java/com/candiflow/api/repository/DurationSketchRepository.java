@@ -0,0 +1,68 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.DurationSketch;
+import com.candiflow.api.model.entity.DurationSketchId;
+import com.candiflow.api.model.enums.DurationMetric;
+import com.candiflow.api.repository.projection.SketchPayloadProjection;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface DurationSketchRepository extends JpaRepository<DurationSketch, DurationSketchId> {
+    
+    /**
+     * Crée une esquisse vide (aucune durée, contenu de remplissage ignoré) si elle n'existe pas encore, sans erreur
+     * en cas de création concurrente ; une esquisse existante n'est pas modifiée. Traduit en INSERT ... ON CONFLICT DO UPDATE
+     * sous PostgreSQL, en MERGE sous H2 (qui ne connaît pas DO NOTHING).
+     * @return Nombre de lignes insérées ou laissées en l'état
+     */
+    @Modifying
+    @Query("INSERT INTO DurationSketch (id.jobOpeningId, id.metric, id.stageId, recruiterId, sampleCount, payload) "
+            + "VALUES (:jobOpeningId, :metric, :stageId, :recruiterId, 0, X'00') "
+            + "ON CONFLICT (id.jobOpeningId, id.metric, id.stageId) DO UPDATE SET sampleCount = sampleCount")
+    int insertIfAbsent(@Param("jobOpeningId") UUID jobOpeningId, @Param("metric") DurationMetric metric,
+                       @Param("stageId") UUID stageId, @Param("recruiterId") UUID recruiterId);
+    
+    /**
+     * Récupère une esquisse en la verrouillant jusqu'à la fin de la transaction (SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM DurationSketch s WHERE s.id = :id")
+    Optional<DurationSketch> findForUpdate(@Param("id") DurationSketchId id);
+    
+    /**
+     * Récupère les esquisses non vides des offres d'un recruteur
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.SketchPayloadProjection(s.id.metric, s.id.stageId, s.payload) "
+            + "FROM DurationSketch s WHERE s.recruiterId = :recruiterId AND s.sampleCount > 0")
+    List<SketchPayloadProjection> findPayloadsByRecruiter(@Param("recruiterId") UUID recruiterId);
+    
+    /**
+     * Récupère les esquisses non vides d'une offre
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.SketchPayloadProjection(s.id.metric, s.id.stageId, s.payload) "
+            + "FROM DurationSketch s WHERE s.id.jobOpeningId = :jobOpeningId AND s.sampleCount > 0")
+    List<SketchPayloadProjection> findPayloadsByJobOpening(@Param("jobOpeningId") UUID jobOpeningId);
+    
+    /**
+     * Parcourt en flux les esquisses non vides de toutes les offres
+     * Le flux doit être consommé puis fermé dans une transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.candiflow.api.repository.projection.SketchPayloadProjection(s.id.metric, s.id.stageId, s.payload) "
+            + "FROM DurationSketch s WHERE s.sampleCount > 0")
+    Stream<SketchPayloadProjection> streamAllPayloads();
+}
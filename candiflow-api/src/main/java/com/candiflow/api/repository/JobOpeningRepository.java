@@ -3,19 +3,34 @@ package com.candiflow.api.repository;
 import com.candiflow.api.model.entity.JobOpening;
 import com.candiflow.api.model.entity.User;
 import com.candiflow.api.model.enums.JobStatus;
+import com.candiflow.api.repository.projection.JobOpeningSummaryProjection;
+import com.candiflow.api.repository.projection.JobStatusCountProjection;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface JobOpeningRepository extends JpaRepository<JobOpening, UUID>, JpaSpecificationExecutor<JobOpening> {
+public interface JobOpeningRepository extends JpaRepository<JobOpening, UUID>, JpaSpecificationExecutor<JobOpening>,
+        JobOpeningRepositoryCustom {
     
     /**
      * Trouve toutes les offres d'emploi créées par un recruteur
@@ -32,6 +47,18 @@ public interface JobOpeningRepository extends JpaRepository<JobOpening, UUID>, J
      */
     Optional<JobOpening> findByIdAndRecruiter(UUID id, User recruiter);
     
+    /**
+     * Récupère l'ID du recruteur d'une offre, sans charger l'offre
+     */
+    @Query("SELECT j.recruiter.id FROM JobOpening j WHERE j.id = :id")
+    Optional<UUID> findRecruiterIdById(@Param("id") UUID id);
+    
+    /**
+     * Récupère les IDs des offres d'un recruteur, sans charger les offres
+     */
+    @Query("SELECT j.id FROM JobOpening j WHERE j.recruiter.id = :recruiterId")
+    List<UUID> findIdsByRecruiterId(@Param("recruiterId") UUID recruiterId);
+    
     /**
      * Trouve toutes les offres d'emploi avec un statut spécifique
      */
@@ -48,8 +75,74 @@ public interface JobOpeningRepository extends JpaRepository<JobOpening, UUID>, J
     @Query("SELECT j FROM JobOpening j WHERE j.recruiter = ?1 AND LOWER(j.title) LIKE LOWER(CONCAT('%', ?2, '%'))")
     Page<JobOpening> searchByRecruiterAndKeyword(User recruiter, String keyword, Pageable pageable);
     
+    /**
+     * Récupère une page de projections d'offres d'emploi, sans charger les entités
+     */
+    @Query(value = "SELECT new com.candiflow.api.repository.projection.JobOpeningSummaryProjection("
+            + "j.id, j.title, j.status, j.createdAt, j.updatedAt, j.version) FROM JobOpening j",
+            countQuery = "SELECT COUNT(j) FROM JobOpening j")
+    Page<JobOpeningSummaryProjection> findAllSummaries(Pageable pageable);
+    
+    /**
+     * Récupère les projections des offres d'emploi d'un statut, sans charger les entités
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.JobOpeningSummaryProjection("
+            + "j.id, j.title, j.status, j.createdAt, j.updatedAt, j.version) FROM JobOpening j WHERE j.status = :status")
+    List<JobOpeningSummaryProjection> findSummariesByStatus(@Param("status") JobStatus status);
+    
     /**
      * Compte le nombre d'offres d'emploi pour un recruteur
      */
     long countByRecruiter(User recruiter);
+    
+    /**
+     * Verrouille et récupère les IDs des offres d'un statut donné non modifiées depuis une date,
+     * de la plus ancienne à la plus récente
+     * Les offres déjà verrouillées par une autre transaction sont ignorées.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT j.id FROM JobOpening j WHERE j.status = :status AND j.updatedAt < :cutoff ORDER BY j.updatedAt, j.id")
+    List<UUID> lockIdsByStatusAndUpdatedAtBefore(@Param("status") JobStatus status,
+                                                  @Param("cutoff") Instant cutoff,
+                                                  Limit limit);
+    
+    /**
+     * Verrouille et récupère les IDs existants d'un ensemble d'offres, par ordre d'ID
+     * L'ordre fixe évite les interblocages entre deux transactions verrouillant des ensembles qui se recouvrent.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j.id FROM JobOpening j WHERE j.id IN :jobOpeningIds ORDER BY j.id")
+    List<UUID> lockIdsByIds(@Param("jobOpeningIds") Collection<UUID> jobOpeningIds);
+    
+    /**
+     * Récupère les IDs des offres situés après un ID donné, par ordre d'ID
+     * Permet de parcourir toutes les offres par lots sans décalage.
+     */
+    @Query("SELECT j.id FROM JobOpening j WHERE j.id > :after ORDER BY j.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Limit limit);
+    
+    /**
+     * Compte en une requête les offres de chaque statut
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.JobStatusCountProjection(j.status, COUNT(j)) "
+            + "FROM JobOpening j GROUP BY j.status")
+    List<JobStatusCountProjection> countGroupByStatus();
+    
+    /**
+     * Parcourt les dates de création de toutes les offres, lues par blocs sans être toutes chargées en mémoire
+     * Le flux doit être consommé puis fermé dans une transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT j.createdAt FROM JobOpening j")
+    Stream<Instant> streamAllCreatedAt();
+    
+    /**
+     * Supprime en une requête un ensemble d'offres
+     * Les candidats des offres doivent avoir été supprimés au préalable.
+     * @return Nombre d'offres supprimées
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM JobOpening j WHERE j.id IN :jobOpeningIds")
+    int deleteAllByIds(@Param("jobOpeningIds") Collection<UUID> jobOpeningIds);
 }
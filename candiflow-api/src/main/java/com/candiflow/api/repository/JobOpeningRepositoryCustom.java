@@ -0,0 +1,21 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.repository.projection.JobOpeningSummaryProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Requêtes des offres d'emploi non exprimables par dérivation ou @Query
+ */
+public interface JobOpeningRepositoryCustom {
+
+    /**
+     * Recherche des offres d'emploi par critères, sans charger les entités
+     * @param spec Critères de recherche
+     * @param pageable Pagination et tri
+     * @return Page de projections d'offres
+     */
+    Page<JobOpeningSummaryProjection> findSummaries(Specification<JobOpening> spec, Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.repository.projection.JobOpeningSummaryProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class JobOpeningRepositoryImpl implements JobOpeningRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<JobOpeningSummaryProjection> findSummaries(Specification<JobOpening> spec, Pageable pageable) {
+        return SpecificationProjections.findPage(entityManager, JobOpening.class, JobOpeningSummaryProjection.class,
+                root -> List.of(root.get("id"), root.get("title"), root.get("status"),
+                        root.get("createdAt"), root.get("updatedAt"), root.get("version")),
+                spec, pageable);
+    }
+}
@@ -3,19 +3,43 @@ package com.candiflow.api.repository;
 import com.candiflow.api.model.entity.JobOpening;
 import com.candiflow.api.model.entity.OpeningApplicant;
 import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.repository.projection.ApplicantDayCountProjection;
+import com.candiflow.api.repository.projection.ApplicantFactProjection;
+import com.candiflow.api.repository.projection.ApplicantStageProjection;
+import com.candiflow.api.repository.projection.ApplicantSummaryProjection;
+import com.candiflow.api.repository.projection.BoardCardProjection;
+import com.candiflow.api.repository.projection.BoardRowProjection;
+import com.candiflow.api.repository.projection.IdCountProjection;
+import com.candiflow.api.repository.projection.RankedApplicantProjection;
+import com.candiflow.api.repository.projection.StageCountProjection;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface OpeningApplicantRepository extends JpaRepository<OpeningApplicant, UUID>, JpaSpecificationExecutor<OpeningApplicant> {
+public interface OpeningApplicantRepository extends JpaRepository<OpeningApplicant, UUID>, JpaSpecificationExecutor<OpeningApplicant>,
+        OpeningApplicantRepositoryCustom {
     
     /**
      * Trouve tous les candidats pour une offre d'emploi spécifique
@@ -48,11 +72,43 @@ public interface OpeningApplicantRepository extends JpaRepository<OpeningApplica
     @Query("SELECT a FROM OpeningApplicant a WHERE a.jobOpening = ?1 AND (LOWER(a.name) LIKE LOWER(CONCAT('%', ?2, '%')) OR LOWER(a.email) LIKE LOWER(CONCAT('%', ?2, '%')))")
     Page<OpeningApplicant> searchByJobOpeningAndKeyword(JobOpening jobOpening, String keyword, Pageable pageable);
     
+    /**
+     * Récupère une page de projections des candidats d'une offre, avec leur étape et leur source, sans charger les entités
+     */
+    @Query(value = "SELECT new com.candiflow.api.repository.projection.ApplicantSummaryProjection("
+            + "a.id, a.jobOpening.id, a.name, a.email, a.phone, a.applicationDate, a.createdAt, a.updatedAt, a.version, "
+            + "s.id, s.name, s.isEndStage, src.id, src.name) "
+            + "FROM OpeningApplicant a LEFT JOIN a.currentStage s LEFT JOIN a.source src "
+            + "WHERE a.jobOpening.id = :jobOpeningId",
+            countQuery = "SELECT COUNT(a) FROM OpeningApplicant a WHERE a.jobOpening.id = :jobOpeningId")
+    Page<ApplicantSummaryProjection> findSummariesByJobOpeningId(@Param("jobOpeningId") UUID jobOpeningId, Pageable pageable);
+    
+    /**
+     * Recherche par nom ou email des projections de candidats d'une offre, sans charger les entités
+     */
+    @Query(value = "SELECT new com.candiflow.api.repository.projection.ApplicantSummaryProjection("
+            + "a.id, a.jobOpening.id, a.name, a.email, a.phone, a.applicationDate, a.createdAt, a.updatedAt, a.version, "
+            + "s.id, s.name, s.isEndStage, src.id, src.name) "
+            + "FROM OpeningApplicant a LEFT JOIN a.currentStage s LEFT JOIN a.source src "
+            + "WHERE a.jobOpening.id = :jobOpeningId "
+            + "AND (LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(a.email) LIKE LOWER(CONCAT('%', :keyword, '%')))",
+            countQuery = "SELECT COUNT(a) FROM OpeningApplicant a WHERE a.jobOpening.id = :jobOpeningId "
+                    + "AND (LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(a.email) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<ApplicantSummaryProjection> searchSummariesByJobOpeningId(@Param("jobOpeningId") UUID jobOpeningId,
+                                                                  @Param("keyword") String keyword,
+                                                                  Pageable pageable);
+    
     /**
      * Vérifie si un candidat existe déjà avec le même email pour une offre d'emploi
      */
     boolean existsByJobOpeningAndEmail(JobOpening jobOpening, String email);
     
+    /**
+     * Récupère en une requête les emails des candidats d'une offre d'emploi
+     */
+    @Query("SELECT a.email FROM OpeningApplicant a WHERE a.jobOpening = ?1 AND a.email IS NOT NULL")
+    Set<String> findEmailsByJobOpening(JobOpening jobOpening);
+    
     /**
      * Compte le nombre de candidats pour une offre d'emploi
      */
@@ -62,4 +118,234 @@ public interface OpeningApplicantRepository extends JpaRepository<OpeningApplica
      * Compte le nombre de candidats à une étape spécifique du pipeline pour une offre d'emploi
      */
     long countByJobOpeningAndCurrentStage(JobOpening jobOpening, PipelineStage currentStage);
+    
+    /**
+     * Compte en une requête les candidats de chacune des offres d'emploi données
+     * Une offre sans candidat n'a pas de ligne dans le résultat.
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.IdCountProjection(a.jobOpening.id, COUNT(a)) "
+            + "FROM OpeningApplicant a WHERE a.jobOpening.id IN :jobOpeningIds GROUP BY a.jobOpening.id")
+    List<IdCountProjection> countByJobOpeningIds(@Param("jobOpeningIds") Collection<UUID> jobOpeningIds);
+    
+    /**
+     * Compte en une requête les candidats de chacune des offres d'emploi données, par étape du pipeline
+     * Seules les étapes comptant au moins un candidat ont une ligne dans le résultat.
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.StageCountProjection(a.jobOpening.id, a.currentStage.id, COUNT(a)) "
+            + "FROM OpeningApplicant a WHERE a.jobOpening.id IN :jobOpeningIds "
+            + "GROUP BY a.jobOpening.id, a.currentStage.id")
+    List<StageCountProjection> countByJobOpeningIdsGroupByStage(@Param("jobOpeningIds") Collection<UUID> jobOpeningIds);
+    
+    /**
+     * Récupère en une requête les candidats d'une offre appartenant au recruteur, parmi les IDs donnés
+     * Les IDs absents du résultat n'existent pas, ou n'appartiennent pas à cette offre ou à ce recruteur.
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.ApplicantStageProjection("
+            + "a.id, a.name, a.email, a.currentStage.id, a.source.id, a.applicationDate, a.stageEnteredAt) "
+            + "FROM OpeningApplicant a "
+            + "WHERE a.jobOpening.id = :jobOpeningId AND a.jobOpening.recruiter = :recruiter AND a.id IN :applicantIds")
+    List<ApplicantStageProjection> findStageProjectionsOwnedBy(@Param("jobOpeningId") UUID jobOpeningId,
+                                                                @Param("recruiter") User recruiter,
+                                                                @Param("applicantIds") Collection<UUID> applicantIds);
+    
+    /**
+     * Construit en une requête le tableau de pipeline d'une offre d'emploi
+     * Pour chaque étape active : le nombre de candidats et les premiers candidats par dernière activité,
+     * numérotés par ROW_NUMBER() partitionné par étape. Les étapes vides produisent une ligne sans candidat.
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param limit Nombre maximal de candidats renvoyés par étape
+     * @return Lignes triées par ordre d'affichage des étapes puis par position dans l'étape
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.BoardRowProjection("
+            + "s.id, s.name, s.displayOrder, s.isEndStage, r.stageCount, r.applicantId, r.name, r.email, r.applicationDate, r.updatedAt, r.rankKey) "
+            + "FROM PipelineStage s "
+            + "LEFT JOIN ("
+            + "  SELECT a.currentStage.id AS stageId, a.id AS applicantId, a.name AS name, a.email AS email, "
+            + "         a.applicationDate AS applicationDate, a.updatedAt AS updatedAt, a.rankKey AS rankKey, "
+            + "         ROW_NUMBER() OVER (PARTITION BY a.currentStage.id ORDER BY a.updatedAt DESC, a.id DESC) AS position, "
+            + "         COUNT(*) OVER (PARTITION BY a.currentStage.id) AS stageCount "
+            + "  FROM OpeningApplicant a "
+            + "  WHERE a.jobOpening.id = :jobOpeningId"
+            + ") r ON r.stageId = s.id AND r.position <= :limit "
+            + "WHERE s.isActive = true "
+            + "ORDER BY s.displayOrder, r.position")
+    List<BoardRowProjection> findBoardRows(@Param("jobOpeningId") UUID jobOpeningId, @Param("limit") long limit);
+    
+    /**
+     * Récupère la suite d'une colonne du tableau de pipeline, après la position donnée (pagination par clé)
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param stageId ID de l'étape
+     * @param updatedAt Dernière activité du dernier candidat déjà renvoyé
+     * @param applicantId ID du dernier candidat déjà renvoyé
+     * @param limit Nombre maximal de candidats renvoyés
+     * @return Candidats suivants, du plus récemment actif au plus ancien
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.BoardCardProjection("
+            + "a.id, a.name, a.email, a.applicationDate, a.updatedAt, a.rankKey) "
+            + "FROM OpeningApplicant a "
+            + "WHERE a.jobOpening.id = :jobOpeningId AND a.currentStage.id = :stageId "
+            + "AND (a.updatedAt < :updatedAt OR (a.updatedAt = :updatedAt AND a.id < :applicantId)) "
+            + "ORDER BY a.updatedAt DESC, a.id DESC")
+    List<BoardCardProjection> findBoardColumnAfter(@Param("jobOpeningId") UUID jobOpeningId,
+                                                   @Param("stageId") UUID stageId,
+                                                   @Param("updatedAt") Instant updatedAt,
+                                                   @Param("applicantId") UUID applicantId,
+                                                   Limit limit);
+    
+    /**
+     * Récupère le début d'une colonne du tableau de pipeline
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.BoardCardProjection("
+            + "a.id, a.name, a.email, a.applicationDate, a.updatedAt, a.rankKey) "
+            + "FROM OpeningApplicant a "
+            + "WHERE a.jobOpening.id = :jobOpeningId AND a.currentStage.id = :stageId "
+            + "ORDER BY a.updatedAt DESC, a.id DESC")
+    List<BoardCardProjection> findBoardColumn(@Param("jobOpeningId") UUID jobOpeningId,
+                                              @Param("stageId") UUID stageId,
+                                              Limit limit);
+    
+    /**
+     * Construit en une requête le tableau de pipeline d'une offre d'emploi, colonnes triées par rang manuel
+     * @see #findBoardRows(UUID, long)
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.BoardRowProjection("
+            + "s.id, s.name, s.displayOrder, s.isEndStage, r.stageCount, r.applicantId, r.name, r.email, r.applicationDate, r.updatedAt, r.rankKey) "
+            + "FROM PipelineStage s "
+            + "LEFT JOIN ("
+            + "  SELECT a.currentStage.id AS stageId, a.id AS applicantId, a.name AS name, a.email AS email, "
+            + "         a.applicationDate AS applicationDate, a.updatedAt AS updatedAt, a.rankKey AS rankKey, "
+            + "         ROW_NUMBER() OVER (PARTITION BY a.currentStage.id ORDER BY a.rankKey, a.id) AS position, "
+            + "         COUNT(*) OVER (PARTITION BY a.currentStage.id) AS stageCount "
+            + "  FROM OpeningApplicant a "
+            + "  WHERE a.jobOpening.id = :jobOpeningId"
+            + ") r ON r.stageId = s.id AND r.position <= :limit "
+            + "WHERE s.isActive = true "
+            + "ORDER BY s.displayOrder, r.position")
+    List<BoardRowProjection> findBoardRowsByRank(@Param("jobOpeningId") UUID jobOpeningId, @Param("limit") long limit);
+    
+    /**
+     * Récupère le début d'une colonne du tableau de pipeline, triée par rang manuel
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.BoardCardProjection("
+            + "a.id, a.name, a.email, a.applicationDate, a.updatedAt, a.rankKey) "
+            + "FROM OpeningApplicant a "
+            + "WHERE a.jobOpening.id = :jobOpeningId AND a.currentStage.id = :stageId "
+            + "ORDER BY a.rankKey, a.id")
+    List<BoardCardProjection> findBoardColumnByRank(@Param("jobOpeningId") UUID jobOpeningId,
+                                                    @Param("stageId") UUID stageId,
+                                                    Limit limit);
+    
+    /**
+     * Récupère la suite d'une colonne du tableau de pipeline triée par rang manuel, après la position donnée
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.BoardCardProjection("
+            + "a.id, a.name, a.email, a.applicationDate, a.updatedAt, a.rankKey) "
+            + "FROM OpeningApplicant a "
+            + "WHERE a.jobOpening.id = :jobOpeningId AND a.currentStage.id = :stageId "
+            + "AND (a.rankKey > :rankKey OR (a.rankKey = :rankKey AND a.id > :applicantId)) "
+            + "ORDER BY a.rankKey, a.id")
+    List<BoardCardProjection> findBoardColumnByRankAfter(@Param("jobOpeningId") UUID jobOpeningId,
+                                                         @Param("stageId") UUID stageId,
+                                                         @Param("rankKey") String rankKey,
+                                                         @Param("applicantId") UUID applicantId,
+                                                         Limit limit);
+    
+    /**
+     * Récupère la plus grande clé de rang d'une colonne (offre, étape)
+     * @return Dernière clé, ou null si la colonne est vide
+     */
+    @Query("SELECT MAX(a.rankKey) FROM OpeningApplicant a WHERE a.jobOpening.id = :jobOpeningId AND a.currentStage.id = :stageId")
+    String findLastRankKey(@Param("jobOpeningId") UUID jobOpeningId, @Param("stageId") UUID stageId);
+    
+    /**
+     * Verrouille et récupère les clés de rang de candidats d'une offre
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.candiflow.api.repository.projection.RankedApplicantProjection(a.id, a.currentStage.id, a.rankKey) "
+            + "FROM OpeningApplicant a WHERE a.jobOpening.id = :jobOpeningId AND a.id IN :applicantIds")
+    List<RankedApplicantProjection> lockRanks(@Param("jobOpeningId") UUID jobOpeningId,
+                                              @Param("applicantIds") Collection<UUID> applicantIds);
+    
+    /**
+     * Verrouille et récupère les clés de rang d'une colonne (offre, étape), dans l'ordre du classement
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.candiflow.api.repository.projection.RankedApplicantProjection(a.id, a.currentStage.id, a.rankKey) "
+            + "FROM OpeningApplicant a WHERE a.jobOpening.id = :jobOpeningId AND a.currentStage.id = :stageId "
+            + "ORDER BY a.rankKey, a.id")
+    List<RankedApplicantProjection> lockColumnRanks(@Param("jobOpeningId") UUID jobOpeningId, @Param("stageId") UUID stageId);
+    
+    /**
+     * Modifie la clé de rang d'un seul candidat, sans toucher à sa version ni à sa date de mise à jour
+     * @return Nombre de candidats mis à jour (0 ou 1)
+     */
+    @Modifying
+    @Query("UPDATE OpeningApplicant a SET a.rankKey = :rankKey WHERE a.id = :applicantId")
+    int updateRankKey(@Param("applicantId") UUID applicantId, @Param("rankKey") String rankKey);
+    
+    /**
+     * Récupère les IDs des candidats d'un ensemble d'offres, par ordre d'ID
+     */
+    @Query("SELECT a.id FROM OpeningApplicant a WHERE a.jobOpening.id IN :jobOpeningIds ORDER BY a.id")
+    List<UUID> findIdsByJobOpeningIds(@Param("jobOpeningIds") Collection<UUID> jobOpeningIds, Limit limit);
+    
+    /**
+     * Supprime en une requête un ensemble de candidats, sans charger leurs notes ni leurs tags
+     * Les notes et tags doivent avoir été supprimés au préalable.
+     * @return Nombre de candidats supprimés
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OpeningApplicant a WHERE a.id IN :applicantIds")
+    int deleteAllByIds(@Param("applicantIds") Collection<UUID> applicantIds);
+    
+    /**
+     * Verrouille et récupère les IDs des candidats sans activité depuis une date, par ordre d'ID
+     * Les candidats déjà verrouillés par une autre transaction sont ignorés.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT a.id FROM OpeningApplicant a WHERE a.updatedAt < :cutoff ORDER BY a.id")
+    List<UUID> lockIdsByUpdatedAtBefore(@Param("cutoff") Instant cutoff, Limit limit);
+    
+    /**
+     * Parcourt les dimensions statistiques de tous les candidats, lues par blocs sans être toutes chargées en mémoire
+     * Le flux doit être consommé puis fermé dans une transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.candiflow.api.repository.projection.ApplicantFactProjection(a.id, a.jobOpening.id, "
+            + "a.jobOpening.recruiter.id, a.currentStage.id, a.source.id, a.applicationDate, a.updatedAt) "
+            + "FROM OpeningApplicant a")
+    Stream<ApplicantFactProjection> streamAllFacts();
+    
+    /**
+     * Compte en une requête les candidats de chaque étape du pipeline, toutes offres confondues
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.IdCountProjection(a.currentStage.id, COUNT(a)) "
+            + "FROM OpeningApplicant a GROUP BY a.currentStage.id")
+    List<IdCountProjection> countGroupByStage();
+    
+    /**
+     * Compte en une requête les candidats d'un ensemble d'offres par source, étape et date de candidature
+     * Base du rafraîchissement du cube des candidats, regroupé ensuite par semaine.
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.ApplicantDayCountProjection(a.jobOpening.id, "
+            + "a.jobOpening.recruiter.id, a.source.id, a.currentStage.id, a.applicationDate, COUNT(a)) "
+            + "FROM OpeningApplicant a WHERE a.jobOpening.id IN :jobOpeningIds "
+            + "GROUP BY a.jobOpening.id, a.jobOpening.recruiter.id, a.source.id, a.currentStage.id, a.applicationDate")
+    List<ApplicantDayCountProjection> countByDayForJobOpenings(@Param("jobOpeningIds") Collection<UUID> jobOpeningIds);
+    
+    /**
+     * Récupère les IDs distincts des offres d'un ensemble de candidats
+     */
+    @Query("SELECT DISTINCT a.jobOpening.id FROM OpeningApplicant a WHERE a.id IN :applicantIds")
+    List<UUID> findJobOpeningIdsByIds(@Param("applicantIds") Collection<UUID> applicantIds);
+    
+    /**
+     * Supprime en une requête tous les candidats d'une offre
+     * Les notes et tags des candidats doivent avoir été supprimés au préalable.
+     * @return Nombre de candidats supprimés
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OpeningApplicant a WHERE a.jobOpening.id = :jobOpeningId")
+    int deleteByJobOpeningId(@Param("jobOpeningId") UUID jobOpeningId);
 }
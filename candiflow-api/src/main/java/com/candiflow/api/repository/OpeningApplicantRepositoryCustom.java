@@ -0,0 +1,39 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.repository.projection.ApplicantSummaryProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Requêtes des candidats non exprimables par dérivation ou @Query
+ */
+public interface OpeningApplicantRepositoryCustom {
+
+    /**
+     * Recherche des candidats par critères, sans charger les entités
+     * L'étape courante et la source sont lues par jointure dans la même requête.
+     * @param spec Critères de recherche
+     * @param pageable Pagination et tri
+     * @return Page de projections de candidats
+     */
+    Page<ApplicantSummaryProjection> findSummaries(Specification<OpeningApplicant> spec, Pageable pageable);
+
+    /**
+     * Déplace en une seule requête un ensemble de candidats d'une offre vers une étape
+     * Chaque candidat reçoit sa propre clé de rang (CASE sur l'ID) ; sa version est incrémentée,
+     * comme pour une mise à jour unitaire. Le contexte de persistance est vidé après la mise à jour.
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param rankKeys Clé de rang de chaque candidat déplacé, par ID
+     * @param stage Étape cible
+     * @param updatedAt Date de mise à jour et d'entrée dans l'étape
+     * @return Nombre de candidats mis à jour
+     */
+    int updateStageForApplicants(UUID jobOpeningId, Map<UUID, String> rankKeys, PipelineStage stage, Instant updatedAt);
+}
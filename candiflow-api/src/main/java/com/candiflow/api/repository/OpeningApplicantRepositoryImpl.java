@@ -0,0 +1,66 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.CandidateSource;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.repository.projection.ApplicantSummaryProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+class OpeningApplicantRepositoryImpl implements OpeningApplicantRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ApplicantSummaryProjection> findSummaries(Specification<OpeningApplicant> spec, Pageable pageable) {
+        return SpecificationProjections.findPage(entityManager, OpeningApplicant.class, ApplicantSummaryProjection.class,
+                root -> {
+                    Join<OpeningApplicant, PipelineStage> stage = root.join("currentStage", JoinType.LEFT);
+                    Join<OpeningApplicant, CandidateSource> source = root.join("source", JoinType.LEFT);
+                    return List.of(root.get("id"), root.get("jobOpening").get("id"), root.get("name"),
+                            root.get("email"), root.get("phone"), root.get("applicationDate"),
+                            root.get("createdAt"), root.get("updatedAt"), root.get("version"),
+                            stage.get("id"), stage.get("name"), stage.get("isEndStage"),
+                            source.get("id"), source.get("name"));
+                },
+                spec, pageable);
+    }
+
+    @Override
+    public int updateStageForApplicants(UUID jobOpeningId, Map<UUID, String> rankKeys, PipelineStage stage, Instant updatedAt) {
+        entityManager.flush();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<OpeningApplicant> update = cb.createCriteriaUpdate(OpeningApplicant.class);
+        Root<OpeningApplicant> root = update.from(OpeningApplicant.class);
+
+        CriteriaBuilder.SimpleCase<UUID, String> rankKey = cb.selectCase(root.get("id"));
+        for (Map.Entry<UUID, String> entry : rankKeys.entrySet()) {
+            rankKey.when(entry.getKey(), entry.getValue());
+        }
+        update.set(root.<String>get("rankKey"), rankKey.otherwise(root.<String>get("rankKey")))
+                .set(root.<PipelineStage>get("currentStage"), stage)
+                .set(root.<Instant>get("updatedAt"), updatedAt)
+                .set(root.<Instant>get("stageEnteredAt"), updatedAt)
+                .set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L))
+                .where(cb.equal(root.get("jobOpening").get("id"), jobOpeningId),
+                        root.get("id").in(rankKeys.keySet()));
+
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+}
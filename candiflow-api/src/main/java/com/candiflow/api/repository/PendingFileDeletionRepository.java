@@ -0,0 +1,51 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.PendingFileDeletion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, UUID> {
+    
+    /**
+     * Récupère les fichiers en attente, des plus anciens aux plus récents
+     */
+    @Query("SELECT p FROM PendingFileDeletion p ORDER BY p.createdAt, p.applicantId")
+    List<PendingFileDeletion> findOldest(Limit limit);
+    
+    /**
+     * Inscrit en une requête les fichiers d'un ensemble de candidats
+     * @return Nombre de candidats ayant au moins un fichier
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO PendingFileDeletion (applicantId, cvStoragePath, coverLetterStoragePath, createdAt) "
+            + "SELECT a.id, a.cvStoragePath, a.coverLetterStoragePath, :createdAt FROM OpeningApplicant a "
+            + "WHERE a.id IN :applicantIds AND (a.cvStoragePath IS NOT NULL OR a.coverLetterStoragePath IS NOT NULL)")
+    int addApplicantFiles(@Param("applicantIds") Collection<UUID> applicantIds, @Param("createdAt") Instant createdAt);
+    
+    /**
+     * Inscrit en une requête les fichiers d'un ensemble de candidats archivés
+     * @return Nombre de candidats ayant au moins un fichier
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO PendingFileDeletion (applicantId, cvStoragePath, coverLetterStoragePath, createdAt) "
+            + "SELECT a.id, a.cvStoragePath, a.coverLetterStoragePath, :createdAt FROM ArchivedOpeningApplicant a "
+            + "WHERE a.id IN :applicantIds AND (a.cvStoragePath IS NOT NULL OR a.coverLetterStoragePath IS NOT NULL)")
+    int addArchivedApplicantFiles(@Param("applicantIds") Collection<UUID> applicantIds, @Param("createdAt") Instant createdAt);
+    
+    /**
+     * Retire en une requête un ensemble de fichiers traités
+     */
+    @Modifying
+    @Query("DELETE FROM PendingFileDeletion p WHERE p.applicantId IN :applicantIds")
+    int deleteAllByIds(@Param("applicantIds") Collection<UUID> applicantIds);
+}
@@ -3,11 +3,17 @@ package com.candiflow.api.repository;
 import com.candiflow.api.model.entity.OpeningApplicant;
 import com.candiflow.api.model.entity.RecruiterNote;
 import com.candiflow.api.model.entity.User;
+import com.candiflow.api.repository.projection.IdCountProjection;
+import com.candiflow.api.repository.projection.RecruiterNoteProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -44,4 +50,46 @@ public interface RecruiterNoteRepository extends JpaRepository<RecruiterNote, UU
      * Compte le nombre de notes pour un candidat
      */
     long countByApplicant(OpeningApplicant applicant);
+    
+    /**
+     * Compte en une requête les notes de chacun des candidats donnés
+     * Un candidat sans note n'a pas de ligne dans le résultat.
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.IdCountProjection(n.applicant.id, COUNT(n)) "
+            + "FROM RecruiterNote n WHERE n.applicant.id IN :applicantIds GROUP BY n.applicant.id")
+    List<IdCountProjection> countByApplicantIds(@Param("applicantIds") Collection<UUID> applicantIds);
+    
+    /**
+     * Récupère une page de projections des notes d'un candidat, sans charger les entités
+     */
+    @Query(value = "SELECT new com.candiflow.api.repository.projection.RecruiterNoteProjection("
+            + "n.id, n.applicant.id, n.noteText, n.createdAt, n.author.id) "
+            + "FROM RecruiterNote n WHERE n.applicant.id = :applicantId",
+            countQuery = "SELECT COUNT(n) FROM RecruiterNote n WHERE n.applicant.id = :applicantId")
+    Page<RecruiterNoteProjection> findProjectionsByApplicantId(@Param("applicantId") UUID applicantId, Pageable pageable);
+    
+    /**
+     * Récupère les projections des notes d'un candidat, de la plus récente à la plus ancienne
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.RecruiterNoteProjection("
+            + "n.id, n.applicant.id, n.noteText, n.createdAt, n.author.id) "
+            + "FROM RecruiterNote n WHERE n.applicant.id = :applicantId ORDER BY n.createdAt DESC")
+    List<RecruiterNoteProjection> findProjectionsByApplicantIdOrderByCreatedAtDesc(@Param("applicantId") UUID applicantId);
+    
+    /**
+     * Supprime en une requête les notes d'un ensemble de candidats
+     * @return Nombre de notes supprimées
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RecruiterNote n WHERE n.applicant.id IN :applicantIds")
+    int deleteByApplicantIds(@Param("applicantIds") Collection<UUID> applicantIds);
+    
+    /**
+     * Supprime en une requête les notes de tous les candidats d'une offre
+     * @return Nombre de notes supprimées
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RecruiterNote n WHERE n.applicant.id IN "
+            + "(SELECT a.id FROM OpeningApplicant a WHERE a.jobOpening.id = :jobOpeningId)")
+    int deleteByJobOpeningId(@Param("jobOpeningId") UUID jobOpeningId);
 }
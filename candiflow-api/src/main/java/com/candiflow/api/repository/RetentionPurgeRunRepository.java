@@ -0,0 +1,18 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.RetentionPurgeRun;
+import com.candiflow.api.model.enums.PurgeRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RetentionPurgeRunRepository extends JpaRepository<RetentionPurgeRun, UUID> {
+    
+    /**
+     * Trouve la dernière purge ayant un statut donné
+     */
+    Optional<RetentionPurgeRun> findFirstByStatusOrderByCreatedAtDesc(PurgeRunStatus status);
+}
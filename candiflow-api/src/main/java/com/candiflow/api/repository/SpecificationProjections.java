@@ -0,0 +1,75 @@
+package com.candiflow.api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Exécution d'une Specification avec une expression constructeur à la place de l'entité
+ * Seules les colonnes sélectionnées sont lues, et les résultats ne sont pas gérés par le contexte de persistance.
+ */
+final class SpecificationProjections {
+
+    private SpecificationProjections() {
+    }
+
+    /**
+     * Récupère une page de projections correspondant à une Specification
+     * @param entityManager Gestionnaire d'entités
+     * @param domainType Entité interrogée
+     * @param projectionType Type construit pour chaque ligne (constructeur correspondant à la sélection)
+     * @param selection Colonnes passées au constructeur, à partir de la racine de la requête
+     * @param spec Critères de recherche
+     * @param pageable Pagination et tri, exprimés sur les propriétés de l'entité
+     * @return Page de projections
+     */
+    static <T, R> Page<R> findPage(EntityManager entityManager, Class<T> domainType, Class<R> projectionType,
+                                   Function<Root<T>, List<Selection<?>>> selection,
+                                   Specification<T> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<R> query = cb.createQuery(projectionType);
+        Root<T> root = query.from(domainType);
+        query.select(cb.construct(projectionType, selection.apply(root).toArray(new Selection<?>[0])));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<R> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<R> content = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityManager, domainType, spec));
+    }
+
+    private static <T> long count(EntityManager entityManager, Class<T> domainType, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(domainType);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
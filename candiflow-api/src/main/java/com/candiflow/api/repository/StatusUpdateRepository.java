@@ -2,10 +2,15 @@ package com.candiflow.api.repository;
 
 import com.candiflow.api.model.entity.Application;
 import com.candiflow.api.model.entity.StatusUpdate;
+import com.candiflow.api.repository.projection.IdCountProjection;
+import com.candiflow.api.repository.projection.LatestStatusProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,8 +34,35 @@ public interface StatusUpdateRepository extends JpaRepository<StatusUpdate, UUID
     @Query("SELECT su FROM StatusUpdate su WHERE su.application = ?1 ORDER BY su.eventDate DESC LIMIT 1")
     Optional<StatusUpdate> findLatestByApplication(Application application);
     
+    /**
+     * Trouve en une requête la dernière mise à jour de statut de chacune des candidatures données
+     * En cas d'égalité de date, plusieurs lignes peuvent être renvoyées pour une même candidature.
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.LatestStatusProjection(su.application.id, su.id, s.name, su.eventDate) "
+            + "FROM StatusUpdate su JOIN su.status s WHERE su.application.id IN :applicationIds "
+            + "AND su.eventDate = (SELECT MAX(latest.eventDate) FROM StatusUpdate latest "
+            + "WHERE latest.application.id = su.application.id)")
+    List<LatestStatusProjection> findLatestByApplicationIds(@Param("applicationIds") Collection<UUID> applicationIds);
+    
     /**
      * Compte le nombre de mises à jour de statut pour une candidature
      */
     long countByApplication(Application application);
+    
+    /**
+     * Compte en une requête les mises à jour de statut de chacune des candidatures données
+     * Une candidature sans mise à jour n'a pas de ligne dans le résultat.
+     */
+    @Query("SELECT new com.candiflow.api.repository.projection.IdCountProjection(su.application.id, COUNT(su)) "
+            + "FROM StatusUpdate su WHERE su.application.id IN :applicationIds GROUP BY su.application.id")
+    List<IdCountProjection> countByApplicationIds(@Param("applicationIds") Collection<UUID> applicationIds);
+    
+    /**
+     * Récupère les mises à jour de statut des candidatures d'un utilisateur dont le numéro de changement est compris
+     * dans (after, upTo], par numéro croissant, avec leur statut
+     */
+    @Query("SELECT su FROM StatusUpdate su JOIN FETCH su.status WHERE su.application.user.id = :userId "
+            + "AND su.changeSeq > :after AND su.changeSeq <= :upTo ORDER BY su.changeSeq")
+    List<StatusUpdate> findChanged(@Param("userId") UUID userId, @Param("after") long after,
+                                   @Param("upTo") long upTo, Limit limit);
 }
@@ -0,0 +1,32 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.SyncSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SyncSequenceRepository extends JpaRepository<SyncSequence, UUID> {
+    
+    /**
+     * Réserve des numéros de changement pour un utilisateur, en créant au besoin sa séquence, en une requête atomique
+     * La ligne reste verrouillée jusqu'à la fin de la transaction. Traduit en INSERT ... ON CONFLICT DO UPDATE
+     * sous PostgreSQL, en MERGE sous H2.
+     * @return Nombre de lignes insérées ou mises à jour
+     */
+    @Modifying
+    @Query("INSERT INTO SyncSequence (userId, lastValue) VALUES (:userId, :count) "
+            + "ON CONFLICT (userId) DO UPDATE SET lastValue = lastValue + excluded.lastValue")
+    int increment(@Param("userId") UUID userId, @Param("count") long count);
+    
+    /**
+     * Récupère le dernier numéro de changement attribué à un utilisateur
+     */
+    @Query("SELECT s.lastValue FROM SyncSequence s WHERE s.userId = :userId")
+    Optional<Long> findLastValue(@Param("userId") UUID userId);
+}
@@ -0,0 +1,34 @@
+package com.candiflow.api.repository;
+
+import com.candiflow.api.model.entity.SyncTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, UUID> {
+    
+    /**
+     * Récupère les suppressions d'un utilisateur dont le numéro de changement est compris dans (after, upTo],
+     * par numéro croissant
+     */
+    @Query("SELECT t FROM SyncTombstone t WHERE t.userId = :userId AND t.changeSeq > :after AND t.changeSeq <= :upTo "
+            + "ORDER BY t.changeSeq")
+    List<SyncTombstone> findChanged(@Param("userId") UUID userId, @Param("after") long after,
+                                    @Param("upTo") long upTo, Limit limit);
+    
+    /**
+     * Supprime les pierres tombales antérieures à une date
+     * @return Nombre de pierres tombales supprimées
+     */
+    @Modifying
+    @Query("DELETE FROM SyncTombstone t WHERE t.deletedAt < :before")
+    int deleteByDeletedAtBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,18 @@
+package com.candiflow.api.repository.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Nombre de candidats d'une offre partageant la même source, la même étape et la même date de candidature
+ *
+ * @param jobOpeningId ID de l'offre d'emploi
+ * @param recruiterId ID du recruteur de l'offre
+ * @param sourceId ID de la source (peut être null)
+ * @param stageId ID de l'étape courante
+ * @param applicationDate Date de candidature (peut être null)
+ * @param count Nombre de candidats
+ */
+public record ApplicantDayCountProjection(UUID jobOpeningId, UUID recruiterId, UUID sourceId, UUID stageId,
+                                          LocalDate applicationDate, long count) {
+}
@@ -0,0 +1,20 @@
+package com.candiflow.api.repository.projection;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Dimensions d'un candidat utilisées par les statistiques, sans ses données personnelles
+ *
+ * @param applicantId ID du candidat
+ * @param jobOpeningId ID de l'offre d'emploi
+ * @param recruiterId ID du recruteur de l'offre
+ * @param stageId ID de l'étape courante
+ * @param sourceId ID de la source du candidat (peut être null)
+ * @param applicationDate Date de candidature (peut être null)
+ * @param updatedAt Date de dernière mise à jour du candidat
+ */
+public record ApplicantFactProjection(UUID applicantId, UUID jobOpeningId, UUID recruiterId, UUID stageId, UUID sourceId,
+                                      LocalDate applicationDate, Instant updatedAt) {
+}
@@ -0,0 +1,19 @@
+package com.candiflow.api.repository.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Ligne agrégée du cube des candidats
+ * Les dimensions qui ne font pas partie du regroupement demandé sont null.
+ *
+ * @param recruiterId ID du recruteur
+ * @param jobOpeningId ID de l'offre d'emploi
+ * @param sourceId ID de la source
+ * @param stageId ID de l'étape
+ * @param weekStart Lundi de la semaine ISO de candidature
+ * @param count Nombre de candidats
+ */
+public record ApplicantRollupProjection(UUID recruiterId, UUID jobOpeningId, UUID sourceId, UUID stageId,
+                                        LocalDate weekStart, long count) {
+}
@@ -0,0 +1,20 @@
+package com.candiflow.api.repository.projection;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection légère d'un candidat et de son étape courante, sans chargement de l'entité
+ *
+ * @param applicantId ID du candidat
+ * @param name Nom du candidat
+ * @param email Email du candidat
+ * @param stageId ID de l'étape courante
+ * @param sourceId ID de la source du candidat
+ * @param applicationDate Date de candidature
+ * @param stageEnteredAt Entrée dans l'étape courante
+ */
+public record ApplicantStageProjection(UUID applicantId, String name, String email, UUID stageId, UUID sourceId,
+                                       LocalDate applicationDate, Instant stageEnteredAt) {
+}
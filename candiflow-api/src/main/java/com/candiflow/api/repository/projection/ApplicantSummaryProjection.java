@@ -0,0 +1,30 @@
+package com.candiflow.api.repository.projection;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection d'un candidat tel qu'affiché dans les listes et les résultats de recherche
+ * Sans les chemins de CV et de lettre de motivation, renvoyés uniquement par le détail du candidat.
+ *
+ * @param applicantId ID du candidat
+ * @param jobOpeningId ID de l'offre d'emploi
+ * @param name Nom du candidat
+ * @param email Email du candidat
+ * @param phone Téléphone du candidat
+ * @param applicationDate Date de candidature
+ * @param createdAt Date de création
+ * @param updatedAt Date de dernière activité
+ * @param version Version du candidat
+ * @param stageId ID de l'étape courante
+ * @param stageName Nom de l'étape courante
+ * @param endStage Indique si l'étape courante est une étape finale
+ * @param sourceId ID de la source du candidat (null si aucune)
+ * @param sourceName Nom de la source du candidat (null si aucune)
+ */
+public record ApplicantSummaryProjection(UUID applicantId, UUID jobOpeningId, String name, String email, String phone,
+                                         LocalDate applicationDate, Instant createdAt, Instant updatedAt, Long version,
+                                         UUID stageId, String stageName, boolean endStage,
+                                         UUID sourceId, String sourceName) {
+}
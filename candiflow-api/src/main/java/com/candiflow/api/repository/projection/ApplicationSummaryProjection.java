@@ -0,0 +1,23 @@
+package com.candiflow.api.repository.projection;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection d'une candidature telle qu'affichée dans les listes et les résultats de recherche
+ * Sans les notes générales, renvoyées uniquement par le détail de la candidature.
+ *
+ * @param applicationId ID de la candidature
+ * @param companyName Nom de l'entreprise
+ * @param jobTitle Intitulé du poste
+ * @param jobUrl Lien vers l'offre
+ * @param dateApplied Date de candidature
+ * @param followUpDate Date de relance
+ * @param createdAt Date de création
+ * @param updatedAt Date de dernière modification
+ */
+public record ApplicationSummaryProjection(UUID applicationId, String companyName, String jobTitle, String jobUrl,
+                                           Instant dateApplied, LocalDate followUpDate, Instant createdAt,
+                                           Instant updatedAt) {
+}
@@ -0,0 +1,19 @@
+package com.candiflow.api.repository.projection;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection d'un candidat tel qu'affiché dans une colonne du tableau de pipeline
+ *
+ * @param applicantId ID du candidat
+ * @param name Nom du candidat
+ * @param email Email du candidat
+ * @param applicationDate Date de candidature
+ * @param updatedAt Date de dernière activité
+ * @param rankKey Clé de rang manuel dans la colonne
+ */
+public record BoardCardProjection(UUID applicantId, String name, String email, LocalDate applicationDate,
+                                  Instant updatedAt, String rankKey) {
+}
@@ -0,0 +1,26 @@
+package com.candiflow.api.repository.projection;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Ligne du tableau de pipeline : une étape active et l'un de ses premiers candidats
+ * Une étape sans candidat produit une seule ligne dont les champs du candidat sont nuls.
+ *
+ * @param stageId ID de l'étape
+ * @param stageName Nom de l'étape
+ * @param displayOrder Ordre d'affichage de l'étape
+ * @param endStage Indique si l'étape est finale
+ * @param stageCount Nombre total de candidats de l'offre dans l'étape (null si aucun)
+ * @param applicantId ID du candidat
+ * @param name Nom du candidat
+ * @param email Email du candidat
+ * @param applicationDate Date de candidature
+ * @param updatedAt Date de dernière activité du candidat
+ * @param rankKey Clé de rang manuel du candidat dans l'étape
+ */
+public record BoardRowProjection(UUID stageId, String stageName, Integer displayOrder, boolean endStage,
+                                 Long stageCount, UUID applicantId, String name, String email,
+                                 LocalDate applicationDate, Instant updatedAt, String rankKey) {
+}
@@ -0,0 +1,12 @@
+package com.candiflow.api.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Valeur d'un compteur pour un jour
+ *
+ * @param day Jour
+ * @param count Valeur du compteur
+ */
+public record DayCountProjection(LocalDate day, long count) {
+}
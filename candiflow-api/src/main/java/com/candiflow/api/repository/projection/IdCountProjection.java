@@ -0,0 +1,12 @@
+package com.candiflow.api.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Nombre de lignes rattachées à un identifiant, lu par une requête groupée
+ *
+ * @param id Identifiant de regroupement
+ * @param count Nombre de lignes rattachées
+ */
+public record IdCountProjection(UUID id, long count) {
+}
@@ -0,0 +1,21 @@
+package com.candiflow.api.repository.projection;
+
+import com.candiflow.api.model.enums.JobStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Projection d'une offre d'emploi telle qu'affichée dans les listes et les résultats de recherche
+ * Sans la description, renvoyée uniquement par le détail de l'offre.
+ *
+ * @param jobOpeningId ID de l'offre
+ * @param title Titre de l'offre
+ * @param status Statut de l'offre
+ * @param createdAt Date de création
+ * @param updatedAt Date de dernière modification
+ * @param version Version de l'offre
+ */
+public record JobOpeningSummaryProjection(UUID jobOpeningId, String title, JobStatus status, Instant createdAt,
+                                          Instant updatedAt, Long version) {
+}
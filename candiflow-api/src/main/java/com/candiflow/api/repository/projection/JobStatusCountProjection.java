@@ -0,0 +1,12 @@
+package com.candiflow.api.repository.projection;
+
+import com.candiflow.api.model.enums.JobStatus;
+
+/**
+ * Nombre d'offres d'un statut, lu par une requête groupée
+ *
+ * @param status Statut des offres
+ * @param count Nombre d'offres ayant ce statut
+ */
+public record JobStatusCountProjection(JobStatus status, long count) {
+}
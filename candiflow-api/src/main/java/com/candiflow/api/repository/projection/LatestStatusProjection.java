@@ -0,0 +1,15 @@
+package com.candiflow.api.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Dernière mise à jour de statut d'une candidature
+ *
+ * @param applicationId ID de la candidature
+ * @param statusUpdateId ID de la mise à jour de statut
+ * @param statusName Nom du statut
+ * @param eventDate Date de l'événement
+ */
+public record LatestStatusProjection(UUID applicationId, UUID statusUpdateId, String statusName, Instant eventDate) {
+}
@@ -0,0 +1,13 @@
+package com.candiflow.api.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Projection de la position d'un candidat dans sa colonne du pipeline
+ *
+ * @param applicantId ID du candidat
+ * @param stageId ID de l'étape courante
+ * @param rankKey Clé de rang dans la colonne
+ */
+public record RankedApplicantProjection(UUID applicantId, UUID stageId, String rankKey) {
+}
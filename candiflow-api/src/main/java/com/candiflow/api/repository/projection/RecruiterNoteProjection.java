@@ -0,0 +1,18 @@
+package com.candiflow.api.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Projection d'une note de recruteur
+ * L'auteur n'est lu que par son ID : les auteurs d'une liste de notes sont chargés par lot.
+ *
+ * @param noteId ID de la note
+ * @param applicantId ID du candidat
+ * @param noteText Texte de la note
+ * @param createdAt Date de création
+ * @param authorId ID de l'auteur
+ */
+public record RecruiterNoteProjection(UUID noteId, UUID applicantId, String noteText, Instant createdAt,
+                                      UUID authorId) {
+}
@@ -0,0 +1,15 @@
+package com.candiflow.api.repository.projection;
+
+import com.candiflow.api.model.enums.DurationMetric;
+
+import java.util.UUID;
+
+/**
+ * Esquisse de quantiles compressée d'une offre, sans chargement de l'entité
+ *
+ * @param metric Durée mesurée
+ * @param stageId ID de l'étape
+ * @param payload Esquisse compressée
+ */
+public record SketchPayloadProjection(DurationMetric metric, UUID stageId, byte[] payload) {
+}
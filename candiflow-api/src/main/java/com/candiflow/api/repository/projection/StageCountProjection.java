@@ -0,0 +1,13 @@
+package com.candiflow.api.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Nombre de candidats d'une offre dans une étape du pipeline
+ *
+ * @param jobOpeningId ID de l'offre d'emploi
+ * @param stageId ID de l'étape
+ * @param count Nombre de candidats de l'offre dans l'étape
+ */
+public record StageCountProjection(UUID jobOpeningId, UUID stageId, long count) {
+}
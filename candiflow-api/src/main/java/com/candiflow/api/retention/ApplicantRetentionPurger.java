@@ -0,0 +1,298 @@
+package com.candiflow.api.retention;
+
+import com.candiflow.api.dto.admin.RetentionPurgeRunResponse;
+import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.model.entity.PendingFileDeletion;
+import com.candiflow.api.model.entity.RetentionPurgeRun;
+import com.candiflow.api.model.enums.PurgePhase;
+import com.candiflow.api.model.enums.PurgeRunStatus;
+import com.candiflow.api.observer.ApplicantsRemovedEvent;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.repository.ApplicantTagRepository;
+import com.candiflow.api.repository.ArchivedApplicantTagRepository;
+import com.candiflow.api.repository.ArchivedOpeningApplicantRepository;
+import com.candiflow.api.repository.ArchivedRecruiterNoteRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.PendingFileDeletionRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.RetentionPurgeRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Purge des données personnelles des candidats sans activité depuis la durée de conservation
+ * Les candidats, leurs notes et leurs tags sont supprimés par requêtes ensemblistes, sans passer par les cascades JPA,
+ * en lots bornés validés chacun dans sa propre transaction, avec une pause entre deux lots.
+ * Les tables vivantes sont purgées d'abord, puis les tables d'archive.
+ * L'état de la purge (date limite, étape, compteurs) est enregistré à chaque lot : après un arrêt brutal,
+ * la purge reprend là où elle s'était arrêtée. Les fichiers (CV, lettres) sont inscrits dans la transaction
+ * qui supprime leur candidat, puis effacés du disque après validation.
+ */
+@Component
+@Slf4j
+public class ApplicantRetentionPurger {
+
+    private final OpeningApplicantRepository openingApplicantRepository;
+    private final RecruiterNoteRepository recruiterNoteRepository;
+    private final ApplicantTagRepository applicantTagRepository;
+    private final ArchivedOpeningApplicantRepository archivedOpeningApplicantRepository;
+    private final ArchivedRecruiterNoteRepository archivedRecruiterNoteRepository;
+    private final ArchivedApplicantTagRepository archivedApplicantTagRepository;
+    private final PendingFileDeletionRepository pendingFileDeletionRepository;
+    private final RetentionPurgeRunRepository runRepository;
+    private final RetentionProperties properties;
+    private final EventManager eventManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public ApplicantRetentionPurger(OpeningApplicantRepository openingApplicantRepository,
+                                    RecruiterNoteRepository recruiterNoteRepository,
+                                    ApplicantTagRepository applicantTagRepository,
+                                    ArchivedOpeningApplicantRepository archivedOpeningApplicantRepository,
+                                    ArchivedRecruiterNoteRepository archivedRecruiterNoteRepository,
+                                    ArchivedApplicantTagRepository archivedApplicantTagRepository,
+                                    PendingFileDeletionRepository pendingFileDeletionRepository,
+                                    RetentionPurgeRunRepository runRepository,
+                                    RetentionProperties properties,
+                                    EventManager eventManager,
+                                    PlatformTransactionManager transactionManager) {
+        this.openingApplicantRepository = openingApplicantRepository;
+        this.recruiterNoteRepository = recruiterNoteRepository;
+        this.applicantTagRepository = applicantTagRepository;
+        this.archivedOpeningApplicantRepository = archivedOpeningApplicantRepository;
+        this.archivedRecruiterNoteRepository = archivedRecruiterNoteRepository;
+        this.archivedApplicantTagRepository = archivedApplicantTagRepository;
+        this.pendingFileDeletionRepository = pendingFileDeletionRepository;
+        this.runRepository = runRepository;
+        this.properties = properties;
+        this.eventManager = eventManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Lance ou reprend la purge planifiée
+     */
+    @Scheduled(fixedDelayString = "${candiflow.retention.interval:PT6H}")
+    public void purgeExpired() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            log.warn("Échec de la purge de rétention des candidats", e);
+        }
+    }
+
+    /**
+     * Reprend la purge interrompue s'il y en a une, sinon en démarre une nouvelle
+     * Au plus le nombre de lots configuré est traité ; la purge reste alors en cours et reprend au passage suivant.
+     * Une erreur est enregistrée dans la purge, qui reste en cours : elle est reprise au passage suivant,
+     * avec la même date limite, plutôt que remplacée par une nouvelle purge.
+     * @return État de la purge à la fin du passage
+     */
+    public RetentionPurgeRun purge() {
+        RetentionPurgeRun run = transactionTemplate.execute(status -> startOrResume());
+        UUID runId = run.getId();
+        try {
+            // Fichiers laissés par un arrêt entre la validation d'un lot et leur effacement
+            deletePendingFiles(runId);
+
+            for (int chunk = 0; chunk < properties.getMaxChunksPerRun() && run.getPhase() != PurgePhase.DONE; chunk++) {
+                RetentionPurgeRun current = run;
+                run = transactionTemplate.execute(status -> purgeChunk(current));
+                deletePendingFiles(runId);
+                log.debug("Purge de rétention {} : étape {}, {} candidat(s), {} note(s), {} tag(s), {} fichier(s)",
+                        runId, run.getPhase(), run.getApplicantsDeleted(), run.getNotesDeleted(),
+                        run.getTagsDeleted(), run.getFilesDeleted());
+                if (run.getPhase() != PurgePhase.DONE && !pause()) {
+                    break;
+                }
+            }
+
+            if (run.getPhase() == PurgePhase.DONE) {
+                run = transactionTemplate.execute(status -> finish(runId, PurgeRunStatus.COMPLETED, null));
+                log.info("Purge de rétention {} terminée pour les candidats inactifs depuis {} : {} candidat(s), "
+                                + "{} note(s), {} tag(s), {} fichier(s)", runId, run.getCutoff(), run.getApplicantsDeleted(),
+                        run.getNotesDeleted(), run.getTagsDeleted(), run.getFilesDeleted());
+            }
+            return run;
+        } catch (RuntimeException e) {
+            // La purge reste en cours : le passage suivant la reprend avec sa date limite, l'erreur reste consultable
+            transactionTemplate.executeWithoutResult(status -> recordError(runId, e.getMessage()));
+            throw e;
+        }
+    }
+
+    /**
+     * Récupère l'historique des purges, de la plus récente à la plus ancienne selon la pagination demandée
+     */
+    @Transactional(readOnly = true)
+    public Page<RetentionPurgeRunResponse> getRuns(Pageable pageable) {
+        return runRepository.findAll(pageable).map(this::mapToResponse);
+    }
+
+    /**
+     * Récupère l'état d'une purge
+     */
+    @Transactional(readOnly = true)
+    public RetentionPurgeRunResponse getRun(UUID id) {
+        return runRepository.findById(id)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Purge de rétention non trouvée avec l'ID: " + id));
+    }
+
+    private RetentionPurgeRun startOrResume() {
+        return runRepository.findFirstByStatusOrderByCreatedAtDesc(PurgeRunStatus.RUNNING)
+                .map(run -> {
+                    log.info("Reprise de la purge de rétention {} à l'étape {}", run.getId(), run.getPhase());
+                    return run;
+                })
+                .orElseGet(() -> {
+                    RetentionPurgeRun run = new RetentionPurgeRun();
+                    run.setCutoff(Instant.now().minus(properties.getRetention()));
+                    return runRepository.save(run);
+                });
+    }
+
+    /**
+     * Supprime un lot de candidats de l'étape courante, ou passe à l'étape suivante s'il n'en reste plus
+     */
+    private RetentionPurgeRun purgeChunk(RetentionPurgeRun snapshot) {
+        Instant now = Instant.now();
+        Limit limit = Limit.of(properties.getChunkSize());
+        List<UUID> applicantIds;
+        int tags = 0;
+        int notes = 0;
+        int applicants = 0;
+
+        if (snapshot.getPhase() == PurgePhase.LIVE) {
+            applicantIds = openingApplicantRepository.lockIdsByUpdatedAtBefore(snapshot.getCutoff(), limit);
+            if (!applicantIds.isEmpty()) {
+                List<UUID> jobOpeningIds = openingApplicantRepository.findJobOpeningIdsByIds(applicantIds);
+                pendingFileDeletionRepository.addApplicantFiles(applicantIds, now);
+                tags = applicantTagRepository.deleteByApplicantIds(applicantIds);
+                notes = recruiterNoteRepository.deleteByApplicantIds(applicantIds);
+                applicants = openingApplicantRepository.deleteAllByIds(applicantIds);
+                eventManager.fireEventAfterCommit(new ApplicantsRemovedEvent(getClass().getSimpleName(), applicantIds, jobOpeningIds));
+            }
+        } else {
+            applicantIds = archivedOpeningApplicantRepository.findIdsByUpdatedAtBefore(snapshot.getCutoff(), limit);
+            if (!applicantIds.isEmpty()) {
+                pendingFileDeletionRepository.addArchivedApplicantFiles(applicantIds, now);
+                tags = archivedApplicantTagRepository.deleteByApplicantIds(applicantIds);
+                notes = archivedRecruiterNoteRepository.deleteByApplicantIds(applicantIds);
+                applicants = archivedOpeningApplicantRepository.deleteAllByIds(applicantIds);
+            }
+        }
+
+        // Rechargée après les suppressions, qui vident le contexte de persistance
+        RetentionPurgeRun run = runRepository.findById(snapshot.getId()).orElseThrow();
+        if (applicantIds.isEmpty()) {
+            run.setPhase(snapshot.getPhase() == PurgePhase.LIVE ? PurgePhase.ARCHIVE : PurgePhase.DONE);
+        } else {
+            run.setChunks(run.getChunks() + 1);
+            run.setApplicantsDeleted(run.getApplicantsDeleted() + applicants);
+            run.setNotesDeleted(run.getNotesDeleted() + notes);
+            run.setTagsDeleted(run.getTagsDeleted() + tags);
+        }
+        return runRepository.save(run);
+    }
+
+    /**
+     * Efface du disque les fichiers en attente, par lots, et retire leurs inscriptions
+     * Un fichier impossible à effacer est journalisé puis abandonné, pour ne pas bloquer les suivants.
+     */
+    private void deletePendingFiles(UUID runId) {
+        while (true) {
+            List<PendingFileDeletion> pending = pendingFileDeletionRepository.findOldest(Limit.of(properties.getChunkSize()));
+            if (pending.isEmpty()) {
+                return;
+            }
+            int deleted = 0;
+            for (PendingFileDeletion files : pending) {
+                deleted += deleteFile(files.getCvStoragePath());
+                deleted += deleteFile(files.getCoverLetterStoragePath());
+            }
+            List<UUID> applicantIds = pending.stream().map(PendingFileDeletion::getApplicantId).toList();
+            int filesDeleted = deleted;
+            transactionTemplate.executeWithoutResult(status -> {
+                pendingFileDeletionRepository.deleteAllByIds(applicantIds);
+                runRepository.findById(runId).ifPresent(run -> run.setFilesDeleted(run.getFilesDeleted() + filesDeleted));
+            });
+        }
+    }
+
+    private int deleteFile(String storagePath) {
+        if (storagePath == null || storagePath.isBlank()) {
+            return 0;
+        }
+        try {
+            return Files.deleteIfExists(Paths.get(storagePath)) ? 1 : 0;
+        } catch (IOException | InvalidPathException e) {
+            log.warn("Impossible de supprimer le fichier {} : {}", storagePath, e.getMessage());
+            return 0;
+        }
+    }
+
+    private void recordError(UUID runId, String error) {
+        runRepository.findById(runId).ifPresent(run -> {
+            run.setLastError(error);
+            runRepository.save(run);
+        });
+    }
+
+    private RetentionPurgeRun finish(UUID runId, PurgeRunStatus status, String error) {
+        RetentionPurgeRun run = runRepository.findById(runId).orElseThrow();
+        run.setStatus(status);
+        run.setFinishedAt(Instant.now());
+        run.setLastError(error);
+        return runRepository.save(run);
+    }
+
+    private boolean pause() {
+        long millis = properties.getPauseBetweenChunks().toMillis();
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private RetentionPurgeRunResponse mapToResponse(RetentionPurgeRun run) {
+        return RetentionPurgeRunResponse.builder()
+                .id(run.getId())
+                .cutoff(run.getCutoff())
+                .status(run.getStatus())
+                .phase(run.getPhase())
+                .chunks(run.getChunks())
+                .applicantsDeleted(run.getApplicantsDeleted())
+                .notesDeleted(run.getNotesDeleted())
+                .tagsDeleted(run.getTagsDeleted())
+                .filesDeleted(run.getFilesDeleted())
+                .startedAt(run.getCreatedAt())
+                .updatedAt(run.getUpdatedAt())
+                .finishedAt(run.getFinishedAt())
+                .lastError(run.getLastError())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.candiflow.api.retention;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration de la purge des données personnelles des candidats
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.retention")
+public class RetentionProperties {
+
+    /**
+     * Active ou désactive la purge planifiée (désactivée par défaut : elle supprime définitivement des données)
+     */
+    private boolean enabled = false;
+
+    /**
+     * Durée de conservation d'un candidat après sa dernière activité
+     */
+    private Duration retention = Duration.ofDays(730);
+
+    /**
+     * Intervalle entre deux passages de la purge
+     */
+    private Duration interval = Duration.ofHours(6);
+
+    /**
+     * Nombre maximal de candidats supprimés par transaction
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Pause entre deux transactions, pour limiter la charge imposée à la base
+     */
+    private Duration pauseBetweenChunks = Duration.ofMillis(500);
+
+    /**
+     * Nombre maximal de transactions par passage ; une purge inachevée reprend au passage suivant
+     */
+    private int maxChunksPerRun = 1000;
+}
@@ -0,0 +1,44 @@
+package com.candiflow.api.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Détermine une clé stable identifiant le client à l'origine d'une requête
+ * L'utilisateur authentifié est privilégié ; à défaut, l'adresse IP est utilisée.
+ */
+@Component
+public class ClientKeyResolver {
+
+    private static final String USER_PREFIX = "user:";
+    private static final String IP_PREFIX = "ip:";
+
+    /**
+     * Résout la clé du client pour une requête
+     * @param request Requête HTTP
+     * @return Clé du client ("user:email" ou "ip:adresse")
+     */
+    public String resolve(HttpServletRequest request) {
+        String user = currentUserKey();
+        if (user != null) {
+            return user;
+        }
+        return IP_PREFIX + request.getRemoteAddr();
+    }
+
+    /**
+     * Résout la clé de l'utilisateur authentifié dans le contexte de sécurité courant
+     * @return Clé de l'utilisateur, ou null si la requête est anonyme
+     */
+    public String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return USER_PREFIX + authentication.getName();
+    }
+}
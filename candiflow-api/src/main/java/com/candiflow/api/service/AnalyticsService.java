@@ -0,0 +1,152 @@
+package com.candiflow.api.service;
+
+import com.candiflow.api.dto.dashboard.ApplicantRollupQuery;
+import com.candiflow.api.dto.dashboard.ApplicantRollupResponse;
+import com.candiflow.api.model.entity.ApplicantRollup;
+import com.candiflow.api.model.entity.CandidateSource;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.model.enums.RollupDimension;
+import com.candiflow.api.repository.ApplicantRollupRepository;
+import com.candiflow.api.repository.CandidateSourceRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.UserRepository;
+import com.candiflow.api.repository.projection.ApplicantRollupProjection;
+import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service d'analyse du cube des candidats (sourcing par recruteur, offre, source, étape et semaine)
+ * Les requêtes ne lisent que la table pré-agrégée applicant_rollups, jamais la table des candidats ;
+ * seuls les libellés des dimensions regroupées sont lus ensuite, par identifiants.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+
+    private final ApplicantRollupRepository applicantRollupRepository;
+    private final UserRepository userRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final CandidateSourceRepository candidateSourceRepository;
+    private final PipelineStageRepository pipelineStageRepository;
+
+    /**
+     * Filtre le cube des candidats et le regroupe par les dimensions demandées
+     * @param query Filtres et dimensions de regroupement
+     * @return Lignes agrégées avec les libellés de leurs dimensions, et total des candidats retenus
+     */
+    @Transactional(readOnly = true)
+    public ApplicantRollupResponse getApplicantRollup(ApplicantRollupQuery query) {
+        Set<RollupDimension> groupBy = query.getGroupBy() == null || query.getGroupBy().isEmpty()
+                ? EnumSet.noneOf(RollupDimension.class)
+                : EnumSet.copyOf(query.getGroupBy());
+        List<ApplicantRollupProjection> rows = applicantRollupRepository.aggregate(createSpecification(query), groupBy);
+
+        Map<UUID, String> recruiterNames = names(rows, ApplicantRollupProjection::recruiterId,
+                userRepository::findAllById, User::getId, User::getName);
+        Map<UUID, String> jobOpeningTitles = names(rows, ApplicantRollupProjection::jobOpeningId,
+                jobOpeningRepository::findAllById, JobOpening::getId, JobOpening::getTitle);
+        Map<UUID, String> sourceNames = names(rows, ApplicantRollupProjection::sourceId,
+                candidateSourceRepository::findAllById, CandidateSource::getId, CandidateSource::getName);
+        Map<UUID, String> stageNames = names(rows, ApplicantRollupProjection::stageId,
+                pipelineStageRepository::findAllById, PipelineStage::getId, PipelineStage::getName);
+
+        List<ApplicantRollupResponse.Row> responseRows = rows.stream()
+                .map(row -> ApplicantRollupResponse.Row.builder()
+                        .recruiterId(row.recruiterId())
+                        .recruiterName(recruiterNames.get(row.recruiterId()))
+                        .jobOpeningId(row.jobOpeningId())
+                        .jobOpeningTitle(jobOpeningTitles.get(row.jobOpeningId()))
+                        .sourceId(row.sourceId())
+                        .sourceName(sourceNames.get(row.sourceId()))
+                        .stageId(row.stageId())
+                        .stageName(stageNames.get(row.stageId()))
+                        .weekStart(row.weekStart())
+                        .week(isoWeek(row.weekStart()))
+                        .count(row.count())
+                        .build())
+                .toList();
+
+        return ApplicantRollupResponse.builder()
+                .groupBy(Arrays.stream(RollupDimension.values()).filter(groupBy::contains).toList())
+                .totalApplicants(rows.stream().mapToLong(ApplicantRollupProjection::count).sum())
+                .rows(responseRows)
+                .build();
+    }
+
+    private Specification<ApplicantRollup> createSpecification(ApplicantRollupQuery query) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (query.getRecruiterId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("recruiterId"), query.getRecruiterId()));
+            }
+            if (query.getJobOpeningId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("jobOpeningId"), query.getJobOpeningId()));
+            }
+            if (query.getSourceId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("sourceId"), query.getSourceId()));
+            }
+            if (query.getStageId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("stageId"), query.getStageId()));
+            }
+
+            // Bornes de semaine : les candidats sans date de candidature en sont exclus
+            if (query.getFrom() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("weekStart"), weekStart(query.getFrom())));
+            }
+            if (query.getTo() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("weekStart"), weekStart(query.getTo())));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Libellés des identifiants d'une dimension présents dans les lignes, lus en une requête
+     */
+    private static <E> Map<UUID, String> names(List<ApplicantRollupProjection> rows,
+                                                Function<ApplicantRollupProjection, UUID> dimension,
+                                                Function<Set<UUID>, List<E>> loader,
+                                                Function<E, UUID> id, Function<E, String> name) {
+        Set<UUID> ids = rows.stream().map(dimension).filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            // Map.of() refuse la recherche d'une clé null
+            return Collections.emptyMap();
+        }
+        return loader.apply(ids).stream().collect(Collectors.toMap(id, name));
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static String isoWeek(LocalDate weekStart) {
+        if (weekStart == null) {
+            return null;
+        }
+        return String.format("%d-W%02d", weekStart.get(IsoFields.WEEK_BASED_YEAR), weekStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+}
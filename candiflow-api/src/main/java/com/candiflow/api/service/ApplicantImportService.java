@@ -0,0 +1,306 @@
+package com.candiflow.api.service;
+
+import com.candiflow.api.dto.recruiter.ApplicantImportResponse;
+import com.candiflow.api.dto.recruiter.OpeningApplicantRequest;
+import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.model.entity.CandidateSource;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.entity.RecruiterNote;
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.Event;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.ranking.RankKeys;
+import com.candiflow.api.repository.CandidateSourceRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service d'import de candidats en masse
+ * Le fichier (CSV ou JSON) est lu en flux, les références (offre, étapes, sources, emails existants)
+ * sont résolues une seule fois, et les insertions sont envoyées par lots JDBC.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicantImportService {
+
+    private static final String EVENT_SOURCE = "ApplicantImportService";
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final OpeningApplicantRepository openingApplicantRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final PipelineStageRepository pipelineStageRepository;
+    private final CandidateSourceRepository candidateSourceRepository;
+    private final RecruiterNoteRepository recruiterNoteRepository;
+    private final PipelineStageService pipelineStageService;
+    private final EventManager eventManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    // Aligné sur hibernate.jdbc.batch_size : un lot applicatif correspond à un lot JDBC
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int batchSize = 100;
+
+    /**
+     * Format du fichier importé
+     */
+    public enum Format {
+        CSV,
+        JSON;
+
+        /**
+         * Déduit le format à partir du type de contenu de la requête
+         * @param contentType Type de contenu
+         * @return Format correspondant
+         */
+        public static Format fromContentType(MediaType contentType) {
+            if (contentType != null && contentType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return JSON;
+            }
+            return CSV;
+        }
+    }
+
+    /**
+     * Importe des candidats pour une offre d'emploi
+     * CSV : une ligne d'en-tête reprenant les champs de {@link OpeningApplicantRequest} (name, email, phone...).
+     * JSON : un tableau d'objets {@link OpeningApplicantRequest}.
+     * Une ligne invalide ou en doublon n'interrompt pas l'import : elle est signalée dans le résultat.
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param content Contenu du fichier, lu en flux
+     * @param format Format du fichier
+     * @param recruiter Utilisateur effectuant l'import
+     * @return Résultat ligne par ligne
+     */
+    @Transactional
+    public ApplicantImportResponse importApplicants(UUID jobOpeningId, InputStream content, Format format, User recruiter)
+            throws IOException {
+        JobOpening jobOpening = jobOpeningRepository.findById(jobOpeningId)
+                .orElseThrow(() -> new ResourceNotFoundException("Offre d'emploi non trouvée avec l'ID: " + jobOpeningId));
+
+        // Références résolues une seule fois pour tout le fichier
+        Map<UUID, PipelineStage> stages = pipelineStageRepository.findAll().stream()
+                .collect(Collectors.toMap(PipelineStage::getId, Function.identity()));
+        Map<UUID, CandidateSource> sources = candidateSourceRepository.findAll().stream()
+                .collect(Collectors.toMap(CandidateSource::getId, Function.identity()));
+        PipelineStage defaultStage = pipelineStageService.getDefaultStage();
+        CandidateSource defaultSource = candidateSourceRepository.findDefaultSource().orElse(null);
+        Set<String> knownEmails = openingApplicantRepository.findEmailsByJobOpening(jobOpening);
+        Map<UUID, String> lastRankKeys = new HashMap<>();
+
+        ApplicantImportResponse response = ApplicantImportResponse.builder().build();
+        List<OpeningApplicant> batch = new ArrayList<>(batchSize);
+        List<RecruiterNote> batchNotes = new ArrayList<>();
+        List<ApplicantImportResponse.RowResult> batchRows = new ArrayList<>(batchSize);
+        List<Event> events = new ArrayList<>();
+
+        int rowNumber = 0;
+        try (MappingIterator<OpeningApplicantRequest> rows = readerFor(format).readValues(content)) {
+            while (true) {
+                OpeningApplicantRequest request;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    rowNumber++;
+                    request = rows.nextValue();
+                } catch (JsonParseException e) {
+                    // Fichier mal formé : impossible de se resynchroniser sur l'enregistrement suivant
+                    response.getRows().add(invalid(rowNumber, null, "Fichier mal formé: " + e.getOriginalMessage()));
+                    break;
+                } catch (DatabindException e) {
+                    response.getRows().add(invalid(rowNumber, null, "Valeur invalide: " + describe(e)));
+                    continue;
+                }
+
+                String violations = validate(request);
+                if (violations != null) {
+                    response.getRows().add(invalid(rowNumber, request.getEmail(), violations));
+                    continue;
+                }
+                if (request.getEmail() != null && !knownEmails.add(request.getEmail())) {
+                    response.getRows().add(ApplicantImportResponse.RowResult.builder()
+                            .rowNumber(rowNumber)
+                            .status(ApplicantImportResponse.RowStatus.DUPLICATE)
+                            .email(request.getEmail())
+                            .message("Un candidat avec cet email existe déjà pour cette offre d'emploi")
+                            .build());
+                    continue;
+                }
+
+                PipelineStage stage = request.getPipelineStageId() != null
+                        ? stages.getOrDefault(request.getPipelineStageId(), defaultStage) : defaultStage;
+                OpeningApplicant applicant = toApplicant(request, jobOpening, stage,
+                        request.getSourceId() != null ? sources.getOrDefault(request.getSourceId(), defaultSource) : defaultSource);
+                // Candidats ajoutés en fin de colonne, dans l'ordre du fichier
+                applicant.setRankKey(lastRankKeys.compute(stage.getId(), (stageId, last) -> RankKeys.after(last != null
+                        ? last : openingApplicantRepository.findLastRankKey(jobOpeningId, stageId))));
+                batch.add(applicant);
+                if (request.getInitialNotes() != null && !request.getInitialNotes().trim().isEmpty()) {
+                    batchNotes.add(toNote(applicant, request.getInitialNotes(), recruiter));
+                }
+                batchRows.add(ApplicantImportResponse.RowResult.builder()
+                        .rowNumber(rowNumber)
+                        .status(ApplicantImportResponse.RowStatus.IMPORTED)
+                        .email(request.getEmail())
+                        .build());
+
+                if (batch.size() >= batchSize) {
+                    events.add(flushBatch(batch, batchNotes, batchRows, response));
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            events.add(flushBatch(batch, batchNotes, batchRows, response));
+        }
+
+        response.getRows().sort(Comparator.comparingInt(ApplicantImportResponse.RowResult::getRowNumber));
+        response.setTotalRows(response.getRows().size());
+        response.setImportedCount(countRows(response, ApplicantImportResponse.RowStatus.IMPORTED));
+        response.setDuplicateCount(countRows(response, ApplicantImportResponse.RowStatus.DUPLICATE));
+        response.setInvalidCount(countRows(response, ApplicantImportResponse.RowStatus.INVALID));
+
+        events.forEach(eventManager::fireEventAfterCommit);
+        log.info("Import de candidats pour l'offre {}: {} importé(s), {} doublon(s), {} invalide(s)",
+                jobOpeningId, response.getImportedCount(), response.getDuplicateCount(), response.getInvalidCount());
+        return response;
+    }
+
+    /**
+     * Insère un lot puis vide le contexte de persistance pour borner la mémoire utilisée
+     * @return Événement décrivant le lot inséré
+     */
+    private Event flushBatch(List<OpeningApplicant> batch, List<RecruiterNote> batchNotes,
+                             List<ApplicantImportResponse.RowResult> batchRows, ApplicantImportResponse response) {
+        openingApplicantRepository.saveAll(batch);
+        recruiterNoteRepository.saveAll(batchNotes);
+        entityManager.flush();
+
+        List<ApplicantSnapshot> snapshots = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            OpeningApplicant applicant = batch.get(i);
+            batchRows.get(i).setApplicantId(applicant.getId());
+            snapshots.add(ApplicantSnapshot.of(applicant, null));
+        }
+        response.getRows().addAll(batchRows);
+
+        entityManager.clear();
+        batch.clear();
+        batchNotes.clear();
+        batchRows.clear();
+        return ApplicantBatchEvent.imported(EVENT_SOURCE, snapshots);
+    }
+
+    private ObjectReader readerFor(Format format) {
+        if (format == Format.JSON) {
+            return objectMapper.readerFor(OpeningApplicantRequest.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        }
+        return CSV_MAPPER.readerFor(OpeningApplicantRequest.class)
+                .with(CSV_MAPPER.schemaWithHeader().withColumnReordering(true));
+    }
+
+    private OpeningApplicant toApplicant(OpeningApplicantRequest request, JobOpening jobOpening,
+                                         PipelineStage stage, CandidateSource source) {
+        OpeningApplicant applicant = new OpeningApplicant();
+        applicant.setJobOpening(jobOpening);
+        applicant.setName(request.getName());
+        applicant.setEmail(request.getEmail());
+        applicant.setPhone(request.getPhone());
+        applicant.setCvStoragePath(request.getCvStoragePath());
+        applicant.setCoverLetterStoragePath(request.getCoverLetterStoragePath());
+        applicant.setApplicationDate(request.getApplicationDate() != null ? request.getApplicationDate() : LocalDate.now());
+        applicant.setCurrentStage(stage);
+        applicant.setSource(source);
+        applicant.setCreatedAt(Instant.now());
+        applicant.setUpdatedAt(Instant.now());
+        applicant.setStageEnteredAt(applicant.getUpdatedAt());
+        return applicant;
+    }
+
+    private RecruiterNote toNote(OpeningApplicant applicant, String text, User recruiter) {
+        RecruiterNote note = new RecruiterNote();
+        note.setApplicant(applicant);
+        note.setNoteText(text);
+        note.setAuthor(recruiter);
+        note.setCreatedAt(Instant.now());
+        return note;
+    }
+
+    private String validate(OpeningApplicantRequest request) {
+        Set<ConstraintViolation<OpeningApplicantRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private String describe(DatabindException e) {
+        if (e instanceof MismatchedInputException mismatch && !mismatch.getPath().isEmpty()) {
+            return "champ '" + mismatch.getPath().get(mismatch.getPath().size() - 1).getFieldName() + "'";
+        }
+        return e.getOriginalMessage();
+    }
+
+    private ApplicantImportResponse.RowResult invalid(int rowNumber, String email, String message) {
+        return ApplicantImportResponse.RowResult.builder()
+                .rowNumber(rowNumber)
+                .status(ApplicantImportResponse.RowStatus.INVALID)
+                .email(email)
+                .message(message)
+                .build();
+    }
+
+    private int countRows(ApplicantImportResponse response, ApplicantImportResponse.RowStatus status) {
+        return (int) response.getRows().stream().filter(row -> row.getStatus() == status).count();
+    }
+}
@@ -0,0 +1,119 @@
+package com.candiflow.api.service;
+
+import com.candiflow.api.dto.recruiter.ApplicantRankRequest;
+import com.candiflow.api.dto.recruiter.ApplicantRankResponse;
+import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.ranking.RankKeys;
+import com.candiflow.api.ranking.RankRebalancer;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.projection.RankedApplicantProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service de classement manuel des candidats dans les colonnes du pipeline
+ * Un déplacement ne modifie que la clé de rang du candidat déplacé, choisie entre celles de ses nouveaux voisins.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicantRankingService {
+
+    private final OpeningApplicantRepository openingApplicantRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final RankRebalancer rankRebalancer;
+
+    /**
+     * Déplace un candidat entre deux voisins de sa colonne
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param applicantId ID du candidat déplacé
+     * @param request Voisins à la position de dépôt
+     * @return Nouvelle position du candidat
+     * @throws IllegalArgumentException si un voisin n'est pas dans la même colonne ou si les voisins sont inversés
+     */
+    @Transactional
+    public ApplicantRankResponse moveApplicant(UUID jobOpeningId, UUID applicantId, ApplicantRankRequest request) {
+        JobOpening jobOpening = jobOpeningRepository.findById(jobOpeningId)
+                .orElseThrow(() -> new ResourceNotFoundException("Offre d'emploi non trouvée avec l'ID: " + jobOpeningId));
+        OpeningApplicant applicant = openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)
+                .orElseThrow(() -> new ResourceNotFoundException("Candidat non trouvé avec l'ID: " + applicantId));
+        UUID stageId = applicant.getCurrentStage().getId();
+
+        UUID previousId = request.getPreviousApplicantId();
+        UUID nextId = request.getNextApplicantId();
+        if (applicantId.equals(previousId) || applicantId.equals(nextId)) {
+            throw new IllegalArgumentException("Un candidat ne peut pas être son propre voisin");
+        }
+
+        // Verrouiller les voisins pour ne pas croiser une renumérotation de la colonne
+        List<UUID> neighbourIds = new ArrayList<>(2);
+        if (previousId != null) {
+            neighbourIds.add(previousId);
+        }
+        if (nextId != null) {
+            neighbourIds.add(nextId);
+        }
+        Map<UUID, String> neighbourKeys = new HashMap<>();
+        if (!neighbourIds.isEmpty()) {
+            for (RankedApplicantProjection neighbour : openingApplicantRepository.lockRanks(jobOpeningId, neighbourIds)) {
+                checkSameColumn(neighbour, stageId);
+                neighbourKeys.put(neighbour.applicantId(), neighbour.rankKey());
+            }
+        }
+        for (UUID neighbourId : neighbourIds) {
+            if (!neighbourKeys.containsKey(neighbourId)) {
+                throw new ResourceNotFoundException("Candidat non trouvé avec l'ID: " + neighbourId);
+            }
+        }
+
+        String previousKey = previousId != null ? neighbourKeys.get(previousId) : null;
+        String nextKey = nextId != null ? neighbourKeys.get(nextId) : null;
+        boolean rebalanced = false;
+        if (previousKey != null && nextKey != null && previousKey.compareTo(nextKey) >= 0) {
+            // Clés égales (déplacement groupé) : renuméroter la colonne pour départager les voisins
+            Map<UUID, String> keys = rankRebalancer.rebalance(jobOpeningId, stageId);
+            previousKey = keys.get(previousId);
+            nextKey = keys.get(nextId);
+            rebalanced = true;
+            if (previousKey.compareTo(nextKey) >= 0) {
+                throw new IllegalArgumentException("Les voisins indiqués ne sont pas dans l'ordre de la colonne");
+            }
+        }
+        if (previousId == null && nextId == null) {
+            // Colonne sans autre candidat, ou dépôt sans voisin : placer en fin de colonne
+            previousKey = openingApplicantRepository.findLastRankKey(jobOpeningId, stageId);
+        }
+
+        String rankKey = RankKeys.between(previousKey, nextKey);
+        openingApplicantRepository.updateRankKey(applicantId, rankKey);
+        if (rankRebalancer.needsRebalance(rankKey)) {
+            rankRebalancer.schedule(jobOpeningId, stageId);
+        }
+        log.debug("Candidat {} déplacé dans l'étape {} (rang {})", applicantId, stageId, rankKey);
+
+        return ApplicantRankResponse.builder()
+                .applicantId(applicantId)
+                .stageId(stageId)
+                .rankKey(rankKey)
+                .columnRebalanced(rebalanced)
+                .build();
+    }
+
+    private void checkSameColumn(RankedApplicantProjection neighbour, UUID stageId) {
+        if (!stageId.equals(neighbour.stageId())) {
+            throw new IllegalArgumentException("Le candidat " + neighbour.applicantId()
+                    + " n'est pas dans la même étape du pipeline");
+        }
+    }
+}
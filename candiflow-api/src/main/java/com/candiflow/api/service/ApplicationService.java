@@ -1,5 +1,8 @@
 package com.candiflow.api.service;
 
+import com.candiflow.api.batch.BatchKeys;
+import com.candiflow.api.batch.BatchLoadContext;
+import com.candiflow.api.batch.BatchLoader;
 import com.candiflow.api.dto.application.ApplicationRequest;
 import com.candiflow.api.dto.application.ApplicationResponse;
 import com.candiflow.api.dto.application.StatusUpdateRequest;
@@ -9,6 +12,9 @@ import com.candiflow.api.model.entity.StatusUpdate;
 import com.candiflow.api.model.entity.User;
 import com.candiflow.api.repository.ApplicationRepository;
 import com.candiflow.api.repository.StatusUpdateRepository;
+import com.candiflow.api.repository.projection.ApplicationSummaryProjection;
+import com.candiflow.api.repository.projection.LatestStatusProjection;
+import com.candiflow.api.sync.ChangeTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,6 +34,8 @@ public class ApplicationService {
     private final StatusUpdateRepository statusUpdateRepository;
     private final ApplicationStatusService applicationStatusService;
     private final AuthService authService;
+    private final BatchLoader batchLoader;
+    private final ChangeTracker changeTracker;
 
     /**
      * Crée une nouvelle candidature pour l'utilisateur connecté
@@ -47,9 +56,6 @@ public class ApplicationService {
         application.setFollowUpDate(request.getFollowUpDate());
         application.setGeneralNotes(request.getGeneralNotes());
 
-        // Sauvegarder la candidature
-        Application savedApplication = applicationRepository.save(application);
-
         // Créer le statut initial
         String statusName = request.getInitialStatus();
         if (statusName == null || statusName.isEmpty()) {
@@ -60,11 +66,16 @@ public class ApplicationService {
                 .orElseGet(applicationStatusService::getDefaultStatus);
 
         StatusUpdate statusUpdate = new StatusUpdate();
-        statusUpdate.setApplication(savedApplication);
+        statusUpdate.setApplication(application);
         statusUpdate.setStatus(status);
         statusUpdate.setEventDate(request.getDateApplied()); // Même date que la candidature
         statusUpdate.setNotes(request.getInitialStatusNotes());
 
+        // Numéroter les deux lignes avant leur insertion
+        changeTracker.applicationCreated(application, statusUpdate);
+
+        // Sauvegarder la candidature puis son statut initial
+        Application savedApplication = applicationRepository.save(application);
         StatusUpdate savedStatusUpdate = statusUpdateRepository.save(statusUpdate);
 
         // Retourner la réponse
@@ -92,6 +103,7 @@ public class ApplicationService {
         application.setDateApplied(request.getDateApplied());
         application.setFollowUpDate(request.getFollowUpDate());
         application.setGeneralNotes(request.getGeneralNotes());
+        changeTracker.applicationChanged(application);
 
         // Sauvegarder la candidature
         Application updatedApplication = applicationRepository.save(application);
@@ -123,6 +135,7 @@ public class ApplicationService {
 
     /**
      * Récupère toutes les candidatures de l'utilisateur connecté
+     * Les candidatures sont lues par projection, sans leurs notes générales.
      * @param pageable Pagination
      * @return Page de candidatures
      */
@@ -130,16 +143,13 @@ public class ApplicationService {
     public Page<ApplicationResponse> getAllApplications(Pageable pageable) {
         User currentUser = authService.getCurrentUser();
 
-        return applicationRepository.findByUser(currentUser, pageable)
-                .map(application -> {
-                    StatusUpdate latestStatus = statusUpdateRepository.findLatestByApplication(application)
-                            .orElse(null);
-                    return mapToResponse(application, latestStatus);
-                });
+        return batchLoader.mapPage(applicationRepository.findSummariesByUser(currentUser, pageable),
+                this::mapToResponse);
     }
 
     /**
      * Recherche des candidatures par mot-clé
+     * Les candidatures sont lues par projection, sans leurs notes générales.
      * @param keyword Mot-clé de recherche
      * @param pageable Pagination
      * @return Page de candidatures correspondant au mot-clé
@@ -148,12 +158,8 @@ public class ApplicationService {
     public Page<ApplicationResponse> searchApplications(String keyword, Pageable pageable) {
         User currentUser = authService.getCurrentUser();
 
-        return applicationRepository.searchByUserAndKeyword(currentUser, keyword, pageable)
-                .map(application -> {
-                    StatusUpdate latestStatus = statusUpdateRepository.findLatestByApplication(application)
-                            .orElse(null);
-                    return mapToResponse(application, latestStatus);
-                });
+        return batchLoader.mapPage(applicationRepository.searchSummariesByUserAndKeyword(currentUser, keyword, pageable),
+                this::mapToResponse);
     }
 
     /**
@@ -170,6 +176,7 @@ public class ApplicationService {
             return false;
         }
 
+        changeTracker.applicationDeleted(applicationOpt.get());
         applicationRepository.delete(applicationOpt.get());
         return true;
     }
@@ -198,6 +205,7 @@ public class ApplicationService {
         statusUpdate.setStatus(status);
         statusUpdate.setEventDate(request.getEventDate());
         statusUpdate.setNotes(request.getNotes());
+        changeTracker.statusUpdateChanged(statusUpdate);
 
         // Sauvegarder la mise à jour
         StatusUpdate savedStatusUpdate = statusUpdateRepository.save(statusUpdate);
@@ -206,32 +214,95 @@ public class ApplicationService {
         return mapToResponse(application, savedStatusUpdate);
     }
 
+    /**
+     * Convertit des candidatures en DTO, leur dernier statut et leurs statistiques étant chargés par lots
+     */
+    List<ApplicationResponse> mapAllToResponse(List<Application> applications) {
+        return batchLoader.mapAll(applications, (application, loads) -> {
+            ApplicationResponse response = ApplicationResponse.builder()
+                    .id(application.getId())
+                    .companyName(application.getCompanyName())
+                    .jobTitle(application.getJobTitle())
+                    .jobUrl(application.getJobUrl())
+                    .dateApplied(application.getDateApplied())
+                    .followUpDate(application.getFollowUpDate())
+                    .generalNotes(application.getGeneralNotes())
+                    .createdAt(application.getCreatedAt())
+                    .updatedAt(application.getUpdatedAt())
+                    .build();
+            loads.load(BatchKeys.LATEST_STATUS_BY_APPLICATION, response.getId(),
+                    latestStatus -> response.setCurrentStatus(mapToSummary(latestStatus)));
+            return addStats(response, loads);
+        });
+    }
+
     /**
      * Convertit une entité Application en DTO ApplicationResponse
      */
     private ApplicationResponse mapToResponse(Application application, StatusUpdate latestStatus) {
-        ApplicationResponse.StatusUpdateSummary currentStatus = null;
-        if (latestStatus != null) {
-            currentStatus = ApplicationResponse.StatusUpdateSummary.builder()
-                    .id(latestStatus.getId())
-                    .statusName(latestStatus.getStatus().getName())
-                    .eventDate(latestStatus.getEventDate())
-                    .build();
+        return batchLoader.map(application, (entity, loads) -> addStats(ApplicationResponse.builder()
+                .id(entity.getId())
+                .companyName(entity.getCompanyName())
+                .jobTitle(entity.getJobTitle())
+                .jobUrl(entity.getJobUrl())
+                .dateApplied(entity.getDateApplied())
+                .followUpDate(entity.getFollowUpDate())
+                .generalNotes(entity.getGeneralNotes())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .currentStatus(mapToSummary(latestStatus))
+                .build(), loads));
+    }
+
+    /**
+     * Convertit une projection de candidature en DTO ApplicationResponse, sans notes générales
+     */
+    private ApplicationResponse mapToResponse(ApplicationSummaryProjection application, BatchLoadContext loads) {
+        ApplicationResponse response = ApplicationResponse.builder()
+                .id(application.applicationId())
+                .companyName(application.companyName())
+                .jobTitle(application.jobTitle())
+                .jobUrl(application.jobUrl())
+                .dateApplied(application.dateApplied())
+                .followUpDate(application.followUpDate())
+                .createdAt(application.createdAt())
+                .updatedAt(application.updatedAt())
+                .build();
+        loads.load(BatchKeys.LATEST_STATUS_BY_APPLICATION, response.getId(),
+                latestStatus -> response.setCurrentStatus(mapToSummary(latestStatus)));
+        return addStats(response, loads);
+    }
+
+    /**
+     * Enregistre le chargement des statistiques de la candidature
+     */
+    private ApplicationResponse addStats(ApplicationResponse response, BatchLoadContext loads) {
+        loads.load(BatchKeys.STATUS_UPDATE_COUNT_BY_APPLICATION, response.getId(),
+                totalStatusUpdates -> response.setTotalStatusUpdates(totalStatusUpdates.intValue()));
+        loads.load(BatchKeys.DOCUMENT_COUNT_BY_APPLICATION, response.getId(),
+                totalDocuments -> response.setTotalDocuments(totalDocuments.intValue()));
+        return response;
+    }
+
+    private ApplicationResponse.StatusUpdateSummary mapToSummary(StatusUpdate latestStatus) {
+        if (latestStatus == null) {
+            return null;
         }
+        return ApplicationResponse.StatusUpdateSummary.builder()
+                .id(latestStatus.getId())
+                .statusName(latestStatus.getStatus().getName())
+                .eventDate(latestStatus.getEventDate())
+                .build();
+    }
 
-        return ApplicationResponse.builder()
-                .id(application.getId())
-                .companyName(application.getCompanyName())
-                .jobTitle(application.getJobTitle())
-                .jobUrl(application.getJobUrl())
-                .dateApplied(application.getDateApplied())
-                .followUpDate(application.getFollowUpDate())
-                .generalNotes(application.getGeneralNotes())
-                .createdAt(application.getCreatedAt())
-                .updatedAt(application.getUpdatedAt())
-                .currentStatus(currentStatus)
-                .totalStatusUpdates((int) statusUpdateRepository.countByApplication(application))
-                .totalDocuments(application.getDocuments().size())
+    private ApplicationResponse.StatusUpdateSummary mapToSummary(LatestStatusProjection latestStatus) {
+        if (latestStatus == null) {
+            return null;
+        }
+        return ApplicationResponse.StatusUpdateSummary.builder()
+                .id(latestStatus.statusUpdateId())
+                .statusName(latestStatus.statusName())
+                .eventDate(latestStatus.eventDate())
                 .build();
     }
 }
@@ -0,0 +1,136 @@
+package com.candiflow.api.service;
+
+import com.candiflow.api.dto.recruiter.ArchivedApplicantResponse;
+import com.candiflow.api.dto.recruiter.ArchivedJobOpeningResponse;
+import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.model.entity.ArchivedApplicantTag;
+import com.candiflow.api.model.entity.ArchivedJobOpening;
+import com.candiflow.api.model.entity.ArchivedOpeningApplicant;
+import com.candiflow.api.model.entity.ArchivedRecruiterNote;
+import com.candiflow.api.repository.ArchivedApplicantTagRepository;
+import com.candiflow.api.repository.ArchivedJobOpeningRepository;
+import com.candiflow.api.repository.ArchivedOpeningApplicantRepository;
+import com.candiflow.api.repository.ArchivedRecruiterNoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Consultation en lecture seule des offres archivées et de leurs candidats
+ */
+@Service
+@RequiredArgsConstructor
+public class ArchiveService {
+
+    private final ArchivedJobOpeningRepository archivedJobOpeningRepository;
+    private final ArchivedOpeningApplicantRepository archivedOpeningApplicantRepository;
+    private final ArchivedRecruiterNoteRepository archivedRecruiterNoteRepository;
+    private final ArchivedApplicantTagRepository archivedApplicantTagRepository;
+
+    /**
+     * Récupère les offres archivées avec pagination, éventuellement filtrées par titre
+     * @param keyword Mot-clé recherché dans le titre (optionnel)
+     * @param pageable Informations de pagination
+     * @return Page d'offres archivées
+     */
+    @Transactional(readOnly = true)
+    public Page<ArchivedJobOpeningResponse> getArchivedJobOpenings(String keyword, Pageable pageable) {
+        Page<ArchivedJobOpening> page = keyword == null || keyword.isBlank()
+                ? archivedJobOpeningRepository.findAll(pageable)
+                : archivedJobOpeningRepository.searchByKeyword(keyword.trim(), pageable);
+        return page.map(this::mapToResponse);
+    }
+
+    /**
+     * Récupère une offre archivée par son ID
+     * @param id ID de l'offre d'emploi
+     * @return L'offre archivée avec son nombre de candidats
+     */
+    @Transactional(readOnly = true)
+    public ArchivedJobOpeningResponse getArchivedJobOpening(UUID id) {
+        ArchivedJobOpening jobOpening = archivedJobOpeningRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Offre d'emploi archivée non trouvée avec l'ID: " + id));
+        ArchivedJobOpeningResponse response = mapToResponse(jobOpening);
+        response.setTotalApplicants(archivedOpeningApplicantRepository.countByJobOpeningId(id));
+        return response;
+    }
+
+    /**
+     * Récupère les candidats d'une offre archivée avec pagination
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param pageable Informations de pagination
+     * @return Page de candidats archivés, sans notes ni tags
+     */
+    @Transactional(readOnly = true)
+    public Page<ArchivedApplicantResponse> getArchivedApplicants(UUID jobOpeningId, Pageable pageable) {
+        if (!archivedJobOpeningRepository.existsById(jobOpeningId)) {
+            throw new ResourceNotFoundException("Offre d'emploi archivée non trouvée avec l'ID: " + jobOpeningId);
+        }
+        return archivedOpeningApplicantRepository.findByJobOpeningId(jobOpeningId, pageable)
+                .map(this::mapToResponse);
+    }
+
+    /**
+     * Récupère un candidat archivé avec ses notes et ses tags
+     * @param applicantId ID du candidat
+     * @return Le candidat archivé
+     */
+    @Transactional(readOnly = true)
+    public ArchivedApplicantResponse getArchivedApplicant(UUID applicantId) {
+        ArchivedOpeningApplicant applicant = archivedOpeningApplicantRepository.findById(applicantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Candidat archivé non trouvé avec l'ID: " + applicantId));
+        ArchivedApplicantResponse response = mapToResponse(applicant);
+        response.setTags(archivedApplicantTagRepository.findByApplicantIdOrderByTagName(applicantId).stream()
+                .map(ArchivedApplicantTag::getTagName)
+                .toList());
+        response.setNotes(archivedRecruiterNoteRepository.findByApplicantIdOrderByCreatedAtDesc(applicantId).stream()
+                .map(this::mapToResponse)
+                .toList());
+        return response;
+    }
+
+    private ArchivedJobOpeningResponse mapToResponse(ArchivedJobOpening jobOpening) {
+        return ArchivedJobOpeningResponse.builder()
+                .id(jobOpening.getId())
+                .recruiterId(jobOpening.getRecruiterId())
+                .title(jobOpening.getTitle())
+                .description(jobOpening.getDescription())
+                .status(jobOpening.getStatus())
+                .createdAt(jobOpening.getCreatedAt())
+                .updatedAt(jobOpening.getUpdatedAt())
+                .archivedAt(jobOpening.getArchivedAt())
+                .build();
+    }
+
+    private ArchivedApplicantResponse mapToResponse(ArchivedOpeningApplicant applicant) {
+        return ArchivedApplicantResponse.builder()
+                .id(applicant.getId())
+                .jobOpeningId(applicant.getJobOpeningId())
+                .stageId(applicant.getStageId())
+                .stageName(applicant.getStageName())
+                .sourceId(applicant.getSourceId())
+                .name(applicant.getName())
+                .email(applicant.getEmail())
+                .phone(applicant.getPhone())
+                .cvStoragePath(applicant.getCvStoragePath())
+                .coverLetterStoragePath(applicant.getCoverLetterStoragePath())
+                .applicationDate(applicant.getApplicationDate())
+                .createdAt(applicant.getCreatedAt())
+                .updatedAt(applicant.getUpdatedAt())
+                .archivedAt(applicant.getArchivedAt())
+                .build();
+    }
+
+    private ArchivedApplicantResponse.Note mapToResponse(ArchivedRecruiterNote note) {
+        return ArchivedApplicantResponse.Note.builder()
+                .id(note.getId())
+                .authorId(note.getAuthorId())
+                .noteText(note.getNoteText())
+                .createdAt(note.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.candiflow.api.service;
+
+import com.candiflow.api.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position dans une colonne du tableau de pipeline, encodée en chaîne opaque pour le client
+ * La position est la clé de tri du dernier candidat renvoyé : sa dernière activité (tri par activité)
+ * ou sa clé de rang (tri manuel), départagée par son ID.
+ *
+ * @param order Tri de la colonne
+ * @param position Clé de tri du dernier candidat renvoyé
+ * @param applicantId ID du dernier candidat renvoyé
+ */
+record BoardCursor(PipelineBoardService.Order order, String position, UUID applicantId) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Curseur positionné après un candidat dans une colonne triée par dernière activité
+     */
+    static BoardCursor byActivity(Instant updatedAt, UUID applicantId) {
+        return new BoardCursor(PipelineBoardService.Order.ACTIVITY, updatedAt.toString(), applicantId);
+    }
+
+    /**
+     * Curseur positionné après un candidat dans une colonne triée par rang manuel
+     */
+    static BoardCursor byRank(String rankKey, UUID applicantId) {
+        return new BoardCursor(PipelineBoardService.Order.RANK, rankKey, applicantId);
+    }
+
+    /**
+     * Dernière activité du dernier candidat renvoyé (tri par activité)
+     */
+    Instant updatedAt() {
+        try {
+            return Instant.parse(position);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("Curseur invalide: " + position);
+        }
+    }
+
+    /**
+     * Encode le curseur en chaîne opaque
+     */
+    String encode() {
+        String raw = order.name() + SEPARATOR + position + SEPARATOR + applicantId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Décode un curseur transmis par le client
+     * @param cursor Chaîne opaque
+     * @param expectedOrder Tri de la colonne demandée
+     * @return Curseur décodé
+     * @throws InvalidCursorException si la chaîne n'est pas un curseur valide pour ce tri
+     */
+    static BoardCursor decode(String cursor, PipelineBoardService.Order expectedOrder) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, 3);
+            if (parts.length != 3 || !parts[0].equals(expectedOrder.name())) {
+                throw new InvalidCursorException("Curseur invalide: " + cursor);
+            }
+            return new BoardCursor(expectedOrder, parts[1], UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Curseur invalide: " + cursor);
+        }
+    }
+}
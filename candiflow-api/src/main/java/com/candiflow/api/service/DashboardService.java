@@ -1,111 +1,156 @@
 package com.candiflow.api.service;
 
+import com.candiflow.api.analytics.ApplicantColumnStore;
+import com.candiflow.api.analytics.ApplicantColumns;
+import com.candiflow.api.bulkhead.Bulkhead;
+import com.candiflow.api.coalesce.Coalesce;
+import com.candiflow.api.concurrent.SectionExecutor;
+import com.candiflow.api.concurrent.SectionScope;
+import com.candiflow.api.concurrent.SectionScope.Section;
 import com.candiflow.api.dto.dashboard.*;
+import com.candiflow.api.model.entity.CandidateSource;
 import com.candiflow.api.model.entity.JobOpening;
 import com.candiflow.api.model.entity.OpeningApplicant;
 import com.candiflow.api.model.entity.PipelineStage;
 import com.candiflow.api.model.entity.User;
+import com.candiflow.api.model.enums.CounterMetric;
 import com.candiflow.api.model.enums.JobStatus;
+import com.candiflow.api.model.enums.TrendGranularity;
+import com.candiflow.api.repository.CandidateSourceRepository;
 import com.candiflow.api.repository.JobOpeningRepository;
 import com.candiflow.api.repository.OpeningApplicantRepository;
 import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.projection.IdCountProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service pour les tableaux de bord et statistiques
+ * Les agrégats sur les candidats sont lus dans le magasin en colonnes lorsqu'il est chargé,
+ * sinon calculés en base à partir des entités. Les nouveaux candidats et la tendance des offres sont lus
+ * dans les compteurs journaliers lorsqu'ils sont tenus à jour, les centiles des durées dans les esquisses de quantiles.
+ * Les demandes identiques simultanées (même tableau de bord, même offre) partagent un seul calcul.
  */
 @Service
 @RequiredArgsConstructor
+@Coalesce
 public class DashboardService {
 
+    private static final String HIRED_STAGE = "HIRED";
+
     private final JobOpeningRepository jobOpeningRepository;
     private final OpeningApplicantRepository openingApplicantRepository;
     private final PipelineStageRepository pipelineStageRepository;
+    private final CandidateSourceRepository candidateSourceRepository;
+    private final ApplicantColumnStore applicantColumnStore;
+    private final TrendService trendService;
+    private final DurationSketchService durationSketchService;
+    private final SectionExecutor sectionExecutor;
+
+    /**
+     * Agrégats des candidats d'un recruteur
+     */
+    private record RecruiterApplicantStats(long totalApplicants, long newThisMonth, long newThisWeek,
+                                           OptionalDouble averageHiringTime, Map<UUID, Long> byStage) {
+    }
+
+    /**
+     * Étapes triées par ordre et agrégats des candidats d'un recruteur, calculés dans une même section
+     */
+    private record RecruiterApplicantSection(List<PipelineStage> orderedStages, RecruiterApplicantStats stats) {
+    }
+
+    /**
+     * Agrégats des candidats d'une offre, par ID d'étape et de source
+     */
+    private record JobOpeningApplicantStats(long totalApplicants, Map<UUID, Long> byStage, Map<UUID, Long> bySource,
+                                            Map<LocalDate, Long> byWeek) {
+    }
 
     /**
      * Récupère les statistiques globales pour un recruteur
+     * Les offres, les candidats et les nouveaux candidats sont des sections indépendantes, calculées en parallèle.
      * @param recruiter Recruteur
      * @return Statistiques globales
      */
-    @Transactional(readOnly = true)
     public RecruiterDashboardResponse getRecruiterDashboard(User recruiter) {
-        LocalDateTime startOfMonth = LocalDate.now().withDayOfMonth(1).atStartOfDay();
-        LocalDateTime startOfWeek = LocalDate.now().minusDays((long)LocalDate.now().getDayOfWeek().getValue() - 1).atStartOfDay();
+        LocalDate today = LocalDate.now();
+        LocalDate startOfMonth = today.withDayOfMonth(1);
+        LocalDate startOfWeek = today.minusDays((long) today.getDayOfWeek().getValue() - 1);
 
-        // Statistiques des offres d'emploi
-        List<JobOpening> allJobOpenings = jobOpeningRepository.findByRecruiterOrderByCreatedAtDesc(recruiter);
-        long activeJobOpenings = allJobOpenings.stream()
-                .filter(jo -> JobStatus.OPEN == jo.getStatus())
-                .count();
-        
-        // Statistiques des candidats
-        List<OpeningApplicant> allApplicants = new ArrayList<>();
-        for (JobOpening jobOpening : allJobOpenings) {
-            allApplicants.addAll(openingApplicantRepository.findByJobOpening(jobOpening));
-        }
-        
-        long newApplicantsThisMonth = allApplicants.stream()
-                .filter(a -> a.getApplicationDate() != null && a.getApplicationDate().atStartOfDay().isAfter(startOfMonth))
-                .count();
-        
-        long newApplicantsThisWeek = allApplicants.stream()
-                .filter(a -> a.getApplicationDate() != null && a.getApplicationDate().atStartOfDay().isAfter(startOfWeek))
-                .count();
-        
-        // Temps moyen de recrutement (en jours)
-        OptionalDouble avgHiringTime = allApplicants.stream()
-                .filter(a -> "HIRED".equals(a.getCurrentStage().getName()))
-                .mapToLong(a -> ChronoUnit.DAYS.between(a.getApplicationDate().atStartOfDay(), a.getUpdatedAt()))
-                .average();
-        
-        // Taux de conversion par étape
-        Map<String, Long> applicantsByStage = allApplicants.stream()
-                .collect(Collectors.groupingBy(
-                        a -> a.getCurrentStage().getName(),
-                        Collectors.counting()
-                ));
-        
-        List<StageConversionRate> conversionRates = new ArrayList<>();
-        // Récupérer toutes les étapes et les trier par ordre
-        List<PipelineStage> allStages = pipelineStageRepository.findAll();
-        List<PipelineStage> orderedStages = allStages.stream()
-                .sorted(Comparator.comparing(PipelineStage::getDisplayOrder))
-                .collect(Collectors.toList());
-        
-        for (int i = 0; i < orderedStages.size() - 1; i++) {
-            PipelineStage currentStage = orderedStages.get(i);
-            PipelineStage nextStage = orderedStages.get(i + 1);
+        try (SectionScope sections = sectionExecutor.open()) {
+            // Statistiques des offres d'emploi
+            Section<List<JobOpening>> jobOpenings = sections.fork(
+                    () -> jobOpeningRepository.findByRecruiterOrderByCreatedAtDesc(recruiter));
+            
+            // Étapes triées par ordre et statistiques des candidats
+            Section<RecruiterApplicantSection> applicants = sections.fork(
+                    () -> loadRecruiterApplicantSection(recruiter, startOfMonth, startOfWeek));
             
-            Long currentCount = applicantsByStage.getOrDefault(currentStage.getName(), 0L);
-            Long nextCount = applicantsByStage.getOrDefault(nextStage.getName(), 0L);
+            // Nouveaux candidats, lus dans les compteurs journaliers lorsqu'ils sont tenus à jour ;
+            // candidatures postérieures au premier jour de la période, comme pour le calcul sur les candidats
+            Section<Long> newThisMonth = trendService.isEnabled()
+                    ? sections.fork(() -> trendService.total(CounterMetric.APPLICATIONS_RECEIVED, recruiter.getId(),
+                            startOfMonth.plusDays(1), today))
+                    : null;
+            Section<Long> newThisWeek = trendService.isEnabled()
+                    ? sections.fork(() -> trendService.total(CounterMetric.APPLICATIONS_RECEIVED, recruiter.getId(),
+                            startOfWeek.plusDays(1), today))
+                    : null;
             
-            double rate = currentCount > 0 ? (double) nextCount / currentCount * 100 : 0;
+            // Centiles du délai d'embauche et du temps passé dans chaque étape
+            Section<DurationStats> durations = durationSketchService.isEnabled()
+                    ? sections.fork(() -> durationSketchService.forRecruiter(recruiter.getId()))
+                    : null;
             
-            conversionRates.add(new StageConversionRate(
-                    currentStage.getName(),
-                    nextStage.getName(),
-                    rate
-            ));
+            sections.join();
+            
+            List<JobOpening> allJobOpenings = jobOpenings.get();
+            long activeJobOpenings = allJobOpenings.stream()
+                    .filter(jo -> JobStatus.OPEN == jo.getStatus())
+                    .count();
+            List<PipelineStage> orderedStages = applicants.get().orderedStages();
+            RecruiterApplicantStats stats = applicants.get().stats();
+            
+            // Taux de conversion par étape
+            List<StageConversionRate> conversionRates = new ArrayList<>();
+            for (int i = 0; i < orderedStages.size() - 1; i++) {
+                PipelineStage currentStage = orderedStages.get(i);
+                PipelineStage nextStage = orderedStages.get(i + 1);
+                
+                Long currentCount = stats.byStage().getOrDefault(currentStage.getId(), 0L);
+                Long nextCount = stats.byStage().getOrDefault(nextStage.getId(), 0L);
+                
+                double rate = currentCount > 0 ? (double) nextCount / currentCount * 100 : 0;
+                
+                conversionRates.add(new StageConversionRate(
+                        currentStage.getName(),
+                        nextStage.getName(),
+                        rate
+                ));
+            }
+            
+            // Utiliser le pattern Builder pour construire la réponse
+            return RecruiterDashboardResponse.builder()
+                    .totalJobOpenings(allJobOpenings.size())
+                    .activeJobOpenings(activeJobOpenings)
+                    .totalApplicants(stats.totalApplicants())
+                    .newApplicantsThisMonth(newThisMonth != null ? newThisMonth.get() : stats.newThisMonth())
+                    .newApplicantsThisWeek(newThisWeek != null ? newThisWeek.get() : stats.newThisWeek())
+                    .averageHiringTimeInDays(stats.averageHiringTime().orElse(0))
+                    .conversionRates(conversionRates)
+                    .durations(durations != null ? durations.get() : null)
+                    .build();
         }
-        
-        // Utiliser le pattern Builder pour construire la réponse
-        return RecruiterDashboardResponse.builder()
-                .totalJobOpenings(allJobOpenings.size())
-                .activeJobOpenings(activeJobOpenings)
-                .totalApplicants(allApplicants.size())
-                .newApplicantsThisMonth(newApplicantsThisMonth)
-                .newApplicantsThisWeek(newApplicantsThisWeek)
-                .averageHiringTimeInDays(avgHiringTime.orElse(0))
-                .conversionRates(conversionRates)
-                .build();
     }
     
     /**
@@ -118,39 +163,29 @@ public class DashboardService {
         JobOpening jobOpening = jobOpeningRepository.findById(jobOpeningId)
                 .orElseThrow(() -> new NoSuchElementException("Offre d'emploi non trouvée"));
         
-        List<OpeningApplicant> applicants = openingApplicantRepository.findByJobOpening(jobOpening);
+        ApplicantColumns.Scope scope = ApplicantColumns.Scope.ofJobOpening(jobOpeningId);
+        JobOpeningApplicantStats stats = applicantColumnStore.read(columns -> new JobOpeningApplicantStats(
+                        columns.count(scope),
+                        columns.countByStage(scope),
+                        columns.countBySource(scope),
+                        columns.countByApplicationWeek(scope)))
+                .orElseGet(() -> loadJobOpeningApplicantStats(jobOpening));
         
         // Nombre de candidats par étape
-        Map<String, Long> applicantsByStage = applicants.stream()
-                .collect(Collectors.groupingBy(
-                        a -> a.getCurrentStage().getName(),
-                        Collectors.counting()
-                ));
-        
-        List<StageCount> stageCounts = applicantsByStage.entrySet().stream()
-                .map(entry -> new StageCount(entry.getKey(), entry.getValue()))
+        Map<UUID, String> stageNames = stageNames();
+        List<StageCount> stageCounts = stats.byStage().entrySet().stream()
+                .map(entry -> new StageCount(stageNames.getOrDefault(entry.getKey(), entry.getKey().toString()), entry.getValue()))
                 .collect(Collectors.toList());
         
         // Nombre de candidats par source
-        Map<String, Long> applicantsBySource = applicants.stream()
-                .collect(Collectors.groupingBy(
-                        a -> a.getSource().getName(),
-                        Collectors.counting()
-                ));
-        
-        List<SourceCount> sourceCounts = applicantsBySource.entrySet().stream()
-                .map(entry -> new SourceCount(entry.getKey(), entry.getValue()))
+        Map<UUID, String> sourceNames = stats.bySource().isEmpty() ? Map.of() : candidateSourceRepository.findAll().stream()
+                .collect(Collectors.toMap(CandidateSource::getId, CandidateSource::getName));
+        List<SourceCount> sourceCounts = stats.bySource().entrySet().stream()
+                .map(entry -> new SourceCount(sourceNames.getOrDefault(entry.getKey(), entry.getKey().toString()), entry.getValue()))
                 .collect(Collectors.toList());
         
         // Tendance des candidatures (par semaine)
-        Map<LocalDate, Long> applicantsByWeek = applicants.stream()
-                .filter(a -> a.getApplicationDate() != null)
-                .collect(Collectors.groupingBy(
-                        a -> a.getApplicationDate().minusDays((long)a.getApplicationDate().getDayOfWeek().getValue() - 1),
-                        Collectors.counting()
-                ));
-        
-        List<DateCount> weeklyTrend = applicantsByWeek.entrySet().stream()
+        List<DateCount> weeklyTrend = stats.byWeek().entrySet().stream()
                 .map(entry -> new DateCount(entry.getKey(), entry.getValue()))
                 .sorted(Comparator.comparing(DateCount::getDate))
                 .collect(Collectors.toList());
@@ -158,63 +193,181 @@ public class DashboardService {
         JobOpeningStatsResponse response = new JobOpeningStatsResponse();
         response.setTitle(jobOpening.getTitle());
         response.setStatus(jobOpening.getStatus().toString());
-        response.setCreatedAt(jobOpening.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime());
-        response.setTotalApplicants(applicants.size());
+        response.setCreatedAt(jobOpening.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDateTime());
+        response.setTotalApplicants(stats.totalApplicants());
         response.setApplicantsByStage(stageCounts);
         response.setApplicantsBySource(sourceCounts);
         response.setWeeklyApplicationTrend(weeklyTrend);
+        if (durationSketchService.isEnabled()) {
+            response.setDurations(durationSketchService.forJobOpening(jobOpeningId));
+        }
         return response;
     }
     
     /**
      * Récupère les statistiques globales pour tous les recruteurs (admin)
+     * Toutes les sections sont calculées par des requêtes groupées ou un parcours en flux :
+     * aucune entité n'est chargée, la mémoire utilisée ne dépend pas du nombre d'offres ni de candidats.
+     * Les sections sont indépendantes et calculées en parallèle, dans le compartiment du reporting.
      * @return Statistiques globales
      */
-    @Transactional(readOnly = true)
+    @Bulkhead(Bulkhead.REPORTING)
     public GlobalStatsResponse getGlobalStats() {
-        List<JobOpening> allJobOpenings = jobOpeningRepository.findAll();
-        List<OpeningApplicant> allApplicants = openingApplicantRepository.findAll();
+        try (SectionScope sections = sectionExecutor.open()) {
+            // Nombre d'offres par statut
+            Section<List<StatusCount>> statusCounts = sections.fork(() -> jobOpeningRepository.countGroupByStatus().stream()
+                    .map(count -> new StatusCount(count.status().toString(), count.count()))
+                    .collect(Collectors.toList()));
+            
+            // Nombre de candidats par étape
+            Section<Map<UUID, Long>> applicantsByStage = sections.fork(() -> applicantColumnStore
+                    .read(columns -> columns.countByStage(ApplicantColumns.Scope.all()))
+                    .orElseGet(() -> openingApplicantRepository.countGroupByStage().stream()
+                            .collect(Collectors.toMap(IdCountProjection::id, IdCountProjection::count))));
+            Section<Map<UUID, String>> stageNames = sections.fork(this::stageNames);
+            
+            // Tendance des offres (par mois)
+            Section<List<DateCount>> monthlyTrend = sections.fork(() -> trendService.isEnabled()
+                    ? trendService.firstDay(CounterMetric.JOB_OPENINGS_CREATED)
+                            .map(first -> trendService.series(CounterMetric.JOB_OPENINGS_CREATED, null, first,
+                                    LocalDate.now(), TrendGranularity.MONTH))
+                            .orElseGet(List::of)
+                    : monthlyJobOpeningTrend());
+            
+            // Centiles des durées, fusion des esquisses de toutes les offres
+            Section<DurationStats> durations = durationSketchService.isEnabled()
+                    ? sections.fork(durationSketchService::global)
+                    : null;
+            
+            sections.join();
+            
+            long totalJobOpenings = statusCounts.get().stream().mapToLong(StatusCount::getCount).sum();
+            long totalApplicants = applicantsByStage.get().values().stream().mapToLong(Long::longValue).sum();
+            List<StageCount> stageCounts = applicantsByStage.get().entrySet().stream()
+                    .map(entry -> new StageCount(stageNames.get().getOrDefault(entry.getKey(), entry.getKey().toString()), entry.getValue()))
+                    .collect(Collectors.toList());
+            
+            return new GlobalStatsResponse(
+                    totalJobOpenings,
+                    totalApplicants,
+                    statusCounts.get(),
+                    stageCounts,
+                    monthlyTrend.get(),
+                    durations != null ? durations.get() : null
+            );
+        }
+    }
+
+    /**
+     * Regroupe les offres par mois de création (compteurs journaliers désactivés)
+     * Les dates sont parcourues en flux : le mois dépend du fuseau de l'application, pas de celui de la base.
+     */
+    private List<DateCount> monthlyJobOpeningTrend() {
+        Map<LocalDate, Long> jobOpeningsByMonth = new TreeMap<>();
+        try (Stream<Instant> createdAts = jobOpeningRepository.streamAllCreatedAt()) {
+            createdAts.filter(Objects::nonNull)
+                    .forEach(createdAt -> jobOpeningsByMonth.merge(
+                            createdAt.atZone(ZoneId.systemDefault()).toLocalDate().withDayOfMonth(1), 1L, Long::sum));
+        }
+        
+        return jobOpeningsByMonth.entrySet().stream()
+                .map(entry -> new DateCount(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Section des candidats d'un recruteur : étapes triées par ordre, puis agrégats des candidats
+     * lus dans le magasin en colonnes lorsqu'il est chargé, sinon calculés en base
+     */
+    private RecruiterApplicantSection loadRecruiterApplicantSection(User recruiter, LocalDate startOfMonth,
+                                                                    LocalDate startOfWeek) {
+        List<PipelineStage> orderedStages = pipelineStageRepository.findAll().stream()
+                .sorted(Comparator.comparing(PipelineStage::getDisplayOrder))
+                .collect(Collectors.toList());
+        List<UUID> hiredStageIds = orderedStages.stream()
+                .filter(stage -> HIRED_STAGE.equals(stage.getName()))
+                .map(PipelineStage::getId)
+                .toList();
+        
+        ApplicantColumns.Scope scope = ApplicantColumns.Scope.ofRecruiter(recruiter.getId());
+        RecruiterApplicantStats stats = applicantColumnStore.read(columns -> new RecruiterApplicantStats(
+                        columns.count(scope),
+                        columns.countAppliedAfter(scope, startOfMonth),
+                        columns.countAppliedAfter(scope, startOfWeek),
+                        columns.averageDaysToLastUpdate(scope, hiredStageIds),
+                        columns.countByStage(scope)))
+                .orElseGet(() -> loadRecruiterApplicantStats(
+                        jobOpeningRepository.findByRecruiterOrderByCreatedAtDesc(recruiter), startOfMonth, startOfWeek));
+        return new RecruiterApplicantSection(orderedStages, stats);
+    }
+
+    /**
+     * Calcule en base les agrégats des candidats d'un recruteur (magasin en colonnes non chargé)
+     */
+    private RecruiterApplicantStats loadRecruiterApplicantStats(List<JobOpening> jobOpenings, LocalDate startOfMonth,
+                                                                LocalDate startOfWeek) {
+        List<OpeningApplicant> allApplicants = new ArrayList<>();
+        for (JobOpening jobOpening : jobOpenings) {
+            allApplicants.addAll(openingApplicantRepository.findByJobOpening(jobOpening));
+        }
         
-        // Nombre d'offres par statut
-        Map<String, Long> jobOpeningsByStatus = allJobOpenings.stream()
+        long newApplicantsThisMonth = allApplicants.stream()
+                .filter(a -> a.getApplicationDate() != null && a.getApplicationDate().isAfter(startOfMonth))
+                .count();
+        
+        long newApplicantsThisWeek = allApplicants.stream()
+                .filter(a -> a.getApplicationDate() != null && a.getApplicationDate().isAfter(startOfWeek))
+                .count();
+        
+        // Temps moyen de recrutement (en jours)
+        OptionalDouble avgHiringTime = allApplicants.stream()
+                .filter(a -> HIRED_STAGE.equals(a.getCurrentStage().getName()))
+                .filter(a -> a.getApplicationDate() != null && a.getUpdatedAt() != null)
+                .mapToLong(a -> ChronoUnit.DAYS.between(a.getApplicationDate(),
+                        LocalDate.ofInstant(a.getUpdatedAt(), ZoneId.systemDefault())))
+                .average();
+        
+        Map<UUID, Long> applicantsByStage = allApplicants.stream()
                 .collect(Collectors.groupingBy(
-                        jo -> jo.getStatus().toString(),
+                        a -> a.getCurrentStage().getId(),
                         Collectors.counting()
                 ));
         
-        List<StatusCount> statusCounts = jobOpeningsByStatus.entrySet().stream()
-                .map(entry -> new StatusCount(entry.getKey(), entry.getValue()))
-                .collect(Collectors.toList());
+        return new RecruiterApplicantStats(allApplicants.size(), newApplicantsThisMonth, newApplicantsThisWeek,
+                avgHiringTime, applicantsByStage);
+    }
+
+    /**
+     * Calcule en base les agrégats des candidats d'une offre (magasin en colonnes non chargé)
+     */
+    private JobOpeningApplicantStats loadJobOpeningApplicantStats(JobOpening jobOpening) {
+        List<OpeningApplicant> applicants = openingApplicantRepository.findByJobOpening(jobOpening);
         
-        // Nombre de candidats par étape
-        Map<String, Long> applicantsByStage = allApplicants.stream()
+        Map<UUID, Long> applicantsByStage = applicants.stream()
                 .collect(Collectors.groupingBy(
-                        a -> a.getCurrentStage().getName(),
+                        a -> a.getCurrentStage().getId(),
                         Collectors.counting()
                 ));
         
-        List<StageCount> stageCounts = applicantsByStage.entrySet().stream()
-                .map(entry -> new StageCount(entry.getKey(), entry.getValue()))
-                .collect(Collectors.toList());
-        
-        // Tendance des offres (par mois)
-        Map<LocalDate, Long> jobOpeningsByMonth = allJobOpenings.stream()
+        Map<UUID, Long> applicantsBySource = applicants.stream()
+                .filter(a -> a.getSource() != null)
                 .collect(Collectors.groupingBy(
-                        jo -> jo.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toLocalDate().withDayOfMonth(1),
+                        a -> a.getSource().getId(),
                         Collectors.counting()
                 ));
         
-        List<DateCount> monthlyTrend = jobOpeningsByMonth.entrySet().stream()
-                .map(entry -> new DateCount(entry.getKey(), entry.getValue()))
-                .sorted(Comparator.comparing(DateCount::getDate))
-                .collect(Collectors.toList());
+        Map<LocalDate, Long> applicantsByWeek = applicants.stream()
+                .filter(a -> a.getApplicationDate() != null)
+                .collect(Collectors.groupingBy(
+                        a -> a.getApplicationDate().minusDays((long)a.getApplicationDate().getDayOfWeek().getValue() - 1),
+                        Collectors.counting()
+                ));
         
-        return new GlobalStatsResponse(
-                allJobOpenings.size(),
-                allApplicants.size(),
-                statusCounts,
-                stageCounts,
-                monthlyTrend
-        );
+        return new JobOpeningApplicantStats(applicants.size(), applicantsByStage, applicantsBySource, applicantsByWeek);
+    }
+
+    private Map<UUID, String> stageNames() {
+        return pipelineStageRepository.findAll().stream()
+                .collect(Collectors.toMap(PipelineStage::getId, PipelineStage::getName));
     }
 }
@@ -7,6 +7,7 @@ import com.candiflow.api.model.entity.Document;
 import com.candiflow.api.model.entity.User;
 import com.candiflow.api.repository.ApplicationRepository;
 import com.candiflow.api.repository.DocumentRepository;
+import com.candiflow.api.sync.ChangeTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -35,6 +36,7 @@ public class DocumentService {
 
     private final DocumentRepository documentRepository;
     private final ApplicationRepository applicationRepository;
+    private final ChangeTracker changeTracker;
     
     @Value("${app.upload.dir:${user.home}/candiflow/uploads}")
     private String uploadDir;
@@ -143,6 +145,7 @@ public class DocumentService {
             document.setFileType(file.getContentType());
             document.setFileSize(file.getSize());
             document.setUploadedAt(Instant.now());
+            changeTracker.documentChanged(document);
             
             Document savedDocument = documentRepository.save(document);
             return mapToResponse(savedDocument);
@@ -176,6 +179,7 @@ public class DocumentService {
             Files.deleteIfExists(filePath);
             
             // Supprimer l'entité Document
+            changeTracker.documentDeleted(document);
             documentRepository.delete(document);
         } catch (IOException e) {
             throw new RuntimeException("Impossible de supprimer le fichier: " + e.getMessage());
@@ -185,7 +189,7 @@ public class DocumentService {
     /**
      * Convertit une entité Document en DTO DocumentResponse
      */
-    private DocumentResponse mapToResponse(Document document) {
+    DocumentResponse mapToResponse(Document document) {
         return DocumentResponse.builder()
                 .id(document.getId())
                 .applicationId(document.getApplication().getId())
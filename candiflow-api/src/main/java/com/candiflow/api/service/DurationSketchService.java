@@ -0,0 +1,108 @@
+package com.candiflow.api.service;
+
+import com.candiflow.api.analytics.QuantileSketch;
+import com.candiflow.api.analytics.SketchProperties;
+import com.candiflow.api.dto.dashboard.DurationPercentiles;
+import com.candiflow.api.dto.dashboard.DurationStats;
+import com.candiflow.api.dto.dashboard.StageDuration;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.enums.DurationMetric;
+import com.candiflow.api.repository.DurationSketchRepository;
+import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.projection.SketchPayloadProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Service des centiles de durées lus dans les esquisses de quantiles (table duration_sketches)
+ * Les esquisses sont tenues par offre : celles d'un recruteur ou de toute la plateforme sont fusionnées à la lecture,
+ * sans lire les candidats.
+ */
+@Service
+@RequiredArgsConstructor
+public class DurationSketchService {
+
+    private static final double SECONDS_PER_DAY = 86_400.0;
+
+    private final DurationSketchRepository durationSketchRepository;
+    private final PipelineStageRepository pipelineStageRepository;
+    private final SketchProperties properties;
+
+    /**
+     * Indique si les esquisses sont tenues à jour et peuvent être lues
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Calcule les centiles des durées des offres d'un recruteur
+     * @param recruiterId ID du recruteur
+     * @return Centiles du délai d'embauche et du temps passé dans chaque étape
+     */
+    @Transactional(readOnly = true)
+    public DurationStats forRecruiter(UUID recruiterId) {
+        return summarize(durationSketchRepository.findPayloadsByRecruiter(recruiterId).stream());
+    }
+
+    /**
+     * Calcule les centiles des durées d'une offre
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @return Centiles du délai d'embauche et du temps passé dans chaque étape
+     */
+    @Transactional(readOnly = true)
+    public DurationStats forJobOpening(UUID jobOpeningId) {
+        return summarize(durationSketchRepository.findPayloadsByJobOpening(jobOpeningId).stream());
+    }
+
+    /**
+     * Calcule les centiles des durées de toutes les offres
+     * Les esquisses sont parcourues en flux et fusionnées au fil de l'eau.
+     * @return Centiles du délai d'embauche et du temps passé dans chaque étape
+     */
+    @Transactional(readOnly = true)
+    public DurationStats global() {
+        try (Stream<SketchPayloadProjection> payloads = durationSketchRepository.streamAllPayloads()) {
+            return summarize(payloads);
+        }
+    }
+
+    private DurationStats summarize(Stream<SketchPayloadProjection> payloads) {
+        QuantileSketch timeToHire = new QuantileSketch();
+        Map<UUID, QuantileSketch> timeInStage = new HashMap<>();
+        payloads.forEach(payload -> {
+            QuantileSketch sketch = payload.metric() == DurationMetric.TIME_TO_HIRE
+                    ? timeToHire
+                    : timeInStage.computeIfAbsent(payload.stageId(), stageId -> new QuantileSketch());
+            sketch.merge(QuantileSketch.fromBytes(payload.payload()));
+        });
+
+        List<StageDuration> stageDurations = timeInStage.isEmpty() ? List.of() : pipelineStageRepository.findAll().stream()
+                .sorted(Comparator.comparing(PipelineStage::getDisplayOrder))
+                .filter(stage -> timeInStage.containsKey(stage.getId()))
+                .map(stage -> new StageDuration(stage.getName(), percentiles(timeInStage.get(stage.getId()))))
+                .toList();
+        return new DurationStats(percentiles(timeToHire), stageDurations);
+    }
+
+    private static DurationPercentiles percentiles(QuantileSketch sketch) {
+        return new DurationPercentiles(sketch.count(), days(sketch.quantile(0.5)), days(sketch.quantile(0.9)),
+                days(sketch.quantile(0.99)));
+    }
+
+    /**
+     * Convertit une durée en jours, arrondis au centième
+     */
+    private static double days(Duration duration) {
+        return Math.round(duration.toSeconds() / SECONDS_PER_DAY * 100) / 100.0;
+    }
+}
@@ -1,5 +1,7 @@
 package com.candiflow.api.service;
 
+import com.candiflow.api.bulkhead.Bulkhead;
+import com.candiflow.api.coalesce.Coalesce;
 import com.candiflow.api.model.entity.JobOpening;
 import com.candiflow.api.model.entity.OpeningApplicant;
 import com.candiflow.api.model.entity.User;
@@ -20,9 +22,12 @@ import java.util.stream.Collectors;
 
 /**
  * Service pour l'export de données
+ * Les exports identiques demandés simultanément ne sont générés qu'une fois.
  */
 @Service
 @RequiredArgsConstructor
+@Bulkhead(Bulkhead.REPORTING)
+@Coalesce
 public class ExportService {
 
     private final JobOpeningRepository jobOpeningRepository;
@@ -1,17 +1,24 @@
 package com.candiflow.api.service;
 
+import com.candiflow.api.batch.BatchKeys;
+import com.candiflow.api.batch.BatchLoadContext;
+import com.candiflow.api.batch.BatchLoader;
 import com.candiflow.api.dto.recruiter.JobOpeningRequest;
 import com.candiflow.api.dto.recruiter.JobOpeningResponse;
 import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.exception.VersionConflictException;
 import com.candiflow.api.model.entity.JobOpening;
 import com.candiflow.api.model.entity.PipelineStage;
 import com.candiflow.api.model.entity.User;
 import com.candiflow.api.model.enums.JobStatus;
 import com.candiflow.api.observer.EventManager;
 import com.candiflow.api.observer.JobOpeningEvent;
+import com.candiflow.api.repository.ApplicantTagRepository;
 import com.candiflow.api.repository.JobOpeningRepository;
 import com.candiflow.api.repository.OpeningApplicantRepository;
 import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.projection.JobOpeningSummaryProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,28 +39,34 @@ public class JobOpeningService {
     private final JobOpeningRepository jobOpeningRepository;
     private final OpeningApplicantRepository openingApplicantRepository;
     private final PipelineStageRepository pipelineStageRepository;
+    private final RecruiterNoteRepository recruiterNoteRepository;
+    private final ApplicantTagRepository applicantTagRepository;
     private final EventManager eventManager;
+    private final BatchLoader batchLoader;
 
     /**
      * Récupère toutes les offres d'emploi avec pagination
+     * Les offres sont lues par projection, sans leur description.
      * @param pageable Informations de pagination
      * @return Page d'offres d'emploi
      */
     @Transactional(readOnly = true)
     public Page<JobOpeningResponse> getAllJobOpenings(Pageable pageable) {
-        return jobOpeningRepository.findAll(pageable)
-                .map(this::mapToResponseWithStats);
+        StageGroups stageGroups = loadStageGroups();
+        return batchLoader.mapPage(jobOpeningRepository.findAllSummaries(pageable),
+                (summary, loads) -> addStats(mapToResponse(summary), stageGroups, loads));
     }
 
     /**
      * Récupère toutes les offres d'emploi actives
+     * Les offres sont lues par projection, sans leur description.
      * @return Liste des offres d'emploi actives
      */
     @Transactional(readOnly = true)
     public List<JobOpeningResponse> getAllActiveJobOpenings() {
-        return jobOpeningRepository.findByStatus(JobStatus.OPEN).stream()
-                .map(this::mapToResponseWithStats)
-                .collect(Collectors.toList());
+        StageGroups stageGroups = loadStageGroups();
+        return batchLoader.mapAll(jobOpeningRepository.findSummariesByStatus(JobStatus.OPEN),
+                (summary, loads) -> addStats(mapToResponse(summary), stageGroups, loads));
     }
 
     /**
@@ -98,15 +113,36 @@ public class JobOpeningService {
      */
     @Transactional
     public JobOpeningResponse updateJobOpening(UUID id, JobOpeningRequest request) {
+        return updateJobOpening(id, request, null);
+    }
+
+    /**
+     * Met à jour une offre d'emploi si sa version correspond à celle attendue
+     * @param id ID de l'offre d'emploi
+     * @param request DTO contenant les informations mises à jour
+     * @param expectedVersion Version attendue (null pour une mise à jour inconditionnelle)
+     * @return L'offre d'emploi mise à jour
+     * @throws VersionConflictException si l'offre a été modifiée depuis la version attendue
+     */
+    @Transactional
+    public JobOpeningResponse updateJobOpening(UUID id, JobOpeningRequest request, Long expectedVersion) {
         JobOpening jobOpening = jobOpeningRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Offre d'emploi non trouvée avec l'ID: " + id));
         
+        if (expectedVersion != null && !expectedVersion.equals(jobOpening.getVersion())) {
+            throw new VersionConflictException(
+                    "L'offre d'emploi a été modifiée par un autre utilisateur (version " + jobOpening.getVersion() + ")",
+                    mapToResponseWithStats(jobOpening), jobOpening.getVersion());
+        }
+        
         jobOpening.setTitle(request.getTitle());
         jobOpening.setDescription(request.getDescription());
         jobOpening.setStatus(request.getStatus());
         jobOpening.setUpdatedAt(Instant.now());
         
         JobOpening updatedJobOpening = jobOpeningRepository.save(jobOpening);
+        // Écrire immédiatement pour renvoyer la nouvelle version
+        jobOpeningRepository.flush();
         
         // Déclencher un événement de mise à jour d'offre d'emploi
         eventManager.fireEvent(JobOpeningEvent.updated(this.getClass().getSimpleName(), updatedJobOpening));
@@ -135,13 +171,34 @@ public class JobOpeningService {
             eventManager.fireEvent(JobOpeningEvent.updated(this.getClass().getSimpleName(), closedJobOpening));
         } else {
             // Sinon, on peut la supprimer
-            // Déclencher un événement de suppression d'offre d'emploi avant de supprimer
-            eventManager.fireEvent(JobOpeningEvent.deleted(this.getClass().getSimpleName(), jobOpening));
-            
-            jobOpeningRepository.delete(jobOpening);
+            deleteWithApplicants(jobOpening);
         }
     }
 
+    /**
+     * Supprime définitivement une offre d'emploi avec tous ses candidats, leurs notes et leurs tags
+     * Les suppressions sont des requêtes ensemblistes, exécutées des enfants vers le parent dans une seule transaction,
+     * sans charger les collections en mémoire.
+     * @param id ID de l'offre d'emploi
+     */
+    @Transactional
+    public void deleteJobOpeningPermanently(UUID id) {
+        JobOpening jobOpening = jobOpeningRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Offre d'emploi non trouvée avec l'ID: " + id));
+        deleteWithApplicants(jobOpening);
+    }
+
+    private void deleteWithApplicants(JobOpening jobOpening) {
+        // Événement notifié à la validation, créé avant la suppression pour capturer l'ID de l'offre
+        eventManager.fireEventAfterCommit(JobOpeningEvent.deleted(this.getClass().getSimpleName(), jobOpening));
+        
+        UUID jobOpeningId = jobOpening.getId();
+        applicantTagRepository.deleteByJobOpeningId(jobOpeningId);
+        recruiterNoteRepository.deleteByJobOpeningId(jobOpeningId);
+        openingApplicantRepository.deleteByJobOpeningId(jobOpeningId);
+        jobOpeningRepository.deleteAllByIds(List.of(jobOpeningId));
+    }
+
     /**
      * Convertit une entité JobOpening en DTO JobOpeningResponse
      */
@@ -153,6 +210,21 @@ public class JobOpeningService {
                 .status(jobOpening.getStatus())
                 .createdAt(jobOpening.getCreatedAt())
                 .updatedAt(jobOpening.getUpdatedAt())
+                .version(jobOpening.getVersion())
+                .build();
+    }
+
+    /**
+     * Convertit une projection d'offre d'emploi en DTO JobOpeningResponse, sans description
+     */
+    private JobOpeningResponse mapToResponse(JobOpeningSummaryProjection jobOpening) {
+        return JobOpeningResponse.builder()
+                .id(jobOpening.jobOpeningId())
+                .title(jobOpening.title())
+                .status(jobOpening.status())
+                .createdAt(jobOpening.createdAt())
+                .updatedAt(jobOpening.updatedAt())
+                .version(jobOpening.version())
                 .build();
     }
 
@@ -160,30 +232,57 @@ public class JobOpeningService {
      * Convertit une entité JobOpening en DTO JobOpeningResponse avec statistiques
      */
     private JobOpeningResponse mapToResponseWithStats(JobOpening jobOpening) {
-        JobOpeningResponse response = mapToResponse(jobOpening);
-        
-        // Ajouter les statistiques
-        int totalApplicants = (int) openingApplicantRepository.countByJobOpening(jobOpening);
-        response.setTotalApplicants(totalApplicants);
-        
-        // Trouver l'étape "Nouveau" pour compter les nouveaux candidats
-        pipelineStageRepository.findByName("Nouveau").ifPresent(newStage -> {
-            int newApplicants = (int) openingApplicantRepository.countByJobOpeningAndCurrentStage(jobOpening, newStage);
+        StageGroups stageGroups = loadStageGroups();
+        return batchLoader.map(jobOpening, (entity, loads) -> addStats(mapToResponse(entity), stageGroups, loads));
+    }
+
+    /**
+     * Enregistre le chargement des statistiques de candidats de l'offre
+     * Les effectifs par étape de toutes les offres converties ensemble sont lus en une seule requête.
+     */
+    private JobOpeningResponse addStats(JobOpeningResponse response, StageGroups stageGroups, BatchLoadContext loads) {
+        loads.load(BatchKeys.APPLICANT_STAGE_COUNTS_BY_OPENING, response.getId(), stageCounts -> {
+            int totalApplicants = 0;
+            int newApplicants = 0;
+            int endStageApplicants = 0;
+            for (Map.Entry<UUID, Long> stageCount : stageCounts.entrySet()) {
+                int count = stageCount.getValue().intValue();
+                totalApplicants += count;
+                if (stageCount.getKey().equals(stageGroups.newStageId())) {
+                    newApplicants += count;
+                }
+                if (stageGroups.endStageIds().contains(stageCount.getKey())) {
+                    endStageApplicants += count;
+                }
+            }
+            response.setTotalApplicants(totalApplicants);
             response.setNewApplicants(newApplicants);
+            response.setEndStageApplicants(endStageApplicants);
+            
+            // Les candidats en processus = total - (nouveaux + étapes finales)
+            response.setInProcessApplicants(totalApplicants - (newApplicants + endStageApplicants));
         });
-        
-        // Compter les candidats en cours de processus (ni nouveaux, ni en étape finale)
-        List<PipelineStage> endStages = pipelineStageRepository.findByIsEndStageTrue();
-        int endStageApplicants = 0;
-        for (PipelineStage endStage : endStages) {
-            endStageApplicants += openingApplicantRepository.countByJobOpeningAndCurrentStage(jobOpening, endStage);
-        }
-        response.setEndStageApplicants(endStageApplicants);
-        
-        // Les candidats en processus = total - (nouveaux + étapes finales)
-        int inProcessApplicants = totalApplicants - (response.getNewApplicants() + endStageApplicants);
-        response.setInProcessApplicants(inProcessApplicants);
-        
         return response;
     }
+
+    /**
+     * Lit une fois par conversion l'étape "Nouveau" et les étapes finales utilisées par les statistiques
+     */
+    private StageGroups loadStageGroups() {
+        UUID newStageId = pipelineStageRepository.findByName("Nouveau")
+                .map(PipelineStage::getId)
+                .orElse(null);
+        Set<UUID> endStageIds = pipelineStageRepository.findByIsEndStageTrue().stream()
+                .map(PipelineStage::getId)
+                .collect(Collectors.toSet());
+        return new StageGroups(newStageId, endStageIds);
+    }
+
+    /**
+     * Étapes du pipeline distinguées par les statistiques d'une offre
+     * @param newStageId ID de l'étape "Nouveau" (null si absente)
+     * @param endStageIds IDs des étapes finales
+     */
+    private record StageGroups(UUID newStageId, Set<UUID> endStageIds) {
+    }
 }
@@ -0,0 +1,67 @@
+package com.candiflow.api.service;
+
+import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.live.LiveProperties;
+import com.candiflow.api.live.LiveUpdateBroker;
+import com.candiflow.api.repository.JobOpeningRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service des abonnements au flux temps réel des candidats et des effectifs
+ * Le client charge d'abord l'état complet par l'API REST, puis n'applique que les mises à jour reçues ;
+ * il ne recharge l'état complet qu'à la réception de RESET ou d'APPLICANTS_CHANGED pour une offre.
+ */
+@Service
+@RequiredArgsConstructor
+public class LiveUpdateService {
+
+    private final LiveUpdateBroker broker;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final LiveProperties properties;
+
+    /**
+     * Abonne le client aux mises à jour d'une offre d'emploi
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param lastEventId Dernier événement reçu avant une reconnexion (optionnel)
+     * @return Connexion SSE
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeToJobOpening(UUID jobOpeningId, String lastEventId) {
+        checkEnabled();
+        if (!jobOpeningRepository.existsById(jobOpeningId)) {
+            throw new ResourceNotFoundException("Offre d'emploi non trouvée avec l'ID: " + jobOpeningId);
+        }
+        return broker.subscribe(newEmitter(), null, Set.of(jobOpeningId), lastEventId);
+    }
+
+    /**
+     * Abonne le client aux mises à jour de toutes les offres d'un recruteur, y compris celles créées ensuite
+     * @param recruiterId ID du recruteur
+     * @param lastEventId Dernier événement reçu avant une reconnexion (optionnel)
+     * @return Connexion SSE
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeToRecruiter(UUID recruiterId, String lastEventId) {
+        checkEnabled();
+        return broker.subscribe(newEmitter(), recruiterId, jobOpeningRepository.findIdsByRecruiterId(recruiterId),
+                lastEventId);
+    }
+
+    private SseEmitter newEmitter() {
+        return new SseEmitter(properties.getTimeout().toMillis());
+    }
+
+    private void checkEnabled() {
+        if (!properties.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Le flux temps réel est désactivé");
+        }
+    }
+}
@@ -1,19 +1,33 @@
 package com.candiflow.api.service;
 
+import com.candiflow.api.batch.BatchKeys;
+import com.candiflow.api.batch.BatchLoadContext;
+import com.candiflow.api.batch.BatchLoader;
+import com.candiflow.api.dto.recruiter.BulkStageChangeRequest;
+import com.candiflow.api.dto.recruiter.BulkStageChangeResponse;
 import com.candiflow.api.dto.recruiter.OpeningApplicantRequest;
 import com.candiflow.api.dto.recruiter.OpeningApplicantResponse;
 import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.exception.VersionConflictException;
 import com.candiflow.api.model.entity.CandidateSource;
 import com.candiflow.api.model.entity.JobOpening;
 import com.candiflow.api.model.entity.OpeningApplicant;
 import com.candiflow.api.model.entity.PipelineStage;
 import com.candiflow.api.model.entity.RecruiterNote;
 import com.candiflow.api.model.entity.User;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.ranking.RankKeys;
+import com.candiflow.api.repository.ApplicantTagRepository;
 import com.candiflow.api.repository.CandidateSourceRepository;
 import com.candiflow.api.repository.JobOpeningRepository;
 import com.candiflow.api.repository.OpeningApplicantRepository;
 import com.candiflow.api.repository.PipelineStageRepository;
 import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.projection.ApplicantStageProjection;
+import com.candiflow.api.repository.projection.ApplicantSummaryProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +36,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -33,7 +54,10 @@ public class OpeningApplicantService {
     private final PipelineStageRepository pipelineStageRepository;
     private final CandidateSourceRepository candidateSourceRepository;
     private final RecruiterNoteRepository recruiterNoteRepository;
+    private final ApplicantTagRepository applicantTagRepository;
     private final PipelineStageService pipelineStageService;
+    private final EventManager eventManager;
+    private final BatchLoader batchLoader;
 
     /**
      * Récupère tous les candidats pour une offre d'emploi avec pagination
@@ -43,11 +67,10 @@ public class OpeningApplicantService {
      */
     @Transactional(readOnly = true)
     public Page<OpeningApplicantResponse> getAllApplicantsByJobOpening(UUID jobOpeningId, Pageable pageable) {
-        JobOpening jobOpening = jobOpeningRepository.findById(jobOpeningId)
-                .orElseThrow(() -> new ResourceNotFoundException("Offre d'emploi non trouvée avec l'ID: " + jobOpeningId));
+        checkJobOpeningExists(jobOpeningId);
         
-        return openingApplicantRepository.findByJobOpening(jobOpening, pageable)
-                .map(this::mapToResponseWithStats);
+        return batchLoader.mapPage(openingApplicantRepository.findSummariesByJobOpeningId(jobOpeningId, pageable),
+                this::mapToResponseWithStats);
     }
 
     /**
@@ -59,11 +82,10 @@ public class OpeningApplicantService {
      */
     @Transactional(readOnly = true)
     public Page<OpeningApplicantResponse> searchApplicantsByKeyword(UUID jobOpeningId, String keyword, Pageable pageable) {
-        JobOpening jobOpening = jobOpeningRepository.findById(jobOpeningId)
-                .orElseThrow(() -> new ResourceNotFoundException("Offre d'emploi non trouvée avec l'ID: " + jobOpeningId));
+        checkJobOpeningExists(jobOpeningId);
         
-        return openingApplicantRepository.searchByJobOpeningAndKeyword(jobOpening, keyword, pageable)
-                .map(this::mapToResponseWithStats);
+        return batchLoader.mapPage(openingApplicantRepository.searchSummariesByJobOpeningId(jobOpeningId, keyword, pageable),
+                this::mapToResponseWithStats);
     }
 
     /**
@@ -128,10 +150,12 @@ public class OpeningApplicantService {
         applicant.setCoverLetterStoragePath(request.getCoverLetterStoragePath());
         applicant.setApplicationDate(request.getApplicationDate() != null ? request.getApplicationDate() : LocalDate.now());
         applicant.setCurrentStage(pipelineStage);
+        applicant.setRankKey(endOfColumnRankKey(jobOpeningId, pipelineStage));
         applicant.setSource(source);
         // Pas de champ createdBy dans l'entité, on utilise BaseEntity
         applicant.setCreatedAt(Instant.now());
         applicant.setUpdatedAt(Instant.now());
+        applicant.setStageEnteredAt(applicant.getUpdatedAt());
         
         OpeningApplicant savedApplicant = openingApplicantRepository.save(applicant);
         
@@ -145,6 +169,7 @@ public class OpeningApplicantService {
             recruiterNoteRepository.save(note);
         }
         
+        eventManager.fireEventAfterCommit(ApplicantEvent.created(this.getClass().getSimpleName(), savedApplicant));
         return mapToResponseWithStats(savedApplicant);
     }
 
@@ -157,11 +182,27 @@ public class OpeningApplicantService {
      */
     @Transactional
     public OpeningApplicantResponse updateApplicant(UUID jobOpeningId, UUID applicantId, OpeningApplicantRequest request) {
+        return updateApplicant(jobOpeningId, applicantId, request, null);
+    }
+
+    /**
+     * Met à jour un candidat existant si sa version correspond à celle attendue
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param applicantId ID du candidat
+     * @param request DTO contenant les informations mises à jour
+     * @param expectedVersion Version attendue (null pour une mise à jour inconditionnelle)
+     * @return Le candidat mis à jour
+     * @throws VersionConflictException si le candidat a été modifié depuis la version attendue
+     */
+    @Transactional
+    public OpeningApplicantResponse updateApplicant(UUID jobOpeningId, UUID applicantId, OpeningApplicantRequest request,
+                                                    Long expectedVersion) {
         JobOpening jobOpening = jobOpeningRepository.findById(jobOpeningId)
                 .orElseThrow(() -> new ResourceNotFoundException("Offre d'emploi non trouvée avec l'ID: " + jobOpeningId));
         
         OpeningApplicant applicant = openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)
                 .orElseThrow(() -> new ResourceNotFoundException("Candidat non trouvé avec l'ID: " + applicantId));
+        checkVersion(applicant, expectedVersion);
         
         // Mettre à jour les informations du candidat
         applicant.setName(request.getName());
@@ -182,9 +223,15 @@ public class OpeningApplicantService {
         }
         
         // Mettre à jour l'étape du pipeline si spécifiée
+        PipelineStage previousStage = applicant.getCurrentStage();
+        Instant previousStageEnteredAt = applicant.getStageEnteredAt();
         if (request.getPipelineStageId() != null) {
             PipelineStage pipelineStage = pipelineStageRepository.findById(request.getPipelineStageId())
                     .orElseThrow(() -> new ResourceNotFoundException("Étape du pipeline non trouvée avec l'ID: " + request.getPipelineStageId()));
+            if (!pipelineStage.equals(previousStage)) {
+                applicant.setRankKey(endOfColumnRankKey(jobOpeningId, pipelineStage));
+                applicant.setStageEnteredAt(Instant.now());
+            }
             applicant.setCurrentStage(pipelineStage);
         }
         
@@ -198,6 +245,15 @@ public class OpeningApplicantService {
         applicant.setUpdatedAt(Instant.now());
         
         OpeningApplicant updatedApplicant = openingApplicantRepository.save(applicant);
+        // Écrire immédiatement pour renvoyer la nouvelle version (et détecter un conflit avant la réponse)
+        openingApplicantRepository.flush();
+        eventManager.fireEventAfterCommit(ApplicantEvent.updated(this.getClass().getSimpleName(), updatedApplicant));
+        // Un changement d'étape par mise à jour complète compte comme un changement d'étape (compteurs, durées, flux temps réel)
+        if (!Objects.equals(updatedApplicant.getCurrentStage(), previousStage)) {
+            eventManager.fireEventAfterCommit(
+                    ApplicantEvent.stageChanged(this.getClass().getSimpleName(), updatedApplicant, previousStage,
+                            previousStageEnteredAt));
+        }
         return mapToResponseWithStats(updatedApplicant);
     }
 
@@ -212,16 +268,40 @@ public class OpeningApplicantService {
      */
     @Transactional
     public OpeningApplicantResponse updateApplicantStage(UUID jobOpeningId, UUID applicantId, UUID stageId, User recruiter, String note) {
+        return updateApplicantStage(jobOpeningId, applicantId, stageId, recruiter, note, null);
+    }
+
+    /**
+     * Met à jour l'étape du pipeline d'un candidat si sa version correspond à celle attendue
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param applicantId ID du candidat
+     * @param stageId ID de la nouvelle étape
+     * @param recruiter Utilisateur effectuant la mise à jour
+     * @param note Note optionnelle expliquant le changement d'étape
+     * @param expectedVersion Version attendue (null pour une mise à jour inconditionnelle)
+     * @return Le candidat mis à jour
+     * @throws VersionConflictException si le candidat a été modifié depuis la version attendue
+     */
+    @Transactional
+    public OpeningApplicantResponse updateApplicantStage(UUID jobOpeningId, UUID applicantId, UUID stageId, User recruiter,
+                                                         String note, Long expectedVersion) {
         JobOpening jobOpening = jobOpeningRepository.findById(jobOpeningId)
                 .orElseThrow(() -> new ResourceNotFoundException("Offre d'emploi non trouvée avec l'ID: " + jobOpeningId));
         
         OpeningApplicant applicant = openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)
                 .orElseThrow(() -> new ResourceNotFoundException("Candidat non trouvé avec l'ID: " + applicantId));
+        checkVersion(applicant, expectedVersion);
         
         PipelineStage newStage = pipelineStageRepository.findById(stageId)
                 .orElseThrow(() -> new ResourceNotFoundException("Étape du pipeline non trouvée avec l'ID: " + stageId));
         
-        // Mettre à jour l'étape
+        // Mettre à jour l'étape, le candidat rejoignant la fin de la nouvelle colonne
+        PipelineStage previousStage = applicant.getCurrentStage();
+        Instant previousStageEnteredAt = applicant.getStageEnteredAt();
+        if (!newStage.equals(previousStage)) {
+            applicant.setRankKey(endOfColumnRankKey(jobOpeningId, newStage));
+            applicant.setStageEnteredAt(Instant.now());
+        }
         applicant.setCurrentStage(newStage);
         applicant.setUpdatedAt(Instant.now());
         
@@ -236,9 +316,89 @@ public class OpeningApplicantService {
         }
         
         OpeningApplicant updatedApplicant = openingApplicantRepository.save(applicant);
+        openingApplicantRepository.flush();
+        if (!newStage.equals(previousStage)) {
+            eventManager.fireEventAfterCommit(
+                    ApplicantEvent.stageChanged(this.getClass().getSimpleName(), updatedApplicant, previousStage,
+                            previousStageEnteredAt));
+        }
         return mapToResponseWithStats(updatedApplicant);
     }
 
+    /**
+     * Déplace un ensemble de candidats vers une même étape du pipeline
+     * L'appartenance des candidats à l'offre et au recruteur est vérifiée en une requête,
+     * puis l'étape est mise à jour en une seule requête UPDATE, chaque candidat recevant sa propre clé de rang
+     * en fin de colonne ; les notes sont insérées par lots.
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param request Candidats à déplacer, étape cible et note optionnelle
+     * @param recruiter Utilisateur effectuant le déplacement
+     * @return Candidats déplacés et candidats déjà présents dans l'étape cible
+     */
+    @Transactional
+    public BulkStageChangeResponse updateApplicantsStage(UUID jobOpeningId, BulkStageChangeRequest request, User recruiter) {
+        PipelineStage newStage = pipelineStageRepository.findById(request.getStageId())
+                .orElseThrow(() -> new ResourceNotFoundException("Étape du pipeline non trouvée avec l'ID: " + request.getStageId()));
+        
+        // Vérifier en une requête que tous les candidats appartiennent à l'offre du recruteur
+        Set<UUID> requestedIds = new LinkedHashSet<>(request.getApplicantIds());
+        List<ApplicantStageProjection> applicants = openingApplicantRepository.findStageProjectionsOwnedBy(
+                jobOpeningId, recruiter, requestedIds);
+        if (applicants.size() != requestedIds.size()) {
+            applicants.forEach(applicant -> requestedIds.remove(applicant.applicantId()));
+            throw new ResourceNotFoundException("Candidats non trouvés pour cette offre d'emploi: " + requestedIds);
+        }
+        
+        List<ApplicantStageProjection> toMove = applicants.stream()
+                .filter(applicant -> !newStage.getId().equals(applicant.stageId()))
+                .toList();
+        List<UUID> movedIds = toMove.stream().map(ApplicantStageProjection::applicantId).toList();
+        List<UUID> unchangedIds = applicants.stream()
+                .map(ApplicantStageProjection::applicantId)
+                .filter(id -> !movedIds.contains(id))
+                .toList();
+        
+        if (!movedIds.isEmpty()) {
+            // Clés successives en fin de colonne, dans l'ordre de la demande
+            List<String> keys = RankKeys.between(
+                    openingApplicantRepository.findLastRankKey(jobOpeningId, newStage.getId()), null, movedIds.size());
+            Map<UUID, String> rankKeys = new LinkedHashMap<>();
+            for (int i = 0; i < movedIds.size(); i++) {
+                rankKeys.put(movedIds.get(i), keys.get(i));
+            }
+            openingApplicantRepository.updateStageForApplicants(jobOpeningId, rankKeys, newStage, Instant.now());
+            
+            // Ajouter la note à chaque candidat déplacé (insertions par lots JDBC)
+            if (request.getNote() != null && !request.getNote().trim().isEmpty()) {
+                List<RecruiterNote> notes = new ArrayList<>(movedIds.size());
+                for (UUID applicantId : movedIds) {
+                    RecruiterNote recruiterNote = new RecruiterNote();
+                    recruiterNote.setApplicant(openingApplicantRepository.getReferenceById(applicantId));
+                    recruiterNote.setNoteText("Changement d'étape: " + newStage.getName() + "\n" + request.getNote());
+                    recruiterNote.setAuthor(recruiter);
+                    recruiterNote.setCreatedAt(Instant.now());
+                    notes.add(recruiterNote);
+                }
+                recruiterNoteRepository.saveAll(notes);
+            }
+            
+            // Un seul événement pour l'ensemble des candidats déplacés
+            List<ApplicantSnapshot> snapshots = toMove.stream()
+                    .map(applicant -> new ApplicantSnapshot(applicant.applicantId(), applicant.name(), applicant.email(),
+                            jobOpeningId, newStage.getId(), newStage.getName(), applicant.stageId(),
+                            applicant.sourceId(), applicant.applicationDate(), applicant.stageEnteredAt()))
+                    .toList();
+            eventManager.fireEventAfterCommit(ApplicantBatchEvent.stageChanged("OpeningApplicantService", snapshots));
+        }
+        
+        return BulkStageChangeResponse.builder()
+                .stageId(newStage.getId())
+                .stageName(newStage.getName())
+                .movedApplicantIds(movedIds)
+                .unchangedApplicantIds(unchangedIds)
+                .build();
+    }
+
     /**
      * Supprime un candidat
      * @param jobOpeningId ID de l'offre d'emploi
@@ -252,8 +412,41 @@ public class OpeningApplicantService {
         OpeningApplicant applicant = openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)
                 .orElseThrow(() -> new ResourceNotFoundException("Candidat non trouvé avec l'ID: " + applicantId));
         
-        // Supprimer le candidat et toutes ses notes (cascade)
-        openingApplicantRepository.delete(applicant);
+        // Événement notifié à la validation, créé avant la suppression pour capturer les identifiants du candidat
+        eventManager.fireEventAfterCommit(ApplicantEvent.deleted(this.getClass().getSimpleName(), applicant));
+        
+        // Supprimer les tags, les notes puis le candidat par requêtes ensemblistes, sans charger les collections
+        List<UUID> applicantIds = List.of(applicantId);
+        applicantTagRepository.deleteByApplicantIds(applicantIds);
+        recruiterNoteRepository.deleteByApplicantIds(applicantIds);
+        openingApplicantRepository.deleteAllByIds(applicantIds);
+    }
+
+    /**
+     * Clé de rang plaçant un candidat en fin de colonne (offre, étape)
+     */
+    private String endOfColumnRankKey(UUID jobOpeningId, PipelineStage stage) {
+        return RankKeys.after(openingApplicantRepository.findLastRankKey(jobOpeningId, stage.getId()));
+    }
+
+    /**
+     * Vérifie que le candidat n'a pas été modifié depuis la version connue du client
+     */
+    private void checkVersion(OpeningApplicant applicant, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(applicant.getVersion())) {
+            throw new VersionConflictException(
+                    "Le candidat a été modifié par un autre utilisateur (version " + applicant.getVersion() + ")",
+                    mapToResponseWithStats(applicant), applicant.getVersion());
+        }
+    }
+
+    /**
+     * Vérifie l'existence d'une offre d'emploi sans la charger
+     */
+    private void checkJobOpeningExists(UUID jobOpeningId) {
+        if (!jobOpeningRepository.existsById(jobOpeningId)) {
+            throw new ResourceNotFoundException("Offre d'emploi non trouvée avec l'ID: " + jobOpeningId);
+        }
     }
 
     /**
@@ -288,6 +481,7 @@ public class OpeningApplicantService {
                 .applicationDate(applicant.getApplicationDate())
                 .createdAt(applicant.getCreatedAt())
                 .updatedAt(applicant.getUpdatedAt())
+                .version(applicant.getVersion())
                 .pipelineStage(stageSummary)
                 .source(sourceSummary)
                 .build();
@@ -297,12 +491,53 @@ public class OpeningApplicantService {
      * Convertit une entité OpeningApplicant en DTO OpeningApplicantResponse avec statistiques
      */
     private OpeningApplicantResponse mapToResponseWithStats(OpeningApplicant applicant) {
-        OpeningApplicantResponse response = mapToResponse(applicant);
+        return batchLoader.map(applicant, (entity, loads) -> addStats(mapToResponse(entity), loads));
+    }
+
+    /**
+     * Convertit une projection de candidat en DTO OpeningApplicantResponse avec statistiques
+     * Les chemins de CV et de lettre de motivation ne sont renvoyés que par le détail du candidat.
+     */
+    private OpeningApplicantResponse mapToResponseWithStats(ApplicantSummaryProjection applicant, BatchLoadContext loads) {
+        OpeningApplicantResponse.PipelineStageSummary stageSummary = null;
+        if (applicant.stageId() != null) {
+            stageSummary = OpeningApplicantResponse.PipelineStageSummary.builder()
+                    .id(applicant.stageId())
+                    .name(applicant.stageName())
+                    .isEndStage(applicant.endStage())
+                    .build();
+        }
         
-        // Ajouter les statistiques
-        int totalNotes = (int) recruiterNoteRepository.countByApplicant(applicant);
-        response.setTotalNotes(totalNotes);
+        OpeningApplicantResponse.CandidateSourceSummary sourceSummary = null;
+        if (applicant.sourceId() != null) {
+            sourceSummary = OpeningApplicantResponse.CandidateSourceSummary.builder()
+                    .id(applicant.sourceId())
+                    .name(applicant.sourceName())
+                    .build();
+        }
         
+        OpeningApplicantResponse response = OpeningApplicantResponse.builder()
+                .id(applicant.applicantId())
+                .jobOpeningId(applicant.jobOpeningId())
+                .name(applicant.name())
+                .email(applicant.email())
+                .phone(applicant.phone())
+                .applicationDate(applicant.applicationDate())
+                .createdAt(applicant.createdAt())
+                .updatedAt(applicant.updatedAt())
+                .version(applicant.version())
+                .pipelineStage(stageSummary)
+                .source(sourceSummary)
+                .build();
+        return addStats(response, loads);
+    }
+
+    /**
+     * Enregistre le chargement des statistiques du candidat
+     */
+    private OpeningApplicantResponse addStats(OpeningApplicantResponse response, BatchLoadContext loads) {
+        loads.load(BatchKeys.NOTE_COUNT_BY_APPLICANT, response.getId(),
+                totalNotes -> response.setTotalNotes(totalNotes.intValue()));
         return response;
     }
 }
@@ -0,0 +1,200 @@
+package com.candiflow.api.service;
+
+import com.candiflow.api.dto.recruiter.PipelineBoardResponse;
+import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.projection.BoardCardProjection;
+import com.candiflow.api.repository.projection.BoardRowProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service de construction du tableau de pipeline (vue kanban) d'une offre d'emploi
+ * Le tableau initial est calculé en une seule requête ; chaque colonne peut ensuite être
+ * parcourue indépendamment grâce à son curseur de continuation.
+ */
+@Service
+@RequiredArgsConstructor
+public class PipelineBoardService {
+
+    public static final int DEFAULT_COLUMN_SIZE = 20;
+    public static final int MAX_COLUMN_SIZE = 100;
+
+    /**
+     * Tri des candidats dans une colonne
+     */
+    public enum Order {
+        // Du plus récemment actif au plus ancien
+        ACTIVITY,
+        // Classement manuel des recruteurs (clés de rang croissantes)
+        RANK
+    }
+
+    private final OpeningApplicantRepository openingApplicantRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final PipelineStageRepository pipelineStageRepository;
+
+    /**
+     * Construit le tableau de pipeline d'une offre d'emploi, colonnes triées par dernière activité
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param columnSize Nombre de candidats par colonne
+     * @return Une colonne par étape active, avec son total et ses premiers candidats
+     */
+    @Transactional(readOnly = true)
+    public PipelineBoardResponse getBoard(UUID jobOpeningId, int columnSize) {
+        return getBoard(jobOpeningId, columnSize, Order.ACTIVITY);
+    }
+
+    /**
+     * Construit le tableau de pipeline d'une offre d'emploi
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param columnSize Nombre de candidats par colonne
+     * @param order Tri des candidats dans chaque colonne
+     * @return Une colonne par étape active, avec son total et ses premiers candidats
+     */
+    @Transactional(readOnly = true)
+    public PipelineBoardResponse getBoard(UUID jobOpeningId, int columnSize, Order order) {
+        checkJobOpeningExists(jobOpeningId);
+        int size = clampColumnSize(columnSize);
+
+        List<BoardRowProjection> rows = order == Order.RANK
+                ? openingApplicantRepository.findBoardRowsByRank(jobOpeningId, size)
+                : openingApplicantRepository.findBoardRows(jobOpeningId, size);
+
+        Map<UUID, PipelineBoardResponse.Column> columns = new LinkedHashMap<>();
+        for (BoardRowProjection row : rows) {
+            PipelineBoardResponse.Column column = columns.computeIfAbsent(row.stageId(), id -> newColumn(row));
+            if (row.applicantId() != null) {
+                column.getApplicants().add(toCard(row.applicantId(), row.name(), row.email(),
+                        row.applicationDate(), row.updatedAt()));
+                column.setNextCursor(column.getTotalApplicants() > column.getApplicants().size()
+                        ? cursorAfter(order, row.updatedAt(), row.rankKey(), row.applicantId()).encode()
+                        : null);
+            }
+        }
+
+        return PipelineBoardResponse.builder()
+                .jobOpeningId(jobOpeningId)
+                .columns(new ArrayList<>(columns.values()))
+                .build();
+    }
+
+    /**
+     * Récupère une page d'une colonne du tableau de pipeline, triée par dernière activité
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param stageId ID de l'étape
+     * @param cursor Curseur de continuation renvoyé précédemment (null pour le début de la colonne)
+     * @param columnSize Nombre de candidats à renvoyer
+     * @return La colonne, limitée aux candidats de la page demandée
+     */
+    @Transactional(readOnly = true)
+    public PipelineBoardResponse.Column getColumn(UUID jobOpeningId, UUID stageId, String cursor, int columnSize) {
+        return getColumn(jobOpeningId, stageId, cursor, columnSize, Order.ACTIVITY);
+    }
+
+    /**
+     * Récupère une page d'une colonne du tableau de pipeline
+     * @param jobOpeningId ID de l'offre d'emploi
+     * @param stageId ID de l'étape
+     * @param cursor Curseur de continuation renvoyé précédemment (null pour le début de la colonne)
+     * @param columnSize Nombre de candidats à renvoyer
+     * @param order Tri des candidats, identique à celui de l'appel ayant produit le curseur
+     * @return La colonne, limitée aux candidats de la page demandée
+     */
+    @Transactional(readOnly = true)
+    public PipelineBoardResponse.Column getColumn(UUID jobOpeningId, UUID stageId, String cursor, int columnSize,
+                                                  Order order) {
+        JobOpening jobOpening = checkJobOpeningExists(jobOpeningId);
+        PipelineStage stage = pipelineStageRepository.findById(stageId)
+                .orElseThrow(() -> new ResourceNotFoundException("Étape du pipeline non trouvée avec l'ID: " + stageId));
+        int size = clampColumnSize(columnSize);
+
+        // Une ligne de plus que demandé indique s'il reste des candidats après la page
+        List<BoardCardProjection> cards = findColumnPage(jobOpeningId, stageId, cursor, order, Limit.of(size + 1));
+
+        boolean hasMore = cards.size() > size;
+        List<BoardCardProjection> page = hasMore ? cards.subList(0, size) : cards;
+        BoardCardProjection last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return PipelineBoardResponse.Column.builder()
+                .stageId(stage.getId())
+                .stageName(stage.getName())
+                .displayOrder(stage.getDisplayOrder())
+                .isEndStage(stage.isEndStage())
+                .totalApplicants(openingApplicantRepository.countByJobOpeningAndCurrentStage(jobOpening, stage))
+                .applicants(page.stream()
+                        .map(card -> toCard(card.applicantId(), card.name(), card.email(),
+                                card.applicationDate(), card.updatedAt()))
+                        .toList())
+                .nextCursor(hasMore
+                        ? cursorAfter(order, last.updatedAt(), last.rankKey(), last.applicantId()).encode()
+                        : null)
+                .build();
+    }
+
+    private List<BoardCardProjection> findColumnPage(UUID jobOpeningId, UUID stageId, String cursor, Order order,
+                                                     Limit limit) {
+        if (cursor == null || cursor.isBlank()) {
+            return order == Order.RANK
+                    ? openingApplicantRepository.findBoardColumnByRank(jobOpeningId, stageId, limit)
+                    : openingApplicantRepository.findBoardColumn(jobOpeningId, stageId, limit);
+        }
+        BoardCursor position = BoardCursor.decode(cursor, order);
+        return order == Order.RANK
+                ? openingApplicantRepository.findBoardColumnByRankAfter(
+                        jobOpeningId, stageId, position.position(), position.applicantId(), limit)
+                : openingApplicantRepository.findBoardColumnAfter(
+                        jobOpeningId, stageId, position.updatedAt(), position.applicantId(), limit);
+    }
+
+    private BoardCursor cursorAfter(Order order, Instant updatedAt, String rankKey, UUID applicantId) {
+        return order == Order.RANK
+                ? BoardCursor.byRank(rankKey, applicantId)
+                : BoardCursor.byActivity(updatedAt, applicantId);
+    }
+
+    private JobOpening checkJobOpeningExists(UUID jobOpeningId) {
+        return jobOpeningRepository.findById(jobOpeningId)
+                .orElseThrow(() -> new ResourceNotFoundException("Offre d'emploi non trouvée avec l'ID: " + jobOpeningId));
+    }
+
+    private int clampColumnSize(int columnSize) {
+        return Math.max(1, Math.min(columnSize, MAX_COLUMN_SIZE));
+    }
+
+    private PipelineBoardResponse.Column newColumn(BoardRowProjection row) {
+        return PipelineBoardResponse.Column.builder()
+                .stageId(row.stageId())
+                .stageName(row.stageName())
+                .displayOrder(row.displayOrder())
+                .isEndStage(row.endStage())
+                .totalApplicants(row.stageCount() != null ? row.stageCount() : 0L)
+                .applicants(new ArrayList<>())
+                .build();
+    }
+
+    private PipelineBoardResponse.Card toCard(UUID id, String name, String email,
+                                              LocalDate applicationDate, Instant updatedAt) {
+        return PipelineBoardResponse.Card.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .applicationDate(applicationDate)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
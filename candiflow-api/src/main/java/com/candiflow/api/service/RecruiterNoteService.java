@@ -1,5 +1,8 @@
 package com.candiflow.api.service;
 
+import com.candiflow.api.batch.BatchKeys;
+import com.candiflow.api.batch.BatchLoadContext;
+import com.candiflow.api.batch.BatchLoader;
 import com.candiflow.api.dto.recruiter.RecruiterNoteRequest;
 import com.candiflow.api.dto.recruiter.RecruiterNoteResponse;
 import com.candiflow.api.exception.ResourceNotFoundException;
@@ -10,6 +13,7 @@ import com.candiflow.api.model.entity.User;
 import com.candiflow.api.repository.JobOpeningRepository;
 import com.candiflow.api.repository.OpeningApplicantRepository;
 import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.projection.RecruiterNoteProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,7 +23,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +31,7 @@ public class RecruiterNoteService {
     private final RecruiterNoteRepository recruiterNoteRepository;
     private final JobOpeningRepository jobOpeningRepository;
     private final OpeningApplicantRepository openingApplicantRepository;
+    private final BatchLoader batchLoader;
 
     /**
      * Récupère toutes les notes pour un candidat avec pagination
@@ -44,8 +48,8 @@ public class RecruiterNoteService {
         OpeningApplicant applicant = openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)
                 .orElseThrow(() -> new ResourceNotFoundException("Candidat non trouvé avec l'ID: " + applicantId));
         
-        return recruiterNoteRepository.findByApplicant(applicant, pageable)
-                .map(this::mapToResponse);
+        return batchLoader.mapPage(recruiterNoteRepository.findProjectionsByApplicantId(applicant.getId(), pageable),
+                this::mapToResponse);
     }
 
     /**
@@ -62,9 +66,8 @@ public class RecruiterNoteService {
         OpeningApplicant applicant = openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)
                 .orElseThrow(() -> new ResourceNotFoundException("Candidat non trouvé avec l'ID: " + applicantId));
         
-        return recruiterNoteRepository.findByApplicantOrderByCreatedAtDesc(applicant).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return batchLoader.mapAll(recruiterNoteRepository.findProjectionsByApplicantIdOrderByCreatedAtDesc(applicant.getId()),
+                this::mapToResponse);
     }
 
     /**
@@ -175,21 +178,38 @@ public class RecruiterNoteService {
      * Convertit une entité RecruiterNote en DTO RecruiterNoteResponse
      */
     private RecruiterNoteResponse mapToResponse(RecruiterNote note) {
-        RecruiterNoteResponse.AuthorSummary authorSummary = null;
-        if (note.getAuthor() != null) {
-            authorSummary = RecruiterNoteResponse.AuthorSummary.builder()
-                    .id(note.getAuthor().getId())
-                    .name(note.getAuthor().getName())
-                    .email(note.getAuthor().getEmail())
-                    .build();
-        }
-        
         return RecruiterNoteResponse.builder()
                 .id(note.getId())
                 .applicantId(note.getApplicant().getId())
                 .noteText(note.getNoteText())
                 .createdAt(note.getCreatedAt())
-                .author(authorSummary)
+                .author(mapToAuthorSummary(note.getAuthor()))
+                .build();
+    }
+
+    /**
+     * Convertit une projection de note en DTO RecruiterNoteResponse
+     * Les auteurs des notes converties ensemble sont chargés en une seule requête.
+     */
+    private RecruiterNoteResponse mapToResponse(RecruiterNoteProjection note, BatchLoadContext loads) {
+        RecruiterNoteResponse response = RecruiterNoteResponse.builder()
+                .id(note.noteId())
+                .applicantId(note.applicantId())
+                .noteText(note.noteText())
+                .createdAt(note.createdAt())
+                .build();
+        loads.load(BatchKeys.AUTHOR_BY_ID, note.authorId(), author -> response.setAuthor(mapToAuthorSummary(author)));
+        return response;
+    }
+
+    private RecruiterNoteResponse.AuthorSummary mapToAuthorSummary(User author) {
+        if (author == null) {
+            return null;
+        }
+        return RecruiterNoteResponse.AuthorSummary.builder()
+                .id(author.getId())
+                .name(author.getName())
+                .email(author.getEmail())
                 .build();
     }
 }
@@ -1,5 +1,7 @@
 package com.candiflow.api.service;
 
+import com.candiflow.api.batch.BatchLoader;
+import com.candiflow.api.bulkhead.Bulkhead;
 import com.candiflow.api.dto.recruiter.JobOpeningResponse;
 import com.candiflow.api.dto.recruiter.OpeningApplicantResponse;
 import com.candiflow.api.factory.JobOpeningResponseFactory;
@@ -24,12 +26,14 @@ import java.util.UUID;
  */
 @Service
 @RequiredArgsConstructor
+@Bulkhead(Bulkhead.REPORTING)
 public class SearchService {
 
     private final JobOpeningRepository jobOpeningRepository;
     private final OpeningApplicantRepository openingApplicantRepository;
     private final JobOpeningResponseFactory jobOpeningResponseFactory;
     private final OpeningApplicantResponseFactory openingApplicantResponseFactory;
+    private final BatchLoader batchLoader;
 
     /**
      * Recherche avancée d'offres d'emploi
@@ -51,10 +55,11 @@ public class SearchService {
             Pageable pageable) {
 
         // Créer une stratégie de recherche pour les offres d'emploi
-        SearchStrategy<?, JobOpeningResponse> strategy = JobOpeningSearchStrategy.builder()
+        SearchStrategy<?, ?, JobOpeningResponse> strategy = JobOpeningSearchStrategy.builder()
                 .jobOpeningRepository(jobOpeningRepository)
                 .openingApplicantRepository(openingApplicantRepository)
                 .jobOpeningResponseFactory(jobOpeningResponseFactory)
+                .batchLoader(batchLoader)
                 .title(title)
                 .status(status)
                 .createdAfter(createdAfter)
@@ -92,9 +97,10 @@ public class SearchService {
             Pageable pageable) {
 
         // Créer une stratégie de recherche pour les candidats
-        SearchStrategy<?, OpeningApplicantResponse> strategy = OpeningApplicantSearchStrategy.builder()
+        SearchStrategy<?, ?, OpeningApplicantResponse> strategy = OpeningApplicantSearchStrategy.builder()
                 .openingApplicantRepository(openingApplicantRepository)
                 .openingApplicantResponseFactory(openingApplicantResponseFactory)
+                .batchLoader(batchLoader)
                 .jobOpeningId(jobOpeningId)
                 .name(name)
                 .email(email)
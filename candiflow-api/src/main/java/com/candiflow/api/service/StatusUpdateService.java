@@ -8,6 +8,7 @@ import com.candiflow.api.model.entity.StatusUpdate;
 import com.candiflow.api.model.entity.User;
 import com.candiflow.api.repository.ApplicationRepository;
 import com.candiflow.api.repository.StatusUpdateRepository;
+import com.candiflow.api.sync.ChangeTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +26,7 @@ public class StatusUpdateService {
     private final ApplicationRepository applicationRepository;
     private final ApplicationStatusService applicationStatusService;
     private final AuthService authService;
+    private final ChangeTracker changeTracker;
 
     /**
      * Récupère toutes les mises à jour de statut pour une candidature
@@ -97,6 +99,7 @@ public class StatusUpdateService {
         statusUpdate.setStatus(status);
         statusUpdate.setEventDate(request.getEventDate());
         statusUpdate.setNotes(request.getNotes());
+        changeTracker.statusUpdateChanged(statusUpdate);
 
         // Sauvegarder la mise à jour
         StatusUpdate savedStatusUpdate = statusUpdateRepository.save(statusUpdate);
@@ -135,6 +138,7 @@ public class StatusUpdateService {
         statusUpdate.setStatus(status);
         statusUpdate.setEventDate(request.getEventDate());
         statusUpdate.setNotes(request.getNotes());
+        changeTracker.statusUpdateChanged(statusUpdate);
 
         // Sauvegarder la mise à jour
         StatusUpdate updatedStatusUpdate = statusUpdateRepository.save(statusUpdate);
@@ -173,6 +177,7 @@ public class StatusUpdateService {
         }
 
         // Supprimer la mise à jour
+        changeTracker.statusUpdateDeleted(statusUpdateOpt.get());
         statusUpdateRepository.delete(statusUpdateOpt.get());
         return true;
     }
@@ -180,7 +185,7 @@ public class StatusUpdateService {
     /**
      * Convertit une entité StatusUpdate en DTO StatusUpdateResponse
      */
-    private StatusUpdateResponse mapToResponse(StatusUpdate statusUpdate) {
+    StatusUpdateResponse mapToResponse(StatusUpdate statusUpdate) {
         return StatusUpdateResponse.builder()
                 .id(statusUpdate.getId())
                 .applicationId(statusUpdate.getApplication().getId())
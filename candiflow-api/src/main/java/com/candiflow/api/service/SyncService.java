@@ -0,0 +1,122 @@
+package com.candiflow.api.service;
+
+import com.candiflow.api.dto.sync.SyncResponse;
+import com.candiflow.api.model.entity.Application;
+import com.candiflow.api.model.entity.Document;
+import com.candiflow.api.model.entity.StatusUpdate;
+import com.candiflow.api.model.entity.SyncTombstone;
+import com.candiflow.api.repository.ApplicationRepository;
+import com.candiflow.api.repository.DocumentRepository;
+import com.candiflow.api.repository.StatusUpdateRepository;
+import com.candiflow.api.repository.SyncSequenceRepository;
+import com.candiflow.api.repository.SyncTombstoneRepository;
+import com.candiflow.api.sync.SyncProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+
+/**
+ * Service de synchronisation différentielle des candidatures, mises à jour de statut et documents (client mobile)
+ * Chaque écriture numérote les lignes concernées dans la séquence de l'utilisateur (voir ChangeTracker) ; le jeton
+ * du client porte le dernier numéro reçu et une synchronisation ne lit que les lignes et pierres tombales de numéro
+ * supérieur, par index. Les numéros sont lus jusqu'au dernier numéro validé, lu en premier : une écriture validée
+ * pendant la synchronisation est transmise à la suivante, sans perte. Sans jeton, avec un jeton expiré ou d'un autre
+ * utilisateur, toutes les lignes existantes sont renvoyées (reset), sans pierres tombales.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private final SyncSequenceRepository syncSequenceRepository;
+    private final ApplicationRepository applicationRepository;
+    private final StatusUpdateRepository statusUpdateRepository;
+    private final DocumentRepository documentRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ApplicationService applicationService;
+    private final StatusUpdateService statusUpdateService;
+    private final DocumentService documentService;
+    private final AuthService authService;
+    private final SyncProperties properties;
+
+    /**
+     * Renvoie les changements de l'utilisateur connecté postérieurs à un jeton
+     * @param since Jeton de la synchronisation précédente (optionnel)
+     * @param limit Nombre maximal de changements renvoyés (optionnel)
+     * @return Changements, par numéro croissant, et jeton suivant
+     */
+    @Transactional(readOnly = true)
+    public SyncResponse sync(String since, Integer limit) {
+        UUID userId = authService.getCurrentUser().getId();
+        Instant now = Instant.now();
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : properties.getPageSize(), properties.getMaxPageSize()));
+
+        SyncToken token = since != null && !since.isBlank() ? SyncToken.decode(since.trim()) : null;
+        boolean reset = token == null
+                || !token.userId().equals(userId)
+                || token.issuedAt().isBefore(now.minus(properties.getTokenValidity()));
+        long after = reset ? 0L : token.seq();
+
+        // Dernier numéro validé : les numéros inférieurs appartiennent tous à des transactions validées
+        long upTo = syncSequenceRepository.findLastValue(userId).orElse(0L);
+        if (after >= upTo) {
+            // Rien de nouveau, ou réplica en retard sur le jeton : le client garde sa position
+            return response(new SyncToken(userId, after, now), false, reset, List.of(), List.of(), List.of(), List.of());
+        }
+
+        Limit fetch = Limit.of(pageSize + 1);
+        List<Application> applications = applicationRepository.findChanged(userId, after, upTo, fetch);
+        List<StatusUpdate> statusUpdates = statusUpdateRepository.findChanged(userId, after, upTo, fetch);
+        List<Document> documents = documentRepository.findChanged(userId, after, upTo, fetch);
+        List<SyncTombstone> tombstones = reset ? List.of()
+                : syncTombstoneRepository.findChanged(userId, after, upTo, fetch);
+
+        // Les pageSize plus petits numéros des quatre sources figurent parmi les pageSize + 1 premiers de chacune
+        long[] seqs = LongStream.concat(
+                LongStream.concat(seqs(applications, Application::getChangeSeq), seqs(statusUpdates, StatusUpdate::getChangeSeq)),
+                LongStream.concat(seqs(documents, Document::getChangeSeq), seqs(tombstones, SyncTombstone::getChangeSeq)))
+                .sorted()
+                .toArray();
+        boolean hasMore = seqs.length > pageSize;
+        long last = hasMore ? seqs[pageSize - 1] : upTo;
+
+        return response(new SyncToken(userId, last, now), hasMore, reset,
+                upTo(applications, Application::getChangeSeq, last),
+                upTo(statusUpdates, StatusUpdate::getChangeSeq, last),
+                upTo(documents, Document::getChangeSeq, last),
+                upTo(tombstones, SyncTombstone::getChangeSeq, last));
+    }
+
+    private SyncResponse response(SyncToken token, boolean hasMore, boolean reset, List<Application> applications,
+                                  List<StatusUpdate> statusUpdates, List<Document> documents,
+                                  List<SyncTombstone> tombstones) {
+        return SyncResponse.builder()
+                .token(token.encode())
+                .hasMore(hasMore)
+                .reset(reset)
+                .applications(applicationService.mapAllToResponse(applications))
+                .statusUpdates(statusUpdates.stream().map(statusUpdateService::mapToResponse).toList())
+                .documents(documents.stream().map(documentService::mapToResponse).toList())
+                .deleted(tombstones.stream()
+                        .map(tombstone -> SyncResponse.Deletion.builder()
+                                .type(tombstone.getEntityType())
+                                .id(tombstone.getEntityId())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private static <T> LongStream seqs(List<T> rows, ToLongFunction<T> changeSeq) {
+        return rows.stream().mapToLong(changeSeq);
+    }
+
+    private static <T> List<T> upTo(List<T> rows, ToLongFunction<T> changeSeq, long last) {
+        return rows.stream().filter(row -> changeSeq.applyAsLong(row) <= last).toList();
+    }
+}
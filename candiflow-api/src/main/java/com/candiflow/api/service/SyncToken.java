@@ -0,0 +1,53 @@
+package com.candiflow.api.service;
+
+import com.candiflow.api.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position d'un client dans la séquence de changements de son utilisateur, encodée en chaîne opaque
+ * Le client a reçu tous les changements de numéro inférieur ou égal à la position.
+ *
+ * @param userId Utilisateur synchronisé
+ * @param seq Dernier numéro de changement reçu
+ * @param issuedAt Date d'émission, au-delà de la validité de laquelle les suppressions ont pu être purgées
+ */
+record SyncToken(UUID userId, long seq, Instant issuedAt) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encode le jeton en chaîne opaque
+     */
+    String encode() {
+        String raw = userId + SEPARATOR + seq + SEPARATOR + issuedAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Décode un jeton transmis par le client
+     * @param token Chaîne opaque
+     * @return Jeton décodé
+     * @throws InvalidCursorException si la chaîne n'est pas un jeton valide
+     */
+    static SyncToken decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw new InvalidCursorException("Jeton de synchronisation invalide: " + token);
+            }
+            long seq = Long.parseLong(parts[1]);
+            if (seq < 0) {
+                throw new InvalidCursorException("Jeton de synchronisation invalide: " + token);
+            }
+            return new SyncToken(UUID.fromString(parts[0]), seq, Instant.parse(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Jeton de synchronisation invalide: " + token);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.candiflow.api.service;
+
+import com.candiflow.api.analytics.CounterProperties;
+import com.candiflow.api.dto.dashboard.DateCount;
+import com.candiflow.api.dto.dashboard.TrendResponse;
+import com.candiflow.api.model.enums.CounterMetric;
+import com.candiflow.api.model.enums.TrendGranularity;
+import com.candiflow.api.repository.DailyCounterRepository;
+import com.candiflow.api.repository.projection.DayCountProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Service des séries temporelles lues dans les compteurs journaliers (table daily_counters)
+ * Une série coûte une lecture par jour de la période, quel que soit le volume de candidats ou d'offres ;
+ * le ré-échantillonnage par semaine ou par mois est fait ici, à partir des points journaliers.
+ */
+@Service
+@RequiredArgsConstructor
+public class TrendService {
+
+    private final DailyCounterRepository dailyCounterRepository;
+    private final CounterProperties properties;
+
+    /**
+     * Indique si les compteurs journaliers sont tenus à jour et peuvent être lus
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Calcule la série d'une métrique sur une période
+     * Sans date de fin, la série s'arrête aujourd'hui ; sans date de début, elle couvre la période par défaut.
+     * La période est ramenée à sa durée maximale, en conservant la date de fin.
+     * @param metric Métrique
+     * @param recruiterId ID du recruteur, ou null pour tous les recruteurs
+     * @param from Premier jour inclus (optionnel)
+     * @param to Dernier jour inclus (optionnel)
+     * @param granularity Pas de la série
+     * @return Série complète, les périodes sans valeur valant zéro
+     */
+    @Transactional(readOnly = true)
+    public TrendResponse getTrend(CounterMetric metric, UUID recruiterId, LocalDate from, LocalDate to,
+                                  TrendGranularity granularity) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(Math.max(1, properties.getDefaultRangeDays()) - 1L);
+        LocalDate earliest = end.minusDays(Math.max(1, properties.getMaxRangeDays()) - 1L);
+        if (start.isBefore(earliest)) {
+            start = earliest;
+        }
+        if (start.isAfter(end)) {
+            start = end;
+        }
+
+        List<DateCount> points = series(metric, recruiterId, start, end, granularity);
+        return TrendResponse.builder()
+                .metric(metric)
+                .granularity(granularity)
+                .recruiterId(recruiterId)
+                .from(start)
+                .to(end)
+                .total(points.stream().mapToLong(DateCount::getCount).sum())
+                .points(points)
+                .build();
+    }
+
+    /**
+     * Calcule la série d'une métrique entre deux jours inclus, sans borner la période
+     * @param metric Métrique
+     * @param recruiterId ID du recruteur, ou null pour tous les recruteurs
+     * @param from Premier jour inclus
+     * @param to Dernier jour inclus
+     * @param granularity Pas de la série
+     * @return Un point par période, daté du début de la période, les périodes sans valeur valant zéro
+     */
+    @Transactional(readOnly = true)
+    public List<DateCount> series(CounterMetric metric, UUID recruiterId, LocalDate from, LocalDate to,
+                                  TrendGranularity granularity) {
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        TreeMap<LocalDate, Long> buckets = new TreeMap<>();
+        for (LocalDate bucket = bucketStart(from, granularity); !bucket.isAfter(to); bucket = next(bucket, granularity)) {
+            buckets.put(bucket, 0L);
+        }
+        for (DayCountProjection day : daily(metric, recruiterId, from, to)) {
+            buckets.merge(bucketStart(day.day(), granularity), day.count(), Long::sum);
+        }
+
+        List<DateCount> points = new ArrayList<>(buckets.size());
+        buckets.forEach((date, count) -> points.add(new DateCount(date, count)));
+        return points;
+    }
+
+    /**
+     * Calcule le total d'une métrique entre deux jours inclus
+     * @param metric Métrique
+     * @param recruiterId ID du recruteur, ou null pour tous les recruteurs
+     * @param from Premier jour inclus
+     * @param to Dernier jour inclus
+     * @return Total de la période
+     */
+    @Transactional(readOnly = true)
+    public long total(CounterMetric metric, UUID recruiterId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        return daily(metric, recruiterId, from, to).stream().mapToLong(DayCountProjection::count).sum();
+    }
+
+    /**
+     * Récupère le premier jour où une métrique a été comptée
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> firstDay(CounterMetric metric) {
+        return dailyCounterRepository.findFirstDay(metric);
+    }
+
+    private List<DayCountProjection> daily(CounterMetric metric, UUID recruiterId, LocalDate from, LocalDate to) {
+        return recruiterId != null
+                ? dailyCounterRepository.findByRecruiterAndDayBetween(metric, recruiterId, from, to)
+                : dailyCounterRepository.sumByDayBetween(metric, from, to);
+    }
+
+    private static LocalDate bucketStart(LocalDate day, TrendGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate next(LocalDate bucket, TrendGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> bucket.plusDays(1);
+            case WEEK -> bucket.plusWeeks(1);
+            case MONTH -> bucket.plusMonths(1);
+        };
+    }
+}
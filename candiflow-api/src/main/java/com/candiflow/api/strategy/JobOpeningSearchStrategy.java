@@ -1,10 +1,13 @@
 package com.candiflow.api.strategy;
 
+import com.candiflow.api.batch.BatchLoadContext;
+import com.candiflow.api.batch.BatchLoader;
 import com.candiflow.api.dto.recruiter.JobOpeningResponse;
 import com.candiflow.api.factory.JobOpeningResponseFactory;
 import com.candiflow.api.model.entity.JobOpening;
 import com.candiflow.api.repository.JobOpeningRepository;
 import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.projection.JobOpeningSummaryProjection;
 import jakarta.persistence.criteria.Predicate;
 import lombok.Builder;
 import lombok.Data;
@@ -24,11 +27,12 @@ import java.util.UUID;
  */
 @Data
 @Builder
-public class JobOpeningSearchStrategy implements SearchStrategy<JobOpening, JobOpeningResponse> {
+public class JobOpeningSearchStrategy implements SearchStrategy<JobOpening, JobOpeningSummaryProjection, JobOpeningResponse> {
     
     private final JobOpeningRepository jobOpeningRepository;
     private final OpeningApplicantRepository openingApplicantRepository;
     private final JobOpeningResponseFactory jobOpeningResponseFactory;
+    private final BatchLoader batchLoader;
     
     // Critères de recherche
     private String title;
@@ -78,14 +82,14 @@ public class JobOpeningSearchStrategy implements SearchStrategy<JobOpening, JobO
     }
     
     @Override
-    public JobOpeningResponse convertToResponse(JobOpening entity) {
-        return jobOpeningResponseFactory.createFromEntity(entity);
+    public JobOpeningResponse convertToResponse(JobOpeningSummaryProjection projection, BatchLoadContext loads) {
+        return jobOpeningResponseFactory.createFromSummary(projection, loads);
     }
     
     @Override
     public Page<JobOpeningResponse> execute(Pageable pageable) {
         Specification<JobOpening> spec = createSpecification();
-        Page<JobOpening> jobOpenings = jobOpeningRepository.findAll(spec, pageable);
-        return jobOpenings.map(this::convertToResponse);
+        Page<JobOpeningSummaryProjection> jobOpenings = jobOpeningRepository.findSummaries(spec, pageable);
+        return batchLoader.mapPage(jobOpenings, this::convertToResponse);
     }
 }
@@ -1,9 +1,12 @@
 package com.candiflow.api.strategy;
 
+import com.candiflow.api.batch.BatchLoadContext;
+import com.candiflow.api.batch.BatchLoader;
 import com.candiflow.api.dto.recruiter.OpeningApplicantResponse;
 import com.candiflow.api.factory.OpeningApplicantResponseFactory;
 import com.candiflow.api.model.entity.OpeningApplicant;
 import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.projection.ApplicantSummaryProjection;
 import jakarta.persistence.criteria.Predicate;
 import lombok.Builder;
 import lombok.Data;
@@ -22,10 +25,11 @@ import java.util.UUID;
  */
 @Data
 @Builder
-public class OpeningApplicantSearchStrategy implements SearchStrategy<OpeningApplicant, OpeningApplicantResponse> {
+public class OpeningApplicantSearchStrategy implements SearchStrategy<OpeningApplicant, ApplicantSummaryProjection, OpeningApplicantResponse> {
     
     private final OpeningApplicantRepository openingApplicantRepository;
     private final OpeningApplicantResponseFactory openingApplicantResponseFactory;
+    private final BatchLoader batchLoader;
     
     // Critères de recherche
     private String name;
@@ -95,14 +99,14 @@ public class OpeningApplicantSearchStrategy implements SearchStrategy<OpeningApp
     }
     
     @Override
-    public OpeningApplicantResponse convertToResponse(OpeningApplicant entity) {
-        return openingApplicantResponseFactory.createFromEntity(entity);
+    public OpeningApplicantResponse convertToResponse(ApplicantSummaryProjection projection, BatchLoadContext loads) {
+        return openingApplicantResponseFactory.createFromSummary(projection);
     }
     
     @Override
     public Page<OpeningApplicantResponse> execute(Pageable pageable) {
         Specification<OpeningApplicant> spec = createSpecification();
-        Page<OpeningApplicant> applicants = openingApplicantRepository.findAll(spec, pageable);
-        return applicants.map(this::convertToResponse);
+        Page<ApplicantSummaryProjection> applicants = openingApplicantRepository.findSummaries(spec, pageable);
+        return batchLoader.mapPage(applicants, this::convertToResponse);
     }
 }
@@ -1,5 +1,6 @@
 package com.candiflow.api.strategy;
 
+import com.candiflow.api.batch.BatchLoadContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -8,9 +9,10 @@ import org.springframework.data.jpa.domain.Specification;
  * Interface pour les stratégies de recherche
  * Implémente le pattern Strategy pour rendre le code plus modulaire et extensible
  * @param <T> Type d'entité à rechercher
+ * @param <P> Type de projection lue pour chaque résultat
  * @param <R> Type de réponse à retourner
  */
-public interface SearchStrategy<T, R> {
+public interface SearchStrategy<T, P, R> {
     
     /**
      * Crée une spécification pour la recherche
@@ -19,11 +21,12 @@ public interface SearchStrategy<T, R> {
     Specification<T> createSpecification();
     
     /**
-     * Convertit une entité en DTO de réponse
-     * @param entity Entité à convertir
-     * @return DTO de réponse
+     * Convertit une projection en DTO de réponse
+     * @param projection Projection à convertir
+     * @param loads Contexte de chargement par lot des données associées
+     * @return DTO de réponse, complété une fois le contexte résolu
      */
-    R convertToResponse(T entity);
+    R convertToResponse(P projection, BatchLoadContext loads);
     
     /**
      * Exécute la recherche avec la spécification et la pagination
@@ -0,0 +1,129 @@
+package com.candiflow.api.sync;
+
+import com.candiflow.api.model.entity.Application;
+import com.candiflow.api.model.entity.Document;
+import com.candiflow.api.model.entity.StatusUpdate;
+import com.candiflow.api.model.entity.SyncTombstone;
+import com.candiflow.api.model.enums.SyncEntityType;
+import com.candiflow.api.repository.SyncSequenceRepository;
+import com.candiflow.api.repository.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Numérotation des écritures sur les candidatures, mises à jour de statut et documents (synchronisation différentielle)
+ * Chaque ligne créée ou modifiée reçoit un numéro de changement pris dans la séquence de l'utilisateur propriétaire,
+ * chaque ligne supprimée une pierre tombale numérotée de la même façon. Une candidature est renumérotée avec ses
+ * mises à jour de statut et ses documents, dont dépendent son statut courant et ses totaux.
+ * Les méthodes doivent être appelées dans la transaction de l'écriture, avant l'enregistrement des entités :
+ * la séquence reste verrouillée jusqu'à la validation, si bien que les numéros d'un utilisateur sont visibles
+ * dans l'ordre croissant.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeTracker {
+
+    private final SyncSequenceRepository syncSequenceRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+
+    /**
+     * Numérote une candidature modifiée
+     */
+    public void applicationChanged(Application application) {
+        application.setChangeSeq(reserve(ownerId(application), 1));
+    }
+
+    /**
+     * Numérote une candidature créée et sa mise à jour de statut initiale
+     */
+    public void applicationCreated(Application application, StatusUpdate initialStatus) {
+        long seq = reserve(ownerId(application), 2);
+        initialStatus.setChangeSeq(seq);
+        application.setChangeSeq(seq + 1);
+    }
+
+    /**
+     * Numérote une mise à jour de statut créée ou modifiée, et sa candidature
+     */
+    public void statusUpdateChanged(StatusUpdate statusUpdate) {
+        Application application = statusUpdate.getApplication();
+        long seq = reserve(ownerId(application), 2);
+        statusUpdate.setChangeSeq(seq);
+        application.setChangeSeq(seq + 1);
+    }
+
+    /**
+     * Numérote un document créé ou modifié, et sa candidature
+     */
+    public void documentChanged(Document document) {
+        Application application = document.getApplication();
+        long seq = reserve(ownerId(application), 2);
+        document.setChangeSeq(seq);
+        application.setChangeSeq(seq + 1);
+    }
+
+    /**
+     * Enregistre la suppression d'une mise à jour de statut et renumérote sa candidature
+     */
+    public void statusUpdateDeleted(StatusUpdate statusUpdate) {
+        Application application = statusUpdate.getApplication();
+        UUID userId = ownerId(application);
+        long seq = reserve(userId, 2);
+        syncTombstoneRepository.save(tombstone(SyncEntityType.STATUS_UPDATE, statusUpdate.getId(), userId, seq, Instant.now()));
+        application.setChangeSeq(seq + 1);
+    }
+
+    /**
+     * Enregistre la suppression d'un document et renumérote sa candidature
+     */
+    public void documentDeleted(Document document) {
+        Application application = document.getApplication();
+        UUID userId = ownerId(application);
+        long seq = reserve(userId, 2);
+        syncTombstoneRepository.save(tombstone(SyncEntityType.DOCUMENT, document.getId(), userId, seq, Instant.now()));
+        application.setChangeSeq(seq + 1);
+    }
+
+    /**
+     * Enregistre la suppression d'une candidature et de ses mises à jour de statut et documents, supprimés avec elle
+     */
+    public void applicationDeleted(Application application) {
+        UUID userId = ownerId(application);
+        Instant deletedAt = Instant.now();
+        long seq = reserve(userId, 1 + application.getStatusUpdates().size() + application.getDocuments().size());
+
+        List<SyncTombstone> tombstones = new ArrayList<>();
+        for (StatusUpdate statusUpdate : application.getStatusUpdates()) {
+            tombstones.add(tombstone(SyncEntityType.STATUS_UPDATE, statusUpdate.getId(), userId, seq++, deletedAt));
+        }
+        for (Document document : application.getDocuments()) {
+            tombstones.add(tombstone(SyncEntityType.DOCUMENT, document.getId(), userId, seq++, deletedAt));
+        }
+        tombstones.add(tombstone(SyncEntityType.APPLICATION, application.getId(), userId, seq, deletedAt));
+        syncTombstoneRepository.saveAll(tombstones);
+    }
+
+    /**
+     * Réserve des numéros consécutifs dans la séquence d'un utilisateur
+     * @return Premier numéro réservé
+     */
+    private long reserve(UUID userId, int count) {
+        syncSequenceRepository.increment(userId, count);
+        long lastValue = syncSequenceRepository.findLastValue(userId)
+                .orElseThrow(() -> new IllegalStateException("Séquence de synchronisation introuvable: " + userId));
+        return lastValue - count + 1;
+    }
+
+    private static UUID ownerId(Application application) {
+        return application.getUser().getId();
+    }
+
+    private static SyncTombstone tombstone(SyncEntityType type, UUID entityId, UUID userId, long seq, Instant deletedAt) {
+        return new SyncTombstone(entityId, type, userId, seq, deletedAt);
+    }
+}
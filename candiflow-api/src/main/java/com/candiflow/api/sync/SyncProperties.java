@@ -0,0 +1,38 @@
+package com.candiflow.api.sync;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration de la synchronisation différentielle (API /api/sync)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "candiflow.sync")
+public class SyncProperties {
+
+    /**
+     * Nombre de changements renvoyés par défaut par réponse
+     */
+    private int pageSize = 500;
+
+    /**
+     * Nombre maximal de changements qu'un client peut demander par réponse
+     */
+    private int maxPageSize = 2000;
+
+    /**
+     * Durée de validité d'un jeton : au-delà, ses suppressions ont pu être purgées et le client resynchronise tout
+     */
+    private Duration tokenValidity = Duration.ofDays(30);
+
+    /**
+     * Intervalle entre deux purges des pierres tombales expirées
+     */
+    private Duration purgeInterval = Duration.ofHours(6);
+}
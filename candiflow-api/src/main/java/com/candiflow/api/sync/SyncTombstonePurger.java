@@ -0,0 +1,40 @@
+package com.candiflow.api.sync;
+
+import com.candiflow.api.repository.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Purge planifiée des pierres tombales de la synchronisation différentielle
+ * Une pierre tombale n'est utile qu'aux jetons émis avant la suppression ; elle est conservée un jour de plus
+ * que leur durée de validité, les jetons plus anciens conduisant de toute façon à une resynchronisation complète.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyncTombstonePurger {
+
+    private static final Duration MARGIN = Duration.ofDays(1);
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final SyncProperties properties;
+
+    /**
+     * Supprime les pierres tombales expirées
+     */
+    @Scheduled(fixedDelayString = "${candiflow.sync.purge-interval:PT6H}")
+    @Transactional
+    public void purgeExpired() {
+        Instant before = Instant.now().minus(properties.getTokenValidity()).minus(MARGIN);
+        int purged = syncTombstoneRepository.deleteByDeletedAtBefore(before);
+        if (purged > 0) {
+            log.info("{} pierre(s) tombale(s) de synchronisation purgée(s)", purged);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+-- Partitionnement mensuel de status_updates (event_date) et recruiter_notes (created_at)
+-- Les requêtes filtrant sur la date ne lisent que les partitions concernées, et l'historique ancien
+-- se supprime par DROP TABLE d'une partition au lieu d'un DELETE massif.
+-- Une partition par défaut reçoit les dates hors des mois créés (dates saisies très anciennes ou lointaines).
+-- Les partitions initiales remontent au plus à 24 mois : event_date est saisie par l'utilisateur, et une seule
+-- date aberrante ne doit pas créer une partition par mois jusqu'à elle. Les lignes plus anciennes restent
+-- dans la partition par défaut.
+
+-- Crée les partitions mensuelles manquantes d'une table entre deux mois (inclus)
+-- Les lignes de la partition par défaut appartenant au mois créé y sont déplacées.
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent TEXT, partition_column TEXT, from_month DATE, to_month DATE)
+    RETURNS INTEGER AS
+$$
+DECLARE
+    month_start    DATE := date_trunc('month', from_month)::DATE;
+    month_end      DATE;
+    lower_bound    TIMESTAMPTZ;
+    upper_bound    TIMESTAMPTZ;
+    partition_name TEXT;
+    default_name   TEXT := parent || '_default';
+    moved          BIGINT;
+    created        INTEGER := 0;
+BEGIN
+    WHILE month_start <= to_month
+        LOOP
+            month_end := (month_start + INTERVAL '1 month')::DATE;
+            partition_name := format('%s_p%s', parent, to_char(month_start, 'YYYY_MM'));
+            IF to_regclass(partition_name) IS NULL THEN
+                lower_bound := month_start::TIMESTAMP AT TIME ZONE 'UTC';
+                upper_bound := month_end::TIMESTAMP AT TIME ZONE 'UTC';
+                moved := 0;
+                IF to_regclass(default_name) IS NOT NULL THEN
+                    EXECUTE format('CREATE TEMP TABLE partition_rows (LIKE %I) ON COMMIT DROP', parent);
+                    EXECUTE format('WITH removed AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                                       || 'INSERT INTO partition_rows SELECT * FROM removed',
+                                   default_name, partition_column, lower_bound, partition_column, upper_bound);
+                    GET DIAGNOSTICS moved = ROW_COUNT;
+                END IF;
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, parent, lower_bound, upper_bound);
+                IF to_regclass(default_name) IS NOT NULL THEN
+                    IF moved > 0 THEN
+                        EXECUTE format('INSERT INTO %I SELECT * FROM partition_rows', parent);
+                    END IF;
+                    DROP TABLE partition_rows;
+                END IF;
+                created := created + 1;
+            END IF;
+            month_start := month_end;
+        END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Supprime les partitions mensuelles d'une table entièrement antérieures à une date
+CREATE OR REPLACE FUNCTION drop_monthly_partitions_before(parent TEXT, before_date DATE)
+    RETURNS INTEGER AS
+$$
+DECLARE
+    child   RECORD;
+    dropped INTEGER := 0;
+BEGIN
+    FOR child IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent::REGCLASS
+          AND c.relname ~ ('^' || parent || '_p[0-9]{4}_[0-9]{2}$')
+        LOOP
+            IF (to_date(right(child.relname, 7), 'YYYY_MM') + INTERVAL '1 month')::DATE <= before_date THEN
+                EXECUTE format('DROP TABLE %I', child.relname);
+                dropped := dropped + 1;
+            END IF;
+        END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+-- status_updates ------------------------------------------------------------------------------------------
+
+ALTER TABLE status_updates RENAME TO status_updates_legacy;
+ALTER TABLE status_updates_legacy RENAME CONSTRAINT status_updates_pkey TO status_updates_legacy_pkey;
+
+CREATE TABLE status_updates
+(
+    status_update_id UUID        NOT NULL DEFAULT gen_random_uuid(),
+    application_id   UUID        NOT NULL REFERENCES applications (application_id) ON DELETE CASCADE,
+    status_id        UUID        NOT NULL REFERENCES application_statuses (status_id) ON DELETE RESTRICT,
+    event_date       TIMESTAMPTZ NOT NULL,
+    notes            TEXT,
+    created_at       TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at       TIMESTAMPTZ NOT NULL DEFAULT now(),
+    -- La clé de partitionnement doit faire partie de la clé primaire
+    PRIMARY KEY (status_update_id, event_date)
+) PARTITION BY RANGE (event_date);
+
+CREATE TABLE status_updates_default PARTITION OF status_updates DEFAULT;
+SELECT create_monthly_partitions('status_updates', 'event_date',
+                                 GREATEST(LEAST(COALESCE((SELECT min(event_date) FROM status_updates_legacy), now()), now()),
+                                          now() - INTERVAL '24 months')::DATE,
+                                 (now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO status_updates (status_update_id, application_id, status_id, event_date, notes, created_at, updated_at)
+SELECT status_update_id, application_id, status_id, event_date, notes, created_at, updated_at
+FROM status_updates_legacy;
+DROP TABLE status_updates_legacy;
+
+CREATE INDEX idx_status_updates_application_id ON status_updates (application_id);
+CREATE INDEX idx_status_updates_status_id ON status_updates (status_id);
+CREATE INDEX idx_status_updates_event_date ON status_updates (event_date);
+
+-- recruiter_notes -----------------------------------------------------------------------------------------
+
+ALTER TABLE recruiter_notes RENAME TO recruiter_notes_legacy;
+ALTER TABLE recruiter_notes_legacy RENAME CONSTRAINT recruiter_notes_pkey TO recruiter_notes_legacy_pkey;
+
+CREATE TABLE recruiter_notes
+(
+    note_id        UUID        NOT NULL DEFAULT gen_random_uuid(),
+    applicant_id   UUID        NOT NULL REFERENCES opening_applicants (applicant_id) ON DELETE CASCADE,
+    author_user_id UUID        NOT NULL REFERENCES users (user_id) ON DELETE SET NULL,
+    note_text      TEXT        NOT NULL,
+    created_at     TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at     TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (note_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE recruiter_notes_default PARTITION OF recruiter_notes DEFAULT;
+SELECT create_monthly_partitions('recruiter_notes', 'created_at',
+                                 GREATEST(LEAST(COALESCE((SELECT min(created_at) FROM recruiter_notes_legacy), now()), now()),
+                                          now() - INTERVAL '24 months')::DATE,
+                                 (now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO recruiter_notes (note_id, applicant_id, author_user_id, note_text, created_at, updated_at)
+SELECT note_id, applicant_id, author_user_id, note_text, created_at, updated_at
+FROM recruiter_notes_legacy;
+DROP TABLE recruiter_notes_legacy;
+
+CREATE INDEX idx_recruiter_notes_applicant_id ON recruiter_notes (applicant_id);
+CREATE INDEX idx_recruiter_notes_author_user_id ON recruiter_notes (author_user_id);
+CREATE INDEX idx_recruiter_notes_created_at ON recruiter_notes (created_at);
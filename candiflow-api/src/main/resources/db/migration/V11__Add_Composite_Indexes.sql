@@ -0,0 +1,28 @@
+-- Index composites des requêtes de repository les plus fréquentes
+-- Chaque index couvre le filtre d'égalité puis le tri de la requête : plus de tri ni de filtre résiduel.
+-- Les index mono-colonne dont le nouvel index est un préfixe deviennent redondants et sont supprimés.
+
+-- JobOpeningRepository.findByRecruiterOrderByCreatedAtDesc (et countByRecruiter, findByRecruiter)
+CREATE INDEX idx_job_openings_recruiter_created_at ON job_openings (recruiter_user_id, created_at DESC);
+DROP INDEX IF EXISTS idx_job_openings_recruiter_user_id;
+
+-- OpeningApplicantRepository.existsByJobOpeningAndEmail et findEmailsByJobOpening (parcours d'index seul)
+CREATE INDEX idx_opening_applicants_job_opening_email ON opening_applicants (job_opening_id, email);
+
+-- OpeningApplicantRepository.findByJobOpeningAndCurrentStage est servi par le préfixe
+-- (job_opening_id, current_stage_id) de idx_opening_applicants_board : l'index sur job_opening_id seul,
+-- préfixe des deux index composites, est supprimé.
+DROP INDEX IF EXISTS idx_opening_applicants_job_opening_id;
+
+-- ApplicationRepository.findByUserOrderByDateAppliedDesc (et countByUser, findByUser)
+CREATE INDEX idx_applications_user_date_applied ON applications (user_id, date_applied DESC);
+DROP INDEX IF EXISTS idx_applications_user_id;
+
+-- StatusUpdateRepository.findLatestByApplication et findByApplicationOrderByEventDateDesc
+-- Créé sur la table partitionnée : PostgreSQL le propage à chaque partition, existante ou future.
+CREATE INDEX idx_status_updates_application_event_date ON status_updates (application_id, event_date DESC);
+DROP INDEX IF EXISTS idx_status_updates_application_id;
+
+-- RecruiterNoteRepository.findByApplicantOrderByCreatedAtDesc
+CREATE INDEX idx_recruiter_notes_applicant_created_at ON recruiter_notes (applicant_id, created_at DESC);
+DROP INDEX IF EXISTS idx_recruiter_notes_applicant_id;
@@ -0,0 +1,23 @@
+-- Cube pré-agrégé des candidats : recruteur × offre × source × étape × semaine ISO de candidature
+-- Les analyses de sourcing filtrent et regroupent ce cube sans lire opening_applicants.
+-- Pas de clé étrangère : les lignes d'une offre sont recalculées par l'application après chaque écriture.
+CREATE TABLE applicant_rollups
+(
+    rollup_id         UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    recruiter_user_id UUID   NOT NULL,
+    job_opening_id    UUID   NOT NULL,
+    source_id         UUID,
+    stage_id          UUID   NOT NULL,
+    week_start        DATE,
+    applicant_count   BIGINT NOT NULL
+);
+CREATE INDEX idx_applicant_rollups_job_opening_id ON applicant_rollups (job_opening_id);
+CREATE INDEX idx_applicant_rollups_recruiter_week ON applicant_rollups (recruiter_user_id, week_start);
+
+-- Remplissage initial ; date_trunc('week') renvoie le lundi de la semaine ISO
+INSERT INTO applicant_rollups (recruiter_user_id, job_opening_id, source_id, stage_id, week_start, applicant_count)
+SELECT j.recruiter_user_id, a.job_opening_id, a.source_id, a.current_stage_id,
+       date_trunc('week', a.application_date)::DATE, COUNT(*)
+FROM opening_applicants a
+         JOIN job_openings j ON j.job_opening_id = a.job_opening_id
+GROUP BY j.recruiter_user_id, a.job_opening_id, a.source_id, a.current_stage_id, date_trunc('week', a.application_date);
@@ -0,0 +1,33 @@
+-- Compteurs journaliers par recruteur : candidatures reçues, offres créées, embauches et rejets
+-- Incrémentés par UPSERT à chaque écriture ; les courbes de tendance lisent un point par jour au lieu des lignes métier.
+CREATE TABLE daily_counters
+(
+    metric            VARCHAR(30) NOT NULL,
+    recruiter_user_id UUID        NOT NULL,
+    counter_date      DATE        NOT NULL,
+    total             BIGINT      NOT NULL,
+    PRIMARY KEY (metric, recruiter_user_id, counter_date)
+);
+-- Totaux globaux : somme des recruteurs pour chaque jour de la période
+CREATE INDEX idx_daily_counters_metric_day ON daily_counters (metric, counter_date);
+
+-- Remplissage initial à partir des tables vivantes
+INSERT INTO daily_counters (metric, recruiter_user_id, counter_date, total)
+SELECT 'APPLICATIONS_RECEIVED', j.recruiter_user_id, COALESCE(a.application_date, a.created_at::DATE), COUNT(*)
+FROM opening_applicants a
+         JOIN job_openings j ON j.job_opening_id = a.job_opening_id
+GROUP BY j.recruiter_user_id, COALESCE(a.application_date, a.created_at::DATE);
+
+INSERT INTO daily_counters (metric, recruiter_user_id, counter_date, total)
+SELECT 'JOB_OPENINGS_CREATED', j.recruiter_user_id, j.created_at::DATE, COUNT(*)
+FROM job_openings j
+GROUP BY j.recruiter_user_id, j.created_at::DATE;
+
+-- Sans historique des étapes, une embauche ou un rejet est daté de la dernière modification du candidat
+INSERT INTO daily_counters (metric, recruiter_user_id, counter_date, total)
+SELECT CASE s.name WHEN 'HIRED' THEN 'HIRES' ELSE 'REJECTIONS' END, j.recruiter_user_id, a.updated_at::DATE, COUNT(*)
+FROM opening_applicants a
+         JOIN job_openings j ON j.job_opening_id = a.job_opening_id
+         JOIN pipeline_stages s ON s.stage_id = a.current_stage_id
+WHERE s.name IN ('HIRED', 'REJECTED')
+GROUP BY s.name, j.recruiter_user_id, a.updated_at::DATE;
@@ -0,0 +1,20 @@
+-- Date d'entrée d'un candidat dans son étape courante, mise à jour à chaque changement d'étape
+-- Sans historique des étapes, les candidats existants sont réputés y être entrés à leur dernière modification.
+ALTER TABLE opening_applicants ADD COLUMN stage_entered_at TIMESTAMPTZ;
+UPDATE opening_applicants SET stage_entered_at = updated_at;
+
+-- Esquisses de quantiles des durées (délai d'embauche, temps passé dans une étape) par offre et par étape
+-- Histogrammes HdrHistogram compressés, complétés à chaque changement d'étape ; les vues par recruteur
+-- et globales fusionnent les esquisses des offres. Pas de clé étrangère : les durées observées restent
+-- acquises après l'archivage ou la suppression de l'offre, comme les compteurs journaliers.
+CREATE TABLE duration_sketches
+(
+    job_opening_id    UUID        NOT NULL,
+    metric            VARCHAR(30) NOT NULL,
+    stage_id          UUID        NOT NULL,
+    recruiter_user_id UUID        NOT NULL,
+    sample_count      BIGINT      NOT NULL,
+    payload           BYTEA       NOT NULL,
+    PRIMARY KEY (job_opening_id, metric, stage_id)
+);
+CREATE INDEX idx_duration_sketches_recruiter ON duration_sketches (recruiter_user_id, metric);
@@ -0,0 +1,60 @@
+-- Synchronisation différentielle des candidatures, mises à jour de statut et documents (client mobile)
+-- Chaque écriture reçoit un numéro de changement pris dans la séquence de l'utilisateur propriétaire : la ligne
+-- de sync_sequences reste verrouillée jusqu'à la validation, si bien que les numéros d'un utilisateur suivent
+-- l'ordre de validation, contrairement à updated_at (horodaté avant la validation).
+CREATE TABLE sync_sequences
+(
+    user_id    UUID PRIMARY KEY REFERENCES users (user_id) ON DELETE CASCADE,
+    last_value BIGINT NOT NULL
+);
+
+ALTER TABLE applications ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE status_updates ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE documents ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+-- Pierres tombales des lignes supprimées, purgées au-delà de la durée de validité des jetons de synchronisation
+-- Pas de clé étrangère : la ligne supprimée n'existe plus.
+CREATE TABLE sync_tombstones
+(
+    entity_id   UUID PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    user_id     UUID        NOT NULL,
+    change_seq  BIGINT      NOT NULL,
+    deleted_at  TIMESTAMPTZ NOT NULL
+);
+CREATE INDEX idx_sync_tombstones_user_change_seq ON sync_tombstones (user_id, change_seq);
+CREATE INDEX idx_sync_tombstones_deleted_at ON sync_tombstones (deleted_at);
+
+-- Numérotation initiale des lignes existantes, par utilisateur et par dernière modification
+CREATE TEMPORARY TABLE sync_backfill AS
+SELECT changed.entity_type,
+       changed.entity_id,
+       changed.user_id,
+       ROW_NUMBER() OVER (PARTITION BY changed.user_id
+           ORDER BY changed.updated_at, changed.entity_type, changed.entity_id) AS change_seq
+FROM (SELECT 'APPLICATION' AS entity_type, a.application_id AS entity_id, a.user_id, a.updated_at
+      FROM applications a
+      UNION ALL
+      SELECT 'STATUS_UPDATE', su.status_update_id, a.user_id, su.updated_at
+      FROM status_updates su
+               JOIN applications a ON a.application_id = su.application_id
+      UNION ALL
+      SELECT 'DOCUMENT', d.document_id, a.user_id, d.updated_at
+      FROM documents d
+               JOIN applications a ON a.application_id = d.application_id) changed;
+
+UPDATE applications a SET change_seq = b.change_seq
+FROM sync_backfill b WHERE b.entity_type = 'APPLICATION' AND b.entity_id = a.application_id;
+UPDATE status_updates su SET change_seq = b.change_seq
+FROM sync_backfill b WHERE b.entity_type = 'STATUS_UPDATE' AND b.entity_id = su.status_update_id;
+UPDATE documents d SET change_seq = b.change_seq
+FROM sync_backfill b WHERE b.entity_type = 'DOCUMENT' AND b.entity_id = d.document_id;
+
+INSERT INTO sync_sequences (user_id, last_value)
+SELECT user_id, MAX(change_seq) FROM sync_backfill GROUP BY user_id;
+DROP TABLE sync_backfill;
+
+-- Lecture des changements d'un utilisateur postérieurs à un numéro
+CREATE INDEX idx_applications_user_change_seq ON applications (user_id, change_seq);
+CREATE INDEX idx_status_updates_application_change_seq ON status_updates (application_id, change_seq);
+CREATE INDEX idx_documents_application_change_seq ON documents (application_id, change_seq);
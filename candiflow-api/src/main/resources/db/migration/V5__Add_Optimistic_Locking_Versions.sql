@@ -0,0 +1,3 @@
+-- Verrouillage optimiste : colonne de version incrémentée à chaque mise à jour
+ALTER TABLE job_openings ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE opening_applicants ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- Index du tableau de pipeline : candidats d'une offre par étape, du plus récemment actif au plus ancien
+-- Sert à la fois au ROW_NUMBER() partitionné par étape et à la pagination par clé d'une colonne.
+CREATE INDEX idx_opening_applicants_board
+    ON opening_applicants (job_opening_id, current_stage_id, updated_at DESC, applicant_id DESC);
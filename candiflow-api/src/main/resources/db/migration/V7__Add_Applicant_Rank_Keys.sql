@@ -0,0 +1,31 @@
+-- Classement manuel des candidats dans chaque colonne (offre, étape) du pipeline
+-- Les clés sont comparées octet par octet (collation "C") pour suivre l'ordre ASCII de leur alphabet base 62.
+ALTER TABLE opening_applicants ADD COLUMN IF NOT EXISTS rank_key VARCHAR(128) COLLATE "C";
+
+-- Clés initiales dans l'ordre de dernière activité : partie entière sur n chiffres base 62, n étant le plus petit
+-- nombre de chiffres couvrant la plus grande position (62^n > position). La tête de clé donne la longueur :
+-- 'a' pour 1 chiffre, 'b' pour 2... Toutes les clés ont ainsi la même longueur et s'ordonnent comme les positions.
+WITH ranked AS (
+    SELECT applicant_id,
+           ROW_NUMBER() OVER (PARTITION BY job_opening_id, current_stage_id
+                              ORDER BY updated_at DESC, applicant_id DESC) - 1 AS position
+    FROM opening_applicants
+),
+     width AS (
+         SELECT min(n) AS digits
+         FROM generate_series(1, 10) n
+         WHERE power(62::numeric, n) > (SELECT coalesce(max(position), 0) FROM ranked)
+     ),
+     digits AS (SELECT '0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz'::text AS alphabet)
+UPDATE opening_applicants a
+SET rank_key = chr(ascii('a') + w.digits - 1)
+                   || (SELECT string_agg(substr(d.alphabet, (r.position / power(62, i)::bigint % 62)::int + 1, 1), ''
+                                         ORDER BY i DESC)
+                       FROM generate_series(w.digits - 1, 0, -1) i)
+FROM ranked r, width w, digits d
+WHERE a.applicant_id = r.applicant_id;
+
+ALTER TABLE opening_applicants ALTER COLUMN rank_key SET NOT NULL;
+
+CREATE INDEX idx_opening_applicants_rank
+    ON opening_applicants (job_opening_id, current_stage_id, rank_key);
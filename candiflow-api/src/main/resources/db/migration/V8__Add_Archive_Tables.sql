@@ -0,0 +1,57 @@
+-- Tables d'archive des offres fermées : mêmes identifiants, sans clés étrangères vers les tables vivantes
+CREATE TABLE archived_job_openings
+(
+    job_opening_id    UUID PRIMARY KEY,
+    recruiter_user_id UUID,
+    title             VARCHAR(255) NOT NULL,
+    description       TEXT,
+    status            job_status   NOT NULL,
+    created_at        TIMESTAMPTZ  NOT NULL,
+    updated_at        TIMESTAMPTZ  NOT NULL,
+    archived_at       TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+CREATE INDEX idx_archived_job_openings_recruiter_user_id ON archived_job_openings (recruiter_user_id);
+CREATE INDEX idx_archived_job_openings_archived_at ON archived_job_openings (archived_at);
+
+CREATE TABLE archived_opening_applicants
+(
+    applicant_id              UUID PRIMARY KEY,
+    job_opening_id            UUID         NOT NULL,
+    stage_id                  UUID,
+    stage_name                VARCHAR(100),
+    source_id                 UUID,
+    name                      VARCHAR(255) NOT NULL,
+    email                     VARCHAR(255),
+    phone                     VARCHAR(50),
+    cv_storage_path           TEXT,
+    cover_letter_storage_path TEXT,
+    application_date          DATE,
+    created_at                TIMESTAMPTZ  NOT NULL,
+    updated_at                TIMESTAMPTZ  NOT NULL,
+    archived_at               TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+CREATE INDEX idx_archived_opening_applicants_job_opening_id ON archived_opening_applicants (job_opening_id);
+CREATE INDEX idx_archived_opening_applicants_email ON archived_opening_applicants (email);
+
+CREATE TABLE archived_recruiter_notes
+(
+    note_id        UUID PRIMARY KEY,
+    applicant_id   UUID        NOT NULL,
+    author_user_id UUID,
+    note_text      TEXT        NOT NULL,
+    created_at     TIMESTAMPTZ NOT NULL,
+    archived_at    TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+CREATE INDEX idx_archived_recruiter_notes_applicant_id ON archived_recruiter_notes (applicant_id);
+
+CREATE TABLE archived_applicant_tags
+(
+    applicant_id UUID         NOT NULL,
+    tag_id       UUID         NOT NULL,
+    tag_name     VARCHAR(100) NOT NULL,
+    archived_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    PRIMARY KEY (applicant_id, tag_id)
+);
+
+-- Sélection des offres à archiver : offres fermées, de la plus anciennement modifiée à la plus récente
+CREATE INDEX idx_job_openings_closed_updated_at ON job_openings (updated_at) WHERE status = 'CLOSED';
@@ -0,0 +1,32 @@
+-- Purge de rétention : état de chaque exécution, pour reprendre une purge interrompue
+CREATE TABLE retention_purge_runs
+(
+    run_id             UUID PRIMARY KEY     DEFAULT gen_random_uuid(),
+    cutoff             TIMESTAMPTZ NOT NULL,
+    status             VARCHAR(20) NOT NULL,
+    phase              VARCHAR(20) NOT NULL,
+    chunks             BIGINT      NOT NULL DEFAULT 0,
+    applicants_deleted BIGINT      NOT NULL DEFAULT 0,
+    notes_deleted      BIGINT      NOT NULL DEFAULT 0,
+    tags_deleted       BIGINT      NOT NULL DEFAULT 0,
+    files_deleted      BIGINT      NOT NULL DEFAULT 0,
+    finished_at        TIMESTAMPTZ,
+    last_error         TEXT,
+    created_at         TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at         TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+CREATE INDEX idx_retention_purge_runs_status ON retention_purge_runs (status, created_at DESC);
+
+-- Fichiers des candidats supprimés, effacés du disque après la validation du lot
+CREATE TABLE pending_file_deletions
+(
+    applicant_id              UUID PRIMARY KEY,
+    cv_storage_path           TEXT,
+    cover_letter_storage_path TEXT,
+    created_at                TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+CREATE INDEX idx_pending_file_deletions_created_at ON pending_file_deletions (created_at);
+
+-- Sélection des candidats à purger par date de dernière activité
+CREATE INDEX idx_opening_applicants_updated_at ON opening_applicants (updated_at);
+CREATE INDEX idx_archived_opening_applicants_updated_at ON archived_opening_applicants (updated_at);
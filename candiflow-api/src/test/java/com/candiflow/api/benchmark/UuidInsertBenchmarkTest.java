@@ -0,0 +1,98 @@
+package com.candiflow.api.benchmark;
+
+import com.candiflow.api.model.id.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark d'insertion : clés primaires UUID version 4 (aléatoires) contre version 7 (ordonnées)
+ * Exclu des tests ; exécution : {@code gradle benchmark}
+ * Paramètres (propriétés système) :
+ * <ul>
+ *     <li>candiflow.benchmark.rows : nombre de lignes par variante (10 000 000 par défaut)</li>
+ *     <li>candiflow.benchmark.url, .username, .password : base cible (H2 fichier temporaire par défaut)</li>
+ * </ul>
+ */
+@Tag("benchmark")
+class UuidInsertBenchmarkTest {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int REPORT_EVERY = 1_000_000;
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    @DisplayName("Insertion de lignes avec des clés UUID v4 puis v7")
+    void compareInsertThroughput() throws SQLException {
+        long rows = Long.getLong("candiflow.benchmark.rows", 10_000_000L);
+
+        double v4 = run("bench_uuid_v4", rows, UUID::randomUUID);
+        double v7 = run("bench_uuid_v7", rows, UuidV7Generator::generate);
+
+        System.out.printf("UUID v4 : %,.0f lignes/s%nUUID v7 : %,.0f lignes/s (x%.2f)%n", v4, v7, v7 / v4);
+        assertThat(v7).isPositive();
+    }
+
+    private double run(String table, long rows, Supplier<UUID> ids) throws SQLException {
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+                statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, payload VARCHAR(64) NOT NULL)");
+            }
+            connection.commit();
+
+            long start = System.nanoTime();
+            long chunkStart = start;
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+                for (long i = 1; i <= rows; i++) {
+                    insert.setObject(1, ids.get());
+                    insert.setString(2, "candidat-" + i);
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == 0 || i == rows) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                    if (i % REPORT_EVERY == 0) {
+                        long now = System.nanoTime();
+                        System.out.printf("%s : %,d lignes, dernier million à %,.0f lignes/s%n",
+                                table, i, REPORT_EVERY / ((now - chunkStart) / 1e9));
+                        chunkStart = now;
+                    }
+                }
+            }
+            double throughput = rows / ((System.nanoTime() - start) / 1e9);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE " + table);
+            }
+            connection.commit();
+            return throughput;
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        String url = System.getProperty("candiflow.benchmark.url");
+        if (url == null) {
+            return DriverManager.getConnection("jdbc:h2:file:" + workDir.resolve("uuid-bench"), "sa", "");
+        }
+        return DriverManager.getConnection(url,
+                System.getProperty("candiflow.benchmark.username"),
+                System.getProperty("candiflow.benchmark.password"));
+    }
+}
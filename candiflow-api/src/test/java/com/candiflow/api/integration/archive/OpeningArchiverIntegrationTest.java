@@ -0,0 +1,129 @@
+package com.candiflow.api.integration.archive;
+
+import com.candiflow.api.archive.OpeningArchiver;
+import com.candiflow.api.integration.BaseIntegrationTest;
+import com.candiflow.api.model.entity.ArchivedApplicantTag;
+import com.candiflow.api.model.entity.ArchivedJobOpening;
+import com.candiflow.api.model.entity.ArchivedOpeningApplicant;
+import com.candiflow.api.model.entity.ArchivedRecruiterNote;
+import com.candiflow.api.model.enums.JobStatus;
+import com.candiflow.api.repository.ArchivedApplicantTagRepository;
+import com.candiflow.api.repository.ArchivedJobOpeningRepository;
+import com.candiflow.api.repository.ArchivedOpeningApplicantRepository;
+import com.candiflow.api.repository.ArchivedRecruiterNoteRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests d'intégration de l'archivage des offres fermées
+ * Les requêtes INSERT ... SELECT de recopie vers l'archive et les suppressions ensemblistes sont exécutées sur H2.
+ */
+@TestPropertySource(properties = {
+        "candiflow.archive.applicants-per-chunk=2",
+        "candiflow.archive.pause-between-chunks=0s"
+})
+class OpeningArchiverIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired private OpeningArchiver archiver;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private JobOpeningRepository jobOpeningRepository;
+    @Autowired private OpeningApplicantRepository openingApplicantRepository;
+    @Autowired private ArchivedJobOpeningRepository archivedJobOpeningRepository;
+    @Autowired private ArchivedOpeningApplicantRepository archivedOpeningApplicantRepository;
+    @Autowired private ArchivedRecruiterNoteRepository archivedRecruiterNoteRepository;
+    @Autowired private ArchivedApplicantTagRepository archivedApplicantTagRepository;
+
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    private final UUID recruiterId = UUID.randomUUID();
+    private final UUID stageId = UUID.randomUUID();
+    private final UUID tagId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        Timestamp timestamp = Timestamp.from(now);
+        jdbcTemplate.update("INSERT INTO users (user_id, email, password_hash, role, name, created_at, updated_at) "
+                + "VALUES (?, 'archive-recruiter@example.com', 'hash', 'RECRUITER', 'Recruteur', ?, ?)", recruiterId, timestamp, timestamp);
+        jdbcTemplate.update("INSERT INTO pipeline_stages (stage_id, name, display_order, is_end_stage, is_active, created_at, updated_at) "
+                + "VALUES (?, 'Étape archivée', 1000, FALSE, TRUE, ?, ?)", stageId, timestamp, timestamp);
+        jdbcTemplate.update("INSERT INTO tags (tag_id, name, created_at, updated_at) VALUES (?, 'Archive', ?, ?)",
+                tagId, timestamp, timestamp);
+    }
+
+    @Test
+    @DisplayName("Devrait déplacer une offre fermée, ses candidats, notes et tags dans l'archive")
+    void archiveClosedBefore_ShouldMoveOpeningAndChildrenToArchive() {
+        // Arrange : une offre fermée depuis deux ans avec trois candidats (deux lots), une offre fermée récemment
+        UUID closedId = jobOpening("Offre close", JobStatus.CLOSED, now.minus(730, ChronoUnit.DAYS));
+        UUID recentId = jobOpening("Offre récente", JobStatus.CLOSED, now);
+        List<UUID> applicantIds = List.of(applicant(closedId, "Ada"), applicant(closedId, "Brian"), applicant(closedId, "Chloé"));
+        UUID recentApplicantId = applicant(recentId, "Dora");
+        UUID noteId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO recruiter_notes (note_id, applicant_id, author_user_id, note_text, created_at) "
+                + "VALUES (?, ?, ?, 'Très bon entretien', ?)", noteId, applicantIds.get(0), recruiterId, Timestamp.from(now));
+        jdbcTemplate.update("INSERT INTO applicant_tags (applicant_id, tag_id) VALUES (?, ?)", applicantIds.get(1), tagId);
+
+        // Act
+        OpeningArchiver.ArchiveResult result = archiver.archiveClosedBefore(now.minus(365, ChronoUnit.DAYS));
+
+        // Assert : les lignes ont quitté les tables vivantes
+        assertThat(result).isEqualTo(new OpeningArchiver.ArchiveResult(1, 3, 1, 1));
+        assertThat(jobOpeningRepository.existsById(closedId)).isFalse();
+        assertThat(openingApplicantRepository.findAllById(applicantIds)).isEmpty();
+        assertThat(jobOpeningRepository.existsById(recentId)).isTrue();
+        assertThat(openingApplicantRepository.existsById(recentApplicantId)).isTrue();
+
+        // ... et se relisent depuis l'archive
+        ArchivedJobOpening opening = archivedJobOpeningRepository.findById(closedId).orElseThrow();
+        assertThat(opening.getTitle()).isEqualTo("Offre close");
+        assertThat(opening.getRecruiterId()).isEqualTo(recruiterId);
+        assertThat(opening.getStatus()).isEqualTo(JobStatus.CLOSED);
+        assertThat(opening.getArchivedAt()).isNotNull();
+
+        assertThat(archivedOpeningApplicantRepository.findByJobOpeningId(closedId, Pageable.unpaged()).getContent())
+                .extracting(ArchivedOpeningApplicant::getName, ArchivedOpeningApplicant::getStageName)
+                .containsExactlyInAnyOrder(
+                        tuple("Ada", "Étape archivée"),
+                        tuple("Brian", "Étape archivée"),
+                        tuple("Chloé", "Étape archivée"));
+
+        ArchivedRecruiterNote note = archivedRecruiterNoteRepository.findById(noteId).orElseThrow();
+        assertThat(note.getApplicantId()).isEqualTo(applicantIds.get(0));
+        assertThat(note.getNoteText()).isEqualTo("Très bon entretien");
+
+        assertThat(archivedApplicantTagRepository.findAll())
+                .extracting(ArchivedApplicantTag::getApplicantId, ArchivedApplicantTag::getTagName)
+                .containsExactly(tuple(applicantIds.get(1), "Archive"));
+    }
+
+    private UUID jobOpening(String title, JobStatus status, Instant updatedAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO job_openings (job_opening_id, recruiter_user_id, title, status, version, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, 0, ?, ?)", id, recruiterId, title, status.name(), Timestamp.from(updatedAt), Timestamp.from(updatedAt));
+        return id;
+    }
+
+    private UUID applicant(UUID jobOpeningId, String name) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO opening_applicants (applicant_id, job_opening_id, current_stage_id, name, application_date, "
+                        + "version, rank_key, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 0, 'a0', ?, ?)",
+                id, jobOpeningId, stageId, name, LocalDate.now(), Timestamp.from(now), Timestamp.from(now));
+        return id;
+    }
+}
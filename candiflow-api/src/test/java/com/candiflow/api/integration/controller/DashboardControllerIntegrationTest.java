@@ -9,6 +9,7 @@ import com.candiflow.api.model.entity.PipelineStage;
 import com.candiflow.api.model.entity.User;
 import com.candiflow.api.model.enums.JobStatus;
 import com.candiflow.api.model.enums.UserRole;
+import com.candiflow.api.ranking.RankKeys;
 import com.candiflow.api.repository.JobOpeningRepository;
 import com.candiflow.api.repository.OpeningApplicantRepository;
 import com.candiflow.api.repository.PipelineStageRepository;
@@ -156,6 +157,7 @@ class DashboardControllerIntegrationTest extends BaseIntegrationTest {
         applicant1.setPhone("0123456789");
         applicant1.setJobOpening(jobOpening1);
         applicant1.setCurrentStage(stage1);
+        applicant1.setRankKey(RankKeys.after(null));
         applicant1.setApplicationDate(LocalDate.now().minusDays(1));
         applicant1.setCreatedAt(Instant.now().minusSeconds(86400));
         applicant1.setUpdatedAt(Instant.now());
@@ -167,6 +169,7 @@ class DashboardControllerIntegrationTest extends BaseIntegrationTest {
         applicant2.setPhone("0987654321");
         applicant2.setJobOpening(jobOpening2);
         applicant2.setCurrentStage(stage3);
+        applicant2.setRankKey(RankKeys.after(null));
         applicant2.setApplicationDate(LocalDate.now().minusDays(30));
         applicant2.setCreatedAt(Instant.now().minusSeconds(2592000)); // 30 jours
         applicant2.setUpdatedAt(Instant.now());
@@ -9,6 +9,7 @@ import com.candiflow.api.model.entity.PipelineStage;
 import com.candiflow.api.model.entity.User;
 import com.candiflow.api.model.enums.JobStatus;
 import com.candiflow.api.model.enums.UserRole;
+import com.candiflow.api.ranking.RankKeys;
 import com.candiflow.api.repository.JobOpeningRepository;
 import com.candiflow.api.repository.OpeningApplicantRepository;
 import com.candiflow.api.repository.PipelineStageRepository;
@@ -112,6 +113,7 @@ class SearchControllerIntegrationTest extends BaseIntegrationTest {
         applicant.setPhone("0123456789");
         applicant.setJobOpening(jobOpening);
         applicant.setCurrentStage(stage);
+        applicant.setRankKey(RankKeys.after(null));
         applicant.setApplicationDate(LocalDate.now().minusDays(1));
         applicant.setCreatedAt(Instant.now().minusSeconds(86400));
         applicant.setUpdatedAt(Instant.now());
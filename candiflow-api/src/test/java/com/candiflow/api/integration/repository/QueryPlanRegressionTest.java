@@ -0,0 +1,337 @@
+package com.candiflow.api.integration.repository;
+
+import com.candiflow.api.integration.BaseIntegrationTest;
+import com.candiflow.api.model.entity.Application;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.repository.ApplicationRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.StatusUpdateRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Non-régression des plans d'exécution des requêtes de repository
+ * Un volume de données représentatif est inséré, chaque requête déclarée par les repositories est exécutée,
+ * puis le SQL généré par Hibernate est passé à EXPLAIN. Le test échoue si une requête parcourt entièrement
+ * une table dépassant le seuil de lignes, sauf parcours attendu et justifié dans {@link #EXPECTED_SCANS}.
+ * Les index sont ceux déclarés sur les entités, alignés sur les migrations Flyway.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.candiflow.api.integration.repository.SqlCapturingStatementInspector")
+class QueryPlanRegressionTest extends BaseIntegrationTest {
+
+    private static final long ROW_THRESHOLD = 1_000;
+    private static final int RECRUITERS = 50;
+    private static final int JOB_OPENINGS = 2_000;
+    private static final int APPLICANTS = 20_000;
+    private static final int STAGES = 5;
+    private static final int CANDIDATES = 50;
+    private static final int APPLICATIONS = 5_000;
+    private static final int STATUS_UPDATES = 20_000;
+    private static final int NOTES = 20_000;
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+)\\.tableScan");
+
+    /**
+     * Repositories dont les requêtes sont vérifiées
+     */
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            JobOpeningRepository.class,
+            OpeningApplicantRepository.class,
+            ApplicationRepository.class,
+            StatusUpdateRepository.class,
+            RecruiterNoteRepository.class);
+
+    /**
+     * Parcours complets attendus, par requête, avec leur justification
+     */
+    private static final Map<String, String> EXPECTED_SCANS = Map.of(
+            "JobOpeningRepository.findAllSummaries",
+            "Liste paginée de toutes les offres, sans filtre : la page est lue en tête de table",
+            "JobOpeningRepository.countGroupByStatus",
+            "Statistiques globales (admin) : compte de toutes les offres par statut",
+            "JobOpeningRepository.streamAllCreatedAt",
+            "Statistiques globales sans compteurs journaliers : dates de création de toutes les offres, lues en flux",
+            "OpeningApplicantRepository.streamAllFacts",
+            "Chargement du magasin en colonnes : tous les candidats sont lus une fois, en flux",
+            "OpeningApplicantRepository.countGroupByStage",
+            "Vérification périodique du magasin en colonnes : compte de tous les candidats par étape");
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Map<Class<?>, Object> sampleArguments = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Timestamp timestamp = Timestamp.from(now);
+
+        List<UUID> recruiterIds = ids(RECRUITERS);
+        insert("INSERT INTO users (user_id, email, password_hash, role, name, created_at, updated_at) "
+                        + "VALUES (?, ?, 'hash', 'RECRUITER', ?, ?, ?)",
+                RECRUITERS, i -> new Object[]{recruiterIds.get(i), "plan-recruiter" + i + "@example.com", "Recruteur " + i, timestamp, timestamp});
+
+        List<UUID> candidateIds = ids(CANDIDATES);
+        insert("INSERT INTO users (user_id, email, password_hash, role, name, created_at, updated_at) "
+                        + "VALUES (?, ?, 'hash', 'CANDIDATE', ?, ?, ?)",
+                CANDIDATES, i -> new Object[]{candidateIds.get(i), "plan-candidate" + i + "@example.com", "Candidat " + i, timestamp, timestamp});
+
+        List<UUID> stageIds = ids(STAGES);
+        insert("INSERT INTO pipeline_stages (stage_id, name, display_order, is_end_stage, is_active, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, TRUE, ?, ?)",
+                STAGES, i -> new Object[]{stageIds.get(i), "Étape plan " + i, 1_000 + i, i == STAGES - 1, timestamp, timestamp});
+
+        List<UUID> jobOpeningIds = ids(JOB_OPENINGS);
+        insert("INSERT INTO job_openings (job_opening_id, recruiter_user_id, title, status, version, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, 0, ?, ?)",
+                JOB_OPENINGS, i -> new Object[]{jobOpeningIds.get(i), recruiterIds.get(i % RECRUITERS), "Offre " + i,
+                        i % 10 == 0 ? "CLOSED" : "OPEN", Timestamp.from(now.minus(i, ChronoUnit.HOURS)), timestamp});
+
+        List<UUID> applicantIds = ids(APPLICANTS);
+        insert("INSERT INTO opening_applicants (applicant_id, job_opening_id, current_stage_id, name, email, application_date, "
+                        + "version, rank_key, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)",
+                APPLICANTS, i -> new Object[]{applicantIds.get(i), jobOpeningIds.get(i % JOB_OPENINGS), stageIds.get(i % STAGES),
+                        "Candidat " + i, "applicant" + i + "@example.com", LocalDate.of(2024, 1, 1).plusDays(i % 365),
+                        String.format("c%05d", i), timestamp, Timestamp.from(now.minus(i, ChronoUnit.MINUTES))});
+
+        List<UUID> applicationIds = ids(APPLICATIONS);
+        insert("INSERT INTO applications (application_id, user_id, company_name, job_title, date_applied, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, 'Développeur', ?, ?, ?)",
+                APPLICATIONS, i -> new Object[]{applicationIds.get(i), candidateIds.get(i % CANDIDATES), "Entreprise " + i,
+                        Timestamp.from(now.minus(i, ChronoUnit.HOURS)), timestamp, timestamp});
+
+        UUID statusId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO application_statuses (status_id, name, display_order, is_active, created_at, updated_at) "
+                + "VALUES (?, 'Statut plan', 1000, TRUE, ?, ?)", statusId, timestamp, timestamp);
+        insert("INSERT INTO status_updates (status_update_id, application_id, status_id, event_date, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                STATUS_UPDATES, i -> new Object[]{UUID.randomUUID(), applicationIds.get(i % APPLICATIONS), statusId,
+                        Timestamp.from(now.minus(i, ChronoUnit.MINUTES)), timestamp, timestamp});
+
+        insert("INSERT INTO recruiter_notes (note_id, applicant_id, author_user_id, note_text, created_at) VALUES (?, ?, ?, ?, ?)",
+                NOTES, i -> new Object[]{UUID.randomUUID(), applicantIds.get(i % APPLICANTS), recruiterIds.get(i % RECRUITERS),
+                        "Note " + i, Timestamp.from(now.minus(i, ChronoUnit.MINUTES))});
+
+        // Arguments d'exemple : le plan dépend du SQL généré, pas des valeurs liées
+        sampleArguments.put(User.class, entityManager.find(User.class, recruiterIds.get(0)));
+        sampleArguments.put(JobOpening.class, entityManager.find(JobOpening.class, jobOpeningIds.get(0)));
+        sampleArguments.put(PipelineStage.class, entityManager.find(PipelineStage.class, stageIds.get(0)));
+        sampleArguments.put(OpeningApplicant.class, entityManager.find(OpeningApplicant.class, applicantIds.get(0)));
+        sampleArguments.put(Application.class, entityManager.find(Application.class, applicationIds.get(0)));
+        sampleArguments.put(UUID.class, jobOpeningIds.get(0));
+        sampleArguments.put(String.class, "plan");
+        sampleArguments.put(Instant.class, now);
+        sampleArguments.put(Pageable.class, PageRequest.of(0, 20));
+        sampleArguments.put(Limit.class, Limit.of(20));
+        sampleArguments.put(long.class, 20L);
+        sampleArguments.put(int.class, 20);
+    }
+
+    @Test
+    @DisplayName("Aucune requête de repository ne parcourt entièrement une table volumineuse")
+    void repositoryQueries_shouldNotScanLargeTables() {
+        Map<String, List<String>> plans = explainRepositoryQueries();
+        Map<String, Long> rowCounts = new HashMap<>();
+        List<String> violations = new ArrayList<>();
+
+        plans.forEach((query, queryPlans) -> {
+            if (EXPECTED_SCANS.containsKey(query)) {
+                return;
+            }
+            for (String plan : queryPlans) {
+                Matcher matcher = TABLE_SCAN.matcher(plan);
+                while (matcher.find()) {
+                    String table = matcher.group(1);
+                    long rows = rowCounts.computeIfAbsent(table,
+                            t -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + t, Long.class));
+                    if (rows > ROW_THRESHOLD) {
+                        violations.add(query + " : parcours complet de " + table + " (" + rows + " lignes)\n" + plan);
+                    }
+                }
+            }
+        });
+
+        assertThat(plans).isNotEmpty();
+        assertThat(violations)
+                .as("Requêtes parcourant entièrement une table de plus de %d lignes", ROW_THRESHOLD)
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Les requêtes les plus fréquentes disposent d'un index couvrant leur filtre puis leur tri")
+    void frequentQueries_shouldHaveCompositeIndexes() {
+        // JobOpeningRepository.findByRecruiterOrderByCreatedAtDesc
+        assertIndexStartsWith("JOB_OPENINGS", "RECRUITER_USER_ID ASC", "CREATED_AT DESC");
+        // OpeningApplicantRepository.findByJobOpeningAndCurrentStage
+        assertIndexStartsWith("OPENING_APPLICANTS", "JOB_OPENING_ID ASC", "CURRENT_STAGE_ID ASC");
+        // OpeningApplicantRepository.existsByJobOpeningAndEmail
+        assertIndexStartsWith("OPENING_APPLICANTS", "JOB_OPENING_ID ASC", "EMAIL ASC");
+        // ApplicationRepository.findByUserOrderByDateAppliedDesc
+        assertIndexStartsWith("APPLICATIONS", "USER_ID ASC", "DATE_APPLIED DESC");
+        // ApplicationRepository.findChanged (synchronisation différentielle)
+        assertIndexStartsWith("APPLICATIONS", "USER_ID ASC", "CHANGE_SEQ ASC");
+        // StatusUpdateRepository.findLatestByApplication
+        assertIndexStartsWith("STATUS_UPDATES", "APPLICATION_ID ASC", "EVENT_DATE DESC");
+        // RecruiterNoteRepository.findByApplicantOrderByCreatedAtDesc
+        assertIndexStartsWith("RECRUITER_NOTES", "APPLICANT_ID ASC", "CREATED_AT DESC");
+    }
+
+    private void assertIndexStartsWith(String table, String... columns) {
+        List<String> indexColumns = jdbcTemplate.queryForList(
+                "SELECT INDEX_NAME || ':' || COLUMN_NAME || ' ' || ORDERING_SPECIFICATION "
+                        + "FROM INFORMATION_SCHEMA.INDEX_COLUMNS WHERE TABLE_NAME = ? ORDER BY INDEX_NAME, ORDINAL_POSITION",
+                String.class, table);
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+        for (String indexColumn : indexColumns) {
+            int separator = indexColumn.indexOf(':');
+            indexes.computeIfAbsent(indexColumn.substring(0, separator), i -> new ArrayList<>())
+                    .add(indexColumn.substring(separator + 1));
+        }
+        List<String> expected = List.of(columns);
+        assertThat(indexes.values())
+                .as("Index de %s commençant par %s", table, expected)
+                .anyMatch(index -> index.size() >= expected.size() && index.subList(0, expected.size()).equals(expected));
+    }
+
+    /**
+     * Exécute chaque requête déclarée par les repositories vérifiés et renvoie les plans de ses requêtes SQL
+     * Les requêtes de modification (@Modifying) sont ignorées.
+     * @return Plans indexés par "Repository.méthode", dans l'ordre d'exécution du SQL
+     */
+    private Map<String, List<String>> explainRepositoryQueries() {
+        Map<String, List<String>> plans = new LinkedHashMap<>();
+        for (Class<?> repositoryType : REPOSITORIES) {
+            Object repository = applicationContext.getBean(repositoryType);
+            Method[] methods = repositoryType.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::toGenericString));
+            for (Method method : methods) {
+                if (method.isDefault() || method.isSynthetic() || Modifier.isStatic(method.getModifiers())
+                        || method.isAnnotationPresent(Modifying.class)) {
+                    continue;
+                }
+                String query = repositoryType.getSimpleName() + "." + method.getName();
+                List<String> statements = captureStatements(repository, method);
+                assertThat(statements).as("SQL capturé pour %s", query).isNotEmpty();
+                plans.computeIfAbsent(query, q -> new ArrayList<>())
+                        .addAll(statements.stream().map(this::explain).toList());
+            }
+        }
+        return plans;
+    }
+
+    private List<String> captureStatements(Object repository, Method method) {
+        Object[] arguments = Arrays.stream(method.getGenericParameterTypes()).map(this::sampleArgument).toArray();
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapturingStatementInspector.reset();
+        try {
+            method.invoke(repository, arguments);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Échec de l'exécution de " + method, e);
+        }
+        return SqlCapturingStatementInspector.captured().stream()
+                .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+                .toList();
+    }
+
+    private Object sampleArgument(Type type) {
+        if (type instanceof ParameterizedType parameterized
+                && Collection.class.isAssignableFrom((Class<?>) parameterized.getRawType())) {
+            Object element = sampleArgument(parameterized.getActualTypeArguments()[0]);
+            return Set.class.isAssignableFrom((Class<?>) parameterized.getRawType()) ? Set.of(element) : List.of(element);
+        }
+        Class<?> rawType = (Class<?>) type;
+        if (rawType.isEnum()) {
+            return rawType.getEnumConstants()[0];
+        }
+        Object argument = sampleArguments.get(rawType);
+        if (argument == null) {
+            throw new IllegalStateException("Aucun argument d'exemple pour le type " + type);
+        }
+        return argument;
+    }
+
+    /**
+     * Renvoie le plan d'exécution d'une requête, ses paramètres liés à NULL
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+            return statement;
+        }, resultSet -> {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1));
+            }
+            return plan.toString();
+        });
+    }
+
+    private void insert(String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(row.apply(i));
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    private static List<UUID> ids(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+}
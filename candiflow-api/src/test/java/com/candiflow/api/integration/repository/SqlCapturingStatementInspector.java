@@ -0,0 +1,41 @@
+package com.candiflow.api.integration.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inspecteur Hibernate qui mémorise le SQL de chaque requête préparée
+ * Instancié par Hibernate à partir de son nom de classe : l'état capturé est donc statique.
+ */
+public class SqlCapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> CAPTURED = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (CAPTURED) {
+            CAPTURED.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Oublie les requêtes capturées jusqu'ici
+     */
+    public static void reset() {
+        synchronized (CAPTURED) {
+            CAPTURED.clear();
+        }
+    }
+
+    /**
+     * Renvoie les requêtes capturées depuis le dernier appel à {@link #reset()}
+     */
+    public static List<String> captured() {
+        synchronized (CAPTURED) {
+            return List.copyOf(CAPTURED);
+        }
+    }
+}
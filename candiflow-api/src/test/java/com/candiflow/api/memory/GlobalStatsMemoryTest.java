@@ -0,0 +1,146 @@
+package com.candiflow.api.memory;
+
+import com.candiflow.api.dto.dashboard.GlobalStatsResponse;
+import com.candiflow.api.dto.dashboard.StageCount;
+import com.candiflow.api.service.DashboardService;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Statistiques globales sur un million de candidats sous un tas réduit
+ * La base H2 est un fichier temporaire : les données ne sont pas dans le tas, seuls les calculs le sont.
+ * Charger les candidats comme entités dépasserait le tas ; le calcul par requêtes groupées doit y tenir.
+ * Exclu des tests ; exécution : {@code gradle memoryTest}
+ * Paramètres (propriétés système) :
+ * <ul>
+ *     <li>candiflow.memory.rows : nombre de candidats (1 000 000 par défaut)</li>
+ * </ul>
+ */
+@Tag("memory")
+@SpringBootTest
+@ActiveProfiles("test")
+class GlobalStatsMemoryTest {
+
+    private static final long ROWS = Long.getLong("candiflow.memory.rows", 1_000_000L);
+    private static final int ROWS_PER_STATEMENT = 10_000;
+    private static final int JOB_OPENINGS = 20;
+    private static final List<String> STAGES = List.of("Étape mémoire 0", "Étape mémoire 1", "Étape mémoire 2");
+
+    private static Path workDir;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void fileDatabase(DynamicPropertyRegistry registry) throws IOException {
+        workDir = Files.createTempDirectory("candiflow-memory");
+        registry.add("spring.datasource.url",
+                () -> "jdbc:h2:file:" + workDir.resolve("stats") + ";CACHE_SIZE=8192;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("logging.level.org.hibernate.SQL", () -> "INFO");
+    }
+
+    @AfterAll
+    static void deleteDatabase() throws IOException {
+        FileSystemUtils.deleteRecursively(workDir);
+    }
+
+    @BeforeAll
+    static void reportHeap() {
+        System.out.printf("Tas maximal : %,d Mo%n", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+    }
+
+    @Test
+    @DisplayName("Devrait calculer les statistiques globales d'un million de candidats sans charger d'entités")
+    void getGlobalStats_WithMillionApplicants_ShouldStayWithinHeap() {
+        // Arrange
+        long[] expectedByStage = seed();
+
+        // Act
+        long start = System.nanoTime();
+        GlobalStatsResponse stats = dashboardService.getGlobalStats();
+        System.out.printf("Statistiques globales de %,d candidats en %,d ms%n", ROWS, (System.nanoTime() - start) / 1_000_000);
+
+        // Assert
+        assertThat(stats.getTotalJobOpenings()).isEqualTo(JOB_OPENINGS);
+        assertThat(stats.getTotalApplicants()).isEqualTo(ROWS);
+        // Seules les étapes ayant des candidats figurent dans la réponse
+        List<Tuple> expectedStages = new ArrayList<>();
+        for (int i = 0; i < STAGES.size(); i++) {
+            if (expectedByStage[i] > 0) {
+                expectedStages.add(tuple(STAGES.get(i), expectedByStage[i]));
+            }
+        }
+        assertThat(stats.getApplicantsByStage())
+                .extracting(StageCount::getStageName, StageCount::getCount)
+                .containsExactlyInAnyOrderElementsOf(expectedStages);
+    }
+
+    /**
+     * Insère les candidats par blocs générés côté base, sans les construire dans le tas
+     * @return Nombre de candidats attendus par étape
+     */
+    private long[] seed() {
+        Timestamp now = Timestamp.from(Instant.now());
+        UUID recruiterId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (user_id, email, password_hash, role, name, created_at, updated_at) "
+                + "VALUES (?, 'memory-recruiter@example.com', 'hash', 'RECRUITER', 'Recruteur', ?, ?)", recruiterId, now, now);
+
+        List<UUID> stageIds = new ArrayList<>();
+        for (int i = 0; i < STAGES.size(); i++) {
+            UUID stageId = UUID.randomUUID();
+            stageIds.add(stageId);
+            jdbcTemplate.update("INSERT INTO pipeline_stages (stage_id, name, display_order, is_end_stage, is_active, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, FALSE, TRUE, ?, ?)", stageId, STAGES.get(i), 2_000 + i, now, now);
+        }
+
+        List<UUID> jobOpeningIds = new ArrayList<>();
+        for (int i = 0; i < JOB_OPENINGS; i++) {
+            UUID jobOpeningId = UUID.randomUUID();
+            jobOpeningIds.add(jobOpeningId);
+            jdbcTemplate.update("INSERT INTO job_openings (job_opening_id, recruiter_user_id, title, status, version, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, 'OPEN', 0, ?, ?)", jobOpeningId, recruiterId, "Offre " + i, now, now);
+        }
+
+        long[] expectedByStage = new long[STAGES.size()];
+        int chunk = 0;
+        for (long first = 1; first <= ROWS; first += ROWS_PER_STATEMENT, chunk++) {
+            long last = Math.min(first + ROWS_PER_STATEMENT - 1, ROWS);
+            int stage = chunk % STAGES.size();
+            jdbcTemplate.update("INSERT INTO opening_applicants (applicant_id, job_opening_id, current_stage_id, name, email, "
+                            + "application_date, version, rank_key, created_at, updated_at) "
+                            + "SELECT RANDOM_UUID(), ?, ?, CONCAT('Candidat ', X), CONCAT('candidat', X, '@example.com'), ?, 0, "
+                            + "CAST(X AS VARCHAR), ?, ? FROM SYSTEM_RANGE(?, ?)",
+                    jobOpeningIds.get(chunk % JOB_OPENINGS), stageIds.get(stage), LocalDate.now(), now, now, first, last);
+            expectedByStage[stage] += last - first + 1;
+        }
+        return expectedByStage;
+    }
+}
@@ -0,0 +1,251 @@
+package com.candiflow.api.unit.analytics;
+
+import com.candiflow.api.analytics.AnalyticsProperties;
+import com.candiflow.api.analytics.ApplicantColumnStore;
+import com.candiflow.api.analytics.ApplicantColumns;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.ApplicantsRemovedEvent;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.observer.JobOpeningEvent;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.projection.ApplicantFactProjection;
+import com.candiflow.api.repository.projection.IdCountProjection;
+import com.candiflow.api.unit.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour le magasin en colonnes des candidats
+ */
+class ApplicantColumnStoreTest extends BaseUnitTest {
+
+    @Mock private OpeningApplicantRepository openingApplicantRepository;
+    @Mock private JobOpeningRepository jobOpeningRepository;
+    @Mock private EventManager eventManager;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicantColumnStore store;
+
+    private final UUID recruiterA = UUID.randomUUID();
+    private final UUID recruiterB = UUID.randomUUID();
+    private final UUID openingA = UUID.randomUUID();
+    private final UUID openingB = UUID.randomUUID();
+    private final UUID applied = UUID.randomUUID();
+    private final UUID hired = UUID.randomUUID();
+    private final UUID linkedIn = UUID.randomUUID();
+    private final UUID applicant1 = UUID.randomUUID();
+    private final UUID applicant2 = UUID.randomUUID();
+    private final UUID applicant3 = UUID.randomUUID();
+    private final Instant updatedAt = Instant.parse("2025-03-20T12:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new ApplicantColumnStore(openingApplicantRepository, jobOpeningRepository, eventManager,
+                new AnalyticsProperties(), meterRegistry, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Devrait répondre aux comptes, regroupements et tendances après le chargement en flux")
+    void rebuild_ShouldAnswerAggregatesFromColumns() {
+        // Arrange
+        when(openingApplicantRepository.streamAllFacts()).thenReturn(Stream.of(
+                fact(applicant1, openingA, recruiterA, applied, linkedIn, LocalDate.of(2025, 3, 3)),
+                fact(applicant2, openingA, recruiterA, hired, null, LocalDate.of(2025, 3, 5)),
+                fact(applicant3, openingB, recruiterB, applied, linkedIn, LocalDate.of(2025, 3, 12))));
+
+        // Act
+        assertThat(store.isReady()).isFalse();
+        store.rebuild();
+
+        // Assert
+        assertThat(store.isReady()).isTrue();
+        ApplicantColumns.Scope ofRecruiterA = ApplicantColumns.Scope.ofRecruiter(recruiterA);
+        assertThat(store.read(columns -> columns.count(ApplicantColumns.Scope.all()))).contains(3L);
+        assertThat(store.read(columns -> columns.countByStage(ofRecruiterA))).contains(Map.of(applied, 1L, hired, 1L));
+        assertThat(store.read(columns -> columns.countBySource(ApplicantColumns.Scope.ofJobOpening(openingA))))
+                .contains(Map.of(linkedIn, 1L));
+        assertThat(store.read(columns -> columns.countAppliedAfter(ApplicantColumns.Scope.all(), LocalDate.of(2025, 3, 3))))
+                .contains(2L);
+        assertThat(store.read(columns -> columns.countByApplicationWeek(ApplicantColumns.Scope.all())))
+                .contains(Map.of(LocalDate.of(2025, 3, 3), 2L, LocalDate.of(2025, 3, 10), 1L));
+        // Embauché le 20 mars pour une candidature du 5 mars
+        assertThat(store.read(columns -> columns.averageDaysToLastUpdate(ofRecruiterA, List.of(hired))))
+                .contains(OptionalDouble.of(15));
+        // Un recruteur inconnu n'a aucun candidat
+        assertThat(store.read(columns -> columns.count(ApplicantColumns.Scope.ofRecruiter(UUID.randomUUID()))))
+                .contains(0L);
+    }
+
+    @Test
+    @DisplayName("Devrait suivre les créations, changements d'étape et suppressions de candidats")
+    void onEvent_ShouldKeepColumnsCurrent() {
+        // Arrange
+        when(openingApplicantRepository.streamAllFacts()).thenReturn(Stream.of(
+                fact(applicant1, openingA, recruiterA, applied, linkedIn, LocalDate.of(2025, 3, 3))));
+        store.rebuild();
+
+        // Act : création d'un candidat sur une offre déjà connue
+        store.onEvent(ApplicantEvent.created("test", applicant(applicant2, openingA, applied)));
+        // Changement d'étape groupé
+        store.onEvent(ApplicantBatchEvent.stageChanged("test", List.of(
+                new ApplicantSnapshot(applicant1, "A", null, openingA, hired, "HIRED", applied, linkedIn, LocalDate.of(2025, 3, 3), null),
+                new ApplicantSnapshot(applicant2, "B", null, openingA, hired, "HIRED", applied, null, LocalDate.of(2025, 3, 4), null))));
+        // Retrait par l'archivage
+        store.onEvent(new ApplicantsRemovedEvent("test", List.of(applicant1), List.of(openingA)));
+
+        // Assert
+        assertThat(store.read(columns -> columns.countByStage(ApplicantColumns.Scope.all()))).contains(Map.of(hired, 1L));
+        verify(jobOpeningRepository, never()).findRecruiterIdById(openingA);
+    }
+
+    @Test
+    @DisplayName("Devrait lire en base le recruteur d'une offre inconnue et retirer les candidats d'une offre supprimée")
+    void onEvent_ShouldResolveUnknownOpeningAndDropDeletedOpening() {
+        // Arrange
+        when(openingApplicantRepository.streamAllFacts()).thenReturn(Stream.empty());
+        when(jobOpeningRepository.findRecruiterIdById(openingB)).thenReturn(Optional.of(recruiterB));
+        store.rebuild();
+
+        // Act
+        store.onEvent(ApplicantBatchEvent.imported("test", List.of(
+                new ApplicantSnapshot(applicant1, "A", null, openingB, applied, "APPLIED", null, null, LocalDate.of(2025, 3, 3), null),
+                new ApplicantSnapshot(applicant2, "B", null, openingB, applied, "APPLIED", null, null, LocalDate.of(2025, 3, 3), null))));
+
+        // Assert : une seule lecture pour le lot
+        verify(jobOpeningRepository, times(1)).findRecruiterIdById(openingB);
+        assertThat(store.read(columns -> columns.count(ApplicantColumns.Scope.ofRecruiter(recruiterB)))).contains(2L);
+
+        // Act
+        JobOpening deleted = new JobOpening();
+        deleted.setId(openingB);
+        store.onEvent(JobOpeningEvent.deleted("test", deleted));
+
+        // Assert
+        assertThat(store.read(columns -> columns.count(ApplicantColumns.Scope.all()))).contains(0L);
+    }
+
+    @Test
+    @DisplayName("Ne devrait rien retirer du magasin lorsque la transaction de suppression est annulée")
+    void onEvent_DeleteRolledBack_ShouldLeaveColumnsUnchanged() {
+        // Arrange
+        when(openingApplicantRepository.streamAllFacts()).thenReturn(Stream.of(
+                fact(applicant1, openingA, recruiterA, applied, null, LocalDate.of(2025, 3, 3)),
+                fact(applicant2, openingB, recruiterB, applied, null, LocalDate.of(2025, 3, 3))));
+        store.rebuild();
+        JobOpening deleted = new JobOpening();
+        deleted.setId(openingB);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act : suppressions notifiées dans la transaction, puis annulées
+            store.onEvent(ApplicantEvent.deleted("test", applicant(applicant1, openingA, applied)));
+            store.onEvent(JobOpeningEvent.deleted("test", deleted));
+            assertThat(store.read(columns -> columns.count(ApplicantColumns.Scope.all()))).contains(2L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertThat(store.read(columns -> columns.count(ApplicantColumns.Scope.all()))).contains(2L);
+    }
+
+    @Test
+    @DisplayName("Devrait rejouer les événements reçus pendant le chargement")
+    void rebuild_ShouldReplayEventsReceivedDuringScan() {
+        // Arrange : un candidat est supprimé pendant que le parcours le lit encore
+        when(openingApplicantRepository.streamAllFacts()).thenAnswer(invocation -> {
+            store.onEvent(ApplicantEvent.deleted("test", applicant(applicant1, openingA, applied)));
+            return Stream.of(
+                    fact(applicant1, openingA, recruiterA, applied, null, LocalDate.of(2025, 3, 3)),
+                    fact(applicant2, openingA, recruiterA, applied, null, LocalDate.of(2025, 3, 3)));
+        });
+
+        // Act
+        store.rebuild();
+
+        // Assert
+        assertThat(store.read(columns -> columns.count(ApplicantColumns.Scope.all()))).contains(1L);
+    }
+
+    @Test
+    @DisplayName("Devrait reconstruire le magasin après des écarts consécutifs avec la base")
+    void checkConsistency_ShouldRebuildAfterConsecutiveMismatches() {
+        // Arrange : le magasin a manqué une création faite hors événements
+        when(openingApplicantRepository.streamAllFacts())
+                .thenReturn(Stream.of(fact(applicant1, openingA, recruiterA, applied, null, LocalDate.of(2025, 3, 3))))
+                .thenReturn(Stream.of(fact(applicant1, openingA, recruiterA, applied, null, LocalDate.of(2025, 3, 3)),
+                        fact(applicant2, openingA, recruiterA, applied, null, LocalDate.of(2025, 3, 3))));
+        when(openingApplicantRepository.countGroupByStage()).thenReturn(List.of(new IdCountProjection(applied, 2L)));
+        store.rebuild();
+
+        // Act & Assert
+        assertThat(store.checkConsistency()).isFalse();
+        verify(openingApplicantRepository, times(1)).streamAllFacts();
+        assertThat(store.checkConsistency()).isFalse();
+        verify(openingApplicantRepository, times(2)).streamAllFacts();
+        assertThat(store.checkConsistency()).isTrue();
+        assertThat(meterRegistry.counter("candiflow.analytics.consistency_mismatches").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Devrait ignorer les événements tant que le magasin n'est pas chargé")
+    void onEvent_BeforeLoad_ShouldBeIgnored() {
+        // Act
+        store.onEvent(ApplicantEvent.created("test", applicant(applicant1, openingA, applied)));
+
+        // Assert
+        assertThat(store.isReady()).isFalse();
+        assertThat(store.read(ApplicantColumns::size)).isEmpty();
+        verify(jobOpeningRepository, never()).findRecruiterIdById(openingA);
+    }
+
+    private ApplicantFactProjection fact(UUID applicantId, UUID jobOpeningId, UUID recruiterId, UUID stageId, UUID sourceId,
+                                         LocalDate applicationDate) {
+        return new ApplicantFactProjection(applicantId, jobOpeningId, recruiterId, stageId, sourceId, applicationDate, updatedAt);
+    }
+
+    private OpeningApplicant applicant(UUID applicantId, UUID jobOpeningId, UUID stageId) {
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(jobOpeningId);
+        PipelineStage stage = new PipelineStage();
+        stage.setId(stageId);
+        OpeningApplicant applicant = new OpeningApplicant();
+        applicant.setId(applicantId);
+        applicant.setJobOpening(jobOpening);
+        applicant.setCurrentStage(stage);
+        applicant.setApplicationDate(LocalDate.of(2025, 3, 4));
+        applicant.setUpdatedAt(updatedAt);
+        return applicant;
+    }
+}
@@ -0,0 +1,174 @@
+package com.candiflow.api.unit.analytics;
+
+import com.candiflow.api.analytics.ApplicantRollupRefresher;
+import com.candiflow.api.analytics.RollupProperties;
+import com.candiflow.api.model.entity.ApplicantRollup;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.ApplicantsRemovedEvent;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.repository.ApplicantRollupRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.projection.ApplicantDayCountProjection;
+import com.candiflow.api.unit.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour le rafraîchissement du cube des candidats
+ */
+class ApplicantRollupRefresherTest extends BaseUnitTest {
+
+    @Mock private ApplicantRollupRepository applicantRollupRepository;
+    @Mock private OpeningApplicantRepository openingApplicantRepository;
+    @Mock private JobOpeningRepository jobOpeningRepository;
+    @Mock private EventManager eventManager;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private ApplicantRollupRefresher refresher;
+
+    private final UUID recruiter = UUID.randomUUID();
+    private final UUID openingA = UUID.randomUUID();
+    private final UUID openingB = UUID.randomUUID();
+    private final UUID applied = UUID.randomUUID();
+    private final UUID linkedIn = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        refresher = new ApplicantRollupRefresher(applicantRollupRepository, openingApplicantRepository, jobOpeningRepository,
+                eventManager, new RollupProperties(), new SimpleMeterRegistry(), transactionManager);
+    }
+
+    @Test
+    @DisplayName("Devrait remplacer les lignes d'une offre par ses comptes regroupés par semaine ISO")
+    void refreshJobOpenings_ShouldReplaceRowsWithWeeklyCounts() {
+        // Arrange : lundi et mercredi de la même semaine, plus des candidats sans source ni date
+        when(jobOpeningRepository.lockIdsByIds(List.of(openingA))).thenReturn(List.of(openingA));
+        when(openingApplicantRepository.countByDayForJobOpenings(List.of(openingA))).thenReturn(List.of(
+                new ApplicantDayCountProjection(openingA, recruiter, linkedIn, applied, LocalDate.of(2025, 3, 3), 2),
+                new ApplicantDayCountProjection(openingA, recruiter, linkedIn, applied, LocalDate.of(2025, 3, 5), 1),
+                new ApplicantDayCountProjection(openingA, recruiter, null, applied, null, 4)));
+
+        // Act
+        int written = refresher.refreshJobOpenings(List.of(openingA));
+
+        // Assert
+        assertThat(written).isEqualTo(2);
+        verify(applicantRollupRepository).deleteByJobOpeningIds(List.of(openingA));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApplicantRollup>> saved = ArgumentCaptor.forClass(List.class);
+        verify(applicantRollupRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(ApplicantRollup::getSourceId, ApplicantRollup::getWeekStart, ApplicantRollup::getApplicantCount)
+                .containsExactlyInAnyOrder(
+                        tuple(linkedIn, LocalDate.of(2025, 3, 3), 3L),
+                        tuple(null, null, 4L));
+    }
+
+    @Test
+    @DisplayName("Devrait seulement retirer les lignes d'une offre supprimée")
+    void refreshJobOpenings_DeletedOpening_ShouldOnlyDeleteRows() {
+        // Arrange
+        when(jobOpeningRepository.lockIdsByIds(List.of(openingA))).thenReturn(List.of());
+
+        // Act
+        int written = refresher.refreshJobOpenings(List.of(openingA));
+
+        // Assert
+        assertThat(written).isZero();
+        verify(applicantRollupRepository).deleteByJobOpeningIds(List.of(openingA));
+        verify(openingApplicantRepository, never()).countByDayForJobOpenings(anyCollection());
+        verify(applicantRollupRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Devrait recalculer les offres touchées par les événements candidats")
+    void refreshDirty_ShouldRefreshOpeningsMarkedByEvents() {
+        // Arrange
+        refresher.onEvent(ApplicantEvent.created("test", applicant(openingA)));
+        refresher.onEvent(ApplicantBatchEvent.stageChanged("test", List.of(
+                new ApplicantSnapshot(UUID.randomUUID(), "A", null, openingB, applied, "APPLIED", null, null, null, null))));
+        refresher.onEvent(new ApplicantsRemovedEvent("test", List.of(UUID.randomUUID()), List.of(openingA)));
+        when(jobOpeningRepository.lockIdsByIds(anyCollection())).thenReturn(List.of());
+
+        // Act
+        assertThat(refresher.isDirty(openingA)).isTrue();
+        refresher.refreshDirty();
+
+        // Assert : une seule transaction pour les deux offres, qui ne sont plus marquées
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<UUID>> refreshed = ArgumentCaptor.forClass(Collection.class);
+        verify(jobOpeningRepository).lockIdsByIds(refreshed.capture());
+        assertThat(refreshed.getValue()).containsExactlyInAnyOrder(openingA, openingB);
+        assertThat(refresher.isDirty(openingA)).isFalse();
+        assertThat(refresher.isDirty(openingB)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Devrait garder marquées les offres dont le recalcul a échoué")
+    void refreshDirty_OnFailure_ShouldKeepOpeningsDirty() {
+        // Arrange
+        refresher.onEvent(ApplicantEvent.updated("test", applicant(openingA)));
+        when(jobOpeningRepository.lockIdsByIds(anyCollection())).thenThrow(new IllegalStateException("Base indisponible"));
+
+        // Act
+        refresher.refreshDirty();
+
+        // Assert
+        assertThat(refresher.isDirty(openingA)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Ne devrait marquer l'offre qu'à la validation de la transaction de l'écriture")
+    void onEvent_InTransaction_ShouldMarkAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            refresher.onEvent(ApplicantEvent.deleted("test", applicant(openingA)));
+
+            // Assert
+            assertThat(refresher.isDirty(openingA)).isFalse();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(refresher.isDirty(openingA)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private OpeningApplicant applicant(UUID jobOpeningId) {
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(jobOpeningId);
+        PipelineStage stage = new PipelineStage();
+        stage.setId(applied);
+        OpeningApplicant applicant = new OpeningApplicant();
+        applicant.setId(UUID.randomUUID());
+        applicant.setJobOpening(jobOpening);
+        applicant.setCurrentStage(stage);
+        return applicant;
+    }
+}
@@ -0,0 +1,193 @@
+package com.candiflow.api.unit.analytics;
+
+import com.candiflow.api.analytics.CounterProperties;
+import com.candiflow.api.analytics.DailyCounterRecorder;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.model.enums.CounterMetric;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.observer.JobOpeningEvent;
+import com.candiflow.api.repository.DailyCounterRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.unit.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour l'incrémentation des compteurs journaliers
+ */
+class DailyCounterRecorderTest extends BaseUnitTest {
+
+    @Mock private DailyCounterRepository dailyCounterRepository;
+    @Mock private JobOpeningRepository jobOpeningRepository;
+    @Mock private EventManager eventManager;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private DailyCounterRecorder recorder;
+
+    private final UUID recruiterId = UUID.randomUUID();
+    private final UUID openingId = UUID.randomUUID();
+    private final UUID applied = UUID.randomUUID();
+    private final UUID hired = UUID.randomUUID();
+    private final UUID rejected = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        recorder = new DailyCounterRecorder(dailyCounterRepository, jobOpeningRepository, eventManager,
+                new CounterProperties(), new SimpleMeterRegistry(), transactionManager);
+    }
+
+    @Test
+    @DisplayName("Devrait compter une candidature reçue à sa date de candidature, pour le recruteur de l'offre")
+    void onEvent_ApplicantCreated_ShouldIncrementApplicationsOfRecruiter() {
+        // Arrange
+        when(jobOpeningRepository.findRecruiterIdById(openingId)).thenReturn(Optional.of(recruiterId));
+        OpeningApplicant applicant = applicant(stage(applied, "APPLIED"));
+        applicant.setApplicationDate(LocalDate.of(2025, 3, 5));
+
+        // Act
+        recorder.onEvent(ApplicantEvent.created("test", applicant));
+
+        // Assert
+        verify(dailyCounterRepository).increment(CounterMetric.APPLICATIONS_RECEIVED, recruiterId, LocalDate.of(2025, 3, 5), 1L);
+    }
+
+    @Test
+    @DisplayName("Devrait regrouper les candidatures importées par jour en un incrément chacune")
+    void onEvent_ApplicantsImported_ShouldGroupIncrementsByDay() {
+        // Arrange
+        when(jobOpeningRepository.findRecruiterIdById(openingId)).thenReturn(Optional.of(recruiterId));
+        LocalDate monday = LocalDate.of(2025, 3, 3);
+
+        // Act
+        recorder.onEvent(ApplicantBatchEvent.imported("test", List.of(
+                snapshot(applied, "APPLIED", null, monday),
+                snapshot(applied, "APPLIED", null, monday),
+                snapshot(applied, "APPLIED", null, monday.plusDays(1)))));
+
+        // Assert : l'offre n'est résolue qu'une fois
+        verify(dailyCounterRepository).increment(CounterMetric.APPLICATIONS_RECEIVED, recruiterId, monday, 2L);
+        verify(dailyCounterRepository).increment(CounterMetric.APPLICATIONS_RECEIVED, recruiterId, monday.plusDays(1), 1L);
+        verify(jobOpeningRepository, times(1)).findRecruiterIdById(openingId);
+    }
+
+    @Test
+    @DisplayName("Devrait compter les embauches et les refus d'un déplacement groupé, pas les autres étapes")
+    void onEvent_BatchStageChanged_ShouldCountHiresAndRejections() {
+        // Arrange
+        when(jobOpeningRepository.findRecruiterIdById(openingId)).thenReturn(Optional.of(recruiterId));
+        ApplicantBatchEvent event = ApplicantBatchEvent.stageChanged("test", List.of(
+                snapshot(hired, "HIRED", applied, null),
+                snapshot(hired, "HIRED", applied, null),
+                snapshot(rejected, "REJECTED", applied, null),
+                snapshot(applied, "APPLIED", hired, null)));
+        LocalDate today = LocalDate.ofInstant(event.getTimestamp(), ZoneId.systemDefault());
+
+        // Act
+        recorder.onEvent(event);
+
+        // Assert
+        verify(dailyCounterRepository).increment(CounterMetric.HIRES, recruiterId, today, 2L);
+        verify(dailyCounterRepository).increment(CounterMetric.REJECTIONS, recruiterId, today, 1L);
+        verify(dailyCounterRepository, times(2)).increment(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Devrait compter une offre créée au jour de sa création")
+    void onEvent_JobOpeningCreated_ShouldIncrementOpeningsOfRecruiter() {
+        // Arrange
+        User recruiter = new User();
+        recruiter.setId(recruiterId);
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(openingId);
+        jobOpening.setRecruiter(recruiter);
+        jobOpening.setCreatedAt(Instant.parse("2025-03-05T12:00:00Z"));
+        LocalDate createdDay = LocalDate.ofInstant(jobOpening.getCreatedAt(), ZoneId.systemDefault());
+
+        // Act
+        recorder.onEvent(JobOpeningEvent.created("test", jobOpening));
+
+        // Assert
+        verify(dailyCounterRepository).increment(CounterMetric.JOB_OPENINGS_CREATED, recruiterId, createdDay, 1L);
+        verify(jobOpeningRepository, never()).findRecruiterIdById(any());
+    }
+
+    @Test
+    @DisplayName("Ne devrait incrémenter qu'à la validation de la transaction de l'écriture")
+    void onEvent_InTransaction_ShouldIncrementAfterCommit() {
+        // Arrange
+        when(jobOpeningRepository.findRecruiterIdById(openingId)).thenReturn(Optional.of(recruiterId));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            recorder.onEvent(ApplicantEvent.stageChanged("test", applicant(stage(hired, "HIRED")), stage(applied, "APPLIED")));
+
+            // Assert
+            verify(dailyCounterRepository, never()).increment(any(), any(), any(), anyLong());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(dailyCounterRepository).increment(any(), any(), any(), anyLong());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Ne devrait pas propager l'échec d'un incrément")
+    void onEvent_OnFailure_ShouldNotPropagate() {
+        // Arrange
+        when(jobOpeningRepository.findRecruiterIdById(openingId)).thenThrow(new IllegalStateException("Base indisponible"));
+
+        // Act
+        recorder.onEvent(ApplicantEvent.created("test", applicant(stage(applied, "APPLIED"))));
+
+        // Assert
+        verify(dailyCounterRepository, never()).increment(any(), any(), any(), anyLong());
+    }
+
+    private PipelineStage stage(UUID id, String name) {
+        PipelineStage stage = new PipelineStage();
+        stage.setId(id);
+        stage.setName(name);
+        return stage;
+    }
+
+    private OpeningApplicant applicant(PipelineStage stage) {
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(openingId);
+        OpeningApplicant applicant = new OpeningApplicant();
+        applicant.setId(UUID.randomUUID());
+        applicant.setJobOpening(jobOpening);
+        applicant.setCurrentStage(stage);
+        return applicant;
+    }
+
+    private ApplicantSnapshot snapshot(UUID stageId, String stageName, UUID previousStageId, LocalDate applicationDate) {
+        return new ApplicantSnapshot(UUID.randomUUID(), "A", null, openingId, stageId, stageName, previousStageId, null,
+                applicationDate, null);
+    }
+}
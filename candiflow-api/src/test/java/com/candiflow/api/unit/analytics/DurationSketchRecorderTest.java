@@ -0,0 +1,226 @@
+package com.candiflow.api.unit.analytics;
+
+import com.candiflow.api.analytics.DurationSketchRecorder;
+import com.candiflow.api.analytics.QuantileSketch;
+import com.candiflow.api.analytics.SketchProperties;
+import com.candiflow.api.batch.BatchLoader;
+import com.candiflow.api.dto.recruiter.OpeningApplicantRequest;
+import com.candiflow.api.model.entity.DurationSketch;
+import com.candiflow.api.model.entity.DurationSketchId;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.enums.DurationMetric;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.repository.ApplicantTagRepository;
+import com.candiflow.api.repository.CandidateSourceRepository;
+import com.candiflow.api.repository.DocumentRepository;
+import com.candiflow.api.repository.DurationSketchRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.StatusUpdateRepository;
+import com.candiflow.api.repository.UserRepository;
+import com.candiflow.api.service.OpeningApplicantService;
+import com.candiflow.api.service.PipelineStageService;
+import com.candiflow.api.unit.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour l'alimentation des esquisses de quantiles des durées
+ */
+class DurationSketchRecorderTest extends BaseUnitTest {
+
+    @Mock private DurationSketchRepository durationSketchRepository;
+    @Mock private JobOpeningRepository jobOpeningRepository;
+    @Mock private EventManager eventManager;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private OpeningApplicantRepository openingApplicantRepository;
+    @Mock private PipelineStageRepository pipelineStageRepository;
+    @Mock private RecruiterNoteRepository recruiterNoteRepository;
+
+    private DurationSketchRecorder recorder;
+
+    private final UUID recruiterId = UUID.randomUUID();
+    private final UUID openingId = UUID.randomUUID();
+    private final UUID applied = UUID.randomUUID();
+    private final UUID interview = UUID.randomUUID();
+    private final UUID hired = UUID.randomUUID();
+
+    // Lignes de la table duration_sketches, par clé
+    private final Map<DurationSketchId, DurationSketch> rows = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        recorder = new DurationSketchRecorder(durationSketchRepository, jobOpeningRepository, eventManager,
+                new SketchProperties(), new SimpleMeterRegistry(), transactionManager);
+        lenient().when(durationSketchRepository.insertIfAbsent(any(), any(), any(), any())).thenAnswer(invocation -> {
+            DurationSketchId id = new DurationSketchId(invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2));
+            rows.putIfAbsent(id, new DurationSketch(id, invocation.getArgument(3), 0, new byte[]{0}));
+            return 1;
+        });
+        lenient().when(durationSketchRepository.findForUpdate(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(rows.get(invocation.<DurationSketchId>getArgument(0))));
+    }
+
+    @Test
+    @DisplayName("Devrait ajouter le temps passé dans l'étape quittée à l'esquisse de l'offre")
+    void onEvent_StageChanged_ShouldRecordTimeInPreviousStage() {
+        // Arrange
+        when(jobOpeningRepository.findRecruiterIdById(openingId)).thenReturn(Optional.of(recruiterId));
+        ApplicantEvent event = ApplicantEvent.stageChanged("test", applicant(stage(interview, "INTERVIEW"), null),
+                stage(applied, "APPLIED"), Instant.now().minus(Duration.ofDays(3)));
+
+        // Act
+        recorder.onEvent(event);
+
+        // Assert
+        DurationSketch row = rows.get(new DurationSketchId(openingId, DurationMetric.TIME_IN_STAGE, applied));
+        assertThat(row.getRecruiterId()).isEqualTo(recruiterId);
+        assertThat(row.getSampleCount()).isEqualTo(1);
+        assertThat(QuantileSketch.fromBytes(row.getPayload()).quantile(0.5).toHours()).isBetween(71L, 73L);
+        assertThat(rows).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Devrait ajouter le délai depuis la candidature lors d'un passage à l'étape HIRED")
+    void onEvent_StageChangedToHired_ShouldRecordTimeToHire() {
+        // Arrange
+        when(jobOpeningRepository.findRecruiterIdById(openingId)).thenReturn(Optional.of(recruiterId));
+        LocalDate applicationDate = LocalDate.now().minusDays(20);
+        ApplicantEvent event = ApplicantEvent.stageChanged("test", applicant(stage(hired, "HIRED"), applicationDate),
+                stage(interview, "INTERVIEW"), null);
+        long expectedDays = Duration.between(applicationDate.atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                event.getTimestamp()).toDays();
+
+        // Act
+        recorder.onEvent(event);
+
+        // Assert : l'entrée dans l'étape précédente est inconnue, seul le délai d'embauche est ajouté
+        DurationSketch row = rows.get(new DurationSketchId(openingId, DurationMetric.TIME_TO_HIRE, hired));
+        assertThat(QuantileSketch.fromBytes(row.getPayload()).quantile(0.5).toDays()).isEqualTo(expectedDays);
+        assertThat(rows).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Devrait regrouper les durées d'un déplacement groupé et compléter une esquisse existante")
+    void onEvent_BatchStageChanged_ShouldMergeIntoExistingSketch() {
+        // Arrange
+        when(jobOpeningRepository.findRecruiterIdById(openingId)).thenReturn(Optional.of(recruiterId));
+        DurationSketchId id = new DurationSketchId(openingId, DurationMetric.TIME_IN_STAGE, applied);
+        QuantileSketch existing = new QuantileSketch();
+        existing.record(Duration.ofDays(1));
+        rows.put(id, new DurationSketch(id, recruiterId, existing.count(), existing.toBytes()));
+        Instant enteredAt = Instant.now().minus(Duration.ofDays(5));
+
+        // Act
+        recorder.onEvent(ApplicantBatchEvent.stageChanged("test", List.of(
+                snapshot(interview, applied, enteredAt),
+                snapshot(interview, applied, enteredAt),
+                snapshot(interview, interview, enteredAt))));
+
+        // Assert : le candidat resté dans son étape n'est pas compté
+        DurationSketch row = rows.get(id);
+        assertThat(row.getSampleCount()).isEqualTo(3);
+        assertThat(QuantileSketch.fromBytes(row.getPayload()).quantile(1.0).toDays()).isEqualTo(5);
+        assertThat(rows).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Devrait ajouter le temps passé dans l'étape quittée lors d'une mise à jour complète du candidat")
+    void updateApplicant_WithNewStage_ShouldRecordTimeInPreviousStage() {
+        // Arrange : service et gestionnaire d'événements réels, hors transaction (notification immédiate)
+        EventManager events = new EventManager();
+        new DurationSketchRecorder(durationSketchRepository, jobOpeningRepository, events, new SketchProperties(),
+                new SimpleMeterRegistry(), transactionManager).init();
+        OpeningApplicantService service = new OpeningApplicantService(openingApplicantRepository, jobOpeningRepository,
+                pipelineStageRepository, mock(CandidateSourceRepository.class), recruiterNoteRepository,
+                mock(ApplicantTagRepository.class), mock(PipelineStageService.class), events,
+                new BatchLoader(openingApplicantRepository, recruiterNoteRepository, mock(StatusUpdateRepository.class),
+                        mock(DocumentRepository.class), mock(UserRepository.class)));
+        OpeningApplicant applicant = applicant(stage(applied, "APPLIED"), null);
+        applicant.setStageEnteredAt(Instant.now().minus(Duration.ofDays(3)));
+        JobOpening jobOpening = applicant.getJobOpening();
+        when(jobOpeningRepository.findById(openingId)).thenReturn(Optional.of(jobOpening));
+        when(openingApplicantRepository.findByIdAndJobOpening(applicant.getId(), jobOpening)).thenReturn(Optional.of(applicant));
+        when(pipelineStageRepository.findById(interview)).thenReturn(Optional.of(stage(interview, "INTERVIEW")));
+        when(openingApplicantRepository.save(applicant)).thenReturn(applicant);
+        when(jobOpeningRepository.findRecruiterIdById(openingId)).thenReturn(Optional.of(recruiterId));
+        OpeningApplicantRequest request = new OpeningApplicantRequest();
+        request.setName("Jane Smith");
+        request.setPipelineStageId(interview);
+
+        // Act
+        service.updateApplicant(openingId, applicant.getId(), request, null);
+
+        // Assert
+        DurationSketch row = rows.get(new DurationSketchId(openingId, DurationMetric.TIME_IN_STAGE, applied));
+        assertThat(row.getSampleCount()).isEqualTo(1);
+        assertThat(QuantileSketch.fromBytes(row.getPayload()).quantile(0.5).toHours()).isBetween(71L, 73L);
+    }
+
+    @Test
+    @DisplayName("Ne devrait pas propager l'échec de la mise à jour des esquisses")
+    void onEvent_OnFailure_ShouldNotPropagate() {
+        // Arrange
+        when(jobOpeningRepository.findRecruiterIdById(openingId)).thenThrow(new IllegalStateException("Base indisponible"));
+
+        // Act
+        recorder.onEvent(ApplicantEvent.stageChanged("test", applicant(stage(interview, "INTERVIEW"), null),
+                stage(applied, "APPLIED"), Instant.now()));
+
+        // Assert
+        verify(durationSketchRepository, never()).findForUpdate(any());
+    }
+
+    private PipelineStage stage(UUID id, String name) {
+        PipelineStage stage = new PipelineStage();
+        stage.setId(id);
+        stage.setName(name);
+        return stage;
+    }
+
+    private OpeningApplicant applicant(PipelineStage stage, LocalDate applicationDate) {
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(openingId);
+        OpeningApplicant applicant = new OpeningApplicant();
+        applicant.setId(UUID.randomUUID());
+        applicant.setJobOpening(jobOpening);
+        applicant.setCurrentStage(stage);
+        applicant.setApplicationDate(applicationDate);
+        return applicant;
+    }
+
+    private ApplicantSnapshot snapshot(UUID stageId, UUID previousStageId, Instant previousStageEnteredAt) {
+        return new ApplicantSnapshot(UUID.randomUUID(), "A", null, openingId, stageId, "INTERVIEW", previousStageId, null,
+                null, previousStageEnteredAt);
+    }
+}
@@ -0,0 +1,90 @@
+package com.candiflow.api.unit.analytics;
+
+import com.candiflow.api.analytics.QuantileSketch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests unitaires pour les esquisses de quantiles des durées
+ */
+class QuantileSketchTest {
+
+    @Test
+    @DisplayName("Devrait estimer les centiles à 1 % près")
+    void quantile_ShouldBeWithinOnePercent() {
+        // Arrange : 1 à 1000 heures
+        QuantileSketch sketch = new QuantileSketch();
+        for (int hours = 1; hours <= 1000; hours++) {
+            sketch.record(Duration.ofHours(hours));
+        }
+
+        // Act & Assert
+        assertThat(sketch.count()).isEqualTo(1000);
+        assertThat(sketch.quantile(0.5).toSeconds()).isCloseTo(Duration.ofHours(500).toSeconds(), within(18_000L));
+        assertThat(sketch.quantile(0.9).toSeconds()).isCloseTo(Duration.ofHours(900).toSeconds(), within(32_400L));
+        assertThat(sketch.quantile(0.99).toSeconds()).isCloseTo(Duration.ofHours(990).toSeconds(), within(35_640L));
+    }
+
+    @Test
+    @DisplayName("Devrait fusionner deux esquisses comme si toutes les durées avaient été ajoutées à une seule")
+    void merge_ShouldEqualSketchOfAllDurations() {
+        // Arrange
+        QuantileSketch fast = new QuantileSketch();
+        QuantileSketch slow = new QuantileSketch();
+        QuantileSketch all = new QuantileSketch();
+        for (int days = 1; days <= 30; days++) {
+            fast.record(Duration.ofDays(days));
+            slow.record(Duration.ofDays(days * 10L));
+            all.record(Duration.ofDays(days));
+            all.record(Duration.ofDays(days * 10L));
+        }
+
+        // Act
+        fast.merge(slow);
+
+        // Assert
+        assertThat(fast.count()).isEqualTo(60);
+        assertThat(fast.quantile(0.5)).isEqualTo(all.quantile(0.5));
+        assertThat(fast.quantile(0.99)).isEqualTo(all.quantile(0.99));
+    }
+
+    @Test
+    @DisplayName("Devrait relire une esquisse compressée et continuer à la compléter au-delà de sa plage")
+    void fromBytes_ShouldRestoreSketchAndAcceptLargerDurations() {
+        // Arrange
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.record(Duration.ofMinutes(5));
+
+        // Act
+        QuantileSketch restored = QuantileSketch.fromBytes(sketch.toBytes());
+        restored.record(Duration.ofDays(400));
+
+        // Assert
+        assertThat(restored.count()).isEqualTo(2);
+        assertThat(restored.quantile(1.0).toDays()).isBetween(396L, 404L);
+    }
+
+    @Test
+    @DisplayName("Devrait compter pour zéro une durée négative")
+    void record_NegativeDuration_ShouldCountAsZero() {
+        QuantileSketch sketch = new QuantileSketch();
+
+        sketch.record(Duration.ofHours(-2));
+
+        assertThat(sketch.count()).isEqualTo(1);
+        assertThat(sketch.quantile(0.5)).isZero();
+    }
+
+    @Test
+    @DisplayName("Devrait rejeter un contenu qui n'est pas une esquisse")
+    void fromBytes_InvalidPayload_ShouldThrow() {
+        assertThatThrownBy(() -> QuantileSketch.fromBytes(new byte[]{1, 2, 3}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,131 @@
+package com.candiflow.api.unit.archive;
+
+import com.candiflow.api.archive.ArchiveProperties;
+import com.candiflow.api.archive.OpeningArchiver;
+import com.candiflow.api.model.enums.JobStatus;
+import com.candiflow.api.observer.ApplicantsRemovedEvent;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.repository.ApplicantTagRepository;
+import com.candiflow.api.repository.ArchivedApplicantTagRepository;
+import com.candiflow.api.repository.ArchivedJobOpeningRepository;
+import com.candiflow.api.repository.ArchivedOpeningApplicantRepository;
+import com.candiflow.api.repository.ArchivedRecruiterNoteRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.unit.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour l'archivage des offres fermées
+ */
+class OpeningArchiverTest extends BaseUnitTest {
+
+    @Mock private JobOpeningRepository jobOpeningRepository;
+    @Mock private OpeningApplicantRepository openingApplicantRepository;
+    @Mock private RecruiterNoteRepository recruiterNoteRepository;
+    @Mock private ApplicantTagRepository applicantTagRepository;
+    @Mock private ArchivedJobOpeningRepository archivedJobOpeningRepository;
+    @Mock private ArchivedOpeningApplicantRepository archivedOpeningApplicantRepository;
+    @Mock private ArchivedRecruiterNoteRepository archivedRecruiterNoteRepository;
+    @Mock private ArchivedApplicantTagRepository archivedApplicantTagRepository;
+    @Mock private EventManager eventManager;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private OpeningArchiver archiver;
+    private final Instant cutoff = Instant.parse("2025-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        ArchiveProperties properties = new ArchiveProperties();
+        properties.setApplicantsPerChunk(2);
+        properties.setPauseBetweenChunks(Duration.ZERO);
+        archiver = new OpeningArchiver(jobOpeningRepository, openingApplicantRepository, recruiterNoteRepository,
+                applicantTagRepository, archivedJobOpeningRepository, archivedOpeningApplicantRepository,
+                archivedRecruiterNoteRepository, archivedApplicantTagRepository, properties, eventManager, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Devrait déplacer les candidats par lots puis l'offre une fois vidée")
+    void archiveClosedBefore_ShouldMoveApplicantsInChunksThenOpening() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        List<UUID> firstChunk = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> secondChunk = List.of(UUID.randomUUID());
+        when(jobOpeningRepository.lockIdsByStatusAndUpdatedAtBefore(eq(JobStatus.CLOSED), eq(cutoff), any(Limit.class)))
+                .thenReturn(List.of(jobId))
+                .thenReturn(List.of(jobId))
+                .thenReturn(List.of());
+        when(openingApplicantRepository.findIdsByJobOpeningIds(eq(List.of(jobId)), eq(Limit.of(2))))
+                .thenReturn(firstChunk)
+                .thenReturn(secondChunk);
+        when(archivedOpeningApplicantRepository.archiveApplicants(anyList(), any(Instant.class))).thenReturn(2, 1);
+        when(archivedRecruiterNoteRepository.archiveNotes(anyList(), any(Instant.class))).thenReturn(5, 0);
+        when(archivedApplicantTagRepository.archiveTags(anyList(), any(Instant.class))).thenReturn(1, 2);
+        when(archivedJobOpeningRepository.archiveJobOpenings(eq(List.of(jobId)), any(Instant.class))).thenReturn(1);
+
+        // Act
+        OpeningArchiver.ArchiveResult result = archiver.archiveClosedBefore(cutoff);
+
+        // Assert
+        assertThat(result).isEqualTo(new OpeningArchiver.ArchiveResult(1, 3, 5, 3));
+        verify(transactionManager, times(3)).getTransaction(any());
+
+        // Les enfants sont recopiés puis supprimés avant leur parent, et l'offre seulement au dernier lot
+        InOrder order = inOrder(archivedOpeningApplicantRepository, applicantTagRepository, recruiterNoteRepository,
+                openingApplicantRepository, archivedJobOpeningRepository, jobOpeningRepository);
+        order.verify(archivedOpeningApplicantRepository).archiveApplicants(eq(firstChunk), any(Instant.class));
+        order.verify(applicantTagRepository).deleteByApplicantIds(firstChunk);
+        order.verify(recruiterNoteRepository).deleteByApplicantIds(firstChunk);
+        order.verify(openingApplicantRepository).deleteAllByIds(firstChunk);
+        order.verify(openingApplicantRepository).deleteAllByIds(secondChunk);
+        order.verify(archivedJobOpeningRepository).archiveJobOpenings(eq(List.of(jobId)), any(Instant.class));
+        order.verify(jobOpeningRepository).deleteAllByIds(List.of(jobId));
+
+        // Un événement de retrait par lot de candidats supprimés des tables vivantes
+        ArgumentCaptor<ApplicantsRemovedEvent> events = ArgumentCaptor.forClass(ApplicantsRemovedEvent.class);
+        verify(eventManager, times(2)).fireEventAfterCommit(events.capture());
+        assertThat(events.getAllValues()).extracting(ApplicantsRemovedEvent::getApplicantIds)
+                .containsExactly(firstChunk, secondChunk);
+        assertThat(events.getAllValues()).extracting(ApplicantsRemovedEvent::getJobOpeningIds)
+                .containsOnly(List.of(jobId));
+    }
+
+    @Test
+    @DisplayName("Ne devrait rien déplacer lorsqu'aucune offre fermée n'est assez ancienne")
+    void archiveClosedBefore_ShouldDoNothingWithoutEligibleOpenings() {
+        // Arrange
+        when(jobOpeningRepository.lockIdsByStatusAndUpdatedAtBefore(eq(JobStatus.CLOSED), eq(cutoff), any(Limit.class)))
+                .thenReturn(List.of());
+
+        // Act
+        OpeningArchiver.ArchiveResult result = archiver.archiveClosedBefore(cutoff);
+
+        // Assert
+        assertThat(result).isEqualTo(new OpeningArchiver.ArchiveResult(0, 0, 0, 0));
+        verify(openingApplicantRepository, never()).findIdsByJobOpeningIds(anyList(), any(Limit.class));
+        verify(jobOpeningRepository, never()).deleteAllByIds(anyList());
+    }
+}
@@ -0,0 +1,153 @@
+package com.candiflow.api.unit.batch;
+
+import com.candiflow.api.batch.BatchKey;
+import com.candiflow.api.batch.BatchKeys;
+import com.candiflow.api.batch.BatchLoader;
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.repository.DocumentRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.StatusUpdateRepository;
+import com.candiflow.api.repository.UserRepository;
+import com.candiflow.api.repository.projection.IdCountProjection;
+import com.candiflow.api.repository.projection.LatestStatusProjection;
+import com.candiflow.api.unit.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour le chargement par lot
+ */
+class BatchLoaderTest extends BaseUnitTest {
+
+    @Mock
+    private OpeningApplicantRepository openingApplicantRepository;
+
+    @Mock
+    private RecruiterNoteRepository recruiterNoteRepository;
+
+    @Mock
+    private StatusUpdateRepository statusUpdateRepository;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private BatchLoader batchLoader;
+
+    @BeforeEach
+    void setUp() {
+        batchLoader = new BatchLoader(openingApplicantRepository, recruiterNoteRepository,
+                statusUpdateRepository, documentRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("Devrait résoudre les clés distinctes d'une page en une requête par type de clé")
+    void mapPage_ShouldResolveEachKeyTypeWithOneQuery() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Page<UUID> page = new PageImpl<>(List.of(first, second, first), PageRequest.of(0, 3), 10);
+        when(recruiterNoteRepository.countByApplicantIds(Set.of(first, second)))
+                .thenReturn(List.of(new IdCountProjection(first, 4L)));
+        when(documentRepository.countByApplicationIds(Set.of(first, second)))
+                .thenReturn(List.of(new IdCountProjection(second, 1L)));
+
+        Page<long[]> result = batchLoader.mapPage(page, (id, loads) -> {
+            long[] counts = new long[2];
+            loads.load(BatchKeys.NOTE_COUNT_BY_APPLICANT, id, count -> counts[0] = count);
+            loads.load(BatchKeys.DOCUMENT_COUNT_BY_APPLICATION, id, count -> counts[1] = count);
+            return counts;
+        });
+
+        assertThat(result.getTotalElements()).isEqualTo(10);
+        assertThat(result.getContent()).extracting(counts -> counts[0]).containsExactly(4L, 0L, 4L);
+        assertThat(result.getContent()).extracting(counts -> counts[1]).containsExactly(0L, 1L, 0L);
+        verify(recruiterNoteRepository, times(1)).countByApplicantIds(anyCollection());
+        verify(documentRepository, times(1)).countByApplicationIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Devrait renvoyer la valeur par défaut pour une clé nulle sans requête")
+    void map_ShouldUseDefaultValueForNullKey() {
+        User author = batchLoader.map("note", (note, loads) -> {
+            User[] loaded = {new User()};
+            loads.load(BatchKeys.AUTHOR_BY_ID, null, user -> loaded[0] = user);
+            return loaded[0];
+        });
+
+        assertThat(author).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Devrait résoudre les chargements enregistrés par un callback")
+    void mapAll_ShouldResolveLoadsRegisteredByCallbacks() {
+        UUID applicationId = UUID.randomUUID();
+        UUID statusUpdateId = UUID.randomUUID();
+        when(statusUpdateRepository.findLatestByApplicationIds(Set.of(applicationId)))
+                .thenReturn(List.of(new LatestStatusProjection(applicationId, statusUpdateId, "Entretien", Instant.now())));
+        when(statusUpdateRepository.countByApplicationIds(Set.of(applicationId)))
+                .thenReturn(List.of(new IdCountProjection(applicationId, 3L)));
+
+        List<List<Object>> result = batchLoader.mapAll(List.of(applicationId), (id, loads) -> {
+            List<Object> values = new ArrayList<>();
+            loads.load(BatchKeys.LATEST_STATUS_BY_APPLICATION, id, latest -> {
+                values.add(latest.statusName());
+                loads.load(BatchKeys.STATUS_UPDATE_COUNT_BY_APPLICATION, latest.applicationId(), values::add);
+            });
+            return values;
+        });
+
+        assertThat(result.get(0)).containsExactly("Entretien", 3L);
+    }
+
+    @Test
+    @DisplayName("Devrait découper les requêtes IN au-delà de 1000 clés")
+    @SuppressWarnings("unchecked")
+    void mapAll_ShouldSplitLargeKeySetsIntoChunks() {
+        List<UUID> ids = IntStream.range(0, 2500).mapToObj(i -> UUID.randomUUID()).toList();
+        when(openingApplicantRepository.countByJobOpeningIds(anyCollection())).thenReturn(List.of());
+
+        batchLoader.mapAll(ids, (id, loads) -> {
+            loads.load(BatchKeys.APPLICANT_COUNT_BY_OPENING, id, count -> { });
+            return id;
+        });
+
+        ArgumentCaptor<Collection<UUID>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(openingApplicantRepository, times(3)).countByJobOpeningIds(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(Collection::size).containsExactly(1000, 1000, 500);
+    }
+
+    @Test
+    @DisplayName("Devrait rejeter un type de clé sans chargeur enregistré")
+    void load_ShouldRejectUnknownKeyType() {
+        assertThatThrownBy(() -> batchLoader.map("item", (item, loads) -> {
+            loads.load(BatchKey.<UUID, Long>of("unknown", 0L), UUID.randomUUID(), count -> { });
+            return item;
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+}
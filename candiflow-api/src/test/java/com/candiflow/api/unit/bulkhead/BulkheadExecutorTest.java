@@ -0,0 +1,119 @@
+package com.candiflow.api.unit.bulkhead;
+
+import com.candiflow.api.bulkhead.BulkheadExecutor;
+import com.candiflow.api.bulkhead.BulkheadProperties;
+import com.candiflow.api.datasource.RoutingContextHolder;
+import com.candiflow.api.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires pour les compartiments d'exécution
+ */
+class BulkheadExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadExecutor bulkhead;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties.Pool pool = new BulkheadProperties.Pool();
+        pool.setMaxConcurrentCalls(1);
+        pool.setQueueCapacity(1);
+        pool.setQueueTimeout(Duration.ofMillis(200));
+
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new BulkheadExecutor("reporting", pool, meterRegistry);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bulkhead.shutdown();
+    }
+
+    @Test
+    @DisplayName("Devrait exécuter l'appel dans le compartiment et router vers son pool")
+    void shouldRunCallWithinBulkhead() throws Throwable {
+        String workload = bulkhead.execute(RoutingContextHolder::getWorkload);
+
+        assertThat(workload).isEqualTo("reporting");
+        assertThat(RoutingContextHolder.getWorkload()).isNull();
+        assertThat(callCount("completed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Devrait propager l'exception levée par l'appel")
+    void shouldPropagateCallException() {
+        assertThatThrownBy(() -> bulkhead.execute(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(callCount("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Devrait échouer immédiatement lorsque la file est pleine")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> execute(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        // Le second appel occupe l'unique place de la file
+        CompletableFuture.runAsync(() -> execute(() -> true));
+        awaitQueued(1);
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> true)).isInstanceOf(BulkheadFullException.class);
+        assertThat(callCount("rejected_queue_full")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Devrait échouer lorsque l'attente dépasse le délai configuré")
+    void shouldRejectWhenQueueTimeoutElapses() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> execute(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> true)).isInstanceOf(BulkheadFullException.class);
+        assertThat(callCount("rejected_timeout")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("candiflow.bulkhead.queued").gauge().value()).isZero();
+    }
+
+    private void execute(BulkheadExecutor.BulkheadCall<Boolean> call) {
+        try {
+            bulkhead.execute(call);
+        } catch (Throwable ignored) {
+            // Le résultat des appels d'arrière-plan n'est pas vérifié
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("candiflow.bulkhead.queued").gauge().value() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double callCount(String outcome) {
+        return meterRegistry.get("candiflow.bulkhead.calls").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,197 @@
+package com.candiflow.api.unit.coalesce;
+
+import com.candiflow.api.coalesce.CoalescingProperties;
+import com.candiflow.api.coalesce.RequestCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires pour le regroupement des appels simultanés identiques
+ */
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 5;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer coalescer;
+    private ExecutorService callers;
+    private CountDownLatch release;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer(new CoalescingProperties(), meterRegistry);
+        callers = Executors.newFixedThreadPool(CALLERS);
+        release = new CountDownLatch(1);
+        executions = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Devrait partager un seul calcul entre les appels simultanés identiques")
+    void execute_ConcurrentIdenticalCalls_ShouldShareOneComputation() throws Exception {
+        // Act
+        List<CompletableFuture<Object>> results = submit(CALLERS, List.of("global"), () -> {
+            executions.incrementAndGet();
+            release.await();
+            return "statistiques";
+        });
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (CompletableFuture<Object> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("statistiques");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(callCount("executed")).isEqualTo(1.0);
+        assertThat(callCount("coalesced")).isEqualTo(CALLERS - 1.0);
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Ne devrait pas regrouper des appels dont les arguments diffèrent")
+    void execute_DifferentArguments_ShouldComputeEach() throws Exception {
+        // Act
+        List<CompletableFuture<Object>> first = submit(1, List.of("recruteur-1"), () -> {
+            executions.incrementAndGet();
+            release.await();
+            return "1";
+        });
+        List<CompletableFuture<Object>> second = submit(1, List.of("recruteur-2"), () -> {
+            executions.incrementAndGet();
+            release.await();
+            return "2";
+        });
+        release.countDown();
+
+        // Assert
+        assertThat(first.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("1");
+        assertThat(second.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("2");
+        assertThat(executions).hasValue(2);
+        assertThat(callCount("coalesced")).isZero();
+    }
+
+    @Test
+    @DisplayName("Devrait propager l'exception du calcul à tous les appels regroupés")
+    void execute_OnFailure_ShouldPropagateToAllCallers() {
+        // Act
+        List<CompletableFuture<Object>> results = submit(CALLERS, List.of("global"), () -> {
+            release.await();
+            throw new IllegalStateException("Base indisponible");
+        });
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (CompletableFuture<Object> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Devrait remettre à chaque appelant son propre flux d'octets")
+    void execute_ByteStreamResult_ShouldGiveEachCallerItsOwnStream() throws Exception {
+        // Act
+        List<CompletableFuture<Object>> results = submit(CALLERS, List.of("export"), () -> {
+            release.await();
+            return new ByteArrayInputStream("id,titre".getBytes(StandardCharsets.UTF_8));
+        });
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (CompletableFuture<Object> result : results) {
+            InputStream stream = (InputStream) result.get(5, TimeUnit.SECONDS);
+            assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("id,titre");
+        }
+    }
+
+    @Test
+    @DisplayName("Ne devrait pas regrouper un appel fait dans une transaction")
+    void execute_InTransaction_ShouldNotCoalesce() throws Throwable {
+        // Arrange
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // Act
+            Object result = coalescer.execute("DashboardService.getGlobalStats", List.of(), () -> "statistiques");
+
+            // Assert
+            assertThat(result).isEqualTo("statistiques");
+            assertThat(callCount("executed")).isZero();
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    @DisplayName("Ne devrait rien conserver entre deux appels successifs")
+    void execute_SequentialCalls_ShouldComputeEach() throws Throwable {
+        // Act
+        coalescer.execute("DashboardService.getGlobalStats", List.of(), executions::incrementAndGet);
+        coalescer.execute("DashboardService.getGlobalStats", List.of(), executions::incrementAndGet);
+
+        // Assert
+        assertThat(executions).hasValue(2);
+        assertThat(callCount("executed")).isEqualTo(2.0);
+    }
+
+    private List<CompletableFuture<Object>> submit(int count, List<Object> arguments, RequestCoalescer.CoalescedCall call) {
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            callers.execute(() -> {
+                try {
+                    result.complete(coalescer.execute("DashboardService.getGlobalStats", arguments, call));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            results.add(result);
+        }
+        return results;
+    }
+
+    private void awaitCoalesced(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (callCount("coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(callCount("coalesced")).isEqualTo(expected);
+    }
+
+    private double callCount(String outcome) {
+        return meterRegistry.find("candiflow.coalescing.calls").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+}
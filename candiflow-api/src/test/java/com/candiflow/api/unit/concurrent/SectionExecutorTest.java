@@ -0,0 +1,180 @@
+package com.candiflow.api.unit.concurrent;
+
+import com.candiflow.api.concurrent.SectionExecutor;
+import com.candiflow.api.concurrent.SectionProperties;
+import com.candiflow.api.concurrent.SectionScope;
+import com.candiflow.api.datasource.RoutingContextHolder;
+import com.candiflow.api.exception.DeadlineExceededException;
+import com.candiflow.api.unit.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests unitaires pour le calcul en parallèle des sections d'une réponse
+ */
+class SectionExecutorTest extends BaseUnitTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SectionProperties properties;
+    private SectionExecutor sectionExecutor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SectionProperties();
+        sectionExecutor = new SectionExecutor(properties, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RoutingContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("Devrait calculer les sections simultanément, chacune dans une transaction en lecture seule")
+    void fork_ShouldRunSectionsConcurrentlyInReadOnlyTransactions() {
+        // Arrange : chaque section attend que toutes aient démarré, ce qui n'aboutit que si elles sont simultanées
+        CountDownLatch started = new CountDownLatch(3);
+
+        // Act
+        long total;
+        try (SectionScope scope = sectionExecutor.open()) {
+            SectionScope.Section<Long> first = scope.fork(() -> awaitAll(started, 1L));
+            SectionScope.Section<Long> second = scope.fork(() -> awaitAll(started, 2L));
+            SectionScope.Section<Long> third = scope.fork(() -> awaitAll(started, 3L));
+            scope.join();
+            total = first.get() + second.get() + third.get();
+        }
+
+        // Assert
+        assertThat(total).isEqualTo(6);
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues()).hasSize(3).allSatisfy(definition -> {
+            assertThat(definition.isReadOnly()).isTrue();
+            assertThat(definition.getTimeout()).isBetween(1, 10);
+        });
+    }
+
+    @Test
+    @DisplayName("Devrait propager le contexte de sécurité et le compartiment de charge aux sections")
+    void fork_ShouldPropagateCallerContext() {
+        // Arrange
+        Authentication authentication = new TestingAuthenticationToken("admin@example.com", null, "ADMIN");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        RoutingContextHolder.setWorkload("reporting");
+
+        // Act
+        try (SectionScope scope = sectionExecutor.open()) {
+            SectionScope.Section<Authentication> seenAuthentication = scope.fork(
+                    () -> SecurityContextHolder.getContext().getAuthentication());
+            SectionScope.Section<String> seenWorkload = scope.fork(RoutingContextHolder::getWorkload);
+            scope.join();
+
+            // Assert
+            assertThat(seenAuthentication.get()).isSameAs(authentication);
+            assertThat(seenWorkload.get()).isEqualTo("reporting");
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait propager le premier échec et annuler les autres sections")
+    void join_OnFailure_ShouldPropagateAndCancelOtherSections() {
+        // Arrange
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        // Act & Assert
+        try (SectionScope scope = sectionExecutor.open()) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(Duration.ofSeconds(30));
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                return null;
+            });
+            scope.fork(() -> {
+                throw new IllegalStateException("Section en échec");
+            });
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Section en échec");
+        }
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test
+    @DisplayName("Devrait échouer dès que le délai de la requête est dépassé")
+    void join_AfterDeadline_ShouldThrowDeadlineExceeded() {
+        // Act & Assert
+        long start = System.nanoTime();
+        try (SectionScope scope = sectionExecutor.open(Duration.ofMillis(100))) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(Duration.ofSeconds(30));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            });
+            assertThatThrownBy(scope::join).isInstanceOf(DeadlineExceededException.class);
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Devrait calculer les sections sur le thread appelant lorsque le parallélisme est désactivé")
+    void fork_WhenParallelDisabled_ShouldRunOnCallerThread() {
+        // Arrange
+        properties.setParallel(false);
+        Thread caller = Thread.currentThread();
+
+        // Act
+        try (SectionScope scope = sectionExecutor.open()) {
+            SectionScope.Section<Thread> thread = scope.fork(Thread::currentThread);
+            SectionScope.Section<Object> failing = scope.fork(() -> {
+                throw new IllegalArgumentException("Section en échec");
+            });
+
+            // Assert : l'échec n'est levé qu'à l'attente, comme en parallèle
+            assertThatThrownBy(scope::join).isInstanceOf(IllegalArgumentException.class);
+            assertThat(thread.get()).isSameAs(caller);
+            assertThatThrownBy(failing::get).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static long awaitAll(CountDownLatch started, long value) {
+        started.countDown();
+        try {
+            if (!started.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Sections non simultanées");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+}
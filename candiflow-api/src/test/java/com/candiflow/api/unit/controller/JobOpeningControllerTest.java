@@ -33,6 +33,7 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -168,7 +169,7 @@ class JobOpeningControllerTest extends BaseUnitTest {
     @Test
     void updateJobOpening_ShouldUpdateAndReturnJobOpening() throws Exception {
         // Arrange
-        when(jobOpeningService.updateJobOpening(eq(jobOpeningId), any(JobOpeningRequest.class))).thenReturn(jobOpeningResponse);
+        when(jobOpeningService.updateJobOpening(eq(jobOpeningId), any(JobOpeningRequest.class), isNull())).thenReturn(jobOpeningResponse);
 
         // Act & Assert
         mockMvc.perform(MockMvcRequestBuilders.put("/api/job-openings/{id}", jobOpeningId)
@@ -178,7 +179,7 @@ class JobOpeningControllerTest extends BaseUnitTest {
                 .andExpect(jsonPath("$.id").value(jobOpeningId.toString()))
                 .andExpect(jsonPath("$.title").value("Développeur Java Senior"));
 
-        verify(jobOpeningService).updateJobOpening(eq(jobOpeningId), any(JobOpeningRequest.class));
+        verify(jobOpeningService).updateJobOpening(eq(jobOpeningId), any(JobOpeningRequest.class), isNull());
     }
 
     @Test
@@ -18,6 +18,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
@@ -31,6 +32,7 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -177,7 +179,7 @@ class OpeningApplicantControllerTest extends BaseUnitTest {
     @Test
     void updateApplicant_ShouldUpdateAndReturnApplicant() throws Exception {
         // Arrange
-        when(openingApplicantService.updateApplicant(eq(jobOpeningId), eq(applicantId), any(OpeningApplicantRequest.class))).thenReturn(applicantResponse);
+        when(openingApplicantService.updateApplicant(eq(jobOpeningId), eq(applicantId), any(OpeningApplicantRequest.class), isNull())).thenReturn(applicantResponse);
 
         // Act & Assert
         mockMvc.perform(MockMvcRequestBuilders.put("/api/job-openings/{jobOpeningId}/applicants/{applicantId}", jobOpeningId, applicantId)
@@ -187,7 +189,30 @@ class OpeningApplicantControllerTest extends BaseUnitTest {
                 .andExpect(jsonPath("$.id").value(applicantId.toString()))
                 .andExpect(jsonPath("$.name").value("Jane Smith"));
 
-        verify(openingApplicantService).updateApplicant(eq(jobOpeningId), eq(applicantId), any(OpeningApplicantRequest.class));
+        verify(openingApplicantService).updateApplicant(eq(jobOpeningId), eq(applicantId), any(OpeningApplicantRequest.class), isNull());
+    }
+
+    @Test
+    void updateApplicant_WithIfMatch_ShouldPassVersionAndRejectETagList() throws Exception {
+        // Arrange
+        when(openingApplicantService.updateApplicant(eq(jobOpeningId), eq(applicantId), any(OpeningApplicantRequest.class), eq(3L)))
+                .thenReturn(applicantResponse);
+
+        // Act & Assert
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/job-openings/{jobOpeningId}/applicants/{applicantId}", jobOpeningId, applicantId)
+                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(applicantRequest)))
+                .andExpect(status().isOk());
+
+        // Un seul ETag est accepté
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/job-openings/{jobOpeningId}/applicants/{applicantId}", jobOpeningId, applicantId)
+                .header(HttpHeaders.IF_MATCH, "\"3\", \"4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(applicantRequest)))
+                .andExpect(status().isBadRequest());
+
+        verify(openingApplicantService).updateApplicant(eq(jobOpeningId), eq(applicantId), any(OpeningApplicantRequest.class), eq(3L));
     }
 
     @Test
@@ -196,7 +221,7 @@ class OpeningApplicantControllerTest extends BaseUnitTest {
         UUID newStageId = UUID.randomUUID();
         String note = "Candidat prêt pour l'entretien";
         when(userService.getUserByEmail("recruiter@example.com")).thenReturn(Optional.of(testRecruiter));
-        when(openingApplicantService.updateApplicantStage(eq(jobOpeningId), eq(applicantId), eq(newStageId), eq(testRecruiter), eq(note)))
+        when(openingApplicantService.updateApplicantStage(eq(jobOpeningId), eq(applicantId), eq(newStageId), eq(testRecruiter), eq(note), isNull()))
                 .thenReturn(applicantResponse);
 
         // Act & Assert
@@ -208,7 +233,7 @@ class OpeningApplicantControllerTest extends BaseUnitTest {
                 .andExpect(jsonPath("$.name").value("Jane Smith"));
 
         verify(userService).getUserByEmail("recruiter@example.com");
-        verify(openingApplicantService).updateApplicantStage(eq(jobOpeningId), eq(applicantId), eq(newStageId), eq(testRecruiter), eq(note));
+        verify(openingApplicantService).updateApplicantStage(eq(jobOpeningId), eq(applicantId), eq(newStageId), eq(testRecruiter), eq(note), isNull());
     }
 
     @Test
@@ -0,0 +1,214 @@
+package com.candiflow.api.unit.datasource;
+
+import com.candiflow.api.bulkhead.Bulkhead;
+import com.candiflow.api.bulkhead.BulkheadExecutor;
+import com.candiflow.api.bulkhead.BulkheadProperties;
+import com.candiflow.api.datasource.ReadWriteRoutingDataSource;
+import com.candiflow.api.datasource.ReplicaLagGuard;
+import com.candiflow.api.datasource.ReplicationProperties;
+import com.candiflow.api.datasource.RoutingDataSource;
+import com.candiflow.api.security.ClientKeyResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour le routage des lectures vers les réplicas, sur deux bases H2 en mémoire
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private AtomicLong clock;
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaLagGuard lagGuard;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+
+        ReplicationProperties properties = new ReplicationProperties();
+        properties.setPrimaryPinWindow(Duration.ofSeconds(5));
+        clock = new AtomicLong();
+        lagGuard = new ReplicaLagGuard(properties, new ClientKeyResolver(), clock::get);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("recruiter@example.com", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Devrait lire sur le réplica et écrire sur le primaire")
+    void shouldRouteReadsToReplicaAndWritesToPrimary() {
+        Routing routing = routing(Map.of("replica-0", replica));
+
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(routing.write()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Devrait répartir les lectures à tour de rôle entre les réplicas")
+    void shouldRoundRobinBetweenReplicas() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica);
+        replicas.put("replica-1", database("replica-bis"));
+        Routing routing = routing(replicas);
+
+        assertThat(List.of(routing.read(), routing.read(), routing.read()))
+                .containsExactly("replica", "replica-bis", "replica");
+    }
+
+    @Test
+    @DisplayName("Devrait épingler l'utilisateur au primaire après son écriture")
+    void shouldPinUserToPrimaryAfterWrite() {
+        Routing routing = routing(Map.of("replica-0", replica));
+
+        routing.write();
+        assertThat(routing.read()).isEqualTo("primary");
+
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Devrait épingler un client anonyme au primaire y compris pour ses lectures dans un compartiment")
+    void shouldPinAnonymousClientToPrimaryWithinBulkhead() throws Throwable {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        Routing routing = routing(Map.of("replica-0", replica));
+        BulkheadExecutor bulkhead = new BulkheadExecutor(Bulkhead.REPORTING, new BulkheadProperties.Pool(),
+                new SimpleMeterRegistry());
+
+        try {
+            routing.write();
+
+            assertThat(bulkhead.execute(routing::read)).isEqualTo("primary");
+        } finally {
+            bulkhead.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait servir les lectures du reporting par le pool de reporting du réplica")
+    void shouldRouteReportingReadsToReplicaReportingPool() throws Throwable {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Bulkhead.REPORTING, database("replica-reporting"));
+        RoutingDataSource replicaPools = new RoutingDataSource();
+        replicaPools.setTargetDataSources(targets);
+        replicaPools.setDefaultTargetDataSource(replica);
+        replicaPools.afterPropertiesSet();
+        Routing routing = routing(Map.of("replica-0", replicaPools));
+        BulkheadExecutor bulkhead = new BulkheadExecutor(Bulkhead.REPORTING, new BulkheadProperties.Pool(),
+                new SimpleMeterRegistry());
+
+        try {
+            assertThat(bulkhead.execute(routing::read)).isEqualTo("replica-reporting");
+            assertThat(routing.read()).isEqualTo("replica");
+        } finally {
+            bulkhead.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait basculer sur le primaire lorsque le réplica est indisponible")
+    void shouldFallBackToPrimaryWhenReplicaIsDown() {
+        Routing routing = routing(Map.of("replica-0", new UnavailableDataSource()));
+
+        assertThat(routing.read()).isEqualTo("primary");
+        assertThat(routing.dataSource.getHealthyReplicaCount()).isZero();
+
+        routing.dataSource.checkReplicaHealth();
+        assertThat(routing.dataSource.getHealthyReplicaCount()).isZero();
+    }
+
+    private Routing routing(Map<String, DataSource> replicas) {
+        return new Routing(new ReadWriteRoutingDataSource(primary, replicas, lagGuard));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(32))");
+        jdbcTemplate.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * Pile de routage telle que configurée dans l'application
+     */
+    private static final class Routing {
+
+        private final ReadWriteRoutingDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routing(ReadWriteRoutingDataSource dataSource) {
+            this.dataSource = dataSource;
+            LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(dataSource);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(proxy);
+            this.jdbcTemplate = new JdbcTemplate(proxy);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+        }
+
+        private String write() {
+            return readWrite.execute(status -> {
+                jdbcTemplate.update("UPDATE marker SET name = name");
+                return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+            });
+        }
+    }
+
+    private static final class UnavailableDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            throw new SQLException("Connexion refusée");
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLException("Connexion refusée");
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.candiflow.api.unit.live;
+
+import com.candiflow.api.dto.live.LiveDelta;
+import com.candiflow.api.live.LiveProperties;
+import com.candiflow.api.live.LiveUpdate;
+import com.candiflow.api.live.LiveUpdateBroker;
+import com.candiflow.api.model.enums.LiveUpdateType;
+import com.candiflow.api.unit.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour la diffusion du flux temps réel
+ */
+class LiveUpdateBrokerTest extends BaseUnitTest {
+
+    private final LiveProperties properties = new LiveProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LiveUpdateBroker broker;
+
+    private final UUID openingA = UUID.randomUUID();
+    private final UUID openingB = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        broker = new LiveUpdateBroker(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.closeAll();
+    }
+
+    @Test
+    @DisplayName("Devrait n'envoyer à un abonné que les mises à jour de ses offres, avec des identifiants croissants")
+    void publish_ShouldDeliverOnlyUpdatesOfSubscribedOpenings() throws InterruptedException {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        broker.subscribe(emitter, null, Set.of(openingA), null);
+
+        // Act
+        broker.publish(List.of(moved(openingA), moved(openingB), moved(openingA)));
+
+        // Assert
+        SentEvent first = emitter.next();
+        SentEvent second = emitter.next();
+        assertThat(first.name()).isEqualTo("APPLICANT_MOVED");
+        assertThat(first.delta().getJobOpeningId()).isEqualTo(openingA);
+        assertThat(sequenceOf(first.id())).isEqualTo(1L);
+        assertThat(sequenceOf(second.id())).isEqualTo(3L);
+        assertThat(emitter.poll(100)).isNull();
+    }
+
+    @Test
+    @DisplayName("Devrait renvoyer à la reconnexion les mises à jour publiées depuis le dernier événement reçu")
+    void subscribe_WithLastEventId_ShouldReplayMissedUpdates() throws InterruptedException {
+        // Arrange : un premier abonnement reçoit une mise à jour puis se déconnecte
+        RecordingEmitter first = new RecordingEmitter();
+        broker.subscribe(first, null, Set.of(openingA), null);
+        broker.publish(List.of(moved(openingA)));
+        String lastEventId = first.next().id();
+        first.complete();
+        broker.publish(List.of(moved(openingA), moved(openingB), counters(openingA)));
+
+        // Act
+        RecordingEmitter resumed = new RecordingEmitter();
+        broker.subscribe(resumed, null, Set.of(openingA), lastEventId);
+        broker.publish(List.of(moved(openingA)));
+
+        // Assert : mises à jour manquées puis nouvelles, sans doublon
+        assertThat(resumed.next().name()).isEqualTo("APPLICANT_MOVED");
+        assertThat(resumed.next().name()).isEqualTo("COUNTERS_CHANGED");
+        assertThat(sequenceOf(resumed.next().id())).isEqualTo(5L);
+        assertThat(resumed.poll(100)).isNull();
+    }
+
+    @Test
+    @DisplayName("Devrait envoyer RESET lorsque le dernier événement reçu n'est plus dans l'historique")
+    void subscribe_WithExpiredLastEventId_ShouldSendReset() throws InterruptedException {
+        // Arrange
+        properties.setReplaySize(2);
+        RecordingEmitter first = new RecordingEmitter();
+        broker.subscribe(first, null, Set.of(openingA), null);
+        broker.publish(List.of(moved(openingA)));
+        String lastEventId = first.next().id();
+        broker.publish(List.of(moved(openingA), moved(openingA), moved(openingA)));
+
+        // Act
+        RecordingEmitter expired = new RecordingEmitter();
+        broker.subscribe(expired, null, Set.of(openingA), lastEventId);
+        RecordingEmitter restarted = new RecordingEmitter();
+        broker.subscribe(restarted, null, Set.of(openingA), "instance-precedente-12");
+
+        // Assert : RESET porte la position courante, à partir de laquelle reprendre
+        SentEvent reset = expired.next();
+        assertThat(reset.name()).isEqualTo("RESET");
+        assertThat(sequenceOf(reset.id())).isEqualTo(4L);
+        assertThat(restarted.next().name()).isEqualTo("RESET");
+        assertThat(meterRegistry.counter("candiflow.live.resets").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Devrait déconnecter un abonné trop lent sans bloquer la publication ni les autres abonnés")
+    void publish_ToSlowSubscriber_ShouldDropIt() throws InterruptedException {
+        // Arrange : un abonné bloqué dans l'envoi de sa première mise à jour
+        properties.setBufferSize(2);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(sending, release);
+        RecordingEmitter fast = new RecordingEmitter();
+        broker.subscribe(slow, null, Set.of(openingA), null);
+        broker.subscribe(fast, null, Set.of(openingA), null);
+        broker.publish(List.of(moved(openingA)));
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.next()).isNotNull();
+
+        // Act : deux mises à jour remplissent sa file, la suivante la déborde
+        // (l'abonné rapide vide la sienne entre-temps, pour ne pas déborder à son tour)
+        broker.publish(List.of(moved(openingA), moved(openingA)));
+        assertThat(fast.next()).isNotNull();
+        assertThat(fast.next()).isNotNull();
+        broker.publish(List.of(moved(openingA)));
+
+        // Assert
+        assertThat(broker.subscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("candiflow.live.dropped_subscribers").count()).isEqualTo(1.0);
+        assertThat(fast.next()).isNotNull();
+        release.countDown();
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Devrait ajouter à l'abonnement d'un recruteur les offres qu'il crée ensuite")
+    void jobOpeningCreated_ShouldExtendRecruiterSubscription() throws InterruptedException {
+        // Arrange
+        UUID recruiterId = UUID.randomUUID();
+        RecordingEmitter emitter = new RecordingEmitter();
+        broker.subscribe(emitter, recruiterId, Set.of(), null);
+
+        // Act
+        broker.jobOpeningCreated(recruiterId, openingA);
+        broker.jobOpeningCreated(UUID.randomUUID(), openingB);
+        broker.publish(List.of(moved(openingB), moved(openingA)));
+
+        // Assert
+        assertThat(emitter.next().delta().getJobOpeningId()).isEqualTo(openingA);
+        assertThat(emitter.poll(100)).isNull();
+    }
+
+    private static LiveUpdate moved(UUID jobOpeningId) {
+        return LiveUpdate.of(LiveUpdateType.APPLICANT_MOVED, LiveDelta.builder()
+                .jobOpeningId(jobOpeningId)
+                .applicantId(UUID.randomUUID())
+                .stageId(UUID.randomUUID())
+                .build());
+    }
+
+    private static LiveUpdate counters(UUID jobOpeningId) {
+        return LiveUpdate.of(LiveUpdateType.COUNTERS_CHANGED, LiveDelta.builder().jobOpeningId(jobOpeningId).applicants(1L).build());
+    }
+
+    private static long sequenceOf(String eventId) {
+        return Long.parseLong(eventId.substring(eventId.lastIndexOf('-') + 1));
+    }
+
+    private record SentEvent(String id, String name, LiveDelta delta) {
+    }
+
+    /**
+     * Connexion SSE enregistrant les événements envoyés, éventuellement bloquée au premier envoi
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern ID = Pattern.compile("^id:(.*)$", Pattern.MULTILINE);
+        private static final Pattern NAME = Pattern.compile("^event:(.*)$", Pattern.MULTILINE);
+
+        private final BlockingQueue<SentEvent> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending;
+        private final CountDownLatch release;
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter() {
+            this(null, null);
+        }
+
+        RecordingEmitter(CountDownLatch sending, CountDownLatch release) {
+            this.sending = sending;
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (sending != null) {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            LiveDelta delta = null;
+            for (var data : builder.build()) {
+                if (data.getData() instanceof LiveDelta liveDelta) {
+                    delta = liveDelta;
+                } else {
+                    text.append(data.getData());
+                }
+            }
+            Matcher id = ID.matcher(text);
+            Matcher name = NAME.matcher(text);
+            if (name.find()) {
+                events.add(new SentEvent(id.find() ? id.group(1) : null, name.group(1), delta));
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        SentEvent next() throws InterruptedException {
+            SentEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("événement envoyé").isNotNull();
+            return event;
+        }
+
+        SentEvent poll(long millis) throws InterruptedException {
+            return events.poll(millis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
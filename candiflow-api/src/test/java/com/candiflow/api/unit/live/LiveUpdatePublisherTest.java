@@ -0,0 +1,236 @@
+package com.candiflow.api.unit.live;
+
+import com.candiflow.api.batch.BatchLoader;
+import com.candiflow.api.dto.recruiter.OpeningApplicantRequest;
+import com.candiflow.api.live.LiveProperties;
+import com.candiflow.api.live.LiveUpdate;
+import com.candiflow.api.live.LiveUpdateBroker;
+import com.candiflow.api.live.LiveUpdatePublisher;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.model.enums.LiveUpdateType;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.ApplicantSnapshot;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.observer.JobOpeningEvent;
+import com.candiflow.api.repository.ApplicantTagRepository;
+import com.candiflow.api.repository.CandidateSourceRepository;
+import com.candiflow.api.repository.DocumentRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.StatusUpdateRepository;
+import com.candiflow.api.repository.UserRepository;
+import com.candiflow.api.service.OpeningApplicantService;
+import com.candiflow.api.service.PipelineStageService;
+import com.candiflow.api.unit.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour la conversion des événements en mises à jour du flux temps réel
+ */
+class LiveUpdatePublisherTest extends BaseUnitTest {
+
+    @Mock private LiveUpdateBroker broker;
+    @Mock private EventManager eventManager;
+    @Mock private OpeningApplicantRepository openingApplicantRepository;
+    @Mock private JobOpeningRepository jobOpeningRepository;
+    @Mock private PipelineStageRepository pipelineStageRepository;
+    @Mock private RecruiterNoteRepository recruiterNoteRepository;
+    @Captor private ArgumentCaptor<List<LiveUpdate>> updatesCaptor;
+
+    private final LiveProperties properties = new LiveProperties();
+    private LiveUpdatePublisher publisher;
+
+    private final UUID openingId = UUID.randomUUID();
+    private final UUID applied = UUID.randomUUID();
+    private final UUID interview = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        publisher = new LiveUpdatePublisher(broker, eventManager, properties);
+    }
+
+    @Test
+    @DisplayName("Devrait publier le déplacement d'un candidat et la variation des effectifs des deux étapes")
+    void onEvent_StageChanged_ShouldPublishMoveAndStageCounters() {
+        // Act
+        publisher.onEvent(ApplicantEvent.stageChanged("test", applicant(stage(interview)), stage(applied)));
+
+        // Assert
+        verify(broker).publish(updatesCaptor.capture());
+        List<LiveUpdate> updates = updatesCaptor.getValue();
+        assertThat(updates).extracting(LiveUpdate::type)
+                .containsExactly(LiveUpdateType.APPLICANT_MOVED, LiveUpdateType.COUNTERS_CHANGED);
+        assertThat(updates.get(0).delta().getStageId()).isEqualTo(interview);
+        assertThat(updates.get(0).delta().getPreviousStageId()).isEqualTo(applied);
+        assertThat(updates.get(1).delta().getApplicants()).isNull();
+        assertThat(updates.get(1).delta().getStages()).isEqualTo(Map.of(applied, -1L, interview, 1L));
+    }
+
+    @Test
+    @DisplayName("Devrait résumer un import trop grand en une mise à jour APPLICANTS_CHANGED suivie des effectifs")
+    void onEvent_LargeImport_ShouldPublishSummary() {
+        // Arrange
+        properties.setMaxApplicantDeltas(2);
+
+        // Act
+        publisher.onEvent(ApplicantBatchEvent.imported("test", List.of(
+                snapshot(applied), snapshot(applied), snapshot(interview))));
+
+        // Assert
+        verify(broker).publish(updatesCaptor.capture());
+        List<LiveUpdate> updates = updatesCaptor.getValue();
+        assertThat(updates).extracting(LiveUpdate::type)
+                .containsExactly(LiveUpdateType.APPLICANTS_CHANGED, LiveUpdateType.COUNTERS_CHANGED);
+        assertThat(updates.get(0).delta().getCount()).isEqualTo(3);
+        assertThat(updates.get(1).delta().getApplicants()).isEqualTo(3L);
+        assertThat(updates.get(1).delta().getStages()).isEqualTo(Map.of(applied, 2L, interview, 1L));
+    }
+
+    @Test
+    @DisplayName("Ne devrait publier une suppression qu'à la validation de sa transaction")
+    void onEvent_DeletedInTransaction_ShouldPublishAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            publisher.onEvent(ApplicantEvent.deleted("test", applicant(stage(applied))));
+
+            // Assert
+            verify(broker, never()).publish(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(broker).publish(updatesCaptor.capture());
+            assertThat(updatesCaptor.getValue()).extracting(LiveUpdate::type)
+                    .containsExactly(LiveUpdateType.APPLICANT_DELETED, LiveUpdateType.COUNTERS_CHANGED);
+            assertThat(updatesCaptor.getValue().get(1).delta().getStages()).isEqualTo(Map.of(applied, -1L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait publier le déplacement d'un candidat changé d'étape par une mise à jour complète")
+    void updateApplicant_WithNewStage_ShouldPublishMoveAfterCommit() {
+        // Arrange : service et gestionnaire d'événements réels
+        EventManager events = new EventManager();
+        new LiveUpdatePublisher(broker, events, properties).init();
+        OpeningApplicantService service = new OpeningApplicantService(openingApplicantRepository, jobOpeningRepository,
+                pipelineStageRepository, mock(CandidateSourceRepository.class), recruiterNoteRepository,
+                mock(ApplicantTagRepository.class), mock(PipelineStageService.class), events,
+                new BatchLoader(openingApplicantRepository, recruiterNoteRepository, mock(StatusUpdateRepository.class),
+                        mock(DocumentRepository.class), mock(UserRepository.class)));
+        OpeningApplicant applicant = applicant(stage(applied));
+        JobOpening jobOpening = applicant.getJobOpening();
+        when(jobOpeningRepository.findById(openingId)).thenReturn(Optional.of(jobOpening));
+        when(openingApplicantRepository.findByIdAndJobOpening(applicant.getId(), jobOpening)).thenReturn(Optional.of(applicant));
+        when(pipelineStageRepository.findById(interview)).thenReturn(Optional.of(stage(interview)));
+        when(openingApplicantRepository.save(applicant)).thenReturn(applicant);
+        OpeningApplicantRequest request = new OpeningApplicantRequest();
+        request.setName("Candidat");
+        request.setPipelineStageId(interview);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            service.updateApplicant(openingId, applicant.getId(), request, null);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            verify(broker, times(2)).publish(updatesCaptor.capture());
+            assertThat(updatesCaptor.getAllValues()).flatExtracting(updates -> updates.stream().map(LiveUpdate::type).toList())
+                    .containsExactly(LiveUpdateType.APPLICANT_UPDATED, LiveUpdateType.APPLICANT_MOVED,
+                            LiveUpdateType.COUNTERS_CHANGED);
+            assertThat(updatesCaptor.getAllValues().get(1).get(1).delta().getStages())
+                    .isEqualTo(Map.of(applied, -1L, interview, 1L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait signaler une offre créée aux abonnements de son recruteur")
+    void onEvent_JobOpeningCreated_ShouldExtendRecruiterSubscriptions() {
+        // Arrange
+        User recruiter = new User();
+        recruiter.setId(UUID.randomUUID());
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(openingId);
+        jobOpening.setRecruiter(recruiter);
+
+        // Act
+        publisher.onEvent(JobOpeningEvent.created("test", jobOpening));
+
+        // Assert
+        verify(broker).jobOpeningCreated(recruiter.getId(), openingId);
+        verify(broker, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Ne devrait signaler la suppression définitive d'une offre qu'à la validation de sa transaction")
+    void onEvent_JobOpeningDeleted_ShouldPublishApplicantsChangedAfterCommit() {
+        // Arrange
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(openingId);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            publisher.onEvent(JobOpeningEvent.deleted("test", jobOpening));
+
+            // Assert
+            verify(broker, never()).publish(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(broker).publish(updatesCaptor.capture());
+            assertThat(updatesCaptor.getValue()).extracting(LiveUpdate::type)
+                    .containsExactly(LiveUpdateType.APPLICANTS_CHANGED);
+            assertThat(updatesCaptor.getValue().get(0).delta().getJobOpeningId()).isEqualTo(openingId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private PipelineStage stage(UUID id) {
+        PipelineStage stage = new PipelineStage();
+        stage.setId(id);
+        return stage;
+    }
+
+    private OpeningApplicant applicant(PipelineStage stage) {
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(openingId);
+        OpeningApplicant applicant = new OpeningApplicant();
+        applicant.setId(UUID.randomUUID());
+        applicant.setName("Candidat");
+        applicant.setJobOpening(jobOpening);
+        applicant.setCurrentStage(stage);
+        return applicant;
+    }
+
+    private ApplicantSnapshot snapshot(UUID stageId) {
+        return new ApplicantSnapshot(UUID.randomUUID(), "A", null, openingId, stageId, null, null, null, null, null);
+    }
+}
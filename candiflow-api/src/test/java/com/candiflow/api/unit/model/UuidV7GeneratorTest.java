@@ -0,0 +1,58 @@
+package com.candiflow.api.unit.model;
+
+import com.candiflow.api.model.id.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires pour le générateur d'UUID version 7
+ */
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Devrait générer un UUID de version 7 et de variante RFC")
+    void shouldGenerateVersion7Uuid() {
+        UUID uuid = UuidV7Generator.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Devrait encoder l'horodatage courant")
+    void shouldEncodeCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(UuidV7Generator.timestampOf(uuid)).isBetween(before, after + 1);
+    }
+
+    @Test
+    @DisplayName("Devrait générer des identifiants strictement croissants")
+    void shouldGenerateMonotonicIds() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7Generator.generate());
+        }
+
+        // L'ordre des chaînes correspond à l'ordre des octets utilisé par les index de la base
+        assertThat(ids.stream().map(UUID::toString).toList()).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).isSortedAccordingTo(Comparator.comparing(UUID::toString));
+    }
+
+    @Test
+    @DisplayName("Devrait refuser d'extraire l'horodatage d'un UUID version 4")
+    void shouldRejectTimestampOfRandomUuid() {
+        assertThatThrownBy(() -> UuidV7Generator.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -7,7 +7,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -111,4 +116,31 @@ class EventManagerTest {
         eventManager.fireEvent(event);
         verify(mockObserver1, never()).onEvent(event);
     }
+    
+    @Test
+    @DisplayName("Devrait exécuter immédiatement les actions différées par un observateur notifié après validation")
+    void fireEventAfterCommit_ObserverDeferringAction_ShouldRunActionOnCommit() {
+        // Arrange
+        Event event = mock(Event.class);
+        when(event.getType()).thenReturn(EventType.APPLICANT_CREATED);
+        when(mockObserver1.isInterestedIn(EventType.APPLICANT_CREATED)).thenReturn(true);
+        AtomicBoolean ran = new AtomicBoolean();
+        doAnswer(invocation -> {
+            AfterCommit.run(() -> ran.set(true));
+            return null;
+        }).when(mockObserver1).onEvent(event);
+        
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            eventManager.fireEventAfterCommit(event);
+            verify(mockObserver1, never()).onEvent(event);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            
+            // Assert : Spring ne déclencherait plus une synchronisation enregistrée pendant afterCommit
+            assertThat(ran).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package com.candiflow.api.unit.partition;
+
+import com.candiflow.api.partition.PartitionMaintenance;
+import com.candiflow.api.partition.PartitionProperties;
+import com.candiflow.api.unit.BaseUnitTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour la maintenance des tables partitionnées par mois
+ */
+class PartitionMaintenanceTest extends BaseUnitTest {
+
+    private static final String CREATE = "SELECT create_monthly_partitions(:parent, :column, :fromMonth, :toMonth)";
+    private static final String DROP = "SELECT drop_monthly_partitions_before(:parent, :beforeDate)";
+
+    @Mock private EntityManager entityManager;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private Query createQuery;
+    @Mock private Query dropQuery;
+
+    private final PartitionProperties properties = new PartitionProperties();
+    private final LocalDate today = LocalDate.of(2026, 10, 19);
+    private PartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        maintenance = new PartitionMaintenance(entityManager, properties, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Devrait créer les partitions du mois courant aux mois à venir et supprimer celles sorties de la conservation")
+    void maintain_ShouldCreateUpcomingPartitionsAndDropExpiredOnes() {
+        // Arrange
+        stubCreate(2);
+        when(entityManager.createNativeQuery(DROP)).thenReturn(dropQuery);
+        when(dropQuery.setParameter(anyString(), any())).thenReturn(dropQuery);
+        when(dropQuery.getSingleResult()).thenReturn(1);
+
+        // Act
+        maintenance.maintain("status_updates", table("event_date", 24), today);
+
+        // Assert
+        verify(createQuery).setParameter("parent", "status_updates");
+        verify(createQuery).setParameter("column", "event_date");
+        verify(createQuery).setParameter("fromMonth", LocalDate.of(2026, 10, 1));
+        verify(createQuery).setParameter("toMonth", LocalDate.of(2027, 1, 19));
+        verify(dropQuery).setParameter("parent", "status_updates");
+        verify(dropQuery).setParameter("beforeDate", LocalDate.of(2024, 10, 1));
+    }
+
+    @Test
+    @DisplayName("Ne devrait supprimer aucune partition lorsque l'historique est conservé sans limite")
+    void maintain_WithUnlimitedRetention_ShouldNotDropPartitions() {
+        // Arrange
+        stubCreate(0);
+
+        // Act
+        maintenance.maintain("recruiter_notes", table("created_at", 0), today);
+
+        // Assert
+        verify(createQuery).setParameter("column", "created_at");
+        verify(entityManager, never()).createNativeQuery(DROP);
+    }
+
+    @Test
+    @DisplayName("Ne devrait rien faire sur une base de données autre que PostgreSQL")
+    void maintainPartitions_OnNonPostgresDatabase_ShouldDoNothing() {
+        // Arrange
+        properties.getTables().put("status_updates", table("event_date", 0));
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        JdbcServices jdbcServices = mock(JdbcServices.class);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getJdbcServices()).thenReturn(jdbcServices);
+        when(jdbcServices.getDialect()).thenReturn(new H2Dialect());
+
+        // Act
+        maintenance.maintainPartitions();
+
+        // Assert
+        verify(entityManager, never()).createNativeQuery(anyString());
+    }
+
+    private void stubCreate(int created) {
+        when(entityManager.createNativeQuery(CREATE)).thenReturn(createQuery);
+        when(createQuery.setParameter(anyString(), any())).thenReturn(createQuery);
+        when(createQuery.getSingleResult()).thenReturn(created);
+    }
+
+    private static PartitionProperties.Table table(String column, int retainMonths) {
+        PartitionProperties.Table table = new PartitionProperties.Table();
+        table.setColumn(column);
+        table.setRetainMonths(retainMonths);
+        return table;
+    }
+}
@@ -0,0 +1,97 @@
+package com.candiflow.api.unit.ranking;
+
+import com.candiflow.api.ranking.RankKeys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires pour les clés de rang fractionnaires
+ */
+class RankKeysTest {
+
+    @Test
+    @DisplayName("Devrait générer une clé entre deux clés, en début et en fin de liste")
+    void shouldGenerateKeysBetweenBounds() {
+        String first = RankKeys.between(null, null);
+        String after = RankKeys.after(first);
+        String before = RankKeys.between(null, first);
+        String middle = RankKeys.between(first, after);
+
+        assertThat(first).isEqualTo("a0");
+        assertThat(before).isLessThan(first);
+        assertThat(after).isGreaterThan(first);
+        assertThat(middle).isGreaterThan(first).isLessThan(after);
+    }
+
+    @Test
+    @DisplayName("Les ajouts en fin de liste devraient produire des clés courtes et croissantes")
+    void appendsShouldGrowLogarithmically() {
+        String key = null;
+        for (int i = 0; i < 10_000; i++) {
+            String next = RankKeys.after(key);
+            if (key != null) {
+                assertThat(next).isGreaterThan(key);
+            }
+            key = next;
+        }
+
+        assertThat(key.length()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Des insertions aléatoires devraient préserver l'ordre de la liste")
+    void randomInsertionsShouldKeepOrder() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String before = position > 0 ? keys.get(position - 1) : null;
+            String after = position < keys.size() ? keys.get(position) : null;
+            keys.add(position, RankKeys.between(before, after));
+        }
+
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+        keys.forEach(RankKeys::validate);
+    }
+
+    @Test
+    @DisplayName("Les insertions répétées au même endroit devraient allonger les clés")
+    void repeatedInsertionsAtSamePlaceShouldLengthenKeys() {
+        String low = RankKeys.between(null, null);
+        String high = RankKeys.after(low);
+        for (int i = 0; i < 200; i++) {
+            high = RankKeys.between(low, high);
+        }
+
+        assertThat(high.length()).isGreaterThan(32);
+    }
+
+    @Test
+    @DisplayName("Devrait générer des clés régulièrement réparties et ordonnées")
+    void shouldGenerateSpreadKeys() {
+        List<String> keys = RankKeys.between(null, null, 1_000);
+        List<String> inner = RankKeys.between("a1", "a2", 100);
+
+        assertThat(keys).hasSize(1_000).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allSatisfy(key -> assertThat(key.length()).isLessThanOrEqualTo(3));
+        assertThat(inner).hasSize(100).isSorted().doesNotHaveDuplicates()
+                .allSatisfy(key -> assertThat(key).isGreaterThan("a1").isLessThan("a2"));
+    }
+
+    @Test
+    @DisplayName("Devrait refuser des clés invalides ou non ordonnées")
+    void shouldRejectInvalidKeys() {
+        assertThatThrownBy(() -> RankKeys.between("a5", "a1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKeys.between("a1", "a1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKeys.validate("a10")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKeys.validate("b1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKeys.validate("!")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
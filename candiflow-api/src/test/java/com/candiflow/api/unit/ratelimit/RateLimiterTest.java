@@ -0,0 +1,102 @@
+package com.candiflow.api.unit.ratelimit;
+
+import com.candiflow.api.ratelimit.RateLimitInterceptor;
+import com.candiflow.api.ratelimit.RateLimitProperties;
+import com.candiflow.api.ratelimit.RateLimiter;
+import com.candiflow.api.ratelimit.TokenBucket;
+import com.candiflow.api.security.ClientKeyResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour la limitation de débit
+ */
+class RateLimiterTest {
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Group export = new RateLimitProperties.Group();
+        export.setPaths(List.of("/api/export/**"));
+        export.setCapacity(2);
+        export.setRefillPeriod(Duration.ofSeconds(10));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getGroups().put("export", export);
+
+        clock = new AtomicLong(0);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(properties, meterRegistry, clock::get);
+    }
+
+    @Test
+    @DisplayName("Devrait rejeter les requêtes au-delà de la capacité puis se remplir avec le temps")
+    void tryConsume_ShouldRejectWhenEmptyAndRefillOverTime() {
+        assertThat(rateLimiter.tryConsume("export", "user:a").allowed()).isTrue();
+        assertThat(rateLimiter.tryConsume("export", "user:a").allowed()).isTrue();
+
+        TokenBucket.ConsumptionResult rejected = rateLimiter.tryConsume("export", "user:a");
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(5));
+
+        // Un autre client dispose de son propre seau
+        assertThat(rateLimiter.tryConsume("export", "user:b").allowed()).isTrue();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertThat(rateLimiter.tryConsume("export", "user:a").allowed()).isTrue();
+
+        assertThat(meterRegistry.get("candiflow.rate_limit.requests")
+                .tag("group", "export").tag("outcome", "allowed").counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("candiflow.rate_limit.requests")
+                .tag("group", "export").tag("outcome", "rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Devrait répondre 429 avec Retry-After lorsque la limite est atteinte")
+    void interceptor_ShouldReturn429WithRetryAfter() throws Exception {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(rateLimiter, new ClientKeyResolver());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/export/job-openings");
+        request.setRemoteAddr("10.0.0.1");
+
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), new Object())).isTrue();
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), new Object())).isTrue();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(request, response, new Object())).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("5");
+    }
+
+    @Test
+    @DisplayName("Ne devrait pas limiter les chemins hors des groupes configurés")
+    void findGroup_ShouldIgnoreUnconfiguredPaths() {
+        assertThat(rateLimiter.findGroup("/api/export/global-stats")).contains("export");
+        assertThat(rateLimiter.findGroup("/api/job-openings")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait purger les seaux redevenus pleins")
+    void evictIdleBuckets_ShouldRemoveFullBuckets() {
+        rateLimiter.tryConsume("export", "user:a");
+        assertThat(meterRegistry.get("candiflow.rate_limit.buckets").gauge().value()).isEqualTo(1);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        rateLimiter.evictIdleBuckets();
+
+        assertThat(meterRegistry.get("candiflow.rate_limit.buckets").gauge().value()).isZero();
+    }
+}
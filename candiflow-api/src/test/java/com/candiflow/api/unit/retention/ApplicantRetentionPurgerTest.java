@@ -0,0 +1,199 @@
+package com.candiflow.api.unit.retention;
+
+import com.candiflow.api.model.entity.PendingFileDeletion;
+import com.candiflow.api.model.entity.RetentionPurgeRun;
+import com.candiflow.api.model.enums.PurgePhase;
+import com.candiflow.api.model.enums.PurgeRunStatus;
+import com.candiflow.api.observer.ApplicantsRemovedEvent;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.repository.ApplicantTagRepository;
+import com.candiflow.api.repository.ArchivedApplicantTagRepository;
+import com.candiflow.api.repository.ArchivedOpeningApplicantRepository;
+import com.candiflow.api.repository.ArchivedRecruiterNoteRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.PendingFileDeletionRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.RetentionPurgeRunRepository;
+import com.candiflow.api.retention.ApplicantRetentionPurger;
+import com.candiflow.api.retention.RetentionProperties;
+import com.candiflow.api.unit.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour la purge de rétention des candidats
+ */
+class ApplicantRetentionPurgerTest extends BaseUnitTest {
+
+    @Mock private OpeningApplicantRepository openingApplicantRepository;
+    @Mock private RecruiterNoteRepository recruiterNoteRepository;
+    @Mock private ApplicantTagRepository applicantTagRepository;
+    @Mock private ArchivedOpeningApplicantRepository archivedOpeningApplicantRepository;
+    @Mock private ArchivedRecruiterNoteRepository archivedRecruiterNoteRepository;
+    @Mock private ArchivedApplicantTagRepository archivedApplicantTagRepository;
+    @Mock private PendingFileDeletionRepository pendingFileDeletionRepository;
+    @Mock private RetentionPurgeRunRepository runRepository;
+    @Mock private EventManager eventManager;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path uploadDir;
+
+    private RetentionProperties properties;
+    private ApplicantRetentionPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetentionProperties();
+        properties.setChunkSize(2);
+        properties.setPauseBetweenChunks(Duration.ZERO);
+        purger = new ApplicantRetentionPurger(openingApplicantRepository, recruiterNoteRepository, applicantTagRepository,
+                archivedOpeningApplicantRepository, archivedRecruiterNoteRepository, archivedApplicantTagRepository,
+                pendingFileDeletionRepository, runRepository, properties, eventManager, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Devrait purger les candidats vivants puis archivés et compter les lignes supprimées")
+    void purge_ShouldDeleteLiveThenArchivedApplicantsAndReportProgress() {
+        // Arrange
+        RetentionPurgeRun run = run(PurgePhase.LIVE);
+        when(runRepository.findFirstByStatusOrderByCreatedAtDesc(PurgeRunStatus.RUNNING)).thenReturn(Optional.empty());
+        when(runRepository.save(any(RetentionPurgeRun.class))).thenAnswer(invocation -> {
+            RetentionPurgeRun saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                saved.setId(run.getId());
+            }
+            return saved;
+        });
+        when(runRepository.findById(run.getId())).thenReturn(Optional.of(run));
+        when(pendingFileDeletionRepository.findOldest(any(Limit.class))).thenReturn(List.of());
+
+        List<UUID> live = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> archived = List.of(UUID.randomUUID());
+        when(openingApplicantRepository.lockIdsByUpdatedAtBefore(any(Instant.class), eq(Limit.of(2))))
+                .thenReturn(live)
+                .thenReturn(List.of());
+        List<UUID> liveOpenings = List.of(UUID.randomUUID());
+        when(openingApplicantRepository.findJobOpeningIdsByIds(live)).thenReturn(liveOpenings);
+        when(applicantTagRepository.deleteByApplicantIds(live)).thenReturn(3);
+        when(recruiterNoteRepository.deleteByApplicantIds(live)).thenReturn(4);
+        when(openingApplicantRepository.deleteAllByIds(live)).thenReturn(2);
+        when(archivedOpeningApplicantRepository.findIdsByUpdatedAtBefore(any(Instant.class), eq(Limit.of(2))))
+                .thenReturn(archived)
+                .thenReturn(List.of());
+        when(archivedRecruiterNoteRepository.deleteByApplicantIds(archived)).thenReturn(1);
+        when(archivedOpeningApplicantRepository.deleteAllByIds(archived)).thenReturn(1);
+
+        // Act
+        RetentionPurgeRun result = purger.purge();
+
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(PurgeRunStatus.COMPLETED);
+        assertThat(result.getPhase()).isEqualTo(PurgePhase.DONE);
+        assertThat(result.getChunks()).isEqualTo(2);
+        assertThat(result.getApplicantsDeleted()).isEqualTo(3);
+        assertThat(result.getNotesDeleted()).isEqualTo(5);
+        assertThat(result.getTagsDeleted()).isEqualTo(3);
+        verify(pendingFileDeletionRepository).addApplicantFiles(eq(live), any(Instant.class));
+        verify(pendingFileDeletionRepository).addArchivedApplicantFiles(eq(archived), any(Instant.class));
+
+        // Seuls les candidats des tables vivantes donnent lieu à un événement de retrait, avec leurs offres
+        ArgumentCaptor<ApplicantsRemovedEvent> event = ArgumentCaptor.forClass(ApplicantsRemovedEvent.class);
+        verify(eventManager).fireEventAfterCommit(event.capture());
+        assertThat(event.getValue().getApplicantIds()).isEqualTo(live);
+        assertThat(event.getValue().getJobOpeningIds()).isEqualTo(liveOpenings);
+    }
+
+    @Test
+    @DisplayName("Devrait reprendre une purge interrompue à son étape, avec sa date limite, après avoir effacé les fichiers en attente")
+    void purge_ShouldResumeInterruptedRunAndDeletePendingFiles() throws Exception {
+        // Arrange
+        RetentionPurgeRun run = run(PurgePhase.ARCHIVE);
+        Instant cutoff = run.getCutoff();
+        when(runRepository.findFirstByStatusOrderByCreatedAtDesc(PurgeRunStatus.RUNNING)).thenReturn(Optional.of(run));
+        when(runRepository.findById(run.getId())).thenReturn(Optional.of(run));
+        when(runRepository.save(any(RetentionPurgeRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Path cv = Files.createFile(uploadDir.resolve("cv.pdf"));
+        UUID applicantId = UUID.randomUUID();
+        PendingFileDeletion pending = new PendingFileDeletion(applicantId, cv.toString(),
+                uploadDir.resolve("absent.pdf").toString(), Instant.now());
+        when(pendingFileDeletionRepository.findOldest(any(Limit.class)))
+                .thenReturn(List.of(pending))
+                .thenReturn(List.of());
+        when(archivedOpeningApplicantRepository.findIdsByUpdatedAtBefore(eq(cutoff), any(Limit.class))).thenReturn(List.of());
+
+        // Act
+        RetentionPurgeRun result = purger.purge();
+
+        // Assert
+        assertThat(Files.exists(cv)).isFalse();
+        verify(pendingFileDeletionRepository).deleteAllByIds(List.of(applicantId));
+        assertThat(result.getFilesDeleted()).isEqualTo(1);
+        assertThat(result.getStatus()).isEqualTo(PurgeRunStatus.COMPLETED);
+        assertThat(result.getCutoff()).isEqualTo(cutoff);
+        verify(openingApplicantRepository, never()).lockIdsByUpdatedAtBefore(any(Instant.class), any(Limit.class));
+        verify(archivedOpeningApplicantRepository, never()).deleteAllByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Devrait laisser une purge en échec en cours, avec son erreur, pour la reprendre au passage suivant")
+    void purge_OnFailure_ShouldKeepRunRunningAndResumeIt() {
+        // Arrange
+        RetentionPurgeRun run = run(PurgePhase.LIVE);
+        Instant cutoff = run.getCutoff();
+        when(runRepository.findFirstByStatusOrderByCreatedAtDesc(PurgeRunStatus.RUNNING)).thenReturn(Optional.of(run));
+        when(runRepository.findById(run.getId())).thenReturn(Optional.of(run));
+        when(runRepository.save(any(RetentionPurgeRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(pendingFileDeletionRepository.findOldest(any(Limit.class))).thenReturn(List.of());
+        when(openingApplicantRepository.lockIdsByUpdatedAtBefore(eq(cutoff), any(Limit.class)))
+                .thenThrow(new IllegalStateException("connexion perdue"))
+                .thenReturn(List.of());
+        when(archivedOpeningApplicantRepository.findIdsByUpdatedAtBefore(eq(cutoff), any(Limit.class))).thenReturn(List.of());
+
+        // Act & Assert : l'erreur est enregistrée sans clore la purge
+        assertThatThrownBy(() -> purger.purge()).hasMessage("connexion perdue");
+        assertThat(run.getStatus()).isEqualTo(PurgeRunStatus.RUNNING);
+        assertThat(run.getLastError()).isEqualTo("connexion perdue");
+        assertThat(run.getFinishedAt()).isNull();
+
+        // Le passage suivant reprend la même purge, avec sa date limite
+        RetentionPurgeRun result = purger.purge();
+
+        assertThat(result.getId()).isEqualTo(run.getId());
+        assertThat(result.getCutoff()).isEqualTo(cutoff);
+        assertThat(result.getStatus()).isEqualTo(PurgeRunStatus.COMPLETED);
+        assertThat(result.getLastError()).isNull();
+    }
+
+    private RetentionPurgeRun run(PurgePhase phase) {
+        RetentionPurgeRun run = new RetentionPurgeRun();
+        run.setId(UUID.randomUUID());
+        run.setCutoff(Instant.parse("2024-01-01T00:00:00Z"));
+        run.setPhase(phase);
+        return run;
+    }
+}
@@ -0,0 +1,103 @@
+package com.candiflow.api.unit.service;
+
+import com.candiflow.api.dto.dashboard.ApplicantRollupQuery;
+import com.candiflow.api.dto.dashboard.ApplicantRollupResponse;
+import com.candiflow.api.model.entity.CandidateSource;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.enums.RollupDimension;
+import com.candiflow.api.repository.ApplicantRollupRepository;
+import com.candiflow.api.repository.CandidateSourceRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.UserRepository;
+import com.candiflow.api.repository.projection.ApplicantRollupProjection;
+import com.candiflow.api.service.AnalyticsService;
+import com.candiflow.api.unit.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour le service d'analyse du cube des candidats
+ */
+class AnalyticsServiceTest extends BaseUnitTest {
+
+    @Mock private ApplicantRollupRepository applicantRollupRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private JobOpeningRepository jobOpeningRepository;
+    @Mock private CandidateSourceRepository candidateSourceRepository;
+    @Mock private PipelineStageRepository pipelineStageRepository;
+
+    @InjectMocks
+    private AnalyticsService analyticsService;
+
+    @Test
+    @DisplayName("Devrait nommer les dimensions regroupées et étiqueter les semaines ISO")
+    void getApplicantRollup_ShouldResolveNamesOfGroupedDimensions() {
+        // Arrange
+        UUID linkedInId = UUID.randomUUID();
+        UUID appliedId = UUID.randomUUID();
+        CandidateSource linkedIn = new CandidateSource();
+        linkedIn.setId(linkedInId);
+        linkedIn.setName("LinkedIn");
+        PipelineStage applied = new PipelineStage();
+        applied.setId(appliedId);
+        applied.setName("APPLIED");
+        Set<RollupDimension> groupBy = EnumSet.of(RollupDimension.WEEK, RollupDimension.SOURCE, RollupDimension.STAGE);
+        when(applicantRollupRepository.aggregate(any(), eq(groupBy))).thenReturn(List.of(
+                new ApplicantRollupProjection(null, null, linkedInId, appliedId, LocalDate.of(2025, 3, 3), 5),
+                new ApplicantRollupProjection(null, null, null, appliedId, LocalDate.of(2024, 12, 30), 2)));
+        when(candidateSourceRepository.findAllById(Set.of(linkedInId))).thenReturn(List.of(linkedIn));
+        when(pipelineStageRepository.findAllById(Set.of(appliedId))).thenReturn(List.of(applied));
+
+        // Act : l'ordre des dimensions demandées n'importe pas
+        ApplicantRollupResponse response = analyticsService.getApplicantRollup(ApplicantRollupQuery.builder()
+                .groupBy(Set.of(RollupDimension.STAGE, RollupDimension.WEEK, RollupDimension.SOURCE))
+                .build());
+
+        // Assert
+        assertThat(response.getGroupBy()).containsExactly(RollupDimension.SOURCE, RollupDimension.STAGE, RollupDimension.WEEK);
+        assertThat(response.getTotalApplicants()).isEqualTo(7);
+        assertThat(response.getRows()).extracting(ApplicantRollupResponse.Row::getSourceName).containsExactly("LinkedIn", null);
+        assertThat(response.getRows()).extracting(ApplicantRollupResponse.Row::getStageName).containsOnly("APPLIED");
+        // Le 30 décembre 2024 ouvre la première semaine ISO de 2025
+        assertThat(response.getRows()).extracting(ApplicantRollupResponse.Row::getWeek).containsExactly("2025-W10", "2025-W01");
+        verify(userRepository, never()).findAllById(anyIterable());
+        verify(jobOpeningRepository, never()).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("Devrait renvoyer le total seul lorsqu'aucune dimension n'est demandée")
+    void getApplicantRollup_WithoutGroupBy_ShouldReturnTotal() {
+        // Arrange
+        UUID recruiterId = UUID.randomUUID();
+        when(applicantRollupRepository.aggregate(any(), eq(EnumSet.noneOf(RollupDimension.class))))
+                .thenReturn(List.of(new ApplicantRollupProjection(null, null, null, null, null, 12)));
+
+        // Act
+        ApplicantRollupResponse response = analyticsService.getApplicantRollup(ApplicantRollupQuery.builder()
+                .recruiterId(recruiterId)
+                .from(LocalDate.of(2025, 3, 5))
+                .build());
+
+        // Assert
+        assertThat(response.getGroupBy()).isEmpty();
+        assertThat(response.getTotalApplicants()).isEqualTo(12);
+        assertThat(response.getRows()).singleElement().satisfies(row -> assertThat(row.getWeek()).isNull());
+    }
+}
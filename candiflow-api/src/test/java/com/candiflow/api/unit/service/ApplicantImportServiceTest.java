@@ -0,0 +1,190 @@
+package com.candiflow.api.unit.service;
+
+import com.candiflow.api.dto.recruiter.ApplicantImportResponse;
+import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.model.entity.CandidateSource;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.observer.EventType;
+import com.candiflow.api.repository.CandidateSourceRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.service.ApplicantImportService;
+import com.candiflow.api.service.PipelineStageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicantImportServiceTest {
+
+    @Mock
+    private OpeningApplicantRepository openingApplicantRepository;
+
+    @Mock
+    private JobOpeningRepository jobOpeningRepository;
+
+    @Mock
+    private PipelineStageRepository pipelineStageRepository;
+
+    @Mock
+    private CandidateSourceRepository candidateSourceRepository;
+
+    @Mock
+    private RecruiterNoteRepository recruiterNoteRepository;
+
+    @Mock
+    private PipelineStageService pipelineStageService;
+
+    @Mock
+    private EventManager eventManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ApplicantImportService applicantImportService;
+    private UUID jobOpeningId;
+    private JobOpening jobOpening;
+    private PipelineStage defaultStage;
+    private PipelineStage interviewStage;
+    private User recruiter;
+
+    @BeforeEach
+    void setUp() {
+        applicantImportService = new ApplicantImportService(openingApplicantRepository, jobOpeningRepository,
+                pipelineStageRepository, candidateSourceRepository, recruiterNoteRepository, pipelineStageService,
+                eventManager, new ObjectMapper().registerModule(new JavaTimeModule()),
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager);
+        ReflectionTestUtils.setField(applicantImportService, "batchSize", 2);
+
+        jobOpeningId = UUID.randomUUID();
+        jobOpening = new JobOpening();
+        jobOpening.setId(jobOpeningId);
+        jobOpening.setTitle("Développeur Java");
+
+        defaultStage = new PipelineStage();
+        defaultStage.setId(UUID.randomUUID());
+        defaultStage.setName("Nouveau");
+        interviewStage = new PipelineStage();
+        interviewStage.setId(UUID.randomUUID());
+        interviewStage.setName("Entretien");
+
+        recruiter = new User();
+        recruiter.setId(UUID.randomUUID());
+        recruiter.setEmail("recruiter@example.com");
+    }
+
+    private void givenReferences(Set<String> existingEmails) {
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(pipelineStageRepository.findAll()).thenReturn(List.of(defaultStage, interviewStage));
+        when(candidateSourceRepository.findAll()).thenReturn(List.of());
+        when(pipelineStageService.getDefaultStage()).thenReturn(defaultStage);
+        when(candidateSourceRepository.findDefaultSource()).thenReturn(Optional.of(new CandidateSource()));
+        when(openingApplicantRepository.findEmailsByJobOpening(jobOpening)).thenReturn(new HashSet<>(existingEmails));
+        when(openingApplicantRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<OpeningApplicant> applicants = invocation.getArgument(0);
+            applicants.forEach(applicant -> applicant.setId(UUID.randomUUID()));
+            return applicants;
+        });
+    }
+
+    private InputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Devrait importer un CSV par lots en signalant doublons et lignes invalides")
+    void importApplicants_Csv_ShouldInsertInBatchesAndReportEachRow() throws Exception {
+        givenReferences(Set.of("bob@example.com"));
+        String csv = "name,email,pipelineStageId,initialNotes\n"
+                + "Alice,alice@example.com,,Profil senior\n"
+                + "Bob,bob@example.com,,\n"
+                + ",nobody@example.com,,\n"
+                + "Carol,carol@example.com," + interviewStage.getId() + ",\n"
+                + "Alice bis,alice@example.com,,\n"
+                + "Dave,dave@example.com,,\n";
+
+        ApplicantImportResponse response = applicantImportService.importApplicants(
+                jobOpeningId, content(csv), ApplicantImportService.Format.CSV, recruiter);
+
+        assertEquals(6, response.getTotalRows());
+        assertEquals(3, response.getImportedCount());
+        assertEquals(2, response.getDuplicateCount());
+        assertEquals(1, response.getInvalidCount());
+        assertEquals(List.of(ApplicantImportResponse.RowStatus.IMPORTED, ApplicantImportResponse.RowStatus.DUPLICATE,
+                        ApplicantImportResponse.RowStatus.INVALID, ApplicantImportResponse.RowStatus.IMPORTED,
+                        ApplicantImportResponse.RowStatus.DUPLICATE, ApplicantImportResponse.RowStatus.IMPORTED),
+                response.getRows().stream().map(ApplicantImportResponse.RowResult::getStatus).toList());
+        assertNotNull(response.getRows().get(0).getApplicantId());
+
+        // Deux lots : (Alice, Carol) puis (Dave), une seule requête par type de référence
+        verify(openingApplicantRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(jobOpeningRepository, times(1)).findById(jobOpeningId);
+        verify(openingApplicantRepository, never()).existsByJobOpeningAndEmail(any(), any());
+
+        ArgumentCaptor<ApplicantBatchEvent> events = ArgumentCaptor.forClass(ApplicantBatchEvent.class);
+        verify(eventManager, times(2)).fireEventAfterCommit(events.capture());
+        assertEquals(EventType.APPLICANTS_IMPORTED, events.getValue().getType());
+        assertEquals(2, events.getAllValues().get(0).getApplicants().size());
+        assertEquals(interviewStage.getId(), events.getAllValues().get(0).getApplicants().get(1).stageId());
+    }
+
+    @Test
+    @DisplayName("Devrait importer un tableau JSON et poursuivre après une valeur invalide")
+    void importApplicants_Json_ShouldContinueAfterInvalidValue() throws Exception {
+        givenReferences(Set.of());
+        String json = "[{\"name\":\"Alice\",\"email\":\"alice@example.com\",\"applicationDate\":\"2025-01-15\"},"
+                + "{\"name\":\"Bob\",\"applicationDate\":\"pas une date\"},"
+                + "{\"name\":\"Carol\"}]";
+
+        ApplicantImportResponse response = applicantImportService.importApplicants(
+                jobOpeningId, content(json), ApplicantImportService.Format.JSON, recruiter);
+
+        assertEquals(3, response.getTotalRows());
+        assertEquals(2, response.getImportedCount());
+        assertEquals(1, response.getInvalidCount());
+        assertEquals(2, response.getRows().get(1).getRowNumber());
+        assertTrue(response.getRows().get(1).getMessage().contains("applicationDate"));
+    }
+
+    @Test
+    @DisplayName("Devrait lever une exception si l'offre d'emploi n'existe pas")
+    void importApplicants_JobOpeningNotFound_ShouldThrowException() {
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> applicantImportService.importApplicants(
+                jobOpeningId, content("name\nAlice\n"), ApplicantImportService.Format.CSV, recruiter));
+        verify(openingApplicantRepository, never()).saveAll(anyList());
+    }
+}
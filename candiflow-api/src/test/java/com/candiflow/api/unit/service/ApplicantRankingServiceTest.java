@@ -0,0 +1,145 @@
+package com.candiflow.api.unit.service;
+
+import com.candiflow.api.dto.recruiter.ApplicantRankRequest;
+import com.candiflow.api.dto.recruiter.ApplicantRankResponse;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.OpeningApplicant;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.ranking.RankRebalancer;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.projection.RankedApplicantProjection;
+import com.candiflow.api.service.ApplicantRankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicantRankingServiceTest {
+
+    @Mock
+    private OpeningApplicantRepository openingApplicantRepository;
+
+    @Mock
+    private JobOpeningRepository jobOpeningRepository;
+
+    @Mock
+    private RankRebalancer rankRebalancer;
+
+    @InjectMocks
+    private ApplicantRankingService applicantRankingService;
+
+    private UUID jobOpeningId;
+    private UUID stageId;
+    private UUID applicantId;
+    private UUID previousId;
+    private UUID nextId;
+    private JobOpening jobOpening;
+    private OpeningApplicant applicant;
+
+    @BeforeEach
+    void setUp() {
+        jobOpeningId = UUID.randomUUID();
+        stageId = UUID.randomUUID();
+        applicantId = UUID.randomUUID();
+        previousId = UUID.randomUUID();
+        nextId = UUID.randomUUID();
+
+        jobOpening = new JobOpening();
+        jobOpening.setId(jobOpeningId);
+
+        PipelineStage stage = new PipelineStage();
+        stage.setId(stageId);
+
+        applicant = new OpeningApplicant();
+        applicant.setId(applicantId);
+        applicant.setJobOpening(jobOpening);
+        applicant.setCurrentStage(stage);
+        applicant.setRankKey("a9");
+
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)).thenReturn(Optional.of(applicant));
+    }
+
+    @Test
+    @DisplayName("Un déplacement ne met à jour que la clé du candidat déplacé")
+    void moveApplicant_ShouldUpdateOnlyMovedApplicant() {
+        // Arrange
+        when(openingApplicantRepository.lockRanks(eq(jobOpeningId), any())).thenReturn(List.of(
+                new RankedApplicantProjection(previousId, stageId, "a1"),
+                new RankedApplicantProjection(nextId, stageId, "a2")));
+
+        // Act
+        ApplicantRankResponse response = applicantRankingService.moveApplicant(
+                jobOpeningId, applicantId, new ApplicantRankRequest(previousId, nextId));
+
+        // Assert
+        assertTrue(response.getRankKey().compareTo("a1") > 0 && response.getRankKey().compareTo("a2") < 0);
+        assertFalse(response.isColumnRebalanced());
+        verify(openingApplicantRepository).updateRankKey(applicantId, response.getRankKey());
+        verify(openingApplicantRepository, times(1)).updateRankKey(any(), anyString());
+        verify(rankRebalancer, never()).rebalance(any(), any());
+    }
+
+    @Test
+    @DisplayName("Des voisins de même clé entraînent la renumérotation de la colonne")
+    void moveApplicant_WithTiedNeighbours_ShouldRebalanceColumn() {
+        // Arrange
+        when(openingApplicantRepository.lockRanks(eq(jobOpeningId), any())).thenReturn(List.of(
+                new RankedApplicantProjection(previousId, stageId, "a3"),
+                new RankedApplicantProjection(nextId, stageId, "a3")));
+        when(rankRebalancer.rebalance(jobOpeningId, stageId)).thenReturn(Map.of(previousId, "a0", nextId, "a1", applicantId, "a2"));
+
+        // Act
+        ApplicantRankResponse response = applicantRankingService.moveApplicant(
+                jobOpeningId, applicantId, new ApplicantRankRequest(previousId, nextId));
+
+        // Assert
+        assertTrue(response.isColumnRebalanced());
+        assertTrue(response.getRankKey().compareTo("a0") > 0 && response.getRankKey().compareTo("a1") < 0);
+        verify(openingApplicantRepository).updateRankKey(applicantId, response.getRankKey());
+    }
+
+    @Test
+    @DisplayName("Une clé trop longue planifie la renumérotation de la colonne")
+    void moveApplicant_WithLongKey_ShouldScheduleRebalance() {
+        // Arrange
+        when(openingApplicantRepository.lockRanks(eq(jobOpeningId), any())).thenReturn(List.of(
+                new RankedApplicantProjection(previousId, stageId, "a1")));
+        when(rankRebalancer.needsRebalance(anyString())).thenReturn(true);
+
+        // Act
+        applicantRankingService.moveApplicant(jobOpeningId, applicantId, new ApplicantRankRequest(previousId, null));
+
+        // Assert
+        verify(rankRebalancer).schedule(jobOpeningId, stageId);
+    }
+
+    @Test
+    @DisplayName("Un voisin d'une autre étape est refusé")
+    void moveApplicant_WithNeighbourInOtherStage_ShouldThrowException() {
+        // Arrange
+        when(openingApplicantRepository.lockRanks(eq(jobOpeningId), any())).thenReturn(List.of(
+                new RankedApplicantProjection(previousId, UUID.randomUUID(), "a1")));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                applicantRankingService.moveApplicant(jobOpeningId, applicantId, new ApplicantRankRequest(previousId, null)));
+        verify(openingApplicantRepository, never()).updateRankKey(any(), any());
+    }
+}
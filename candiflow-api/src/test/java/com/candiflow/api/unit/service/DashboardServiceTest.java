@@ -1,29 +1,51 @@
 package com.candiflow.api.unit.service;
 
+import com.candiflow.api.analytics.AnalyticsProperties;
+import com.candiflow.api.analytics.ApplicantColumnStore;
+import com.candiflow.api.concurrent.SectionExecutor;
+import com.candiflow.api.concurrent.SectionProperties;
 import com.candiflow.api.dto.dashboard.*;
 import com.candiflow.api.model.entity.JobOpening;
 import com.candiflow.api.model.entity.OpeningApplicant;
 import com.candiflow.api.model.entity.PipelineStage;
 import com.candiflow.api.model.entity.User;
+import com.candiflow.api.model.enums.CounterMetric;
 import com.candiflow.api.model.enums.JobStatus;
+import com.candiflow.api.model.enums.TrendGranularity;
 import com.candiflow.api.model.enums.UserRole;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.repository.CandidateSourceRepository;
 import com.candiflow.api.repository.JobOpeningRepository;
 import com.candiflow.api.repository.OpeningApplicantRepository;
 import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.projection.ApplicantFactProjection;
+import com.candiflow.api.repository.projection.IdCountProjection;
+import com.candiflow.api.repository.projection.JobStatusCountProjection;
 import com.candiflow.api.service.DashboardService;
+import com.candiflow.api.service.DurationSketchService;
+import com.candiflow.api.service.TrendService;
 import com.candiflow.api.unit.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 // Import supprimé car non utilisé
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -40,6 +62,22 @@ class DashboardServiceTest extends BaseUnitTest {
     @Mock
     private PipelineStageRepository pipelineStageRepository;
 
+    @Mock
+    private CandidateSourceRepository candidateSourceRepository;
+
+    @Mock
+    private ApplicantColumnStore applicantColumnStore;
+
+    @Mock
+    private TrendService trendService;
+
+    @Mock
+    private DurationSketchService durationSketchService;
+
+    @Spy
+    private SectionExecutor sectionExecutor = new SectionExecutor(new SectionProperties(),
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
     @InjectMocks
     private DashboardService dashboardService;
 
@@ -180,7 +218,8 @@ class DashboardServiceTest extends BaseUnitTest {
                         new StageCount("APPLIED", 1L),
                         new StageCount("HIRED", 1L)
                 ), // applicantsByStage
-                Collections.emptyList() // monthlyTrend
+                Collections.emptyList(), // monthlyTrend
+                null // durations
         );
 
         // Assert
@@ -214,4 +253,131 @@ class DashboardServiceTest extends BaseUnitTest {
         assertThat(result).isNotNull();
         assertThat(result.getAvgHiringTimeInDays()).isEqualTo(0); // Devrait être 0 si aucun candidat n'a été embauché
     }
+
+    @Test
+    @DisplayName("Devrait calculer le tableau de bord depuis le magasin en colonnes sans relire les candidats")
+    void getRecruiterDashboard_WithLoadedColumnStore_ShouldNotQueryApplicants() {
+        // Arrange
+        applicant2.setApplicationDate(LocalDate.now().minusDays(10));
+        OpeningApplicantRepository scanRepository = mock(OpeningApplicantRepository.class);
+        when(scanRepository.streamAllFacts()).thenReturn(Stream.of(
+                fact(applicant1, LocalDate.now()),
+                fact(applicant2, LocalDate.now())));
+        ApplicantColumnStore loadedStore = new ApplicantColumnStore(scanRepository, jobOpeningRepository,
+                mock(EventManager.class), new AnalyticsProperties(), new SimpleMeterRegistry(),
+                mock(PlatformTransactionManager.class));
+        loadedStore.rebuild();
+        DashboardService service = new DashboardService(jobOpeningRepository, openingApplicantRepository,
+                pipelineStageRepository, candidateSourceRepository, loadedStore, mock(TrendService.class),
+                mock(DurationSketchService.class), sectionExecutor);
+
+        when(jobOpeningRepository.findByRecruiterOrderByCreatedAtDesc(recruiter)).thenReturn(Arrays.asList(jobOpening1, jobOpening2));
+        when(pipelineStageRepository.findAll()).thenReturn(Arrays.asList(stage1, stage2, stage3));
+
+        // Act
+        RecruiterDashboardResponse result = service.getRecruiterDashboard(recruiter);
+
+        // Assert
+        assertThat(result.getTotalJobOpenings()).isEqualTo(2);
+        assertThat(result.getActiveJobOpenings()).isEqualTo(1);
+        assertThat(result.getTotalApplicants()).isEqualTo(2);
+        assertThat(result.getAvgHiringTimeInDays()).isEqualTo(10);
+        assertThat(result.getConversionRates()).extracting(StageConversionRate::getConversionRate)
+                .containsExactly(0.0, 0.0);
+        verify(openingApplicantRepository, never()).findByJobOpening(jobOpening1);
+    }
+
+    @Test
+    @DisplayName("Devrait lire les nouveaux candidats dans les compteurs journaliers lorsqu'ils sont activés")
+    void getRecruiterDashboard_WithCounters_ShouldReadNewApplicantsFromCounters() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        when(jobOpeningRepository.findByRecruiterOrderByCreatedAtDesc(recruiter)).thenReturn(Arrays.asList(jobOpening1, jobOpening2));
+        when(pipelineStageRepository.findAll()).thenReturn(Arrays.asList(stage1, stage2, stage3));
+        when(trendService.isEnabled()).thenReturn(true);
+        when(trendService.total(CounterMetric.APPLICATIONS_RECEIVED, recruiter.getId(),
+                today.withDayOfMonth(1).plusDays(1), today)).thenReturn(42L);
+        when(trendService.total(CounterMetric.APPLICATIONS_RECEIVED, recruiter.getId(),
+                today.minusDays(today.getDayOfWeek().getValue() - 1L).plusDays(1), today)).thenReturn(7L);
+
+        // Act
+        RecruiterDashboardResponse result = dashboardService.getRecruiterDashboard(recruiter);
+
+        // Assert
+        assertThat(result.getNewApplicantsThisMonth()).isEqualTo(42);
+        assertThat(result.getNewApplicantsThisWeek()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Devrait lire la tendance mensuelle des offres dans les compteurs journaliers lorsqu'ils sont activés")
+    void getGlobalStats_WithCounters_ShouldReadMonthlyTrendFromCounters() {
+        // Arrange
+        LocalDate firstDay = LocalDate.now().minusMonths(1);
+        List<DateCount> trend = List.of(new DateCount(firstDay.withDayOfMonth(1), 3), new DateCount(LocalDate.now().withDayOfMonth(1), 0));
+        when(trendService.isEnabled()).thenReturn(true);
+        when(trendService.firstDay(CounterMetric.JOB_OPENINGS_CREATED)).thenReturn(Optional.of(firstDay));
+        when(trendService.series(CounterMetric.JOB_OPENINGS_CREATED, null, firstDay, LocalDate.now(), TrendGranularity.MONTH))
+                .thenReturn(trend);
+
+        // Act
+        GlobalStatsResponse result = dashboardService.getGlobalStats();
+
+        // Assert
+        assertThat(result.getMonthlyJobOpeningTrend()).isEqualTo(trend);
+        verify(jobOpeningRepository, never()).streamAllCreatedAt();
+    }
+
+    @Test
+    @DisplayName("Devrait exposer les centiles des durées fusionnés sur toutes les offres")
+    void getGlobalStats_WithSketches_ShouldExposeDurationPercentiles() {
+        // Arrange
+        DurationStats durations = new DurationStats(new DurationPercentiles(40, 12.0, 30.5, 61.0),
+                List.of(new StageDuration("APPLIED", new DurationPercentiles(120, 2.0, 6.0, 14.0))));
+        when(durationSketchService.isEnabled()).thenReturn(true);
+        when(durationSketchService.global()).thenReturn(durations);
+
+        // Act
+        GlobalStatsResponse result = dashboardService.getGlobalStats();
+
+        // Assert
+        assertThat(result.getDurations()).isEqualTo(durations);
+    }
+
+    @Test
+    @DisplayName("Devrait calculer les statistiques globales par requêtes groupées, sans charger d'entités")
+    void getGlobalStats_ShouldUseGroupedQueries() {
+        // Arrange
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        Instant lastMonth = thisMonth.minusMonths(1).atStartOfDay(ZoneId.systemDefault()).toInstant().plusSeconds(3600);
+        when(jobOpeningRepository.countGroupByStatus()).thenReturn(List.of(
+                new JobStatusCountProjection(JobStatus.OPEN, 3),
+                new JobStatusCountProjection(JobStatus.CLOSED, 2)));
+        when(openingApplicantRepository.countGroupByStage()).thenReturn(List.of(
+                new IdCountProjection(stage1.getId(), 40),
+                new IdCountProjection(stage3.getId(), 2)));
+        when(pipelineStageRepository.findAll()).thenReturn(Arrays.asList(stage1, stage2, stage3));
+        when(jobOpeningRepository.streamAllCreatedAt()).thenReturn(Stream.of(
+                lastMonth, Instant.now(), lastMonth.plusSeconds(60), lastMonth, Instant.now()));
+
+        // Act
+        GlobalStatsResponse result = dashboardService.getGlobalStats();
+
+        // Assert
+        assertThat(result.getTotalJobOpenings()).isEqualTo(5);
+        assertThat(result.getTotalApplicants()).isEqualTo(42);
+        assertThat(result.getJobOpeningsByStatus()).extracting(StatusCount::getStatus, StatusCount::getCount)
+                .containsExactly(tuple("OPEN", 3L), tuple("CLOSED", 2L));
+        assertThat(result.getApplicantsByStage()).extracting(StageCount::getStageName, StageCount::getCount)
+                .containsExactlyInAnyOrder(tuple("APPLIED", 40L), tuple("HIRED", 2L));
+        assertThat(result.getMonthlyJobOpeningTrend()).extracting(DateCount::getDate, DateCount::getCount)
+                .containsExactly(tuple(thisMonth.minusMonths(1), 3L), tuple(thisMonth, 2L));
+        verify(jobOpeningRepository, never()).findAll();
+        verify(openingApplicantRepository, never()).findAll();
+    }
+
+    private ApplicantFactProjection fact(OpeningApplicant applicant, LocalDate updatedDate) {
+        return new ApplicantFactProjection(applicant.getId(), applicant.getJobOpening().getId(), recruiter.getId(),
+                applicant.getCurrentStage().getId(), null, applicant.getApplicationDate(),
+                updatedDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
 }
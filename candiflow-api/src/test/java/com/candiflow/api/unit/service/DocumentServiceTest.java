@@ -9,6 +9,7 @@ import com.candiflow.api.model.enums.UserRole;
 import com.candiflow.api.repository.ApplicationRepository;
 import com.candiflow.api.repository.DocumentRepository;
 import com.candiflow.api.service.DocumentService;
+import com.candiflow.api.sync.ChangeTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,6 +48,9 @@ class DocumentServiceTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private ChangeTracker changeTracker;
+
     @InjectMocks
     private DocumentService documentService;
 
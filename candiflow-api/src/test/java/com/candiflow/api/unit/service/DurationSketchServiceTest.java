@@ -0,0 +1,110 @@
+package com.candiflow.api.unit.service;
+
+import com.candiflow.api.analytics.QuantileSketch;
+import com.candiflow.api.analytics.SketchProperties;
+import com.candiflow.api.dto.dashboard.DurationStats;
+import com.candiflow.api.dto.dashboard.StageDuration;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.enums.DurationMetric;
+import com.candiflow.api.repository.DurationSketchRepository;
+import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.projection.SketchPayloadProjection;
+import com.candiflow.api.service.DurationSketchService;
+import com.candiflow.api.unit.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour le service des centiles de durées
+ */
+class DurationSketchServiceTest extends BaseUnitTest {
+
+    @Mock
+    private DurationSketchRepository durationSketchRepository;
+
+    @Mock
+    private PipelineStageRepository pipelineStageRepository;
+
+    private DurationSketchService durationSketchService;
+
+    private final UUID recruiterId = UUID.randomUUID();
+    private PipelineStage applied;
+    private PipelineStage interview;
+    private PipelineStage hired;
+
+    @BeforeEach
+    void setUp() {
+        durationSketchService = new DurationSketchService(durationSketchRepository, pipelineStageRepository,
+                new SketchProperties());
+        applied = stage("APPLIED", 1);
+        interview = stage("INTERVIEW", 2);
+        hired = stage("HIRED", 3);
+    }
+
+    @Test
+    @DisplayName("Devrait fusionner les esquisses des offres d'un recruteur et les exposer en centiles")
+    void forRecruiter_ShouldMergeSketchesOfAllJobOpenings() {
+        // Arrange : délais d'embauche de 1 à 50 jours sur une offre, de 51 à 100 jours sur l'autre
+        when(durationSketchRepository.findPayloadsByRecruiter(recruiterId)).thenReturn(List.of(
+                payload(DurationMetric.TIME_TO_HIRE, hired, 1, 50),
+                payload(DurationMetric.TIME_TO_HIRE, hired, 51, 100),
+                payload(DurationMetric.TIME_IN_STAGE, interview, 1, 10),
+                payload(DurationMetric.TIME_IN_STAGE, applied, 1, 4)));
+        when(pipelineStageRepository.findAll()).thenReturn(List.of(hired, interview, applied));
+
+        // Act
+        DurationStats stats = durationSketchService.forRecruiter(recruiterId);
+
+        // Assert
+        assertThat(stats.getTimeToHire().getCount()).isEqualTo(100);
+        assertThat(stats.getTimeToHire().getP50Days()).isBetween(49.5, 50.5);
+        assertThat(stats.getTimeToHire().getP90Days()).isBetween(89.1, 90.9);
+        assertThat(stats.getTimeToHire().getP99Days()).isBetween(98.0, 100.0);
+        // Étapes par ordre d'affichage
+        assertThat(stats.getTimeInStage()).extracting(StageDuration::getStageName).containsExactly("APPLIED", "INTERVIEW");
+        assertThat(stats.getTimeInStage().get(1).getTimeInStage().getCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Devrait renvoyer des centiles nuls sans lire les étapes lorsqu'aucune durée n'a été observée")
+    void global_WithoutSketches_ShouldReturnEmptyStats() {
+        // Arrange
+        when(durationSketchRepository.streamAllPayloads()).thenReturn(Stream.empty());
+
+        // Act
+        DurationStats stats = durationSketchService.global();
+
+        // Assert
+        assertThat(stats.getTimeToHire().getCount()).isZero();
+        assertThat(stats.getTimeToHire().getP99Days()).isZero();
+        assertThat(stats.getTimeInStage()).isEmpty();
+        verify(pipelineStageRepository, never()).findAll();
+    }
+
+    private PipelineStage stage(String name, int displayOrder) {
+        PipelineStage stage = new PipelineStage();
+        stage.setId(UUID.randomUUID());
+        stage.setName(name);
+        stage.setDisplayOrder(displayOrder);
+        return stage;
+    }
+
+    private SketchPayloadProjection payload(DurationMetric metric, PipelineStage stage, int fromDays, int toDays) {
+        QuantileSketch sketch = new QuantileSketch();
+        IntStream.rangeClosed(fromDays, toDays).forEach(days -> sketch.record(Duration.ofDays(days)));
+        return new SketchPayloadProjection(metric, stage.getId(), sketch.toBytes());
+    }
+}
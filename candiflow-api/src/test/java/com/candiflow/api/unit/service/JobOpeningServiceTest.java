@@ -0,0 +1,173 @@
+package com.candiflow.api.unit.service;
+
+import com.candiflow.api.batch.BatchLoader;
+import com.candiflow.api.dto.recruiter.JobOpeningResponse;
+import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.model.enums.JobStatus;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.observer.EventType;
+import com.candiflow.api.observer.JobOpeningEvent;
+import com.candiflow.api.repository.ApplicantTagRepository;
+import com.candiflow.api.repository.DocumentRepository;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.StatusUpdateRepository;
+import com.candiflow.api.repository.UserRepository;
+import com.candiflow.api.repository.projection.JobOpeningSummaryProjection;
+import com.candiflow.api.repository.projection.StageCountProjection;
+import com.candiflow.api.service.JobOpeningService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobOpeningServiceTest {
+
+    @Mock
+    private JobOpeningRepository jobOpeningRepository;
+
+    @Mock
+    private OpeningApplicantRepository openingApplicantRepository;
+
+    @Mock
+    private PipelineStageRepository pipelineStageRepository;
+
+    @Mock
+    private RecruiterNoteRepository recruiterNoteRepository;
+
+    @Mock
+    private ApplicantTagRepository applicantTagRepository;
+
+    @Mock
+    private EventManager eventManager;
+
+    private JobOpeningService jobOpeningService;
+
+    private UUID jobOpeningId;
+    private JobOpening jobOpening;
+
+    @BeforeEach
+    void setUp() {
+        jobOpeningId = UUID.randomUUID();
+        jobOpening = new JobOpening();
+        jobOpening.setId(jobOpeningId);
+        jobOpening.setTitle("Développeur Java");
+        jobOpening.setStatus(JobStatus.OPEN);
+
+        BatchLoader batchLoader = new BatchLoader(openingApplicantRepository, recruiterNoteRepository,
+                mock(StatusUpdateRepository.class), mock(DocumentRepository.class), mock(UserRepository.class));
+        jobOpeningService = new JobOpeningService(jobOpeningRepository, openingApplicantRepository,
+                pipelineStageRepository, recruiterNoteRepository, applicantTagRepository, eventManager, batchLoader);
+    }
+
+    @Test
+    void getAllJobOpenings_ShouldLoadStatsOfWholePageInOneQuery() {
+        // Arrange
+        UUID otherJobOpeningId = UUID.randomUUID();
+        PipelineStage newStage = stage("Nouveau", false);
+        PipelineStage interviewStage = stage("Entretien", false);
+        PipelineStage hiredStage = stage("Embauché", true);
+        when(jobOpeningRepository.findAllSummaries(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+                new JobOpeningSummaryProjection(jobOpeningId, "Développeur Java", JobStatus.OPEN, Instant.now(), Instant.now(), 0L),
+                new JobOpeningSummaryProjection(otherJobOpeningId, "Chef de projet", JobStatus.OPEN, Instant.now(), Instant.now(), 0L))));
+        when(pipelineStageRepository.findByName("Nouveau")).thenReturn(Optional.of(newStage));
+        when(pipelineStageRepository.findByIsEndStageTrue()).thenReturn(List.of(hiredStage));
+        when(openingApplicantRepository.countByJobOpeningIdsGroupByStage(Set.of(jobOpeningId, otherJobOpeningId)))
+                .thenReturn(List.of(
+                        new StageCountProjection(jobOpeningId, newStage.getId(), 2L),
+                        new StageCountProjection(jobOpeningId, interviewStage.getId(), 3L),
+                        new StageCountProjection(jobOpeningId, hiredStage.getId(), 1L)));
+
+        // Act
+        Page<JobOpeningResponse> result = jobOpeningService.getAllJobOpenings(Pageable.unpaged());
+
+        // Assert
+        JobOpeningResponse withApplicants = result.getContent().get(0);
+        assertEquals(6, withApplicants.getTotalApplicants());
+        assertEquals(2, withApplicants.getNewApplicants());
+        assertEquals(3, withApplicants.getInProcessApplicants());
+        assertEquals(1, withApplicants.getEndStageApplicants());
+        JobOpeningResponse withoutApplicants = result.getContent().get(1);
+        assertEquals(0, withoutApplicants.getTotalApplicants());
+        assertEquals(0, withoutApplicants.getInProcessApplicants());
+        verify(openingApplicantRepository, times(1)).countByJobOpeningIdsGroupByStage(anyCollection());
+        verify(pipelineStageRepository, times(1)).findByName("Nouveau");
+        verify(pipelineStageRepository, times(1)).findByIsEndStageTrue();
+    }
+
+    @Test
+    void deleteJobOpeningPermanently_ShouldDeleteChildrenThenOpeningWithSetBasedDeletes() {
+        // Arrange
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+
+        // Act
+        jobOpeningService.deleteJobOpeningPermanently(jobOpeningId);
+
+        // Assert
+        InOrder order = inOrder(eventManager, applicantTagRepository, recruiterNoteRepository,
+                openingApplicantRepository, jobOpeningRepository);
+        order.verify(eventManager).fireEventAfterCommit(argThat(event -> event.getType() == EventType.JOB_OPENING_DELETED
+                && ((JobOpeningEvent) event).getJobOpeningId().equals(jobOpeningId)));
+        order.verify(applicantTagRepository).deleteByJobOpeningId(jobOpeningId);
+        order.verify(recruiterNoteRepository).deleteByJobOpeningId(jobOpeningId);
+        order.verify(openingApplicantRepository).deleteByJobOpeningId(jobOpeningId);
+        order.verify(jobOpeningRepository).deleteAllByIds(List.of(jobOpeningId));
+        verify(jobOpeningRepository, never()).delete(any(JobOpening.class));
+    }
+
+    @Test
+    void deleteJobOpeningPermanently_ShouldThrowWhenNotFound() {
+        // Arrange
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> jobOpeningService.deleteJobOpeningPermanently(jobOpeningId));
+        verifyNoInteractions(eventManager, applicantTagRepository, recruiterNoteRepository);
+    }
+
+    @Test
+    void deleteJobOpening_ShouldCloseOpeningWithApplicants() {
+        // Arrange
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(openingApplicantRepository.countByJobOpening(jobOpening)).thenReturn(3L);
+        when(jobOpeningRepository.save(jobOpening)).thenReturn(jobOpening);
+
+        // Act
+        jobOpeningService.deleteJobOpening(jobOpeningId);
+
+        // Assert
+        assertEquals(JobStatus.CLOSED, jobOpening.getStatus());
+        verify(jobOpeningRepository, never()).deleteAllByIds(any());
+        verify(openingApplicantRepository, never()).deleteByJobOpeningId(any());
+    }
+
+    private static PipelineStage stage(String name, boolean endStage) {
+        PipelineStage stage = new PipelineStage();
+        stage.setId(UUID.randomUUID());
+        stage.setName(name);
+        stage.setEndStage(endStage);
+        return stage;
+    }
+}
@@ -1,17 +1,29 @@
 package com.candiflow.api.unit.service;
 
+import com.candiflow.api.batch.BatchLoader;
+import com.candiflow.api.dto.recruiter.BulkStageChangeRequest;
+import com.candiflow.api.dto.recruiter.BulkStageChangeResponse;
 import com.candiflow.api.dto.recruiter.OpeningApplicantRequest;
 import com.candiflow.api.dto.recruiter.OpeningApplicantResponse;
 import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.exception.VersionConflictException;
 import com.candiflow.api.model.entity.*;
 import com.candiflow.api.model.enums.UserRole;
+import com.candiflow.api.observer.ApplicantBatchEvent;
+import com.candiflow.api.observer.ApplicantEvent;
+import com.candiflow.api.observer.EventManager;
+import com.candiflow.api.observer.EventType;
 import com.candiflow.api.repository.*;
+import com.candiflow.api.repository.projection.ApplicantStageProjection;
+import com.candiflow.api.repository.projection.IdCountProjection;
+import com.candiflow.api.repository.projection.ApplicantSummaryProjection;
 import com.candiflow.api.service.OpeningApplicantService;
 import com.candiflow.api.service.PipelineStageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -24,6 +36,8 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -45,10 +59,15 @@ class OpeningApplicantServiceTest {
     @Mock
     private RecruiterNoteRepository recruiterNoteRepository;
 
+    @Mock
+    private ApplicantTagRepository applicantTagRepository;
+
     @Mock
     private PipelineStageService pipelineStageService;
 
-    @InjectMocks
+    @Mock
+    private EventManager eventManager;
+
     private OpeningApplicantService openingApplicantService;
 
     private UUID jobOpeningId;
@@ -125,15 +144,22 @@ class OpeningApplicantServiceTest {
         applicantRequest.setSourceId(sourceId);
         applicantRequest.setApplicationDate(LocalDate.now());
         applicantRequest.setInitialNotes("Candidature spontanée");
+
+        BatchLoader batchLoader = new BatchLoader(openingApplicantRepository, recruiterNoteRepository,
+                mock(StatusUpdateRepository.class), mock(DocumentRepository.class), mock(UserRepository.class));
+        openingApplicantService = new OpeningApplicantService(openingApplicantRepository, jobOpeningRepository,
+                pipelineStageRepository, candidateSourceRepository, recruiterNoteRepository, applicantTagRepository,
+                pipelineStageService, eventManager, batchLoader);
     }
 
     @Test
     void getAllApplicantsByJobOpening_ShouldReturnPageOfApplicants() {
         // Arrange
-        Page<OpeningApplicant> applicantsPage = new PageImpl<>(Collections.singletonList(applicant));
-        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
-        when(openingApplicantRepository.findByJobOpening(eq(jobOpening), any(Pageable.class))).thenReturn(applicantsPage);
-        when(recruiterNoteRepository.countByApplicant(applicant)).thenReturn(2L);
+        Page<ApplicantSummaryProjection> applicantsPage = new PageImpl<>(Collections.singletonList(summaryOf(applicant)));
+        when(jobOpeningRepository.existsById(jobOpeningId)).thenReturn(true);
+        when(openingApplicantRepository.findSummariesByJobOpeningId(eq(jobOpeningId), any(Pageable.class))).thenReturn(applicantsPage);
+        when(recruiterNoteRepository.countByApplicantIds(Set.of(applicantId)))
+                .thenReturn(List.of(new IdCountProjection(applicantId, 2L)));
 
         // Act
         Page<OpeningApplicantResponse> result = openingApplicantService.getAllApplicantsByJobOpening(jobOpeningId, Pageable.unpaged());
@@ -143,22 +169,50 @@ class OpeningApplicantServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(applicant.getName(), result.getContent().get(0).getName());
         assertEquals(applicant.getEmail(), result.getContent().get(0).getEmail());
+        assertEquals(stageId, result.getContent().get(0).getPipelineStage().getId());
         assertEquals(2, result.getContent().get(0).getTotalNotes());
-        verify(jobOpeningRepository).findById(jobOpeningId);
-        verify(openingApplicantRepository).findByJobOpening(eq(jobOpening), any(Pageable.class));
-        verify(recruiterNoteRepository).countByApplicant(applicant);
+        verify(jobOpeningRepository).existsById(jobOpeningId);
+        verify(jobOpeningRepository, never()).findById(any());
+        verify(openingApplicantRepository).findSummariesByJobOpeningId(eq(jobOpeningId), any(Pageable.class));
+        verify(recruiterNoteRepository).countByApplicantIds(Set.of(applicantId));
+    }
+
+    @Test
+    void getAllApplicantsByJobOpening_ShouldCountNotesOfWholePageInOneQuery() {
+        // Arrange
+        UUID otherApplicantId = UUID.randomUUID();
+        OpeningApplicant otherApplicant = new OpeningApplicant();
+        otherApplicant.setId(otherApplicantId);
+        otherApplicant.setJobOpening(jobOpening);
+        otherApplicant.setName("John Smith");
+        otherApplicant.setEmail("john.smith@example.com");
+        otherApplicant.setCurrentStage(pipelineStage);
+        otherApplicant.setSource(candidateSource);
+        Page<ApplicantSummaryProjection> applicantsPage = new PageImpl<>(List.of(summaryOf(applicant), summaryOf(otherApplicant)));
+        when(jobOpeningRepository.existsById(jobOpeningId)).thenReturn(true);
+        when(openingApplicantRepository.findSummariesByJobOpeningId(eq(jobOpeningId), any(Pageable.class))).thenReturn(applicantsPage);
+        when(recruiterNoteRepository.countByApplicantIds(Set.of(applicantId, otherApplicantId)))
+                .thenReturn(List.of(new IdCountProjection(applicantId, 3L)));
+
+        // Act
+        Page<OpeningApplicantResponse> result = openingApplicantService.getAllApplicantsByJobOpening(jobOpeningId, Pageable.unpaged());
+
+        // Assert
+        assertEquals(3, result.getContent().get(0).getTotalNotes());
+        assertEquals(0, result.getContent().get(1).getTotalNotes());
+        verify(recruiterNoteRepository, times(1)).countByApplicantIds(anyCollection());
     }
 
     @Test
     void getAllApplicantsByJobOpening_WhenJobOpeningNotFound_ShouldThrowException() {
         // Arrange
-        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.empty());
+        when(jobOpeningRepository.existsById(jobOpeningId)).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () ->
             openingApplicantService.getAllApplicantsByJobOpening(jobOpeningId, Pageable.unpaged())
         );
-        verify(jobOpeningRepository).findById(jobOpeningId);
+        verify(jobOpeningRepository).existsById(jobOpeningId);
         verifyNoInteractions(openingApplicantRepository);
     }
 
@@ -166,11 +220,12 @@ class OpeningApplicantServiceTest {
     void searchApplicantsByKeyword_ShouldReturnMatchingApplicants() {
         // Arrange
         String keyword = "Java";
-        Page<OpeningApplicant> applicantsPage = new PageImpl<>(Collections.singletonList(applicant));
-        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
-        when(openingApplicantRepository.searchByJobOpeningAndKeyword(eq(jobOpening), eq(keyword), any(Pageable.class)))
+        Page<ApplicantSummaryProjection> applicantsPage = new PageImpl<>(Collections.singletonList(summaryOf(applicant)));
+        when(jobOpeningRepository.existsById(jobOpeningId)).thenReturn(true);
+        when(openingApplicantRepository.searchSummariesByJobOpeningId(eq(jobOpeningId), eq(keyword), any(Pageable.class)))
                 .thenReturn(applicantsPage);
-        when(recruiterNoteRepository.countByApplicant(applicant)).thenReturn(2L);
+        when(recruiterNoteRepository.countByApplicantIds(Set.of(applicantId)))
+                .thenReturn(List.of(new IdCountProjection(applicantId, 2L)));
 
         // Act
         Page<OpeningApplicantResponse> result = openingApplicantService.searchApplicantsByKeyword(jobOpeningId, keyword, Pageable.unpaged());
@@ -179,8 +234,9 @@ class OpeningApplicantServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(applicant.getName(), result.getContent().get(0).getName());
-        verify(jobOpeningRepository).findById(jobOpeningId);
-        verify(openingApplicantRepository).searchByJobOpeningAndKeyword(eq(jobOpening), eq(keyword), any(Pageable.class));
+        assertEquals(2, result.getContent().get(0).getTotalNotes());
+        verify(jobOpeningRepository).existsById(jobOpeningId);
+        verify(openingApplicantRepository).searchSummariesByJobOpeningId(eq(jobOpeningId), eq(keyword), any(Pageable.class));
     }
 
     @Test
@@ -188,7 +244,8 @@ class OpeningApplicantServiceTest {
         // Arrange
         when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
         when(openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)).thenReturn(Optional.of(applicant));
-        when(recruiterNoteRepository.countByApplicant(applicant)).thenReturn(2L);
+        when(recruiterNoteRepository.countByApplicantIds(Set.of(applicantId)))
+                .thenReturn(List.of(new IdCountProjection(applicantId, 2L)));
 
         // Act
         OpeningApplicantResponse result = openingApplicantService.getApplicantById(jobOpeningId, applicantId);
@@ -200,7 +257,7 @@ class OpeningApplicantServiceTest {
         assertEquals(2, result.getTotalNotes());
         verify(jobOpeningRepository).findById(jobOpeningId);
         verify(openingApplicantRepository).findByIdAndJobOpening(applicantId, jobOpening);
-        verify(recruiterNoteRepository).countByApplicant(applicant);
+        verify(recruiterNoteRepository).countByApplicantIds(Set.of(applicantId));
     }
 
     @Test
@@ -225,7 +282,8 @@ class OpeningApplicantServiceTest {
         when(pipelineStageRepository.findById(stageId)).thenReturn(Optional.of(pipelineStage));
         when(candidateSourceRepository.findById(sourceId)).thenReturn(Optional.of(candidateSource));
         when(openingApplicantRepository.save(any(OpeningApplicant.class))).thenReturn(applicant);
-        when(recruiterNoteRepository.countByApplicant(applicant)).thenReturn(1L);
+        when(recruiterNoteRepository.countByApplicantIds(Set.of(applicantId)))
+                .thenReturn(List.of(new IdCountProjection(applicantId, 1L)));
 
         // Act
         OpeningApplicantResponse result = openingApplicantService.createApplicant(jobOpeningId, applicantRequest, recruiter);
@@ -266,7 +324,8 @@ class OpeningApplicantServiceTest {
         when(openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)).thenReturn(Optional.of(applicant));
         when(pipelineStageRepository.findById(newPipelineStage.getId())).thenReturn(Optional.of(newPipelineStage));
         when(openingApplicantRepository.save(any(OpeningApplicant.class))).thenReturn(applicant);
-        when(recruiterNoteRepository.countByApplicant(applicant)).thenReturn(2L);
+        when(recruiterNoteRepository.countByApplicantIds(Set.of(applicantId)))
+                .thenReturn(List.of(new IdCountProjection(applicantId, 2L)));
 
         // Act
         OpeningApplicantResponse result = openingApplicantService.updateApplicantStage(
@@ -283,6 +342,87 @@ class OpeningApplicantServiceTest {
         verify(openingApplicantRepository).save(any(OpeningApplicant.class));
     }
 
+    @Test
+    void updateApplicantStage_WithStaleVersion_ShouldThrowConflictWithCurrentState() {
+        // Arrange
+        applicant.setVersion(3L);
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)).thenReturn(Optional.of(applicant));
+
+        // Act & Assert
+        VersionConflictException exception = assertThrows(VersionConflictException.class, () ->
+            openingApplicantService.updateApplicantStage(
+                    jobOpeningId, applicantId, newPipelineStage.getId(), recruiter, null, 2L)
+        );
+        assertEquals(3L, exception.getCurrentVersion());
+        OpeningApplicantResponse current = assertInstanceOf(OpeningApplicantResponse.class, exception.getCurrentState());
+        assertEquals(stageId, current.getPipelineStage().getId());
+        verify(openingApplicantRepository, never()).save(any(OpeningApplicant.class));
+        verify(recruiterNoteRepository, never()).save(any(RecruiterNote.class));
+    }
+
+    @Test
+    void updateApplicant_WithMatchingVersion_ShouldUpdateAndFlush() {
+        // Arrange
+        applicant.setVersion(3L);
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)).thenReturn(Optional.of(applicant));
+        when(pipelineStageRepository.findById(stageId)).thenReturn(Optional.of(pipelineStage));
+        when(candidateSourceRepository.findById(sourceId)).thenReturn(Optional.of(candidateSource));
+        when(openingApplicantRepository.save(any(OpeningApplicant.class))).thenReturn(applicant);
+
+        // Act
+        OpeningApplicantResponse result = openingApplicantService.updateApplicant(jobOpeningId, applicantId, applicantRequest, 3L);
+
+        // Assert
+        assertEquals(3L, result.getVersion());
+        verify(openingApplicantRepository).save(applicant);
+        verify(openingApplicantRepository).flush();
+    }
+
+    @Test
+    void updateApplicant_WithNewStage_ShouldFireStageChangedEvent() {
+        // Arrange
+        Instant previousStageEnteredAt = Instant.now().minusSeconds(3600);
+        applicant.setStageEnteredAt(previousStageEnteredAt);
+        applicantRequest.setPipelineStageId(newPipelineStage.getId());
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)).thenReturn(Optional.of(applicant));
+        when(pipelineStageRepository.findById(newPipelineStage.getId())).thenReturn(Optional.of(newPipelineStage));
+        when(candidateSourceRepository.findById(sourceId)).thenReturn(Optional.of(candidateSource));
+        when(openingApplicantRepository.save(any(OpeningApplicant.class))).thenReturn(applicant);
+
+        // Act
+        openingApplicantService.updateApplicant(jobOpeningId, applicantId, applicantRequest, null);
+
+        // Assert : la mise à jour complète est aussi un changement d'étape, avec l'étape quittée
+        ArgumentCaptor<ApplicantEvent> events = ArgumentCaptor.forClass(ApplicantEvent.class);
+        verify(eventManager, times(2)).fireEventAfterCommit(events.capture());
+        assertEquals(EventType.APPLICANT_UPDATED, events.getAllValues().get(0).getType());
+        ApplicantEvent stageChanged = events.getAllValues().get(1);
+        assertEquals(EventType.STAGE_CHANGED, stageChanged.getType());
+        assertEquals(pipelineStage, stageChanged.getPreviousStage());
+        assertEquals(previousStageEnteredAt, stageChanged.getPreviousStageEnteredAt());
+        assertEquals(newPipelineStage, stageChanged.getApplicant().getCurrentStage());
+    }
+
+    @Test
+    void updateApplicant_WithSameStage_ShouldNotFireStageChangedEvent() {
+        // Arrange
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)).thenReturn(Optional.of(applicant));
+        when(pipelineStageRepository.findById(stageId)).thenReturn(Optional.of(pipelineStage));
+        when(candidateSourceRepository.findById(sourceId)).thenReturn(Optional.of(candidateSource));
+        when(openingApplicantRepository.save(any(OpeningApplicant.class))).thenReturn(applicant);
+
+        // Act
+        openingApplicantService.updateApplicant(jobOpeningId, applicantId, applicantRequest, null);
+
+        // Assert
+        verify(eventManager).fireEventAfterCommit(argThat(event -> event.getType() == EventType.APPLICANT_UPDATED));
+        verify(eventManager, never()).fireEventAfterCommit(argThat(event -> event.getType() == EventType.STAGE_CHANGED));
+    }
+
     @Test
     void deleteApplicant_ShouldDeleteApplicant() {
         // Arrange
@@ -295,6 +435,96 @@ class OpeningApplicantServiceTest {
         // Assert
         verify(jobOpeningRepository).findById(jobOpeningId);
         verify(openingApplicantRepository).findByIdAndJobOpening(applicantId, jobOpening);
-        verify(openingApplicantRepository).delete(applicant);
+        // Événement notifié à la validation, avec les identifiants capturés avant la suppression
+        ArgumentCaptor<ApplicantEvent> event = ArgumentCaptor.forClass(ApplicantEvent.class);
+        verify(eventManager).fireEventAfterCommit(event.capture());
+        verify(eventManager, never()).fireEvent(any());
+        assertEquals(EventType.APPLICANT_DELETED, event.getValue().getType());
+        assertEquals(applicantId, event.getValue().getSnapshot().id());
+        assertEquals(jobOpeningId, event.getValue().getSnapshot().jobOpeningId());
+        assertEquals(stageId, event.getValue().getSnapshot().stageId());
+
+        // Suppressions ensemblistes des enfants vers le parent, sans passer par les cascades JPA
+        InOrder order = inOrder(applicantTagRepository, recruiterNoteRepository, openingApplicantRepository);
+        order.verify(applicantTagRepository).deleteByApplicantIds(List.of(applicantId));
+        order.verify(recruiterNoteRepository).deleteByApplicantIds(List.of(applicantId));
+        order.verify(openingApplicantRepository).deleteAllByIds(List.of(applicantId));
+        verify(openingApplicantRepository, never()).delete(any(OpeningApplicant.class));
+    }
+
+    @Test
+    void deleteApplicant_ShouldThrowWhenApplicantNotFound() {
+        // Arrange
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> openingApplicantService.deleteApplicant(jobOpeningId, applicantId));
+        verify(eventManager, never()).fireEvent(any());
+        verify(openingApplicantRepository, never()).deleteAllByIds(anyCollection());
+    }
+
+    @Test
+    void updateApplicantsStage_ShouldMoveApplicantsWithSingleUpdate() {
+        // Arrange
+        UUID otherApplicantId = UUID.randomUUID();
+        UUID alreadyMovedId = UUID.randomUUID();
+        List<UUID> ids = List.of(applicantId, otherApplicantId, alreadyMovedId);
+        BulkStageChangeRequest request = new BulkStageChangeRequest(ids, newPipelineStage.getId(), "Entretien planifié");
+        when(pipelineStageRepository.findById(newPipelineStage.getId())).thenReturn(Optional.of(newPipelineStage));
+        when(openingApplicantRepository.findStageProjectionsOwnedBy(eq(jobOpeningId), eq(recruiter), anyCollection()))
+                .thenReturn(List.of(
+                        new ApplicantStageProjection(applicantId, "Jane Smith", "jane.smith@example.com", stageId, sourceId, LocalDate.now(), null),
+                        new ApplicantStageProjection(otherApplicantId, "John Roe", null, stageId, null, LocalDate.now(), null),
+                        new ApplicantStageProjection(alreadyMovedId, "Ann Lee", null, newPipelineStage.getId(), null, LocalDate.now(), null)));
+        when(openingApplicantRepository.getReferenceById(any(UUID.class))).thenReturn(applicant);
+        when(openingApplicantRepository.findLastRankKey(jobOpeningId, newPipelineStage.getId())).thenReturn("a5");
+
+        // Act
+        BulkStageChangeResponse result = openingApplicantService.updateApplicantsStage(jobOpeningId, request, recruiter);
+
+        // Assert
+        assertEquals(List.of(applicantId, otherApplicantId), result.getMovedApplicantIds());
+        assertEquals(List.of(alreadyMovedId), result.getUnchangedApplicantIds());
+        // Chaque candidat déplacé reçoit sa propre clé, à la suite de la dernière de la colonne
+        verify(openingApplicantRepository).updateStageForApplicants(
+                eq(jobOpeningId), eq(Map.of(applicantId, "a6", otherApplicantId, "a7")), eq(newPipelineStage), any(Instant.class));
+        verify(recruiterNoteRepository).saveAll(argThat(notes -> ((List<?>) notes).size() == 2));
+        verify(openingApplicantRepository, never()).save(any(OpeningApplicant.class));
+
+        ArgumentCaptor<ApplicantBatchEvent> event = ArgumentCaptor.forClass(ApplicantBatchEvent.class);
+        verify(eventManager).fireEventAfterCommit(event.capture());
+        assertEquals(EventType.STAGE_CHANGED, event.getValue().getType());
+        assertEquals(2, event.getValue().getApplicants().size());
+        assertEquals(stageId, event.getValue().getApplicants().get(0).previousStageId());
+        assertEquals(newPipelineStage.getId(), event.getValue().getApplicants().get(0).stageId());
+    }
+
+    @Test
+    void updateApplicantsStage_WhenApplicantNotOwned_ShouldThrowException() {
+        // Arrange
+        UUID foreignApplicantId = UUID.randomUUID();
+        BulkStageChangeRequest request = new BulkStageChangeRequest(
+                List.of(applicantId, foreignApplicantId), newPipelineStage.getId(), null);
+        when(pipelineStageRepository.findById(newPipelineStage.getId())).thenReturn(Optional.of(newPipelineStage));
+        when(openingApplicantRepository.findStageProjectionsOwnedBy(eq(jobOpeningId), eq(recruiter), anyCollection()))
+                .thenReturn(List.of(new ApplicantStageProjection(
+                        applicantId, "Jane Smith", "jane.smith@example.com", stageId, sourceId, LocalDate.now(), null)));
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> openingApplicantService.updateApplicantsStage(jobOpeningId, request, recruiter));
+        assertTrue(exception.getMessage().contains(foreignApplicantId.toString()));
+        verify(openingApplicantRepository, never()).updateStageForApplicants(any(), any(), any(), any());
+        verifyNoInteractions(eventManager);
+    }
+
+    private static ApplicantSummaryProjection summaryOf(OpeningApplicant applicant) {
+        return new ApplicantSummaryProjection(applicant.getId(), applicant.getJobOpening().getId(),
+                applicant.getName(), applicant.getEmail(), applicant.getPhone(), applicant.getApplicationDate(),
+                applicant.getCreatedAt(), applicant.getUpdatedAt(), applicant.getVersion(),
+                applicant.getCurrentStage().getId(), applicant.getCurrentStage().getName(),
+                applicant.getCurrentStage().isEndStage(),
+                applicant.getSource().getId(), applicant.getSource().getName());
     }
 }
@@ -0,0 +1,183 @@
+package com.candiflow.api.unit.service;
+
+import com.candiflow.api.dto.recruiter.PipelineBoardResponse;
+import com.candiflow.api.exception.InvalidCursorException;
+import com.candiflow.api.exception.ResourceNotFoundException;
+import com.candiflow.api.model.entity.JobOpening;
+import com.candiflow.api.model.entity.PipelineStage;
+import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.PipelineStageRepository;
+import com.candiflow.api.repository.projection.BoardCardProjection;
+import com.candiflow.api.repository.projection.BoardRowProjection;
+import com.candiflow.api.service.PipelineBoardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PipelineBoardServiceTest {
+
+    @Mock
+    private OpeningApplicantRepository openingApplicantRepository;
+
+    @Mock
+    private JobOpeningRepository jobOpeningRepository;
+
+    @Mock
+    private PipelineStageRepository pipelineStageRepository;
+
+    @InjectMocks
+    private PipelineBoardService pipelineBoardService;
+
+    private UUID jobOpeningId;
+    private JobOpening jobOpening;
+    private PipelineStage stage;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        jobOpeningId = UUID.randomUUID();
+        jobOpening = new JobOpening();
+        jobOpening.setId(jobOpeningId);
+
+        stage = new PipelineStage();
+        stage.setId(UUID.randomUUID());
+        stage.setName("Entretien");
+        stage.setDisplayOrder(2);
+
+        now = Instant.parse("2025-05-01T10:00:00Z");
+    }
+
+    @Test
+    @DisplayName("Le tableau regroupe les lignes par étape et fournit un curseur aux colonnes incomplètes")
+    void getBoard_ShouldGroupRowsByStageWithCursors() {
+        // Arrange
+        UUID newStageId = UUID.randomUUID();
+        UUID emptyStageId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(openingApplicantRepository.findBoardRows(jobOpeningId, 2)).thenReturn(List.of(
+                row(newStageId, "Nouveau", 1, 5L, first, now),
+                row(newStageId, "Nouveau", 1, 5L, second, now.minusSeconds(60)),
+                row(stage.getId(), "Entretien", 2, 1L, third, now.minusSeconds(120)),
+                new BoardRowProjection(emptyStageId, "Offre", 3, false, null, null, null, null, null, null, null)));
+
+        // Act
+        PipelineBoardResponse board = pipelineBoardService.getBoard(jobOpeningId, 2);
+
+        // Assert
+        assertEquals(3, board.getColumns().size());
+        PipelineBoardResponse.Column newColumn = board.getColumns().get(0);
+        assertEquals(5, newColumn.getTotalApplicants());
+        assertEquals(List.of(first, second), newColumn.getApplicants().stream().map(PipelineBoardResponse.Card::getId).toList());
+        assertNotNull(newColumn.getNextCursor());
+
+        PipelineBoardResponse.Column interviewColumn = board.getColumns().get(1);
+        assertEquals(1, interviewColumn.getTotalApplicants());
+        assertNull(interviewColumn.getNextCursor());
+
+        PipelineBoardResponse.Column emptyColumn = board.getColumns().get(2);
+        assertEquals(0, emptyColumn.getTotalApplicants());
+        assertTrue(emptyColumn.getApplicants().isEmpty());
+        assertNull(emptyColumn.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Le curseur d'une colonne permet d'en obtenir la suite")
+    void getColumn_WithCursor_ShouldContinueAfterLastApplicant() {
+        // Arrange
+        UUID last = UUID.randomUUID();
+        UUID next = UUID.randomUUID();
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(pipelineStageRepository.findById(stage.getId())).thenReturn(Optional.of(stage));
+        when(openingApplicantRepository.findBoardRows(jobOpeningId, 1)).thenReturn(List.of(
+                row(stage.getId(), "Entretien", 2, 2L, last, now)));
+        when(openingApplicantRepository.findBoardColumnAfter(eq(jobOpeningId), eq(stage.getId()), eq(now), eq(last), any(Limit.class)))
+                .thenReturn(List.of(new BoardCardProjection(next, "Jane", "jane@example.com", LocalDate.now(), now.minusSeconds(5), "a2")));
+        when(openingApplicantRepository.countByJobOpeningAndCurrentStage(jobOpening, stage)).thenReturn(2L);
+        String cursor = pipelineBoardService.getBoard(jobOpeningId, 1).getColumns().get(0).getNextCursor();
+
+        // Act
+        PipelineBoardResponse.Column column = pipelineBoardService.getColumn(jobOpeningId, stage.getId(), cursor, 1);
+
+        // Assert
+        assertEquals(List.of(next), column.getApplicants().stream().map(PipelineBoardResponse.Card::getId).toList());
+        assertEquals(2, column.getTotalApplicants());
+        assertNull(column.getNextCursor());
+        verify(openingApplicantRepository).findBoardColumnAfter(jobOpeningId, stage.getId(), now, last, Limit.of(2));
+    }
+
+    @Test
+    @DisplayName("Une colonne triée par rang se poursuit après la clé de rang du curseur")
+    void getColumn_ByRank_ShouldContinueAfterRankKey() {
+        // Arrange
+        UUID last = UUID.randomUUID();
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(pipelineStageRepository.findById(stage.getId())).thenReturn(Optional.of(stage));
+        when(openingApplicantRepository.findBoardRowsByRank(jobOpeningId, 1)).thenReturn(List.of(
+                row(stage.getId(), "Entretien", 2, 3L, last, now)));
+        when(openingApplicantRepository.findBoardColumnByRankAfter(eq(jobOpeningId), eq(stage.getId()), eq("a1"), eq(last), any(Limit.class)))
+                .thenReturn(List.of());
+        String cursor = pipelineBoardService.getBoard(jobOpeningId, 1, PipelineBoardService.Order.RANK)
+                .getColumns().get(0).getNextCursor();
+
+        // Act
+        PipelineBoardResponse.Column column = pipelineBoardService.getColumn(
+                jobOpeningId, stage.getId(), cursor, 1, PipelineBoardService.Order.RANK);
+
+        // Assert
+        assertTrue(column.getApplicants().isEmpty());
+        assertNull(column.getNextCursor());
+        // Un curseur de tri par rang n'est pas accepté pour un tri par activité
+        assertThrows(InvalidCursorException.class, () ->
+                pipelineBoardService.getColumn(jobOpeningId, stage.getId(), cursor, 1, PipelineBoardService.Order.ACTIVITY));
+    }
+
+    @Test
+    @DisplayName("Un curseur illisible est refusé")
+    void getColumn_WithInvalidCursor_ShouldThrowException() {
+        // Arrange
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(pipelineStageRepository.findById(stage.getId())).thenReturn(Optional.of(stage));
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () ->
+                pipelineBoardService.getColumn(jobOpeningId, stage.getId(), "pas-un-curseur", 10));
+        verify(openingApplicantRepository, never()).findBoardColumnAfter(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Le tableau d'une offre inexistante lève une exception")
+    void getBoard_WithUnknownJobOpening_ShouldThrowException() {
+        // Arrange
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> pipelineBoardService.getBoard(jobOpeningId, 20));
+        verifyNoInteractions(openingApplicantRepository);
+    }
+
+    private BoardRowProjection row(UUID stageId, String stageName, int displayOrder, long count, UUID applicantId, Instant updatedAt) {
+        return new BoardRowProjection(stageId, stageName, displayOrder, false, count, applicantId,
+                "Candidat " + applicantId, null, LocalDate.now(), updatedAt, "a1");
+    }
+}
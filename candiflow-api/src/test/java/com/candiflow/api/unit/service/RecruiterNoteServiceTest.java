@@ -1,5 +1,6 @@
 package com.candiflow.api.unit.service;
 
+import com.candiflow.api.batch.BatchLoader;
 import com.candiflow.api.dto.recruiter.RecruiterNoteRequest;
 import com.candiflow.api.dto.recruiter.RecruiterNoteResponse;
 import com.candiflow.api.exception.ResourceNotFoundException;
@@ -10,12 +11,15 @@ import com.candiflow.api.model.entity.User;
 import com.candiflow.api.model.enums.UserRole;
 import com.candiflow.api.repository.JobOpeningRepository;
 import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.DocumentRepository;
 import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.StatusUpdateRepository;
+import com.candiflow.api.repository.UserRepository;
+import com.candiflow.api.repository.projection.RecruiterNoteProjection;
 import com.candiflow.api.service.RecruiterNoteService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -26,6 +30,7 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -45,7 +50,9 @@ class RecruiterNoteServiceTest {
     @Mock
     private OpeningApplicantRepository openingApplicantRepository;
 
-    @InjectMocks
+    @Mock
+    private UserRepository userRepository;
+
     private RecruiterNoteService recruiterNoteService;
 
     private UUID jobOpeningId;
@@ -94,15 +101,21 @@ class RecruiterNoteServiceTest {
         // Initialiser la requête de note
         noteRequest = new RecruiterNoteRequest();
         noteRequest.setNoteText("Candidat très prometteur");
+
+        BatchLoader batchLoader = new BatchLoader(openingApplicantRepository, recruiterNoteRepository,
+                mock(StatusUpdateRepository.class), mock(DocumentRepository.class), userRepository);
+        recruiterNoteService = new RecruiterNoteService(recruiterNoteRepository, jobOpeningRepository,
+                openingApplicantRepository, batchLoader);
     }
 
     @Test
     void getAllNotesByApplicant_ShouldReturnPageOfNotes() {
         // Arrange
-        Page<RecruiterNote> notePage = new PageImpl<>(Collections.singletonList(note));
+        Page<RecruiterNoteProjection> notePage = new PageImpl<>(Collections.singletonList(projectionOf(note)));
         when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
         when(openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)).thenReturn(Optional.of(applicant));
-        when(recruiterNoteRepository.findByApplicant(eq(applicant), any(Pageable.class))).thenReturn(notePage);
+        when(recruiterNoteRepository.findProjectionsByApplicantId(eq(applicantId), any(Pageable.class))).thenReturn(notePage);
+        when(userRepository.findAllById(Set.of(recruiterId))).thenReturn(List.of(recruiter));
 
         // Act
         Page<RecruiterNoteResponse> result = recruiterNoteService.getAllNotesByApplicant(jobOpeningId, applicantId, Pageable.unpaged());
@@ -111,9 +124,10 @@ class RecruiterNoteServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(note.getNoteText(), result.getContent().get(0).getNoteText());
+        assertEquals(recruiterId, result.getContent().get(0).getAuthor().getId());
         verify(jobOpeningRepository).findById(jobOpeningId);
         verify(openingApplicantRepository).findByIdAndJobOpening(applicantId, jobOpening);
-        verify(recruiterNoteRepository).findByApplicant(eq(applicant), any(Pageable.class));
+        verify(recruiterNoteRepository).findProjectionsByApplicantId(eq(applicantId), any(Pageable.class));
     }
 
     @Test
@@ -148,10 +162,11 @@ class RecruiterNoteServiceTest {
     @Test
     void getAllNotesByApplicantSortedByDate_ShouldReturnListOfNotes() {
         // Arrange
-        List<RecruiterNote> notes = Collections.singletonList(note);
+        List<RecruiterNoteProjection> notes = Collections.singletonList(projectionOf(note));
         when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
         when(openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)).thenReturn(Optional.of(applicant));
-        when(recruiterNoteRepository.findByApplicantOrderByCreatedAtDesc(applicant)).thenReturn(notes);
+        when(recruiterNoteRepository.findProjectionsByApplicantIdOrderByCreatedAtDesc(applicantId)).thenReturn(notes);
+        when(userRepository.findAllById(Set.of(recruiterId))).thenReturn(List.of(recruiter));
 
         // Act
         List<RecruiterNoteResponse> result = recruiterNoteService.getAllNotesByApplicantSortedByDate(jobOpeningId, applicantId);
@@ -162,7 +177,32 @@ class RecruiterNoteServiceTest {
         assertEquals(note.getNoteText(), result.get(0).getNoteText());
         verify(jobOpeningRepository).findById(jobOpeningId);
         verify(openingApplicantRepository).findByIdAndJobOpening(applicantId, jobOpening);
-        verify(recruiterNoteRepository).findByApplicantOrderByCreatedAtDesc(applicant);
+        verify(recruiterNoteRepository).findProjectionsByApplicantIdOrderByCreatedAtDesc(applicantId);
+    }
+
+    @Test
+    void getAllNotesByApplicantSortedByDate_ShouldLoadEachAuthorOnceInOneQuery() {
+        // Arrange
+        RecruiterNote otherNote = new RecruiterNote();
+        otherNote.setId(UUID.randomUUID());
+        otherNote.setApplicant(applicant);
+        otherNote.setAuthor(recruiter);
+        otherNote.setNoteText("Entretien technique réussi");
+        otherNote.setCreatedAt(Instant.now());
+        when(jobOpeningRepository.findById(jobOpeningId)).thenReturn(Optional.of(jobOpening));
+        when(openingApplicantRepository.findByIdAndJobOpening(applicantId, jobOpening)).thenReturn(Optional.of(applicant));
+        when(recruiterNoteRepository.findProjectionsByApplicantIdOrderByCreatedAtDesc(applicantId))
+                .thenReturn(List.of(projectionOf(otherNote), projectionOf(note)));
+        when(userRepository.findAllById(Set.of(recruiterId))).thenReturn(List.of(recruiter));
+
+        // Act
+        List<RecruiterNoteResponse> result = recruiterNoteService.getAllNotesByApplicantSortedByDate(jobOpeningId, applicantId);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("John Doe", result.get(0).getAuthor().getName());
+        assertEquals("John Doe", result.get(1).getAuthor().getName());
+        verify(userRepository, times(1)).findAllById(any());
     }
 
     @Test
@@ -300,4 +340,9 @@ class RecruiterNoteServiceTest {
         verify(recruiterNoteRepository).findByIdAndApplicant(noteId, applicant);
         verify(recruiterNoteRepository, never()).delete(any(RecruiterNote.class));
     }
+
+    private static RecruiterNoteProjection projectionOf(RecruiterNote note) {
+        return new RecruiterNoteProjection(note.getId(), note.getApplicant().getId(), note.getNoteText(),
+                note.getCreatedAt(), note.getAuthor().getId());
+    }
 }
@@ -1,5 +1,7 @@
 package com.candiflow.api.unit.service;
 
+import com.candiflow.api.batch.BatchLoadContext;
+import com.candiflow.api.batch.BatchLoader;
 import com.candiflow.api.dto.recruiter.JobOpeningResponse;
 import com.candiflow.api.dto.recruiter.OpeningApplicantResponse;
 import com.candiflow.api.factory.JobOpeningResponseFactory;
@@ -10,13 +12,18 @@ import com.candiflow.api.model.entity.User;
 import com.candiflow.api.model.enums.JobStatus;
 import com.candiflow.api.model.enums.UserRole;
 import com.candiflow.api.repository.JobOpeningRepository;
+import com.candiflow.api.repository.DocumentRepository;
 import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.StatusUpdateRepository;
+import com.candiflow.api.repository.UserRepository;
+import com.candiflow.api.repository.projection.ApplicantSummaryProjection;
+import com.candiflow.api.repository.projection.JobOpeningSummaryProjection;
 import com.candiflow.api.service.SearchService;
 import com.candiflow.api.unit.BaseUnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -33,6 +40,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
@@ -52,7 +61,6 @@ class SearchServiceTest extends BaseUnitTest {
     @Mock
     private OpeningApplicantResponseFactory openingApplicantResponseFactory;
     
-    @InjectMocks
     private SearchService searchService;
     
     private JobOpening jobOpening1;
@@ -100,6 +108,11 @@ class SearchServiceTest extends BaseUnitTest {
         applicant2.setEmail("marie.martin@example.com");
         applicant2.setJobOpening(jobOpening1);
         applicant2.setApplicationDate(LocalDate.now().minusDays(1));
+        
+        BatchLoader batchLoader = new BatchLoader(openingApplicantRepository, mock(RecruiterNoteRepository.class),
+                mock(StatusUpdateRepository.class), mock(DocumentRepository.class), mock(UserRepository.class));
+        searchService = new SearchService(jobOpeningRepository, openingApplicantRepository,
+                jobOpeningResponseFactory, openingApplicantResponseFactory, batchLoader);
     }
     
     @Test
@@ -108,8 +121,8 @@ class SearchServiceTest extends BaseUnitTest {
     void searchJobOpenings_ByTitle_ShouldReturnMatchingJobOpenings() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        List<JobOpening> jobOpenings = Arrays.asList(jobOpening1);
-        Page<JobOpening> jobOpeningsPage = new PageImpl<>(jobOpenings, pageable, jobOpenings.size());
+        List<JobOpeningSummaryProjection> jobOpenings = Arrays.asList(summaryOf(jobOpening1));
+        Page<JobOpeningSummaryProjection> jobOpeningsPage = new PageImpl<>(jobOpenings, pageable, jobOpenings.size());
         
         JobOpeningResponse mockResponse = new JobOpeningResponse();
         mockResponse.setTitle("Développeur Java");
@@ -118,9 +131,9 @@ class SearchServiceTest extends BaseUnitTest {
         // Utiliser les paramètres de la méthode réelle au lieu de Specification
         String title = "Java";
         
-        when(jobOpeningRepository.findAll(any(Specification.class), any(Pageable.class)))
+        when(jobOpeningRepository.findSummaries(any(Specification.class), any(Pageable.class)))
                 .thenReturn(jobOpeningsPage);
-        when(jobOpeningResponseFactory.createFromEntity(any(JobOpening.class)))
+        when(jobOpeningResponseFactory.createFromSummary(any(JobOpeningSummaryProjection.class), any(BatchLoadContext.class)))
                 .thenReturn(mockResponse);
 
         // Act
@@ -139,8 +152,8 @@ class SearchServiceTest extends BaseUnitTest {
     void searchJobOpenings_ByStatus_ShouldReturnMatchingJobOpenings() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        List<JobOpening> jobOpenings = Arrays.asList(jobOpening1, jobOpening2);
-        Page<JobOpening> jobOpeningsPage = new PageImpl<>(jobOpenings, pageable, jobOpenings.size());
+        List<JobOpeningSummaryProjection> jobOpenings = Arrays.asList(summaryOf(jobOpening1), summaryOf(jobOpening2));
+        Page<JobOpeningSummaryProjection> jobOpeningsPage = new PageImpl<>(jobOpenings, pageable, jobOpenings.size());
         
         JobOpeningResponse mockResponse1 = new JobOpeningResponse();
         mockResponse1.setTitle("Développeur Java Senior");
@@ -150,11 +163,11 @@ class SearchServiceTest extends BaseUnitTest {
         mockResponse2.setTitle("Chef de Projet IT");
         mockResponse2.setStatus(JobStatus.OPEN);
         
-        when(jobOpeningRepository.findAll(any(Specification.class), any(Pageable.class)))
+        when(jobOpeningRepository.findSummaries(any(Specification.class), any(Pageable.class)))
                 .thenReturn(jobOpeningsPage);
-        when(jobOpeningResponseFactory.createFromEntity(jobOpening1))
+        when(jobOpeningResponseFactory.createFromSummary(eq(jobOpenings.get(0)), any(BatchLoadContext.class)))
                 .thenReturn(mockResponse1);
-        when(jobOpeningResponseFactory.createFromEntity(jobOpening2))
+        when(jobOpeningResponseFactory.createFromSummary(eq(jobOpenings.get(1)), any(BatchLoadContext.class)))
                 .thenReturn(mockResponse2);
         
         // Act
@@ -173,8 +186,8 @@ class SearchServiceTest extends BaseUnitTest {
     void searchApplicants_ByName_ShouldReturnMatchingApplicants() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        List<OpeningApplicant> applicants = Arrays.asList(applicant1);
-        Page<OpeningApplicant> applicantsPage = new PageImpl<>(applicants, pageable, applicants.size());
+        List<ApplicantSummaryProjection> applicants = Arrays.asList(summaryOf(applicant1));
+        Page<ApplicantSummaryProjection> applicantsPage = new PageImpl<>(applicants, pageable, applicants.size());
         
         // Mock pour la stratégie de recherche
         OpeningApplicantResponse mockResponse = new OpeningApplicantResponse();
@@ -183,9 +196,9 @@ class SearchServiceTest extends BaseUnitTest {
         
         // Utiliser un cast explicite pour éviter l'erreur de type safety
         Specification<OpeningApplicant> applicantSpec = any(Specification.class);
-        when(openingApplicantRepository.findAll(applicantSpec, any(Pageable.class)))
+        when(openingApplicantRepository.findSummaries(applicantSpec, any(Pageable.class)))
                 .thenReturn(applicantsPage);
-        when(openingApplicantResponseFactory.createFromEntity(any(OpeningApplicant.class)))
+        when(openingApplicantResponseFactory.createFromSummary(any(ApplicantSummaryProjection.class)))
                 .thenReturn(mockResponse);
         
         // Act
@@ -204,8 +217,8 @@ class SearchServiceTest extends BaseUnitTest {
     void searchApplicants_ByApplicationDate_ShouldReturnMatchingApplicants() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        List<OpeningApplicant> applicants = Arrays.asList(applicant1, applicant2);
-        Page<OpeningApplicant> applicantsPage = new PageImpl<>(applicants, pageable, applicants.size());
+        List<ApplicantSummaryProjection> applicants = Arrays.asList(summaryOf(applicant1), summaryOf(applicant2));
+        Page<ApplicantSummaryProjection> applicantsPage = new PageImpl<>(applicants, pageable, applicants.size());
         
         // Mock pour la stratégie de recherche
         OpeningApplicantResponse mockResponse1 = new OpeningApplicantResponse();
@@ -218,11 +231,11 @@ class SearchServiceTest extends BaseUnitTest {
         
         // Utiliser un cast explicite pour éviter l'erreur de type safety
         Specification<OpeningApplicant> applicantSpec = any(Specification.class);
-        when(openingApplicantRepository.findAll(applicantSpec, any(Pageable.class)))
+        when(openingApplicantRepository.findSummaries(applicantSpec, any(Pageable.class)))
                 .thenReturn(applicantsPage);
-        when(openingApplicantResponseFactory.createFromEntity(applicant1))
+        when(openingApplicantResponseFactory.createFromSummary(applicants.get(0)))
                 .thenReturn(mockResponse1);
-        when(openingApplicantResponseFactory.createFromEntity(applicant2))
+        when(openingApplicantResponseFactory.createFromSummary(applicants.get(1)))
                 .thenReturn(mockResponse2);
         
         // Act
@@ -236,4 +249,16 @@ class SearchServiceTest extends BaseUnitTest {
         assertThat(result.getContent().get(0).getApplicationDate()).isAfterOrEqualTo(dateAfter);
         assertThat(result.getContent().get(1).getApplicationDate()).isAfterOrEqualTo(dateAfter);
     }
+
+    private static JobOpeningSummaryProjection summaryOf(JobOpening jobOpening) {
+        return new JobOpeningSummaryProjection(jobOpening.getId(), jobOpening.getTitle(), jobOpening.getStatus(),
+                jobOpening.getCreatedAt(), jobOpening.getUpdatedAt(), jobOpening.getVersion());
+    }
+
+    private static ApplicantSummaryProjection summaryOf(OpeningApplicant applicant) {
+        return new ApplicantSummaryProjection(applicant.getId(), applicant.getJobOpening().getId(),
+                applicant.getName(), applicant.getEmail(), applicant.getPhone(), applicant.getApplicationDate(),
+                applicant.getCreatedAt(), applicant.getUpdatedAt(), applicant.getVersion(),
+                null, null, false, null, null);
+    }
 }
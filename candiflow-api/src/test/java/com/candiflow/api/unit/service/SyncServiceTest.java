@@ -0,0 +1,231 @@
+package com.candiflow.api.unit.service;
+
+import com.candiflow.api.batch.BatchLoader;
+import com.candiflow.api.dto.sync.SyncResponse;
+import com.candiflow.api.exception.InvalidCursorException;
+import com.candiflow.api.model.entity.Application;
+import com.candiflow.api.model.entity.ApplicationStatus;
+import com.candiflow.api.model.entity.Document;
+import com.candiflow.api.model.entity.StatusUpdate;
+import com.candiflow.api.model.entity.SyncTombstone;
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.model.enums.SyncEntityType;
+import com.candiflow.api.repository.ApplicationRepository;
+import com.candiflow.api.repository.DocumentRepository;
+import com.candiflow.api.repository.OpeningApplicantRepository;
+import com.candiflow.api.repository.RecruiterNoteRepository;
+import com.candiflow.api.repository.StatusUpdateRepository;
+import com.candiflow.api.repository.SyncSequenceRepository;
+import com.candiflow.api.repository.SyncTombstoneRepository;
+import com.candiflow.api.repository.UserRepository;
+import com.candiflow.api.service.ApplicationService;
+import com.candiflow.api.service.ApplicationStatusService;
+import com.candiflow.api.service.AuthService;
+import com.candiflow.api.service.DocumentService;
+import com.candiflow.api.service.StatusUpdateService;
+import com.candiflow.api.service.SyncService;
+import com.candiflow.api.sync.ChangeTracker;
+import com.candiflow.api.sync.SyncProperties;
+import com.candiflow.api.unit.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour le service de synchronisation différentielle
+ */
+class SyncServiceTest extends BaseUnitTest {
+
+    @Mock private SyncSequenceRepository syncSequenceRepository;
+    @Mock private ApplicationRepository applicationRepository;
+    @Mock private StatusUpdateRepository statusUpdateRepository;
+    @Mock private DocumentRepository documentRepository;
+    @Mock private SyncTombstoneRepository syncTombstoneRepository;
+    @Mock private ApplicationStatusService applicationStatusService;
+    @Mock private AuthService authService;
+    @Mock private ChangeTracker changeTracker;
+    @Mock private OpeningApplicantRepository openingApplicantRepository;
+    @Mock private RecruiterNoteRepository recruiterNoteRepository;
+    @Mock private UserRepository userRepository;
+
+    private final SyncProperties properties = new SyncProperties();
+    private SyncService syncService;
+
+    private User user;
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        BatchLoader batchLoader = new BatchLoader(openingApplicantRepository, recruiterNoteRepository,
+                statusUpdateRepository, documentRepository, userRepository);
+        syncService = new SyncService(syncSequenceRepository, applicationRepository, statusUpdateRepository,
+                documentRepository, syncTombstoneRepository,
+                new ApplicationService(applicationRepository, statusUpdateRepository, applicationStatusService,
+                        authService, batchLoader, changeTracker),
+                new StatusUpdateService(statusUpdateRepository, applicationRepository, applicationStatusService,
+                        authService, changeTracker),
+                new DocumentService(documentRepository, applicationRepository, changeTracker),
+                authService, properties);
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        when(authService.getCurrentUser()).thenReturn(user);
+
+        application = new Application();
+        application.setId(UUID.randomUUID());
+        application.setUser(user);
+        application.setCompanyName("Acme");
+        application.setJobTitle("Développeur");
+    }
+
+    @Test
+    @DisplayName("Devrait renvoyer toutes les lignes sans les suppressions lors d'une première synchronisation")
+    void sync_WithoutToken_ShouldReturnFullResetWithoutTombstones() {
+        // Arrange
+        when(syncSequenceRepository.findLastValue(user.getId())).thenReturn(Optional.of(2L));
+        when(applicationRepository.findChanged(eq(user.getId()), eq(0L), eq(2L), any()))
+                .thenReturn(List.of(application(2L)));
+        when(statusUpdateRepository.findChanged(eq(user.getId()), eq(0L), eq(2L), any()))
+                .thenReturn(List.of(statusUpdate(1L)));
+
+        // Act
+        SyncResponse response = syncService.sync(null, null);
+
+        // Assert
+        assertThat(response.isReset()).isTrue();
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getApplications()).extracting("companyName").containsExactly("Acme");
+        assertThat(response.getStatusUpdates()).extracting("statusName").containsExactly("Postulé");
+        assertThat(response.getDeleted()).isEmpty();
+        verify(syncTombstoneRepository, never()).findChanged(any(), anyLong(), anyLong(), any());
+
+        // La synchronisation suivante ne lit que les numéros postérieurs
+        when(syncSequenceRepository.findLastValue(user.getId())).thenReturn(Optional.of(3L));
+        when(syncTombstoneRepository.findChanged(eq(user.getId()), eq(2L), eq(3L), any()))
+                .thenReturn(List.of(new SyncTombstone(UUID.randomUUID(), SyncEntityType.DOCUMENT, user.getId(), 3L, Instant.now())));
+
+        SyncResponse delta = syncService.sync(response.getToken(), null);
+
+        assertThat(delta.isReset()).isFalse();
+        assertThat(delta.getApplications()).isEmpty();
+        assertThat(delta.getDeleted()).extracting(SyncResponse.Deletion::getType).containsExactly(SyncEntityType.DOCUMENT);
+    }
+
+    @Test
+    @DisplayName("Devrait couper une page au numéro du dernier changement renvoyé, toutes sources confondues")
+    void sync_WithMoreChangesThanLimit_ShouldCutAtLastReturnedChange() {
+        // Arrange : numéros 3 (statut), 4 (candidature), 5 (document), 6 (statut) et 7 (suppression) postérieurs au jeton
+        String token = tokenAt(2L);
+        when(syncSequenceRepository.findLastValue(user.getId())).thenReturn(Optional.of(7L));
+        when(applicationRepository.findChanged(eq(user.getId()), eq(2L), eq(7L), any()))
+                .thenReturn(List.of(application(4L)));
+        when(statusUpdateRepository.findChanged(eq(user.getId()), eq(2L), eq(7L), any()))
+                .thenReturn(List.of(statusUpdate(3L), statusUpdate(6L)));
+        when(documentRepository.findChanged(eq(user.getId()), eq(2L), eq(7L), any()))
+                .thenReturn(List.of(document(5L)));
+        when(syncTombstoneRepository.findChanged(eq(user.getId()), eq(2L), eq(7L), any()))
+                .thenReturn(List.of(new SyncTombstone(UUID.randomUUID(), SyncEntityType.STATUS_UPDATE, user.getId(), 7L, Instant.now())));
+
+        // Act
+        SyncResponse response = syncService.sync(token, 3);
+
+        // Assert
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getApplications()).hasSize(1);
+        assertThat(response.getStatusUpdates()).hasSize(1);
+        assertThat(response.getDocuments()).hasSize(1);
+        assertThat(response.getDeleted()).isEmpty();
+
+        // La page suivante reprend après le numéro 5
+        syncService.sync(response.getToken(), 3);
+        verify(statusUpdateRepository).findChanged(eq(user.getId()), eq(5L), eq(7L), any());
+    }
+
+    @Test
+    @DisplayName("Devrait tout resynchroniser avec un jeton expiré ou émis pour un autre utilisateur")
+    void sync_WithExpiredOrForeignToken_ShouldReset() {
+        // Arrange
+        when(syncSequenceRepository.findLastValue(user.getId())).thenReturn(Optional.of(0L));
+        String expired = encode(user.getId(), 5L, Instant.now().minus(properties.getTokenValidity()).minus(1, ChronoUnit.DAYS));
+        String foreign = encode(UUID.randomUUID(), 5L, Instant.now());
+
+        // Act & Assert
+        assertThat(syncService.sync(expired, null).isReset()).isTrue();
+        assertThat(syncService.sync(foreign, null).isReset()).isTrue();
+        assertThatThrownBy(() -> syncService.sync("pas-un-jeton", null)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Devrait conserver la position d'un jeton en avance sur la base lue, sans rien renvoyer")
+    void sync_WithTokenAheadOfReadSequence_ShouldKeepPosition() {
+        // Arrange : réplica en retard sur l'écriture qui a produit le jeton
+        String token = tokenAt(9L);
+        when(syncSequenceRepository.findLastValue(user.getId())).thenReturn(Optional.of(4L));
+
+        // Act
+        SyncResponse response = syncService.sync(token, null);
+
+        // Assert
+        assertThat(response.isReset()).isFalse();
+        assertThat(response.getApplications()).isEmpty();
+        assertThat(decode(response.getToken())).startsWith(user.getId() + "|9|");
+        verify(applicationRepository, never()).findChanged(any(), anyLong(), anyLong(), any());
+    }
+
+    private String tokenAt(long seq) {
+        return encode(user.getId(), seq, Instant.now());
+    }
+
+    private static String encode(UUID userId, long seq, Instant issuedAt) {
+        String raw = userId + "|" + seq + "|" + issuedAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String token) {
+        return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    }
+
+    private Application application(long changeSeq) {
+        application.setChangeSeq(changeSeq);
+        return application;
+    }
+
+    private StatusUpdate statusUpdate(long changeSeq) {
+        ApplicationStatus status = new ApplicationStatus();
+        status.setId(UUID.randomUUID());
+        status.setName("Postulé");
+        StatusUpdate statusUpdate = new StatusUpdate();
+        statusUpdate.setId(UUID.randomUUID());
+        statusUpdate.setApplication(application);
+        statusUpdate.setStatus(status);
+        statusUpdate.setChangeSeq(changeSeq);
+        return statusUpdate;
+    }
+
+    private Document document(long changeSeq) {
+        Document document = new Document();
+        document.setId(UUID.randomUUID());
+        document.setApplication(application);
+        document.setFileName("cv.pdf");
+        document.setChangeSeq(changeSeq);
+        return document;
+    }
+}
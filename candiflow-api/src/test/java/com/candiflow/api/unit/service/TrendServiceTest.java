@@ -0,0 +1,106 @@
+package com.candiflow.api.unit.service;
+
+import com.candiflow.api.analytics.CounterProperties;
+import com.candiflow.api.dto.dashboard.DateCount;
+import com.candiflow.api.dto.dashboard.TrendResponse;
+import com.candiflow.api.model.enums.CounterMetric;
+import com.candiflow.api.model.enums.TrendGranularity;
+import com.candiflow.api.repository.DailyCounterRepository;
+import com.candiflow.api.repository.projection.DayCountProjection;
+import com.candiflow.api.service.TrendService;
+import com.candiflow.api.unit.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour les séries temporelles des compteurs journaliers
+ */
+class TrendServiceTest extends BaseUnitTest {
+
+    @Mock
+    private DailyCounterRepository dailyCounterRepository;
+
+    private CounterProperties properties;
+    private TrendService trendService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CounterProperties();
+        trendService = new TrendService(dailyCounterRepository, properties);
+    }
+
+    @Test
+    @DisplayName("Devrait regrouper les jours par semaine ISO et compléter les semaines vides par zéro")
+    void series_ByWeek_ShouldDownsampleAndFillGaps() {
+        // Arrange : du mercredi 5 mars au lundi 24 mars 2025
+        LocalDate from = LocalDate.of(2025, 3, 5);
+        LocalDate to = LocalDate.of(2025, 3, 24);
+        when(dailyCounterRepository.sumByDayBetween(CounterMetric.HIRES, from, to)).thenReturn(List.of(
+                new DayCountProjection(LocalDate.of(2025, 3, 5), 2),
+                new DayCountProjection(LocalDate.of(2025, 3, 9), 1),
+                new DayCountProjection(LocalDate.of(2025, 3, 24), 4)));
+
+        // Act
+        List<DateCount> points = trendService.series(CounterMetric.HIRES, null, from, to, TrendGranularity.WEEK);
+
+        // Assert
+        assertThat(points).extracting(DateCount::getDate, DateCount::getCount).containsExactly(
+                tuple(LocalDate.of(2025, 3, 3), 3L),
+                tuple(LocalDate.of(2025, 3, 10), 0L),
+                tuple(LocalDate.of(2025, 3, 17), 0L),
+                tuple(LocalDate.of(2025, 3, 24), 4L));
+    }
+
+    @Test
+    @DisplayName("Devrait lire les compteurs du seul recruteur demandé")
+    void getTrend_ForRecruiter_ShouldReadRecruiterCounters() {
+        // Arrange
+        UUID recruiterId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2025, 1, 15);
+        LocalDate to = LocalDate.of(2025, 3, 2);
+        when(dailyCounterRepository.findByRecruiterAndDayBetween(CounterMetric.APPLICATIONS_RECEIVED, recruiterId, from, to))
+                .thenReturn(List.of(
+                        new DayCountProjection(LocalDate.of(2025, 1, 20), 5),
+                        new DayCountProjection(LocalDate.of(2025, 3, 1), 1)));
+
+        // Act
+        TrendResponse response = trendService.getTrend(CounterMetric.APPLICATIONS_RECEIVED, recruiterId, from, to,
+                TrendGranularity.MONTH);
+
+        // Assert
+        assertThat(response.getTotal()).isEqualTo(6);
+        assertThat(response.getPoints()).extracting(DateCount::getCount).containsExactly(5L, 0L, 1L);
+        verify(dailyCounterRepository, never()).sumByDayBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Devrait ramener une période trop longue à sa durée maximale en conservant la date de fin")
+    void getTrend_WithTooLongRange_ShouldClampStart() {
+        // Arrange
+        properties.setMaxRangeDays(7);
+        LocalDate to = LocalDate.of(2025, 3, 9);
+        when(dailyCounterRepository.sumByDayBetween(CounterMetric.REJECTIONS, LocalDate.of(2025, 3, 3), to))
+                .thenReturn(List.of());
+
+        // Act
+        TrendResponse response = trendService.getTrend(CounterMetric.REJECTIONS, null, LocalDate.of(2020, 1, 1), to,
+                TrendGranularity.DAY);
+
+        // Assert
+        assertThat(response.getFrom()).isEqualTo(LocalDate.of(2025, 3, 3));
+        assertThat(response.getPoints()).hasSize(7).allSatisfy(point -> assertThat(point.getCount()).isZero());
+    }
+}
@@ -0,0 +1,95 @@
+package com.candiflow.api.unit.sync;
+
+import com.candiflow.api.model.entity.Application;
+import com.candiflow.api.model.entity.Document;
+import com.candiflow.api.model.entity.StatusUpdate;
+import com.candiflow.api.model.entity.SyncTombstone;
+import com.candiflow.api.model.entity.User;
+import com.candiflow.api.model.enums.SyncEntityType;
+import com.candiflow.api.repository.SyncSequenceRepository;
+import com.candiflow.api.repository.SyncTombstoneRepository;
+import com.candiflow.api.sync.ChangeTracker;
+import com.candiflow.api.unit.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour la numérotation des écritures synchronisées
+ */
+class ChangeTrackerTest extends BaseUnitTest {
+
+    @Mock private SyncSequenceRepository syncSequenceRepository;
+    @Mock private SyncTombstoneRepository syncTombstoneRepository;
+    @Captor private ArgumentCaptor<List<SyncTombstone>> tombstonesCaptor;
+
+    private ChangeTracker changeTracker;
+    private User user;
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        changeTracker = new ChangeTracker(syncSequenceRepository, syncTombstoneRepository);
+        user = new User();
+        user.setId(UUID.randomUUID());
+        application = new Application();
+        application.setId(UUID.randomUUID());
+        application.setUser(user);
+    }
+
+    @Test
+    @DisplayName("Devrait numéroter une mise à jour de statut puis sa candidature dans la séquence de l'utilisateur")
+    void statusUpdateChanged_ShouldNumberStatusUpdateThenApplication() {
+        // Arrange : la séquence passe de 10 à 12
+        when(syncSequenceRepository.findLastValue(user.getId())).thenReturn(Optional.of(12L));
+        StatusUpdate statusUpdate = new StatusUpdate();
+        statusUpdate.setApplication(application);
+
+        // Act
+        changeTracker.statusUpdateChanged(statusUpdate);
+
+        // Assert
+        verify(syncSequenceRepository).increment(user.getId(), 2);
+        assertThat(statusUpdate.getChangeSeq()).isEqualTo(11L);
+        assertThat(application.getChangeSeq()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("Devrait écrire une pierre tombale pour une candidature supprimée et chacune de ses lignes")
+    void applicationDeleted_ShouldWriteTombstonesForApplicationAndChildren() {
+        // Arrange
+        StatusUpdate statusUpdate = new StatusUpdate();
+        statusUpdate.setId(UUID.randomUUID());
+        Document document = new Document();
+        document.setId(UUID.randomUUID());
+        application.getStatusUpdates().add(statusUpdate);
+        application.getDocuments().add(document);
+        when(syncSequenceRepository.findLastValue(user.getId())).thenReturn(Optional.of(7L));
+
+        // Act
+        changeTracker.applicationDeleted(application);
+
+        // Assert
+        verify(syncSequenceRepository).increment(user.getId(), 3);
+        verify(syncTombstoneRepository).saveAll(tombstonesCaptor.capture());
+        assertThat(tombstonesCaptor.getValue())
+                .extracting(SyncTombstone::getEntityType, SyncTombstone::getEntityId, SyncTombstone::getChangeSeq)
+                .containsExactly(
+                        tuple(SyncEntityType.STATUS_UPDATE, statusUpdate.getId(), 5L),
+                        tuple(SyncEntityType.DOCUMENT, document.getId(), 6L),
+                        tuple(SyncEntityType.APPLICATION, application.getId(), 7L));
+        assertThat(tombstonesCaptor.getValue()).allMatch(tombstone -> tombstone.getUserId().equals(user.getId()));
+    }
+}